@@ -0,0 +1,133 @@
+package kr.co.amateurs.server.annotation.alarmtrigger;
+
+import jakarta.annotation.PreDestroy;
+import kr.co.amateurs.server.annotation.alarmtrigger.creator.AlarmCreatorRegistry;
+import kr.co.amateurs.server.domain.entity.alarm.Alarm;
+import kr.co.amateurs.server.domain.event.AlarmTriggeredEvent;
+import kr.co.amateurs.server.service.alarm.AlarmService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * AlarmTrigger 로 발생한 알람 생성 요청 처리
+ * 요청 스레드는 커밋 이후 대기열에 넣기만 하고, 전용 실행기에서 쌓인 요청을 최대 batchSize 개씩 묶어
+ * 알람을 만든 뒤 insertMany 한 번으로 저장
+ * 대기열이 가득 차면 요청 스레드에서 바로 처리해 알람을 잃지 않음
+ * 종료 시에는 대기열에 남은 요청을 모두 처리한 뒤 내려감
+ */
+@Slf4j
+@Component
+public class AlarmTriggerDispatcher {
+
+    private final AlarmCreatorRegistry alarmCreatorRegistry;
+    private final AlarmService alarmService;
+    private final Executor alarmDispatchExecutor;
+    private final BlockingQueue<AlarmTriggeredEvent> pending;
+    private final int batchSize;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    public AlarmTriggerDispatcher(AlarmCreatorRegistry alarmCreatorRegistry,
+                                  AlarmService alarmService,
+                                  @Qualifier("alarmDispatchExecutor") Executor alarmDispatchExecutor,
+                                  @Value("${alarm.dispatch.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${alarm.dispatch.batch-size:100}") int batchSize) {
+        this.alarmCreatorRegistry = alarmCreatorRegistry;
+        this.alarmService = alarmService;
+        this.alarmDispatchExecutor = alarmDispatchExecutor;
+        this.pending = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleAlarmTriggered(AlarmTriggeredEvent event) {
+        if (!pending.offer(event)) {
+            log.warn("알람 대기열 초과로 요청 스레드에서 처리: type={}", event.type());
+            process(List.of(event));
+            return;
+        }
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            alarmDispatchExecutor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            log.warn("알람 처리 작업 등록 실패로 요청 스레드에서 처리");
+            drain();
+        }
+    }
+
+    private void drain() {
+        try {
+            drainPending();
+        } finally {
+            draining.set(false);
+        }
+
+        if (!pending.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    /**
+     * 실행기보다 먼저 종료되므로, 실행기에 올라간 작업과 별개로 남은 요청을 종료 스레드에서 직접 처리
+     */
+    @PreDestroy
+    void drainOnShutdown() {
+        int remaining = drainPending();
+        if (remaining > 0) {
+            log.info("종료 전 남은 알람 요청 처리: count={}", remaining);
+        }
+    }
+
+    private int drainPending() {
+        int drained = 0;
+        List<AlarmTriggeredEvent> batch = new ArrayList<>(batchSize);
+        while (pending.drainTo(batch, batchSize) > 0) {
+            drained += batch.size();
+            process(batch);
+            batch.clear();
+        }
+        return drained;
+    }
+
+    /**
+     * 요청 하나의 알람 생성이 실패해도 같은 묶음의 다른 알람은 저장
+     */
+    private void process(List<AlarmTriggeredEvent> events) {
+        List<Alarm> alarms = new ArrayList<>();
+        for (AlarmTriggeredEvent event : events) {
+            try {
+                alarms.addAll(alarmCreatorRegistry.getCreator(event.type()).createAlarms(event.result(), event.actor()));
+            } catch (Exception e) {
+                log.warn("알람 생성 실패: type={}, error={}", event.type(), e.getMessage());
+            }
+        }
+
+        if (alarms.isEmpty()) {
+            return;
+        }
+
+        try {
+            alarmService.saveAlarms(alarms);
+        } catch (Exception e) {
+            log.error("알람 일괄 저장 실패: count={}", alarms.size(), e);
+        }
+    }
+}
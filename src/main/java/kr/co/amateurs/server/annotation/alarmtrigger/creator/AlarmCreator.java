@@ -1,7 +1,11 @@
 package kr.co.amateurs.server.annotation.alarmtrigger.creator;
 
+import kr.co.amateurs.server.config.jwt.UserPrincipal;
+import kr.co.amateurs.server.domain.entity.alarm.Alarm;
 import kr.co.amateurs.server.domain.entity.alarm.enums.AlarmType;
 
+import java.util.List;
+
 /**
  * 알람 생성을 담당하는 인터페이스입니다.
  * 
@@ -17,15 +21,18 @@ import kr.co.amateurs.server.domain.entity.alarm.enums.AlarmType;
 public interface AlarmCreator {
     
     /**
-     * 메서드 실행 결과를 기반으로 알람을 생성하고 저장합니다.
+     * 메서드 실행 결과를 기반으로 알람을 생성합니다.
      * 
      * 각 구현체는 해당하는 결과 타입을 검증하고,
      * 적절한 수신자, 메시지 내용, 메타데이터를 추출하여 알람을 생성합니다.
+     * 저장은 AlarmTriggerDispatcher 가 여러 요청의 알람을 모아 한 번에 처리합니다.
      * 
      * @param result 알람 생성의 기반이 되는 메서드 실행 결과 객체
+     * @param actor 알람을 발생시킨 로그인 사용자 (없으면 null)
+     * @return 저장할 알람 목록 (보낼 대상이 없으면 빈 목록)
      * @throws CustomException 지원하지 않는 결과 타입이거나 필수 데이터가 누락된 경우
      */
-    void createAlarm(Object result);
+    List<Alarm> createAlarms(Object result, UserPrincipal actor);
 
     /**
      * 이 알람 생성자가 처리하는 알람 타입을 반환합니다.
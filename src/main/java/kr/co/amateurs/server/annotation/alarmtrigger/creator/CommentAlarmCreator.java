@@ -1,5 +1,6 @@
 package kr.co.amateurs.server.annotation.alarmtrigger.creator;
 
+import kr.co.amateurs.server.config.jwt.UserPrincipal;
 import kr.co.amateurs.server.domain.common.ErrorCode;
 import kr.co.amateurs.server.domain.dto.comment.CommentResponseDTO;
 import kr.co.amateurs.server.domain.entity.alarm.Alarm;
@@ -10,12 +11,14 @@ import kr.co.amateurs.server.domain.entity.comment.Comment;
 import kr.co.amateurs.server.domain.entity.post.Post;
 import kr.co.amateurs.server.domain.entity.user.User;
 import kr.co.amateurs.server.exception.CustomException;
-import kr.co.amateurs.server.service.UserService;
-import kr.co.amateurs.server.service.alarm.AlarmService;
 import kr.co.amateurs.server.service.comment.CommentService;
 import kr.co.amateurs.server.service.post.PostService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 댓글 관련 알람을 생성하는 구현체입니다.
@@ -35,8 +38,6 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class CommentAlarmCreator implements AlarmCreator {
 
-    private final AlarmService alarmService;
-    private final UserService userService;
     private final CommentService commentService;
     private final PostService postService;
 
@@ -46,32 +47,38 @@ public class CommentAlarmCreator implements AlarmCreator {
      * 게시글 작성자에게 댓글 알람을 전송하며,
      * 대댓글인 경우 원댓글 작성자에게도 답글 알람을 전송합니다.
      * 자신이 작성한 게시글/댓글에 자신이 댓글을 단 경우 알람을 전송하지 않습니다.
+     * 게시글 작성자, 게시판별 하위 엔티티를 지연 로딩하므로 읽기 전용 트랜잭션 안에서 실행합니다.
      *
      * @param result CommentResponseDTO 타입의 댓글 생성 결과
-     * @throws CustomException 지원하지 않는 결과 타입인 경우
+     * @param actor 댓글 작성자
+     * @throws CustomException 지원하지 않는 결과 타입이거나 작성자 정보가 없는 경우
      */
     @Override
-    public void createAlarm(Object result) {
+    @Transactional(readOnly = true)
+    public List<Alarm> createAlarms(Object result, UserPrincipal actor) {
         if (!(result instanceof CommentResponseDTO response)) {
             throw new CustomException(ErrorCode.UNSUPPORTED_RESULT_TYPE);
         }
-
-        User currentUser = userService.getCurrentLoginUser();
+        if (actor == null) {
+            throw new CustomException(ErrorCode.ANONYMOUS_USER);
+        }
 
         Post post = postService.findById(response.postId());
 
-        createCommentAlarm(currentUser, post, response);
+        List<Alarm> alarms = new ArrayList<>(2);
+        createCommentAlarm(actor, post, response, alarms);
 
         if (response.parentCommentId() != null) {
-            createReplyAlarm(currentUser, post, response);
+            createReplyAlarm(actor, post, response, alarms);
         }
+        return alarms;
     }
 
     /**
      * 게시글 작성자에게 댓글 알람을 전송합니다.
      * 자신의 게시글에 자신이 댓글을 단 경우 알람을 전송하지 않습니다.
      */
-    private void createCommentAlarm(User commentAuthor, Post post, CommentResponseDTO response) {
+    private void createCommentAlarm(UserPrincipal commentAuthor, Post post, CommentResponseDTO response, List<Alarm> alarms) {
         User postAuthor = post.getUser();
 
         if (isSameUser(commentAuthor, postAuthor) || postAuthor.isDeleted()) {
@@ -82,18 +89,18 @@ public class CommentAlarmCreator implements AlarmCreator {
                 .userId(postAuthor.getId())
                 .type(AlarmType.COMMENT)
                 .title(AlarmType.COMMENT.getTitle())
-                .content(getCommentAlarmContent(commentAuthor.getNickname(), post))
+                .content(getCommentAlarmContent(commentAuthor.nickname(), post))
                 .metaData(getMetaData(response, post))
                 .build();
 
-        alarmService.saveAlarm(alarm);
+        alarms.add(alarm);
     }
 
     /**
      * 원댓글 작성자에게 답글 알람을 전송합니다.
      * 자신의 댓글에 자신이 답글을 단 경우 알람을 전송하지 않습니다.
      */
-    private void createReplyAlarm(User replyAuthor, Post post, CommentResponseDTO response) {
+    private void createReplyAlarm(UserPrincipal replyAuthor, Post post, CommentResponseDTO response, List<Alarm> alarms) {
         Comment parentComment = commentService.findCommentById(response.parentCommentId());
         User commentAuthor = parentComment.getUser();
 
@@ -105,18 +112,18 @@ public class CommentAlarmCreator implements AlarmCreator {
                 .userId(commentAuthor.getId())
                 .type(AlarmType.REPLY)
                 .title(AlarmType.REPLY.getTitle())
-                .content(getReplyAlarmContent(replyAuthor.getNickname(), parentComment))
+                .content(getReplyAlarmContent(replyAuthor.nickname(), parentComment))
                 .metaData(getMetaData(response, post))
                 .build();
 
-        alarmService.saveAlarm(alarm);
+        alarms.add(alarm);
     }
 
     /**
      * 두 사용자가 같은 사용자인지 확인합니다.
      */
-    private boolean isSameUser(User user1, User user2) {
-        return user1.getId().equals(user2.getId());
+    private boolean isSameUser(UserPrincipal user1, User user2) {
+        return user1.id().equals(user2.getId());
     }
 
     @Override
@@ -1,5 +1,6 @@
 package kr.co.amateurs.server.annotation.alarmtrigger.creator;
 
+import kr.co.amateurs.server.config.jwt.UserPrincipal;
 import kr.co.amateurs.server.domain.common.ErrorCode;
 import kr.co.amateurs.server.domain.dto.directmessage.DirectMessageResponse;
 import kr.co.amateurs.server.domain.entity.alarm.Alarm;
@@ -9,19 +10,19 @@ import kr.co.amateurs.server.domain.entity.alarm.metadata.DirectMessageMetaData;
 import kr.co.amateurs.server.domain.entity.directmessage.DirectMessageRoom;
 import kr.co.amateurs.server.domain.entity.directmessage.Participant;
 import kr.co.amateurs.server.exception.CustomException;
-import kr.co.amateurs.server.service.alarm.AlarmService;
 import kr.co.amateurs.server.service.directmessage.DirectMessageService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class DirectMessageAlarmCreator implements AlarmCreator {
-    private final AlarmService alarmService;
     private final DirectMessageService directMessageService;
 
     @Override
-    public void createAlarm(Object result) {
+    public List<Alarm> createAlarms(Object result, UserPrincipal actor) {
         if (!(result instanceof DirectMessageResponse response)) {
             throw new CustomException(ErrorCode.UNSUPPORTED_RESULT_TYPE);
         }
@@ -41,7 +42,7 @@ public class DirectMessageAlarmCreator implements AlarmCreator {
                 .metaData(getMetaData(response))
                 .build();
 
-        alarmService.saveAlarm(alarm);
+        return List.of(alarm);
     }
 
     @Override
@@ -1,9 +1,9 @@
 package kr.co.amateurs.server.annotation.checkpostmetadata;
 
+import kr.co.amateurs.server.config.jwt.UserPrincipal;
 import kr.co.amateurs.server.domain.common.ErrorCode;
 import kr.co.amateurs.server.domain.entity.post.Post;
 import kr.co.amateurs.server.domain.entity.post.enums.BoardType;
-import kr.co.amateurs.server.domain.entity.user.User;
 import kr.co.amateurs.server.domain.entity.user.enums.Role;
 import kr.co.amateurs.server.exception.CustomException;
 import kr.co.amateurs.server.repository.comment.CommentRepository;
@@ -36,8 +36,9 @@ public class CheckPostMetaDataAspect {
 
     @Before("@annotation(checkPostMetaData)")
     public void checkBoardAccess(JoinPoint joinPoint, CheckPostMetaData checkPostMetaData) {
-        User user = userService.getCurrentUser().orElse(null);
-        Role userRole = user != null ? user.getRole() : Role.ANONYMOUS;
+        Role userRole = userService.getCurrentPrincipal()
+                .map(UserPrincipal::role)
+                .orElse(Role.ANONYMOUS);
 
         if (userRole == Role.ADMIN) {
             return;
@@ -1,12 +1,14 @@
 package kr.co.amateurs.server.config;
 
 import io.opentelemetry.context.Context;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 import java.util.concurrent.Executor;
 
@@ -27,6 +29,92 @@ public class AsyncConfig {
         return executor;
     }
 
+    /**
+     * SSE 전송 전용 실행기
+     * 연결마다 대기열을 비우는 작업이 최대 하나씩만 올라오므로 작업 큐 길이는 연결 수를 넘지 않음
+     */
+    @Bean
+    public Executor sseSendExecutor(@Value("${sse.send-executor.pool-size:16}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("sse-send-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 알람 생성 전용 실행기
+     * AlarmTriggerDispatcher 가 대기열을 비우는 작업을 한 번에 하나만 올리므로 스레드 하나로 충분함
+     * 종료 시 진행 중인 묶음 저장이 끝날 때까지 기다림
+     */
+    @Bean
+    public Executor alarmDispatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("alarm-dispatch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * DM 쓰기 묶음 반영 전용 스케줄러
+     * 공용 @Scheduled 스레드에서 돌리면 긴 배치 작업 동안 반영이 밀리므로 분리
+     */
+    @Bean
+    public ThreadPoolTaskScheduler dmWriteScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("dm-write-");
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    /**
+     * AI 프로필 일괄 갱신 실행기
+     * 사용자 단위 작업을 동시에 concurrency 개까지만 처리하고, 실제 호출 속도는 AiRequestRateLimiter 가 맞춤
+     */
+    @Bean
+    public Executor aiProfileExecutor(@Value("${ai.profile.concurrency:4}") int concurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setThreadNamePrefix("ai-profile-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 사용자 한 명의 북마크/좋아요/작성글 요약을 동시에 요청하는 실행기
+     * 프로필 작업이 이 작업들을 기다리므로 aiProfileExecutor 와 같은 풀을 쓰면 서로 막힐 수 있어 분리
+     */
+    @Bean
+    public Executor aiSummaryExecutor(@Value("${ai.profile.concurrency:4}") int concurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency * 3);
+        executor.setMaxPoolSize(concurrency * 3);
+        executor.setThreadNamePrefix("ai-summary-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 게시글 임베딩 묶음 처리 실행기
+     * PostEmbeddingManageService 가 동시에 in-flight 개 묶음까지만 올리므로 작업 큐는 그 이상 쌓이지 않음
+     */
+    @Bean
+    public Executor embeddingExecutor(@Value("${ai.embedding.reindex.in-flight:4}") int inFlight) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(inFlight);
+        executor.setMaxPoolSize(inFlight);
+        executor.setThreadNamePrefix("embedding-");
+        executor.initialize();
+        return executor;
+    }
+
     private static class OpenTelemetryTaskDecorator implements TaskDecorator {
         @Override
         public Runnable decorate(Runnable runnable) {
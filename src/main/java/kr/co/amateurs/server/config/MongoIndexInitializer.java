@@ -0,0 +1,45 @@
+package kr.co.amateurs.server.config;
+
+import kr.co.amateurs.server.domain.entity.alarm.Alarm;
+import kr.co.amateurs.server.domain.entity.directmessage.DirectMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 몽고 컬렉션 인덱스 생성
+ * auto-index-creation 이 꺼져 있어 @Indexed/@CompoundIndex 선언만으로는 인덱스가 만들어지지 않으므로 기동 시 직접 생성
+ * 같은 정의의 인덱스가 이미 있으면 몽고가 그대로 두므로 매 기동마다 실행해도 됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoIndexInitializer {
+
+    private static final List<Class<?>> INDEXED_DOCUMENTS = List.of(DirectMessage.class, Alarm.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mongoMappingContext;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        IndexResolver indexResolver = IndexResolver.create(mongoMappingContext);
+        for (Class<?> documentType : INDEXED_DOCUMENTS) {
+            try {
+                IndexOperations indexOps = mongoTemplate.indexOps(documentType);
+                indexResolver.resolveIndexFor(documentType).forEach(indexOps::createIndex);
+            } catch (DataAccessException e) {
+                log.error("몽고 인덱스 생성 실패: {}", documentType.getSimpleName(), e);
+            }
+        }
+    }
+}
@@ -2,7 +2,16 @@ package kr.co.amateurs.server.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import org.springframework.cache.CacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.amateurs.server.config.cache.CacheInvalidationPublisher;
+import kr.co.amateurs.server.config.cache.TwoLevelCacheManager;
+import kr.co.amateurs.server.config.jwt.AuthPrincipalCache;
+import kr.co.amateurs.server.config.websocket.StompRedisRelay;
+import kr.co.amateurs.server.service.alarm.AlarmBroadcaster;
+import kr.co.amateurs.server.service.directmessage.RoomMembershipCache;
+import kr.co.amateurs.server.service.post.PopularPostCacheService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,9 +19,14 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.*;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
 
 @EnableCaching
 @Configuration
@@ -31,13 +45,41 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * 인스턴스 간 로컬 캐시 무효화 메시지 발행기 (인스턴스 ID 는 기동 시마다 새로 발급)
+     */
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(StringRedisTemplate stringRedisTemplate) {
+        return new CacheInvalidationPublisher(stringRedisTemplate, UUID.randomUUID().toString());
+    }
+
     /**
      * Redis Cache Manager 설정
      * Jackson2JsonRedisSerializer를 사용하여 객체를 JSON으로 직렬화합니다.
      * 기본 TTL은 5분으로 설정합니다.
+     * cache.two-level.cache-names 에 지정한 캐시는 로컬 L1 캐시를 앞에 두는 2단 캐시로 동작합니다.
+     * 실시간 인기글 캐시는 랭킹 변화를 따라가도록 Redis TTL 을 짧게 둡니다.
      */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             CacheInvalidationPublisher invalidationPublisher,
+                                             MeterRegistry meterRegistry,
+                                             @Value("${cache.two-level.cache-names:popularPosts,rankedPopularPosts}") List<String> twoLevelCacheNames,
+                                             @Value("${cache.two-level.local-max-size:1000}") long localMaxSize,
+                                             @Value("${cache.two-level.local-ttl:30s}") Duration localTtl,
+                                             @Value("${cache.ranked-popular-posts.ttl:30s}") Duration rankedPopularPostsTtl) {
+        return new TwoLevelCacheManager(
+                redisCacheManager(connectionFactory, rankedPopularPostsTtl),
+                twoLevelCacheNames,
+                localMaxSize,
+                localTtl,
+                invalidationPublisher,
+                invalidationPublisher.getInstanceId(),
+                meterRegistry
+        );
+    }
+
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory, Duration rankedPopularPostsTtl) {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.findAndRegisterModules();
@@ -55,9 +97,32 @@ public class RedisConfig {
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer))
                 .disableCachingNullValues();
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(config)
+                .withCacheConfiguration(PopularPostCacheService.RANKED_POPULAR_POSTS_CACHE, config.entryTtl(rankedPopularPostsTtl))
                 .build();
+        redisCacheManager.afterPropertiesSet();
+        return redisCacheManager;
+    }
+
+    /**
+     * Redis Pub/Sub 구독 컨테이너 (인스턴스 간 L1 캐시 / 인증 주체 캐시 / DM 방 참여자 캐시 무효화, SSE 알람 전달, STOMP 메시지 중계)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       TwoLevelCacheManager cacheManager,
+                                                                       AuthPrincipalCache authPrincipalCache,
+                                                                       RoomMembershipCache roomMembershipCache,
+                                                                       AlarmBroadcaster alarmBroadcaster,
+                                                                       ObjectProvider<StompRedisRelay> stompRedisRelay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+        container.addMessageListener(authPrincipalCache, new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+        container.addMessageListener(roomMembershipCache, new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+        container.addMessageListener(alarmBroadcaster, new ChannelTopic(AlarmBroadcaster.CHANNEL));
+        stompRedisRelay.ifAvailable(relay -> container.addMessageListener(relay, new ChannelTopic(StompRedisRelay.CHANNEL)));
+        return container;
     }
 
     /**
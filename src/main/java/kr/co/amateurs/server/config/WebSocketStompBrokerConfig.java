@@ -1,27 +1,73 @@
 package kr.co.amateurs.server.config;
 
+import kr.co.amateurs.server.config.websocket.StompBrokerMetrics;
+import kr.co.amateurs.server.config.websocket.StompRedisRelay;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+/**
+ * STOMP 브로커 설정
+ * websocket.broker.mode=redis 이면 StompRedisRelay 가 /topic 메시지를 Redis 로 중계해 여러 인스턴스에서 같은 방을 구독할 수 있음
+ * (기본값 simple 은 한 JVM 안에서만 전달)
+ */
 @Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
 public class WebSocketStompBrokerConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final StompBrokerMetrics stompBrokerMetrics;
+    private final ObjectProvider<StompRedisRelay> stompRedisRelay;
+
+    @Value("${websocket.channel.inbound-pool-size:8}")
+    private int inboundPoolSize;
+
+    @Value("${websocket.channel.outbound-pool-size:8}")
+    private int outboundPoolSize;
+
+    @Value("${websocket.channel.queue-capacity:1000}")
+    private int channelQueueCapacity;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         config.enableSimpleBroker("/topic")
                 .setHeartbeatValue(new long[]{10000, 10000})
                 .setTaskScheduler(taskScheduler());
         config.setApplicationDestinationPrefixes("/app");
+        // 출력 채널이 여러 스레드여도 세션별 메시지 순서 유지
+        config.setPreservePublishOrder(true);
+
+        config.configureBrokerChannel().interceptors(stompBrokerMetrics);
+        stompRedisRelay.ifAvailable(relay -> config.configureBrokerChannel().interceptors(relay));
+    }
+
+    /**
+     * 기본값(코어 수 x2, 무제한 큐) 대신 크기를 고정하고 대기열을 제한해 몰릴 때 메모리가 늘어나지 않게 함
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(inboundPoolSize)
+                .maxPoolSize(inboundPoolSize * 2)
+                .queueCapacity(channelQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundPoolSize)
+                .maxPoolSize(outboundPoolSize * 2)
+                .queueCapacity(channelQueueCapacity);
     }
 
     @Override
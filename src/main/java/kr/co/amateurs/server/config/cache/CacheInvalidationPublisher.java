@@ -0,0 +1,33 @@
+package kr.co.amateurs.server.config.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * L1 캐시 무효화 메시지 발행
+ * 메시지 형식: {인스턴스 ID}|{캐시 이름}|{키} (전체 삭제면 키를 비움)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "cache:invalidation";
+    static final String DELIMITER = "|";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String instanceId;
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public void publish(String cacheName, Object key) {
+        String message = instanceId + DELIMITER + cacheName + DELIMITER + (key != null ? key.toString() : "");
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, message);
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 발행 실패: cache={}, key={}", cacheName, key, e);
+        }
+    }
+}
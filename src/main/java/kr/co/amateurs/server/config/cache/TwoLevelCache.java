@@ -0,0 +1,162 @@
+package kr.co.amateurs.server.config.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * L1(프로세스 내 Caffeine) + L2(Redis) 2단 캐시
+ * L1 미스 시 같은 키에 대한 동시 요청은 Caffeine 의 키 단위 잠금으로 한 번만 L2/원본을 조회함 (single-flight)
+ * 쓰기/삭제는 L2 에 먼저 반영하고 다른 인스턴스의 L1 은 Pub/Sub 무효화 메시지로 정리
+ */
+public class TwoLevelCache implements Cache {
+
+    private static final String REQUEST_METRIC = "cache.tier.requests";
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache;
+    private final Cache remoteCache;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache,
+                         Cache remoteCache,
+                         CacheInvalidationPublisher invalidationPublisher,
+                         MeterRegistry meterRegistry) {
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.invalidationPublisher = invalidationPublisher;
+        this.localHits = requestCounter(meterRegistry, "l1", "hit");
+        this.localMisses = requestCounter(meterRegistry, "l1", "miss");
+        this.remoteHits = requestCounter(meterRegistry, "l2", "hit");
+        this.remoteMisses = requestCounter(meterRegistry, "l2", "miss");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Object localValue = localCache.getIfPresent(key);
+        if (localValue != null) {
+            localHits.increment();
+            return new SimpleValueWrapper(localValue);
+        }
+        localMisses.increment();
+
+        ValueWrapper remoteValue = remoteCache.get(key);
+        if (remoteValue == null || remoteValue.get() == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        localCache.put(key, remoteValue.get());
+        return remoteValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입 불일치: cache=" + name + ", key=" + key + ", type=" + type.getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object localValue = localCache.getIfPresent(key);
+        if (localValue != null) {
+            localHits.increment();
+            return (T) localValue;
+        }
+
+        return (T) localCache.get(key, k -> {
+            localMisses.increment();
+            ValueWrapper remoteValue = remoteCache.get(k);
+            if (remoteValue != null && remoteValue.get() != null) {
+                remoteHits.increment();
+                return remoteValue.get();
+            }
+            remoteMisses.increment();
+            return loadAndStore(k, valueLoader);
+        });
+    }
+
+    private Object loadAndStore(Object key, Callable<?> valueLoader) {
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        if (value != null) {
+            remoteCache.put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        remoteCache.put(key, value);
+        localCache.put(key, value);
+        invalidationPublisher.publish(name, key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        localCache.invalidate(key);
+        invalidationPublisher.publish(name, key);
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.invalidateAll();
+        invalidationPublisher.publish(name, null);
+    }
+
+    /**
+     * 다른 인스턴스에서 온 무효화 메시지 처리 (L1 만 정리)
+     * 메시지로는 키의 문자열 표현만 전달되므로 문자열 비교로 찾음
+     */
+    void evictLocal(String key) {
+        if (key == null) {
+            localCache.invalidateAll();
+            return;
+        }
+        localCache.asMap().keySet().removeIf(localKey -> localKey.toString().equals(key));
+    }
+
+    private Counter requestCounter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder(REQUEST_METRIC)
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,93 @@
+package kr.co.amateurs.server.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 지정한 캐시만 L1(Caffeine) + L2(Redis) 2단으로 감싸고 나머지는 Redis 캐시 매니저에 그대로 위임
+ * 다른 인스턴스에서 발행한 무효화 메시지를 받아 L1 을 정리하는 리스너 역할도 함께 함
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private final CacheManager remoteCacheManager;
+    private final Set<String> twoLevelCacheNames;
+    private final long localMaxSize;
+    private final Duration localTtl;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final String instanceId;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                Collection<String> twoLevelCacheNames,
+                                long localMaxSize,
+                                Duration localTtl,
+                                CacheInvalidationPublisher invalidationPublisher,
+                                String instanceId,
+                                MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.twoLevelCacheNames = Set.copyOf(twoLevelCacheNames);
+        this.localMaxSize = localMaxSize;
+        this.localTtl = localTtl;
+        this.invalidationPublisher = invalidationPublisher;
+        this.instanceId = instanceId;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        if (!twoLevelCacheNames.contains(name)) {
+            return remoteCacheManager.getCache(name);
+        }
+        return twoLevelCaches.computeIfAbsent(name, this::createTwoLevelCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        Set<String> names = new LinkedHashSet<>(remoteCacheManager.getCacheNames());
+        names.addAll(twoLevelCaches.keySet());
+        return names;
+    }
+
+    private TwoLevelCache createTwoLevelCache(String name) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, name + ".l1");
+
+        return new TwoLevelCache(name, localCache, remoteCacheManager.getCache(name), invalidationPublisher, meterRegistry);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8)
+                .split(Pattern.quote(CacheInvalidationPublisher.DELIMITER), 3);
+        if (parts.length < 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = twoLevelCaches.get(parts[1]);
+        if (cache != null) {
+            cache.evictLocal(parts[2].isEmpty() ? null : parts[2]);
+        }
+    }
+}
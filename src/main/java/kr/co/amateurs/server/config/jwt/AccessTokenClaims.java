@@ -0,0 +1,17 @@
+package kr.co.amateurs.server.config.jwt;
+
+import kr.co.amateurs.server.domain.entity.user.enums.Role;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 액세스 토큰의 클레임
+ * userId / role 은 클레임이 추가되기 전에 발급된 토큰이면 null
+ */
+public record AccessTokenClaims(
+        String email,
+        Long userId,
+        Role role,
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,119 @@
+package kr.co.amateurs.server.config.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kr.co.amateurs.server.config.cache.CacheInvalidationPublisher;
+import kr.co.amateurs.server.domain.event.UserPrincipalChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 검증된 액세스 토큰 → 인증 주체 캐시
+ * 같은 토큰으로 들어오는 요청은 DB 조회 없이 인증하고, 엔트리는 설정 TTL 과 토큰 남은 수명 중 짧은 쪽까지만 유지
+ * 사용자 정보가 바뀌면 해당 사용자 엔트리를 지우고 다른 인스턴스에도 캐시 무효화 채널로 알림
+ */
+@Slf4j
+@Component
+public class AuthPrincipalCache implements MessageListener {
+
+    static final String CACHE_NAME = "authPrincipal";
+
+    private final Cache<String, CachedPrincipal> cache;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    public AuthPrincipalCache(CacheInvalidationPublisher invalidationPublisher,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.principal-cache.ttl:60s}") Duration ttl,
+                              @Value("${jwt.principal-cache.max-size:10000}") long maxSize) {
+        this.invalidationPublisher = invalidationPublisher;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new PrincipalExpiry(ttl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public CustomUserDetails get(String token, AccessTokenClaims claims,
+                                 Function<AccessTokenClaims, CustomUserDetails> loader) {
+        return cache.get(digest(token), key -> new CachedPrincipal(loader.apply(claims), claims.expiresAt()))
+                .userDetails();
+    }
+
+    public void evictUser(Long userId) {
+        evictLocal(userId);
+        invalidationPublisher.publish(CACHE_NAME, userId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleUserPrincipalChanged(UserPrincipalChangedEvent event) {
+        evictUser(event.userId());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length < 3 || !CACHE_NAME.equals(parts[1])
+                || invalidationPublisher.getInstanceId().equals(parts[0])) {
+            return;
+        }
+        try {
+            evictLocal(Long.valueOf(parts[2]));
+        } catch (NumberFormatException e) {
+            log.warn("인증 캐시 무효화 메시지 형식 오류: {}", parts[2]);
+        }
+    }
+
+    private void evictLocal(Long userId) {
+        cache.asMap().values()
+                .removeIf(principal -> Objects.equals(principal.userDetails().getPrincipal().id(), userId));
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record CachedPrincipal(CustomUserDetails userDetails, Instant tokenExpiresAt) {
+    }
+
+    private record PrincipalExpiry(Duration ttl) implements Expiry<String, CachedPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedPrincipal value, long currentTime) {
+            long untilTokenExpiry = Duration.between(Instant.now(), value.tokenExpiresAt()).toNanos();
+            return Math.max(0, Math.min(ttl.toNanos(), untilTokenExpiry));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -14,33 +14,36 @@ import java.util.Map;
 public class CustomUserDetails implements UserDetails, OAuth2User {
 
     @Getter
-    private final User user;
+    private final UserPrincipal principal;
     private Map<String, Object> attributes;
 
     public CustomUserDetails(User user) {
-        this.user = user;
+        this.principal = UserPrincipal.from(user);
     }
 
     public CustomUserDetails(User user, Map<String, Object> attribute) {
-        this.user = user;
+        this.principal = UserPrincipal.from(user);
         this.attributes = attribute;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return Collections.singletonList(
-                new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
+                new SimpleGrantedAuthority("ROLE_" + principal.role().name())
         );
     }
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return principal.email();
     }
 
+    /**
+     * 로그인은 AuthService 에서 직접 검증하므로 인증 이후의 principal 에는 비밀번호를 두지 않음
+     */
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return null;
     }
 
     @Override
@@ -70,6 +73,6 @@ public class CustomUserDetails implements UserDetails, OAuth2User {
 
     @Override
     public String getName() {
-        return user.getName() != null ? user.getName() : user.getEmail();
+        return principal.name() != null ? principal.name() : principal.email();
     }
 }
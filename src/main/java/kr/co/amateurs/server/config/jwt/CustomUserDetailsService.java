@@ -1,5 +1,6 @@
 package kr.co.amateurs.server.config.jwt;
 
+import kr.co.amateurs.server.domain.common.ErrorCode;
 import kr.co.amateurs.server.domain.entity.user.User;
 import kr.co.amateurs.server.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -19,4 +20,18 @@ public class CustomUserDetailsService implements UserDetailsService {
         User user = userService.findByEmail(email);
         return new CustomUserDetails(user);
     }
+
+    /**
+     * 토큰 클레임 기준 조회 (사용자 id 클레임이 없는 이전 토큰은 이메일로 조회)
+     * 탈퇴한 사용자는 id 로는 여전히 조회되므로 여기서 거름
+     */
+    public CustomUserDetails loadUserByClaims(AccessTokenClaims claims) {
+        User user = claims.userId() != null
+                ? userService.findById(claims.userId())
+                : userService.findByEmail(claims.email());
+        if (user.isDeleted()) {
+            throw ErrorCode.USER_NOT_FOUND.get();
+        }
+        return new CustomUserDetails(user);
+    }
 }
@@ -17,6 +17,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -25,6 +26,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final AuthPrincipalCache authPrincipalCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -35,11 +37,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtProvider.validateToken(jwt)) {
+            Optional<AccessTokenClaims> claims = StringUtils.hasText(jwt)
+                    ? jwtProvider.parseAccessToken(jwt)
+                    : Optional.empty();
 
-                String email = jwtProvider.getEmailFromToken(jwt);
+            if (claims.isPresent()) {
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+                String email = claims.get().email();
+
+                UserDetails userDetails = authPrincipalCache.get(jwt, claims.get(), userDetailsService::loadUserByClaims);
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
@@ -3,6 +3,8 @@ package kr.co.amateurs.server.config.jwt;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SecurityException;
+import kr.co.amateurs.server.domain.entity.user.User;
+import kr.co.amateurs.server.domain.entity.user.enums.Role;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -10,12 +12,20 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 @Slf4j
 public class JwtProvider {
 
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLE_CLAIM = "role";
+
     private final SecretKey secretKey;
+    /**
+     * 빌드된 JwtParser 는 불변이라 요청마다 새로 만들지 않고 공유
+     */
+    private final JwtParser jwtParser;
     private final long accessTokenExpirationMs;
     private final long refreshTokenExpirationMs;
 
@@ -27,6 +37,9 @@ public class JwtProvider {
 
         byte[] keyBytes = Base64.getDecoder().decode(secret);
         this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
         this.accessTokenExpirationMs = accessTokenExpirationMs;
         this.refreshTokenExpirationMs = refreshTokenExpirationMs;
     }
@@ -43,41 +56,63 @@ public class JwtProvider {
                 .compact();
     }
 
+    /**
+     * 사용자 id / 권한을 클레임으로 담은 액세스 토큰
+     */
+    public String generateAccessToken(User user) {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + accessTokenExpirationMs);
+
+        return Jwts.builder()
+                .subject(user.getEmail())
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(ROLE_CLAIM, user.getRole().name())
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(secretKey)
+                .compact();
+    }
+
     public String getEmailFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
+        return jwtParser.parseSignedClaims(token)
                 .getPayload()
                 .getSubject();
     }
 
     public boolean validateToken(String token) {
+        return parseClaims(token).isPresent();
+    }
+
+    /**
+     * 서명 검증과 클레임 추출을 한 번의 파싱으로 처리
+     * @return 유효하지 않은 토큰이면 empty
+     */
+    public Optional<AccessTokenClaims> parseAccessToken(String token) {
+        return parseClaims(token).map(claims -> new AccessTokenClaims(
+                claims.getSubject(),
+                claims.get(USER_ID_CLAIM, Long.class),
+                claims.get(ROLE_CLAIM) != null ? Role.valueOf(claims.get(ROLE_CLAIM, String.class)) : null,
+                claims.getExpiration().toInstant()
+        ));
+    }
+
+    private Optional<Claims> parseClaims(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return Optional.of(jwtParser.parseSignedClaims(token).getPayload());
         }  catch (SecurityException e) {
             log.warn("JWT 서명이 유효하지 않습니다: {}", e.getMessage());
-            return false;
         } catch (MalformedJwtException e) {
             log.warn("JWT 토큰이 올바르지 않습니다: {}", e.getMessage());
-            return false;
         } catch (ExpiredJwtException e) {
             log.warn("JWT 토큰이 만료되었습니다: {}", e.getMessage());
-            return false;
         } catch (UnsupportedJwtException e) {
             log.warn("지원하지 않는 JWT 토큰입니다: {}", e.getMessage());
-            return false;
         } catch (JwtException e) {
             log.error("기타 JWT 토큰 오류: {}", e.getMessage());
-            return false;
         } catch (IllegalArgumentException e) {
             log.warn("JWT 토큰이 잘못되었습니다: {}", e.getMessage());
-            return false;
         }
+        return Optional.empty();
     }
 
     public long getAccessTokenExpirationMs() {
@@ -0,0 +1,34 @@
+package kr.co.amateurs.server.config.jwt;
+
+import kr.co.amateurs.server.domain.entity.post.enums.DevCourseTrack;
+import kr.co.amateurs.server.domain.entity.user.User;
+import kr.co.amateurs.server.domain.entity.user.enums.Role;
+
+/**
+ * SecurityContext 에 담기는 인증 사용자 정보
+ * JPA 엔티티 대신 불변 값만 들고 있어 트랜잭션 밖에서도 안전하게 쓸 수 있음
+ * 엔티티가 필요하면 UserService#getCurrentUserReference (연관관계 연결용) 나 getCurrentLoginUser 를 사용
+ */
+public record UserPrincipal(
+        Long id,
+        String email,
+        String name,
+        String nickname,
+        Role role,
+        String imageUrl,
+        DevCourseTrack devcourseName,
+        String devcourseBatch
+) {
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(
+                user.getId(),
+                user.getEmail(),
+                user.getName(),
+                user.getNickname(),
+                user.getRole(),
+                user.getImageUrl(),
+                user.getDevcourseName(),
+                user.getDevcourseBatch()
+        );
+    }
+}
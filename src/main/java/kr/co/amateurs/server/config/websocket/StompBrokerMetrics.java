@@ -0,0 +1,47 @@
+package kr.co.amateurs.server.config.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 브로커로 들어오는 메시지 수를 목적지별로 집계 (stomp.broker.messages)
+ * 방 ID 처럼 마지막 경로는 태그 수가 늘지 않도록 * 로 묶고, 다른 인스턴스에서 중계된 메시지는 source=relay 로 구분
+ * 채널 실행기 대기열 길이는 Spring Boot 가 executor.queued{name=clientInboundChannelExecutor 등} 으로 노출
+ */
+@Component
+@RequiredArgsConstructor
+public class StompBrokerMetrics implements ChannelInterceptor {
+
+    private static final String METRIC_NAME = "stomp.broker.messages";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, SimpMessageHeaderAccessor.class);
+        if (accessor == null || accessor.getMessageType() != SimpMessageType.MESSAGE || accessor.getDestination() == null) {
+            return message;
+        }
+
+        Counter.builder(METRIC_NAME)
+                .description("STOMP 브로커로 들어온 메시지 수")
+                .tag("destination", destinationPattern(accessor.getDestination()))
+                .tag("source", accessor.getHeader(StompRedisRelay.RELAYED_FROM_HEADER) != null ? "relay" : "local")
+                .register(meterRegistry)
+                .increment();
+        return message;
+    }
+
+    static String destinationPattern(String destination) {
+        int lastSlash = destination.lastIndexOf('/');
+        return lastSlash > 0 ? destination.substring(0, lastSlash) + "/*" : destination;
+    }
+}
@@ -0,0 +1,108 @@
+package kr.co.amateurs.server.config.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.amateurs.server.config.cache.CacheInvalidationPublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.io.IOException;
+
+/**
+ * 인스턴스 간 STOMP 브로커 메시지 중계 (websocket.broker.mode=redis)
+ * 이 인스턴스의 브로커로 들어온 /topic 메시지는 로컬 구독자에게 그대로 전달하면서 Redis 채널에도 발행하고,
+ * 다른 인스턴스에서 발행된 메시지는 로컬 브로커로 넘겨 어느 인스턴스에 연결된 구독자든 메시지를 받게 함
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "websocket.broker.mode", havingValue = "redis")
+public class StompRedisRelay implements ChannelInterceptor, MessageListener {
+
+    public static final String CHANNEL = "stomp:relay";
+    static final String RELAYED_FROM_HEADER = "relayedFrom";
+    private static final String TOPIC_PREFIX = "/topic/";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MessageChannel brokerChannel;
+    private final String instanceId;
+
+    public StompRedisRelay(StringRedisTemplate stringRedisTemplate,
+                           ObjectMapper objectMapper,
+                           @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel,
+                           CacheInvalidationPublisher cacheInvalidationPublisher) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.brokerChannel = brokerChannel;
+        this.instanceId = cacheInvalidationPublisher.getInstanceId();
+    }
+
+    @Override
+    public org.springframework.messaging.Message<?> preSend(org.springframework.messaging.Message<?> message,
+                                                            MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, SimpMessageHeaderAccessor.class);
+        if (accessor == null
+                || accessor.getMessageType() != SimpMessageType.MESSAGE
+                || accessor.getHeader(RELAYED_FROM_HEADER) != null
+                || accessor.getDestination() == null
+                || !accessor.getDestination().startsWith(TOPIC_PREFIX)
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        MimeType contentType = accessor.getContentType();
+        try {
+            RelayedMessage relayed = new RelayedMessage(
+                    instanceId,
+                    accessor.getDestination(),
+                    contentType != null ? contentType.toString() : null,
+                    payload
+            );
+            stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(relayed));
+        } catch (Exception e) {
+            log.warn("STOMP 메시지 중계 발행 실패, 로컬 구독자에게만 전달: destination={}", accessor.getDestination(), e);
+        }
+        return message;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        RelayedMessage relayed;
+        try {
+            relayed = objectMapper.readValue(message.getBody(), RelayedMessage.class);
+        } catch (IOException e) {
+            log.warn("STOMP 중계 메시지 형식 오류: {}", e.getMessage());
+            return;
+        }
+
+        if (instanceId.equals(relayed.origin())) {
+            return;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(relayed.destination());
+        if (relayed.contentType() != null) {
+            accessor.setContentType(MimeType.valueOf(relayed.contentType()));
+        }
+        accessor.setHeader(RELAYED_FROM_HEADER, relayed.origin());
+        brokerChannel.send(MessageBuilder.createMessage(relayed.payload(), accessor.getMessageHeaders()));
+    }
+
+    /**
+     * @param payload 메시지 변환기가 이미 직렬화한 본문 (JSON 은 base64 로 실림)
+     */
+    record RelayedMessage(String origin, String destination, String contentType, byte[] payload) {
+    }
+}
@@ -3,6 +3,7 @@ package kr.co.amateurs.server.controller.ai;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import kr.co.amateurs.server.config.jwt.CustomUserDetails;
+import kr.co.amateurs.server.domain.dto.ai.AiProfileRefreshProgress;
 import kr.co.amateurs.server.domain.dto.ai.AiProfileResponse;
 import kr.co.amateurs.server.domain.dto.ai.PostRecommendationResponse;
 import kr.co.amateurs.server.service.ai.AiProfileService;
@@ -44,7 +45,7 @@ public class AiAdminController {
     @PostMapping("/profiles/initial")
     @Operation(summary = "초기 AI 프로필 생성", description = "토픽 기반 초기 프로필 생성 (가입 시 로직)")
     public ResponseEntity<AiProfileResponse> generateInitialProfile(@AuthenticationPrincipal CustomUserDetails currentUser) {
-        Long userId = currentUser.getUser().getId();
+        Long userId = currentUser.getPrincipal().id();
         AiProfileResponse profile = aiProfileService.generateInitialProfile(userId);
         return ResponseEntity.status(HttpStatus.CREATED).body(profile);
     }
@@ -52,7 +53,7 @@ public class AiAdminController {
     @PostMapping("/profiles")
     @Operation(summary = "AI 프로필 생성", description = "활동 기반 완전한 AI 프로필 생성")
     public ResponseEntity<AiProfileResponse> generateProfile(@AuthenticationPrincipal CustomUserDetails currentUser) {
-        Long userId = currentUser.getUser().getId();
+        Long userId = currentUser.getPrincipal().id();
         AiProfileResponse response = aiProfileService.generateCompleteUserProfile(userId);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -65,6 +66,12 @@ public class AiAdminController {
         return ResponseEntity.ok().build();
     }
 
+    @GetMapping("/scheduler/ai-profiles/progress")
+    @Operation(summary = "AI 프로필 업데이트 진행 상황", description = "처리/업데이트/실패 수와 예상 남은 시간(초)")
+    public ResponseEntity<AiProfileRefreshProgress> getAiProfilesProgress() {
+        return ResponseEntity.ok(aiProfileSchedulerService.getProgress());
+    }
+
     @PostMapping("/scheduler/popular-posts")
     @Operation(summary = "인기글 계산 및 저장", description = "스케줄러와 동일한 로직 실행")
     public ResponseEntity<Void> calculateAndSavePopularPosts() {
@@ -121,9 +128,9 @@ public class AiAdminController {
 
 
     @PostMapping("/embeddings/initialize")
-    @Operation(summary = "게시글 임베딩 초기화", description = "모든 게시글의 임베딩을 초기화하고 다시 저장합니다")
-    public ResponseEntity<Void> initializeAllEmbeddings() {
-        postEmbeddingManageService.initializeAllPostEmbeddings();
+    @Operation(summary = "게시글 임베딩 초기화", description = "모든 게시글의 임베딩을 초기화하고 다시 저장합니다. 중간에 멈춘 작업이 있으면 restart=false 일 때 이어서 진행합니다")
+    public ResponseEntity<Void> initializeAllEmbeddings(@RequestParam(name = "restart", defaultValue = "false") boolean restart) {
+        postEmbeddingManageService.initializeAllPostEmbeddings(restart);
         return ResponseEntity.ok().build();
     }
 }
\ No newline at end of file
@@ -39,7 +39,7 @@ public class AiController {
             @AuthenticationPrincipal CustomUserDetails currentUser,
             @RequestParam(name="limit", defaultValue="10") int limit) {
 
-        Long userId = currentUser.getUser().getId();
+        Long userId = currentUser.getPrincipal().id();
         List<PostRecommendationResponse> recommendations = postRecommendService.getStoredRecommendations(userId, limit);
 
         return ResponseEntity.ok(recommendations);
@@ -8,6 +8,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -21,9 +22,9 @@ public class SseController {
     private final SseService sseService;
 
     @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    @Operation(summary = "SSE 연결", description = "실시간 알람을 받기 위한 SSE 연결을 생성합니다.")
-    public ResponseEntity<SseEmitter> connect() {
-        return ResponseEntity.ok(sseService.connect());
+    @Operation(summary = "SSE 연결", description = "실시간 알람을 받기 위한 SSE 연결을 생성합니다. Last-Event-ID 헤더가 있으면 그 이후 알람을 먼저 재전송합니다.")
+    public ResponseEntity<SseEmitter> connect(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return ResponseEntity.ok(sseService.connect(lastEventId));
     }
 
     @DeleteMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
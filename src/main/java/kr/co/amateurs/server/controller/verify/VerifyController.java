@@ -7,6 +7,7 @@ import kr.co.amateurs.server.domain.dto.verify.VerifyResultDTO;
 import kr.co.amateurs.server.domain.dto.verify.VerifyStatusDTO;
 import kr.co.amateurs.server.domain.entity.post.enums.DevCourseTrack;
 import kr.co.amateurs.server.domain.entity.user.User;
+import kr.co.amateurs.server.service.UserService;
 import kr.co.amateurs.server.service.verify.VerifyService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +24,7 @@ import org.springframework.web.multipart.MultipartFile;
 @Tag(name = "Verify", description = "수강생 인증 API")
 public class VerifyController {
     private final VerifyService verifyService;
+    private final UserService userService;
 
     @PostMapping(value = "/request", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @Operation(summary = "수강생 인증 요청", description = "프로그래머스 데브코스 수강생 인증을 요청합니다. 비동기로 처리됩니다.")
@@ -32,7 +34,7 @@ public class VerifyController {
             @RequestParam("devcourseBatch") String devcourseBatch,
             @RequestParam("image") MultipartFile image) {
 
-        User user = currentUser.getUser();
+        User user = userService.findById(currentUser.getPrincipal().id());
         VerifyResultDTO result = verifyService.verifyStudent(user, image, devcourseName, devcourseBatch);
         return ResponseEntity.ok(result);
     }
@@ -42,7 +44,7 @@ public class VerifyController {
     public ResponseEntity<VerifyStatusDTO> getVerificationStatus(
             @AuthenticationPrincipal CustomUserDetails currentUser) {
 
-        User user = currentUser.getUser();
+        User user = userService.findById(currentUser.getPrincipal().id());
         VerifyStatusDTO status = verifyService.getVerificationStatus(user);
         return ResponseEntity.ok(status);
     }
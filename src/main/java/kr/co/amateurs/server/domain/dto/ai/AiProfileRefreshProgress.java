@@ -0,0 +1,19 @@
+package kr.co.amateurs.server.domain.dto.ai;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 프로필 일괄 갱신 진행 상황
+ *
+ * @param etaSeconds 지금까지의 평균 처리 속도로 계산한 남은 시간, 실행 중이 아니거나 아직 처리한 사용자가 없으면 null
+ */
+public record AiProfileRefreshProgress(
+        boolean running,
+        int total,
+        int processed,
+        int updated,
+        int failed,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        Long etaSeconds
+) {}
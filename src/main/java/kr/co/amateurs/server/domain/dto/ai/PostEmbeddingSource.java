@@ -0,0 +1,15 @@
+package kr.co.amateurs.server.domain.dto.ai;
+
+import java.time.LocalDateTime;
+
+/**
+ * 임베딩 생성에 필요한 게시글 컬럼만 담은 조회 결과
+ */
+public record PostEmbeddingSource(
+        Long postId,
+        Long userId,
+        String title,
+        String content,
+        String boardType,
+        LocalDateTime createdAt
+) {}
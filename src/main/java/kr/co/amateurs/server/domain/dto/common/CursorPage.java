@@ -0,0 +1,58 @@
+package kr.co.amateurs.server.domain.dto.common;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지네이션 결과
+ * 기존 서비스 코드가 Page#map 체인을 그대로 쓸 수 있도록 PageImpl 을 확장하고, map 결과도 커서를 유지
+ * 전체 개수는 요청한 경우에만 채우고 그 외에는 -1
+ */
+public class CursorPage<T> extends PageImpl<T> {
+
+    public static final long UNKNOWN_TOTAL = -1L;
+
+    private final String nextCursor;
+    private final long totalElements;
+
+    public CursorPage(List<T> content, int size, String nextCursor, Long totalElements) {
+        super(content, PageRequest.of(0, size), content.size());
+        this.nextCursor = nextCursor;
+        this.totalElements = totalElements == null ? UNKNOWN_TOTAL : totalElements;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    @Override
+    public long getTotalElements() {
+        return totalElements;
+    }
+
+    @Override
+    public int getTotalPages() {
+        return totalElements == UNKNOWN_TOTAL ? -1 : (int) Math.ceil((double) totalElements / getSize());
+    }
+
+    @Override
+    public <U> CursorPage<U> map(Function<? super T, ? extends U> converter) {
+        return new CursorPage<>(getConvertedContent(converter), getSize(), nextCursor, totalElements);
+    }
+
+    /**
+     * 키 목록 순서를 유지한 채 별도로 조회한 행으로 내용을 교체
+     */
+    public <U> CursorPage<U> hydrate(Collection<U> rows, Function<U, T> keyOf) {
+        return new CursorPage<>(PageHydrator.orderByKeys(getContent(), rows, keyOf), getSize(), nextCursor, totalElements);
+    }
+}
@@ -0,0 +1,50 @@
+package kr.co.amateurs.server.domain.dto.common;
+
+import kr.co.amateurs.server.domain.common.ErrorCode;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋(seek) 페이지네이션 커서
+ * 마지막으로 내려준 행의 (정렬 값, id) 를 담고, 클라이언트에는 Base64url 로 인코딩한 불투명 토큰으로만 노출
+ * 정렬 기준/방향이 바뀐 채로 이전 커서를 넘기면 잘못된 위치부터 읽게 되므로 함께 기록해 두고 검증
+ */
+public record PageCursor(
+        PaginationSortType field,
+        Sort.Direction direction,
+        String sortValue,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+    private static final int PART_COUNT = 4;
+
+    public String encode() {
+        String raw = String.join(DELIMITER, field.name(), direction.name(), sortValue, String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param token    클라이언트가 넘긴 커서 토큰 (비어 있으면 첫 페이지)
+     * @return 첫 페이지면 null
+     */
+    public static PageCursor decode(String token, PaginationSortType field, Sort.Direction direction) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, PART_COUNT);
+            if (parts.length != PART_COUNT
+                    || PaginationSortType.valueOf(parts[0]) != field
+                    || Sort.Direction.valueOf(parts[1]) != direction) {
+                throw ErrorCode.INVALID_CURSOR.get();
+            }
+            return new PageCursor(field, direction, parts[2], Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException e) {
+            throw ErrorCode.INVALID_CURSOR.get();
+        }
+    }
+}
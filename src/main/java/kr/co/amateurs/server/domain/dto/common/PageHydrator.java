@@ -0,0 +1,38 @@
+package kr.co.amateurs.server.domain.dto.common;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * id 만 먼저 페이지로 조회한 뒤 본문을 따로 불러오는 목록에서, 본문 행을 id 페이지 순서대로 다시 맞춤
+ * id 조회와 본문 조회 사이에 삭제된 행은 빠짐
+ */
+public final class PageHydrator {
+
+    private PageHydrator() {
+    }
+
+    public static <K, U> Page<U> hydrate(Page<K> keys, Collection<U> rows, Function<U, K> keyOf) {
+        if (keys instanceof CursorPage<K> cursorPage) {
+            return cursorPage.hydrate(rows, keyOf);
+        }
+        return new PageImpl<>(orderByKeys(keys.getContent(), rows, keyOf), keys.getPageable(), keys.getTotalElements());
+    }
+
+    static <K, U> List<U> orderByKeys(List<K> keys, Collection<U> rows, Function<U, K> keyOf) {
+        Map<K, U> rowByKey = rows.stream()
+                .collect(Collectors.toMap(keyOf, Function.identity(), (a, b) -> a));
+
+        return keys.stream()
+                .map(rowByKey::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
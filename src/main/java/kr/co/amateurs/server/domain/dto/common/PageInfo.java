@@ -1,5 +1,6 @@
 package kr.co.amateurs.server.domain.dto.common;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -15,12 +16,24 @@ public class PageInfo {
     @Schema(description = "페이지 당 아이템 수", example = "1")
     private int pageSize;
 
-    @Schema(description = "전체 페이지 수", example = "1")
+    @Schema(description = "전체 페이지 수 (커서 모드에서 전체 개수를 요청하지 않으면 -1)", example = "1")
     private int totalPages;
 
-    @Schema(description = "전체 아이템 수", example = "1")
+    @Schema(description = "전체 아이템 수 (커서 모드에서 전체 개수를 요청하지 않으면 -1)", example = "1")
     private long totalElements;
 
+    @Schema(description = "다음 페이지 커서 (커서 모드에서만, 마지막 페이지면 생략)")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부 (커서 모드에서만)")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean hasNext;
+
+    public PageInfo(int pageNumber, int pageSize, int totalPages, long totalElements) {
+        this(pageNumber, pageSize, totalPages, totalElements, null, null);
+    }
+
     public static PageInfo from(Page<?> page) {
         Pageable pageable = page.getPageable();
 
@@ -31,4 +44,15 @@ public class PageInfo {
                 page.getTotalElements()
         );
     }
+
+    public static PageInfo from(CursorPage<?> page) {
+        return new PageInfo(
+                0,
+                page.getSize(),
+                page.getTotalPages(),
+                page.getTotalElements(),
+                page.getNextCursor(),
+                page.hasNext()
+        );
+    }
 }
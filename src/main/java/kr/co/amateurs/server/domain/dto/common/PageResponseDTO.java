@@ -10,7 +10,9 @@ public record PageResponseDTO<T>(
         PageInfo pageInfo
 ) {
     public static <T> PageResponseDTO<T> convertPageToDTO(Page<T> page){
-        PageInfo pageInfo = new PageInfo(page.getNumber(), page.getSize(), page.getTotalPages(), page.getTotalElements());
+        PageInfo pageInfo = page instanceof CursorPage<T> cursorPage
+                ? PageInfo.from(cursorPage)
+                : new PageInfo(page.getNumber(), page.getSize(), page.getTotalPages(), page.getTotalElements());
         return new PageResponseDTO<>(
                 page.getContent(),
                 pageInfo
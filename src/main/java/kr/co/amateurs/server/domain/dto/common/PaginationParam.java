@@ -36,6 +36,25 @@ public class PaginationParam {
     @Builder.Default
     protected PaginationSortType field = PaginationSortType.ID;
 
+    @Schema(description = "키셋 페이지네이션 커서. 생략하면 page 기반 조회, 빈 값이면 첫 페이지, 이후에는 응답의 nextCursor 를 그대로 전달", example = "")
+    protected String cursor;
+
+    @Schema(description = "커서 모드에서 전체 개수도 함께 조회할지 여부 (기본값 false)", implementation = Boolean.class, example = "false")
+    @Builder.Default
+    protected Boolean withTotal = false;
+
+    public PaginationParam(Integer page, Integer size, Sort.Direction sortDirection, PaginationSortType field) {
+        this(page, size, sortDirection, field, null, false);
+    }
+
+    public boolean isCursorMode() {
+        return cursor != null;
+    }
+
+    public boolean isTotalRequested() {
+        return !isCursorMode() || Boolean.TRUE.equals(withTotal);
+    }
+
     public Pageable toPageable() {
         return PageRequest.of(page, size, sortDirection, field.getField());
     }
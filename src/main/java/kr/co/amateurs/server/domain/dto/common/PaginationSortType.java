@@ -15,7 +15,9 @@ public enum PaginationSortType {
 
     POST_LATEST("post.createdAt"),
     POST_POPULAR("post.likeCount"),
-    POST_MOST_VIEW("postStatistics.viewCount");
+    POST_MOST_VIEW("postStatistics.viewCount"),
+    // 키워드 검색 관련도순, 키워드가 없거나 커서 조회면 최신순
+    POST_RELEVANCE("post.createdAt");
 
     public final String field;
 }
@@ -7,6 +7,7 @@ import kr.co.amateurs.server.domain.entity.post.enums.BoardType;
 import kr.co.amateurs.server.domain.entity.post.enums.DevCourseTrack;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 public record CommunityResponseDTO(
         @Schema(description = "커뮤니티 ID", example = "1")
@@ -126,4 +127,32 @@ public record CommunityResponseDTO(
                 }
                 return this;
         }
+
+        public CommunityResponseDTO applyPendingViewCount(Map<Long, Long> pendingViewCounts) {
+                Long pending = pendingViewCounts.get(this.postId);
+                if (pending == null || pending == 0L) {
+                        return this;
+                }
+                return new CommunityResponseDTO(
+                        this.communityId,
+                        this.postId,
+                        this.title,
+                        this.content,
+                        this.nickname,
+                        this.profileImageUrl,
+                        this.devCourseTrack,
+                        this.devCourseBatch,
+                        this.boardType,
+                        this.isBlinded,
+                        this.viewCount + pending.intValue(),
+                        this.likeCount,
+                        this.commentCount,
+                        this.bookmarkCount,
+                        this.createdAt,
+                        this.updatedAt,
+                        this.tags,
+                        this.hasLiked,
+                        this.hasBookmarked
+                );
+        }
 }
@@ -3,7 +3,6 @@ package kr.co.amateurs.server.domain.dto.directmessage;
 import kr.co.amateurs.server.domain.entity.directmessage.DirectMessageRoom;
 import kr.co.amateurs.server.domain.entity.directmessage.Participant;
 import kr.co.amateurs.server.domain.entity.post.enums.DevCourseTrack;
-import kr.co.amateurs.server.domain.entity.user.User;
 import lombok.Builder;
 
 import java.time.LocalDateTime;
@@ -20,9 +19,9 @@ public record DirectMessageRoomResponse(
         String lastMessage,
         LocalDateTime sentAt
 ) {
-    public static DirectMessageRoomResponse fromCollection(DirectMessageRoom room, User currentUser) {
+    public static DirectMessageRoomResponse fromCollection(DirectMessageRoom room, Long currentUserId) {
         List<Participant> participants = room.getParticipants();
-        Participant partner = participants.get(0).getUserId().equals(currentUser.getId())
+        Participant partner = participants.get(0).getUserId().equals(currentUserId)
                 ? participants.get(1)
                 : participants.get(0);
 
@@ -0,0 +1,50 @@
+package kr.co.amateurs.server.domain.dto.directmessage;
+
+import kr.co.amateurs.server.domain.common.ErrorCode;
+import kr.co.amateurs.server.domain.entity.directmessage.DirectMessage;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * DM 검색 search-after 커서
+ * 마지막으로 내려준 메시지의 (sentAt, id) 를 담음. 메시지 id 가 ObjectId 라 Long id 를 쓰는 PageCursor 대신 별도로 둠
+ */
+public record DirectMessageSearchCursor(
+        LocalDateTime sentAt,
+        ObjectId id
+) {
+    private static final String DELIMITER = "|";
+
+    public static DirectMessageSearchCursor from(DirectMessage message) {
+        return new DirectMessageSearchCursor(message.getSentAt(), new ObjectId(message.getId()));
+    }
+
+    public String encode() {
+        String raw = sentAt + DELIMITER + id.toHexString();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 첫 페이지면 null
+     */
+    public static DirectMessageSearchCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 2 || !ObjectId.isValid(parts[1])) {
+                throw ErrorCode.INVALID_CURSOR.get();
+            }
+            return new DirectMessageSearchCursor(LocalDateTime.parse(parts[0]), new ObjectId(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw ErrorCode.INVALID_CURSOR.get();
+        }
+    }
+}
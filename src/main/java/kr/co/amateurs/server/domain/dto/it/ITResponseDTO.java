@@ -8,6 +8,7 @@ import kr.co.amateurs.server.domain.entity.post.enums.BoardType;
 import kr.co.amateurs.server.domain.entity.post.enums.DevCourseTrack;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 public record ITResponseDTO(
         @Schema(description = "IT ID", example = "1")
@@ -128,4 +129,32 @@ public record ITResponseDTO(
         }
         return this;
     }
+
+    public ITResponseDTO applyPendingViewCount(Map<Long, Long> pendingViewCounts) {
+        Long pending = pendingViewCounts.get(this.postId);
+        if (pending == null || pending == 0L) {
+            return this;
+        }
+        return new ITResponseDTO(
+                this.itId,
+                this.postId,
+                this.title,
+                this.content,
+                this.nickname,
+                this.profileImageUrl,
+                this.devcourseName,
+                this.devcourseBatch,
+                this.boardType,
+                this.isBlinded,
+                this.viewCount + pending.intValue(),
+                this.likeCount,
+                this.commentCount,
+                this.bookmarkCount,
+                this.createdAt,
+                this.updatedAt,
+                this.tags,
+                this.hasLiked,
+                this.hasBookmarked
+        );
+    }
 }
@@ -0,0 +1,5 @@
+package kr.co.amateurs.server.domain.dto.post;
+
+import kr.co.amateurs.server.domain.entity.post.enums.PopularityEventType;
+
+public record PostPopularityEvent(Long postId, PopularityEventType type) {}
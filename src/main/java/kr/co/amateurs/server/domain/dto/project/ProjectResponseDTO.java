@@ -9,6 +9,7 @@ import org.jooq.Record;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.jooq.generated.Tables.POST_STATISTICS;
 import static org.jooq.generated.tables.Posts.POSTS;
@@ -165,4 +166,37 @@ public record ProjectResponseDTO(
         }
         return this;
     }
+
+    public ProjectResponseDTO applyPendingViewCount(Map<Long, Long> pendingViewCounts) {
+        Long pending = pendingViewCounts.get(this.postId);
+        if (pending == null || pending == 0L) {
+            return this;
+        }
+        return new ProjectResponseDTO(
+                this.projectId,
+                this.postId,
+                this.isBlinded,
+                this.startedAt,
+                this.endedAt,
+                this.githubUrl,
+                this.simpleContent,
+                this.demoUrl,
+                this.projectMembers,
+                this.authorId,
+                this.title,
+                this.content,
+                this.tags,
+                this.viewCount + pending.intValue(),
+                this.likeCount,
+                this.bookmarkCount,
+                this.createdAt,
+                this.updatedAt,
+                this.nickname,
+                this.devcourseTrack,
+                this.devcourseBatch,
+                this.thumbnailImageUrl,
+                this.hasBookmarked,
+                this.hasLiked
+        );
+    }
 }
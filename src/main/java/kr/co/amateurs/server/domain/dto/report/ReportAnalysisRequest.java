@@ -0,0 +1,9 @@
+package kr.co.amateurs.server.domain.dto.report;
+
+import kr.co.amateurs.server.domain.entity.report.enums.ReportType;
+
+public record ReportAnalysisRequest(
+        String content,
+        ReportType reportType,
+        String description
+) {}
@@ -0,0 +1,14 @@
+package kr.co.amateurs.server.domain.dto.report;
+
+import java.util.List;
+
+public record ReportBatchAIResponse(
+    List<Item> results
+){
+    public record Item(
+        int id,
+        boolean isViolation,
+        String reason,
+        Double confidenceScore
+    ){}
+}
@@ -10,6 +10,7 @@ import kr.co.amateurs.server.domain.entity.post.enums.GatheringType;
 import lombok.Builder;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 
 @Builder
@@ -133,4 +134,37 @@ public record GatheringPostResponseDTO(
                 }
                 return this;
         }
-}
\ No newline at end of file
+
+        public GatheringPostResponseDTO applyPendingViewCount(Map<Long, Long> pendingViewCounts) {
+                Long pending = pendingViewCounts.get(this.postId);
+                if (pending == null || pending == 0L) {
+                        return this;
+                }
+                return new GatheringPostResponseDTO(
+                        this.id,
+                        this.postId,
+                        this.isBlinded,
+                        this.nickname,
+                        this.devcourseName,
+                        this.devcourseBatch,
+                        this.userProfileImg,
+                        this.title,
+                        this.content,
+                        this.tags,
+                        this.viewCount + pending.intValue(),
+                        this.commentCount,
+                        this.likeCount,
+                        this.bookmarkCount,
+                        this.gatheringType,
+                        this.status,
+                        this.headCount,
+                        this.place,
+                        this.period,
+                        this.schedule,
+                        this.createdAt,
+                        this.updatedAt,
+                        this.hasLiked,
+                        this.hasBookmarked
+                );
+        }
+}
@@ -9,6 +9,7 @@ import kr.co.amateurs.server.domain.entity.post.enums.MarketStatus;
 import lombok.Builder;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 
 @Builder
@@ -124,4 +125,35 @@ public record MarketPostResponseDTO(
                 }
                 return this;
         }
+
+        public MarketPostResponseDTO applyPendingViewCount(Map<Long, Long> pendingViewCounts) {
+                Long pending = pendingViewCounts.get(this.postId);
+                if (pending == null || pending == 0L) {
+                        return this;
+                }
+                return new MarketPostResponseDTO(
+                        this.id,
+                        this.postId,
+                        this.isBlinded,
+                        this.nickname,
+                        this.devcourseName,
+                        this.devcourseBatch,
+                        this.userProfileImg,
+                        this.title,
+                        this.content,
+                        this.tags,
+                        this.viewCount + pending.intValue(),
+                        this.commentCount,
+                        this.likeCount,
+                        this.bookmarkCount,
+                        this.status,
+                        this.price,
+                        this.place,
+                        this.thumbnail,
+                        this.createdAt,
+                        this.updatedAt,
+                        this.hasLiked,
+                        this.hasBookmarked
+                );
+        }
 }
@@ -10,6 +10,7 @@ import kr.co.amateurs.server.domain.entity.post.enums.MatchingType;
 import lombok.Builder;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 
 @Builder
@@ -121,4 +122,34 @@ public record MatchPostResponseDTO(
                 }
                 return this;
         }
+
+        public MatchPostResponseDTO applyPendingViewCount(Map<Long, Long> pendingViewCounts) {
+                Long pending = pendingViewCounts.get(this.postId);
+                if (pending == null || pending == 0L) {
+                        return this;
+                }
+                return new MatchPostResponseDTO(
+                        this.id,
+                        this.postId,
+                        this.isBlinded,
+                        this.nickname,
+                        this.devcourseName,
+                        this.devcourseBatch,
+                        this.userProfileImg,
+                        this.title,
+                        this.content,
+                        this.tags,
+                        this.viewCount + pending.intValue(),
+                        this.commentCount,
+                        this.likeCount,
+                        this.bookmarkCount,
+                        this.matchingType,
+                        this.status,
+                        this.expertiseArea,
+                        this.createdAt,
+                        this.updatedAt,
+                        this.hasLiked,
+                        this.hasBookmarked
+                );
+        }
 }
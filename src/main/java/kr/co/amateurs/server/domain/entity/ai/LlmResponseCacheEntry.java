@@ -0,0 +1,39 @@
+package kr.co.amateurs.server.domain.entity.ai;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * LLM 응답 캐시의 MySQL 보관본 (Redis 에 없거나 Redis 장애 시 사용)
+ */
+@Entity
+@Table(name = "llm_response_cache", indexes = {
+        @Index(name = "idx_llm_response_cache_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class LlmResponseCacheEntry {
+    @Id
+    @Column(length = 64)
+    private String cacheKey;
+
+    @Column(nullable = false, length = 100)
+    private String namespace;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String response;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -6,6 +6,8 @@ import kr.co.amateurs.server.domain.entity.alarm.metadata.AlarmMetaData;
 import kr.co.amateurs.server.domain.entity.post.Post;
 import kr.co.amateurs.server.domain.entity.user.User;
 import lombok.*;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -15,6 +17,10 @@ import java.util.List;
 
 @Getter
 @Document(collection = "alarms")
+@CompoundIndexes({
+        @CompoundIndex(name = "userId_id", def = "{'userId': 1, '_id': 1}"),
+        @CompoundIndex(name = "userId_isRead_sentAt", def = "{'userId': 1, 'isRead': 1, 'sentAt': -1}")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
@@ -35,4 +41,10 @@ public class Alarm {
 
     @Builder.Default
     private LocalDateTime sentAt = LocalDateTime.now();
+
+    /**
+     * 읽음 처리 시각, 읽은 알람은 30일 뒤 TTL 인덱스로 삭제 (안 읽은 알람은 값이 없어 삭제되지 않음)
+     */
+    @Indexed(expireAfter = "30d")
+    private LocalDateTime readAt;
 }
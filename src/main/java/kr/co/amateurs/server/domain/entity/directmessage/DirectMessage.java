@@ -3,13 +3,19 @@ package kr.co.amateurs.server.domain.entity.directmessage;
 import jakarta.persistence.Id;
 import kr.co.amateurs.server.domain.entity.directmessage.enums.MessageType;
 import lombok.*;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 @Getter
 @Document(collection = "direct_messages")
+@CompoundIndex(name = "roomId_sentAt", def = "{'roomId': 1, 'sentAt': -1, '_id': -1}")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
@@ -33,7 +39,48 @@ public class DirectMessage {
     @Builder.Default
     private LocalDateTime sentAt = LocalDateTime.now();
 
+    /**
+     * 부분 문자열 검색용 1·2글자 토큰 (소문자), 텍스트 메시지만 채움
+     */
+    @Indexed
+    private List<String> searchTokens;
+
     public void markAsRead() {
         this.isRead = true;
     }
+
+    public void assignId(String id) {
+        this.id = id;
+    }
+
+    public void refreshSearchTokens() {
+        this.searchTokens = messageType == MessageType.TEXT && content != null
+                ? List.copyOf(tokenize(content, true))
+                : null;
+    }
+
+    /**
+     * 검색어를 저장된 토큰과 같은 방식으로 자름
+     * 한 글자 검색어는 1글자 토큰, 그 외에는 2글자 토큰만 사용 (모두 포함하면 후보)
+     */
+    public static Set<String> searchTokensOf(String keyword) {
+        if (keyword == null || keyword.isEmpty()) {
+            return Set.of();
+        }
+        return tokenize(keyword, keyword.length() == 1);
+    }
+
+    private static Set<String> tokenize(String text, boolean withUnigrams) {
+        String normalized = text.toLowerCase(Locale.ROOT);
+        Set<String> tokens = new LinkedHashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            if (withUnigrams && !Character.isWhitespace(normalized.charAt(i))) {
+                tokens.add(normalized.substring(i, i + 1));
+            }
+            if (i + 1 < normalized.length()) {
+                tokens.add(normalized.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
 }
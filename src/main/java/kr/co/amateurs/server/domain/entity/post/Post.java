@@ -21,7 +21,7 @@ import java.util.stream.Collectors;
         @Index(name = "idx_post_board_type", columnList = "board_type"),
         @Index(name = "idx_post_user_id", columnList = "user_id"),
         @Index(name = "idx_post_board_created", columnList = "board_type, created_at"),
-        @Index(name = "idx_post_title_content", columnList = "title, content"),
+        @Index(name = "idx_post_board_like", columnList = "board_type, like_count"),
         @Index(name = "idx_post_deleted_blinded", columnList = "is_deleted, is_blinded")
 })
 @Getter
@@ -26,6 +26,14 @@ public class PostStatistics {
     @Column(nullable = false)
     private Integer viewCount = 0;
 
+    /**
+     * 삭제되지 않은 댓글 수 (목록 조회용 비정규화 컬럼)
+     * 댓글 작성/삭제 시 원자적 UPDATE 로만 갱신하므로 엔티티 flush 가 덮어쓰지 않도록 updatable = false
+     */
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private Integer commentCount = 0;
+
     public void incrementViewCount() {
         this.viewCount++;
     }
@@ -0,0 +1,19 @@
+package kr.co.amateurs.server.domain.entity.post.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인기글 점수에 반영되는 이벤트와 이벤트당 가중치
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PopularityEventType {
+    VIEW(0.4),
+    LIKE(4.0),
+    UNLIKE(-4.0),
+    COMMENT(2.0),
+    UNCOMMENT(-2.0);
+
+    private final double weight;
+}
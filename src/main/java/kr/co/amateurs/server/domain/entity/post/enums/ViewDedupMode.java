@@ -0,0 +1,6 @@
+package kr.co.amateurs.server.domain.entity.post.enums;
+
+public enum ViewDedupMode {
+    IP_KEY,
+    HYPER_LOG_LOG
+}
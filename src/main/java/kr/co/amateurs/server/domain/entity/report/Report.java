@@ -56,6 +56,11 @@ public class Report extends BaseEntity {
 
     private Double confidenceScore;
 
+    @Column(nullable = false)
+    private int attemptCount;
+
+    private LocalDateTime nextAttemptAt;
+
     public void startProcessing() {
         this.status = ReportStatus.PROCESSING;
         this.processingStartedAt = LocalDateTime.now();
@@ -76,6 +81,16 @@ public class Report extends BaseEntity {
         this.confidenceScore = confidenceScore;
     }
 
+    /**
+     * 처리에 실패한 신고를 다시 대기 상태로 돌려 nextAttemptAt 이후에 다시 가져가게 함
+     * 일시적인 실패 사유는 로그로만 남기고 판정 사유(violationReason)에는 쓰지 않음
+     */
+    public void retryLater(LocalDateTime nextAttemptAt) {
+        this.status = ReportStatus.PENDING;
+        this.attemptCount++;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
     public void errorProcessing(String errorReason) {
         this.status = ReportStatus.ERROR;
         this.processingCompletedAt = LocalDateTime.now();
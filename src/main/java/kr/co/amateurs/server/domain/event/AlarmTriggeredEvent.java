@@ -0,0 +1,15 @@
+package kr.co.amateurs.server.domain.event;
+
+import kr.co.amateurs.server.config.jwt.UserPrincipal;
+import kr.co.amateurs.server.domain.entity.alarm.enums.AlarmType;
+
+/**
+ * @param result AlarmTrigger 메서드의 반환값
+ * @param actor  알람을 발생시킨 로그인 사용자, 인증 정보가 없는 호출(STOMP 등)이면 null
+ */
+public record AlarmTriggeredEvent(
+        AlarmType type,
+        Object result,
+        UserPrincipal actor
+) {
+}
@@ -0,0 +1,9 @@
+package kr.co.amateurs.server.domain.event;
+
+/**
+ * 인증 principal 에 담기는 사용자 정보(권한, 프로필, 탈퇴 여부 등)가 바뀌었음을 알림
+ */
+public record UserPrincipalChangedEvent(
+        Long userId
+) {
+}
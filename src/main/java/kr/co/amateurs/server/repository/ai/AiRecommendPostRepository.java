@@ -11,7 +11,7 @@ import java.util.List;
 public interface AiRecommendPostRepository extends JpaRepository<RecommendedPost, Long> {
     @Query("SELECT new kr.co.amateurs.server.domain.dto.ai.PostRecommendationResponse(" +
             "p.id, p.title, u.nickname, p.likeCount, ps.viewCount, " +
-            "CAST((SELECT COUNT(c) FROM Comment c WHERE c.postId = p.id) AS integer), " +
+            "ps.commentCount, " +
             "p.boardType, p.createdAt, rp.boardId) " +
             "FROM RecommendedPost rp " +
             "JOIN rp.post p " +
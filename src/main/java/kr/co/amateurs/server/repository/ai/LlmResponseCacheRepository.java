@@ -0,0 +1,24 @@
+package kr.co.amateurs.server.repository.ai;
+
+import kr.co.amateurs.server.domain.entity.ai.LlmResponseCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface LlmResponseCacheRepository extends JpaRepository<LlmResponseCacheEntry, String> {
+
+    @Modifying
+    @Query("DELETE FROM LlmResponseCacheEntry e WHERE e.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    /**
+     * 최대 개수를 넘은 만큼 오래된 항목부터 삭제
+     * TTL 이 모두 같아 expires_at 순서가 생성 순서와 같으므로 인덱스가 있는 expires_at 으로 정렬
+     */
+    @Modifying
+    @Query(value = "DELETE FROM llm_response_cache ORDER BY expires_at LIMIT :count", nativeQuery = true)
+    int deleteOldest(@Param("count") int count);
+}
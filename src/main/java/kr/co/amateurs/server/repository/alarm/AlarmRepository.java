@@ -8,18 +8,28 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.Update;
 
+import java.util.List;
+
 public interface AlarmRepository extends MongoRepository<Alarm, String> {
+    /**
+     * @return 새로 읽음 처리된 알람 수 (안 읽은 알람 카운터 차감용)
+     */
     @Modifying
     @Query("{ 'userId': ?0, 'isRead': false }")
-    @Update("{ '$set': { 'isRead': true } }")
-    void markAllAsReadByUserId(long userId);
+    @Update("{ '$set': { 'isRead': true }, '$currentDate': { 'readAt': true } }")
+    long markAllAsReadByUserId(long userId);
 
     @Modifying
-    @Query("{ 'userId': ?0, '_id': ?1 }")
-    @Update("{ '$set': { 'isRead': true } }")
-    void markAsReadByUserIdAndId(long userId, String alarmId);
+    @Query("{ 'userId': ?0, '_id': ?1, 'isRead': false }")
+    @Update("{ '$set': { 'isRead': true }, '$currentDate': { 'readAt': true } }")
+    long markAsReadByUserIdAndId(long userId, String alarmId);
 
     Page<Alarm> findByUserId(long userId, Pageable pageable);
-    
+
     long countByUserIdAndIsReadFalse(long userId);
+
+    /**
+     * SSE 재연결 시 Last-Event-ID 이후 알람 재전송용 (userId, _id) 인덱스 사용
+     */
+    List<Alarm> findTop100ByUserIdAndIdGreaterThanOrderByIdAsc(long userId, String lastAlarmId);
 }
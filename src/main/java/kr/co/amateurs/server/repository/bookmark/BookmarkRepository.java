@@ -10,7 +10,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
@@ -67,8 +66,6 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 
     List<Bookmark> findTop3ByUserIdOrderByCreatedAtDesc(Long userId);
 
-    boolean existsByUserIdAndCreatedAtAfter(Long userId, LocalDateTime createdAt);
-
     void deleteByPost_Id(Long postId);
 
     Integer countByPostAndUser(Post post, User user);
@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -27,7 +29,7 @@ public interface CommunityRepository extends JpaRepository<CommunityPost, Long>
             p.isBlinded,
             ps.viewCount,
             p.likeCount,
-            (SELECT CAST(COUNT(c2.id) AS int) FROM Comment c2 WHERE c2.postId = p.id AND c2.isDeleted = false),
+            ps.commentCount,
             (SELECT CAST(COUNT(b2.id) AS int) FROM Bookmark b2 WHERE b2.post.id = p.id AND b2.user.id = u.id),
             p.createdAt,
             p.updatedAt,
@@ -43,48 +45,12 @@ public interface CommunityRepository extends JpaRepository<CommunityPost, Long>
         """)
     Page<CommunityResponseDTO> findDTOByBoardType(@Param("boardType") BoardType boardType, Pageable pageable);
 
-    @Query("""
-        SELECT new kr.co.amateurs.server.domain.dto.community.CommunityResponseDTO(
-            cp.id,
-            p.id,
-            p.title,
-            p.content,
-            u.nickname,
-            u.imageUrl,
-            u.devcourseName,
-            u.devcourseBatch,
-            p.boardType,
-            p.isBlinded,
-            ps.viewCount,
-            p.likeCount,
-            (SELECT CAST(COUNT(c2.id) AS int) FROM Comment c2 WHERE c2.postId = p.id AND c2.isDeleted = false),
-            (SELECT CAST(COUNT(b2.id) AS int) FROM Bookmark b2 WHERE b2.post.id = p.id AND b2.user.id = u.id),
-            p.createdAt,
-            p.updatedAt,
-            p.tags,
-            false,
-            false
-        )
-        FROM CommunityPost cp
-        JOIN cp.post p
-        JOIN p.user u
-        JOIN PostStatistics ps ON ps.postId = p.id
-        WHERE p.boardType = :boardType
-          AND (:keyword IS NULL
-               OR :keyword = ''
-               OR p.title LIKE CONCAT('%', :keyword, '%')
-               OR p.content LIKE CONCAT('%', :keyword, '%'))
-        """)
-    Page<CommunityResponseDTO> findDTOByContentAndBoardType(@Param("keyword") String keyword,
-                                                            @Param("boardType") BoardType boardType,
-                                                            Pageable pageable);
-
     @Query("""
         SELECT new kr.co.amateurs.server.domain.dto.community.CommunityResponseDTO(
             cp.id, p.id, p.title, p.content, u.nickname, u.imageUrl, 
             u.devcourseName, u.devcourseBatch, p.boardType, p.isBlinded, ps.viewCount, 
             p.likeCount, 
-            (SELECT CAST(COUNT(c2.id) AS int) FROM Comment c2 WHERE c2.postId = p.id AND c2.isDeleted = false),
+            ps.commentCount,
             (SELECT CAST(COUNT(b2.id) AS int) FROM Bookmark b2 WHERE b2.post.id = p.id),
             p.createdAt, p.updatedAt, p.tags,
             (SELECT CASE WHEN COUNT(pl2.id) > 0 THEN true ELSE false END FROM Like pl2 WHERE pl2.post.id = p.id AND pl2.user.id = :userId),
@@ -112,7 +78,7 @@ public interface CommunityRepository extends JpaRepository<CommunityPost, Long>
             p.isBlinded,
             ps.viewCount,
             p.likeCount,
-            (SELECT CAST(COUNT(c2.id) AS int) FROM Comment c2 WHERE c2.postId = p.id AND c2.isDeleted = false),
+            ps.commentCount,
             (SELECT CAST(COUNT(b2.id) AS int) FROM Bookmark b2 WHERE b2.post.id = p.id AND b2.user.id = u.id),
             p.createdAt,
             p.updatedAt,
@@ -144,7 +110,7 @@ public interface CommunityRepository extends JpaRepository<CommunityPost, Long>
             p.isBlinded,
             ps.viewCount,
             p.likeCount,
-            (SELECT CAST(COUNT(c2.id) AS int) FROM Comment c2 WHERE c2.postId = p.id AND c2.isDeleted = false),
+            ps.commentCount,
             (SELECT CAST(COUNT(b2.id) AS int) FROM Bookmark b2 WHERE b2.post.id = p.id AND b2.user.id = u.id),
             p.createdAt,
             p.updatedAt,
@@ -156,14 +122,7 @@ public interface CommunityRepository extends JpaRepository<CommunityPost, Long>
         JOIN cp.post p
         JOIN p.user u
         JOIN PostStatistics ps ON ps.postId = p.id
-        WHERE p.boardType = :boardType
-          AND (:keyword IS NULL
-               OR :keyword = ''
-               OR p.title LIKE CONCAT('%', :keyword, '%')
-               OR p.content LIKE CONCAT('%', :keyword, '%'))
-        ORDER BY ps.viewCount DESC
+        WHERE p.id IN :postIds
         """)
-    Page<CommunityResponseDTO> findDTOByContentAndBoardTypeOrderByViewCount(@Param("keyword") String keyword,
-                                                                            @Param("boardType") BoardType boardType,
-                                                                            Pageable pageable);
-}
\ No newline at end of file
+    List<CommunityResponseDTO> findDTOByPostIdIn(@Param("postIds") Collection<Long> postIds);
+}
@@ -1,71 +1,163 @@
 package kr.co.amateurs.server.repository.directmessage;
 
+import kr.co.amateurs.server.domain.dto.common.CursorPage;
+import kr.co.amateurs.server.domain.dto.directmessage.DirectMessageSearchCursor;
 import kr.co.amateurs.server.domain.dto.directmessage.DirectMessageSearchPaginationParam;
 import kr.co.amateurs.server.domain.entity.directmessage.DirectMessage;
 import kr.co.amateurs.server.domain.entity.directmessage.DirectMessageRoom;
+import kr.co.amateurs.server.domain.entity.directmessage.enums.MessageType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.aggregation.*;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 /**
- * DM 검색 Repository - 2단계로 깔끔하게 처리
+ * DM 검색 Repository
+ * - 참여한 방 전체를 roomId $in 하나로 묶고, 검색어는 searchTokens 인덱스로 후보를 좁힌 뒤 원문 부분 일치로 확인
+ * - 재입장 시각 이전 메시지는 후보를 읽으면서 걸러내므로 방 수만큼 조건이 늘어나지 않음
+ * - 재입장한 방이 없으면 skip/limit/count 를 Mongo 에 그대로 맡김
+ * - 전체 개수는 page 모드에서는 항상, 커서 모드에서는 withTotal 일 때만 셈
+ * - 커서 모드는 (sentAt, _id) search-after 로 다음 페이지를 읽음
  */
 @Repository
 @RequiredArgsConstructor
 public class DirectMessageCustomRepository {
-    
+
+    private static final Sort SEARCH_SORT = Sort.by(Sort.Direction.DESC, "sentAt").and(Sort.by(Sort.Direction.DESC, "_id"));
+
     private final MongoTemplate mongoTemplate;
 
     public Page<DirectMessage> searchMessages(List<DirectMessageRoom> userRooms, Long userId, DirectMessageSearchPaginationParam param) {
-        
         if (userRooms.isEmpty()) {
-            return new PageImpl<>(List.of(), param.toPageable(), 0);
+            return param.isCursorMode()
+                    ? new CursorPage<>(List.of(), param.getSize(), null, param.isTotalRequested() ? 0L : null)
+                    : new PageImpl<>(List.of(), param.toPageable(), 0);
         }
-        
-        List<Criteria> orConditions = new ArrayList<>();
-        
+
+        Map<String, LocalDateTime> reEntryAtByRoom = new HashMap<>();
         for (DirectMessageRoom room : userRooms) {
-            LocalDateTime reEntryAt = room.getParticipantReEntryAt(userId);
-            
-            Criteria roomCriteria = Criteria.where("roomId").is(room.getId())
-                .and("content").regex(param.getKeyword(), "i");
-            
-            if (reEntryAt != null) {
-                roomCriteria = roomCriteria.and("sentAt").gte(reEntryAt);
-            }
-            
-            orConditions.add(roomCriteria);
+            reEntryAtByRoom.put(room.getId(), room.getParticipantReEntryAt(userId));
+        }
+        Criteria criteria = searchCriteria(reEntryAtByRoom.keySet(), param.getKeyword());
+        Predicate<DirectMessage> visible = message -> {
+            LocalDateTime reEntryAt = reEntryAtByRoom.get(message.getRoomId());
+            return reEntryAt == null || !message.getSentAt().isBefore(reEntryAt);
+        };
+        boolean hasReEntry = reEntryAtByRoom.values().stream().anyMatch(reEntryAt -> reEntryAt != null);
+
+        if (!param.isCursorMode()) {
+            Pageable pageable = param.toPageable();
+            List<DirectMessage> content = read(criteria, visible, hasReEntry, pageable.getOffset(), param.getSize());
+            return new PageImpl<>(content, pageable, count(criteria, visible, hasReEntry));
+        }
+
+        DirectMessageSearchCursor cursor = DirectMessageSearchCursor.decode(param.getCursor());
+        List<DirectMessage> rows = read(after(criteria, cursor), visible, hasReEntry, 0, param.getSize() + 1);
+        Long total = param.isTotalRequested() ? count(criteria, visible, hasReEntry) : null;
+        if (rows.size() <= param.getSize()) {
+            return new CursorPage<>(rows, param.getSize(), null, total);
+        }
+
+        List<DirectMessage> content = List.copyOf(rows.subList(0, param.getSize()));
+        String nextCursor = DirectMessageSearchCursor.from(content.get(content.size() - 1)).encode();
+        return new CursorPage<>(content, param.getSize(), nextCursor, total);
+    }
+
+    /**
+     * 검색 토큰이 없는 기존 텍스트 메시지에 토큰을 채움
+     *
+     * @return 이번에 채운 메시지 수 (batchSize 보다 작으면 남은 메시지 없음)
+     */
+    public int backfillSearchTokens(int batchSize) {
+        Query query = Query.query(Criteria.where("messageType").is(MessageType.TEXT).and("searchTokens").exists(false))
+                .limit(batchSize);
+        query.fields().include("content", "messageType");
+        List<DirectMessage> messages = mongoTemplate.find(query, DirectMessage.class);
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, DirectMessage.class);
+        for (DirectMessage message : messages) {
+            message.refreshSearchTokens();
+            bulk.updateOne(Query.query(Criteria.where("_id").is(message.getId())),
+                    new Update().set("searchTokens", message.getSearchTokens()));
+        }
+        bulk.execute();
+        return messages.size();
+    }
+
+    /**
+     * 토큰 조건은 인덱스로 후보를 찾기 위한 것이고, 최종 일치 여부는 원문 부분 일치(대소문자 무시)로 판단
+     */
+    private Criteria searchCriteria(Set<String> roomIds, String keyword) {
+        Criteria criteria = Criteria.where("roomId").in(roomIds);
+        if (keyword == null || keyword.isEmpty()) {
+            return criteria;
+        }
+
+        Set<String> tokens = DirectMessage.searchTokensOf(keyword);
+        if (!tokens.isEmpty()) {
+            criteria = criteria.and("searchTokens").all(tokens);
+        }
+        return criteria.and("content").regex(Pattern.quote(keyword), "i");
+    }
+
+    private Criteria after(Criteria criteria, DirectMessageSearchCursor cursor) {
+        if (cursor == null) {
+            return criteria;
         }
-        
-        Criteria finalCriteria = new Criteria().orOperator(orConditions.toArray(new Criteria[0]));
-        return executeSearch(finalCriteria, param.toPageable());
+        return new Criteria().andOperator(criteria, new Criteria().orOperator(
+                Criteria.where("sentAt").lt(cursor.sentAt()),
+                Criteria.where("sentAt").is(cursor.sentAt()).and("_id").lt(cursor.id())
+        ));
     }
-    
-    private Page<DirectMessage> executeSearch(Criteria criteria, Pageable pageable) {
-        List<AggregationOperation> operations = List.of(
-            Aggregation.match(criteria),
-            Aggregation.sort(Sort.by(Sort.Direction.DESC, "sentAt")),
-            Aggregation.skip(pageable.getOffset()),
-            Aggregation.limit(pageable.getPageSize())
-        );
-        
-        Aggregation aggregation = Aggregation.newAggregation(operations);
-        List<DirectMessage> results = mongoTemplate.aggregate(
-            aggregation, "direct_messages", DirectMessage.class
-        ).getMappedResults();
-        
-        long total = mongoTemplate.count(new Query(criteria), DirectMessage.class);
-        return new PageImpl<>(results, pageable, total);
+
+    /**
+     * 재입장한 방이 없으면 skip/limit 을 Mongo 에서 처리하고,
+     * 있으면 정렬 순서대로 후보를 흘려 읽으면서 재입장 이전 메시지를 거르고, 필요한 만큼만 읽고 멈춤
+     */
+    private List<DirectMessage> read(Criteria criteria, Predicate<DirectMessage> visible, boolean hasReEntry,
+                                     long skip, int limit) {
+        if (!hasReEntry) {
+            Query query = Query.query(criteria).with(SEARCH_SORT).skip(skip).limit(limit);
+            return mongoTemplate.find(query, DirectMessage.class);
+        }
+
+        Query query = Query.query(criteria).with(SEARCH_SORT).cursorBatchSize(limit);
+        try (Stream<DirectMessage> candidates = mongoTemplate.stream(query, DirectMessage.class)) {
+            return candidates.filter(visible).skip(skip).limit(limit).toList();
+        }
+    }
+
+    /**
+     * 재입장한 방이 없으면 Mongo 에서 바로 세고, 있으면 roomId/sentAt 만 읽어 걸러낸 뒤 셈
+     */
+    private long count(Criteria criteria, Predicate<DirectMessage> visible, boolean hasReEntry) {
+        if (!hasReEntry) {
+            return mongoTemplate.count(Query.query(criteria), DirectMessage.class);
+        }
+
+        Query query = Query.query(criteria);
+        query.fields().include("roomId", "sentAt");
+        try (Stream<DirectMessage> candidates = mongoTemplate.stream(query, DirectMessage.class)) {
+            return candidates.filter(visible).count();
+        }
     }
 }
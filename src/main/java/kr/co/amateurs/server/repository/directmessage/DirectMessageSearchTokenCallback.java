@@ -0,0 +1,18 @@
+package kr.co.amateurs.server.repository.directmessage;
+
+import kr.co.amateurs.server.domain.entity.directmessage.DirectMessage;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * save/insert/insertMany 어느 경로로 저장하든 검색 토큰이 내용과 함께 저장되도록 변환 직전에 채움
+ */
+@Component
+public class DirectMessageSearchTokenCallback implements BeforeConvertCallback<DirectMessage> {
+
+    @Override
+    public DirectMessage onBeforeConvert(DirectMessage message, String collection) {
+        message.refreshSearchTokens();
+        return message;
+    }
+}
@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ITRepository extends JpaRepository<ITPost, Long> {
@@ -26,7 +28,7 @@ public interface ITRepository extends JpaRepository<ITPost, Long> {
             p.isBlinded,
             ps.viewCount,
             p.likeCount,
-            (SELECT CAST(COUNT(c2.id) AS int) FROM Comment c2 WHERE c2.postId = p.id AND c2.isDeleted = false),
+            ps.commentCount,
             (SELECT CAST(COUNT(b2.id) AS int) FROM Bookmark b2 WHERE b2.post.id = p.id AND b2.user.id = u.id),
             p.createdAt,
             p.updatedAt,
@@ -42,48 +44,12 @@ public interface ITRepository extends JpaRepository<ITPost, Long> {
         """)
     Page<ITResponseDTO> findDTOByBoardType(@Param("boardType") BoardType boardType, Pageable pageable);
 
-    @Query("""
-        SELECT new kr.co.amateurs.server.domain.dto.it.ITResponseDTO(
-            ip.id,
-            p.id,
-            p.title,
-            p.content,
-            u.nickname,
-            u.imageUrl,
-            u.devcourseName,
-            u.devcourseBatch,
-            p.boardType,
-            p.isBlinded,
-            ps.viewCount,
-            p.likeCount,
-            (SELECT CAST(COUNT(c2.id) AS int) FROM Comment c2 WHERE c2.postId = p.id AND c2.isDeleted = false),
-            (SELECT CAST(COUNT(b2.id) AS int) FROM Bookmark b2 WHERE b2.post.id = p.id AND b2.user.id = u.id),
-            p.createdAt,
-            p.updatedAt,
-            p.tags,
-            false,
-            false
-        )
-        FROM ITPost ip
-        JOIN ip.post p
-        JOIN p.user u
-        JOIN PostStatistics ps ON p.id = ps.postId
-        WHERE p.boardType = :boardType
-          AND (:keyword IS NULL
-               OR :keyword = ''
-               OR p.title LIKE CONCAT('%', :keyword, '%')
-               OR p.content LIKE CONCAT('%', :keyword, '%'))
-        """)
-    Page<ITResponseDTO> findDTOByContentAndBoardType(@Param("keyword") String keyword,
-                                                     @Param("boardType") BoardType boardType,
-                                                     Pageable pageable);
-
     @Query("""
         SELECT new kr.co.amateurs.server.domain.dto.it.ITResponseDTO(
             ip.id, p.id, p.title, p.content, u.nickname, u.imageUrl,
             u.devcourseName, u.devcourseBatch, p.boardType, p.isBlinded, ps.viewCount,
             p.likeCount, 
-            (SELECT CAST(COUNT(c2.id) AS int) FROM Comment c2 WHERE c2.postId = p.id AND c2.isDeleted = false),
+            ps.commentCount,
             (SELECT CAST(COUNT(b2.id) AS int) FROM Bookmark b2 WHERE b2.post.id = p.id),
             p.createdAt, p.updatedAt, p.tags,
             (SELECT CASE WHEN COUNT(pl2.id) > 0 THEN true ELSE false END FROM Like pl2 WHERE pl2.post.id = p.id AND pl2.user.id = :userId),
@@ -102,7 +68,7 @@ public interface ITRepository extends JpaRepository<ITPost, Long> {
             ip.id, p.id, p.title, p.content, u.nickname, u.imageUrl,
             u.devcourseName, u.devcourseBatch, p.boardType, p.isBlinded, ps.viewCount,
             p.likeCount, 
-            (SELECT CAST(COUNT(c2.id) AS int) FROM Comment c2 WHERE c2.postId = p.id AND c2.isDeleted = false),
+            ps.commentCount,
             (SELECT CAST(COUNT(b2.id) AS int) FROM Bookmark b2 WHERE b2.post.id = p.id AND b2.user.id = u.id),
             p.createdAt, p.updatedAt, p.tags, false, false
         )
@@ -127,7 +93,7 @@ public interface ITRepository extends JpaRepository<ITPost, Long> {
             p.isBlinded,
             ps.viewCount,
             p.likeCount,
-            (SELECT CAST(COUNT(c2.id) AS int) FROM Comment c2 WHERE c2.postId = p.id AND c2.isDeleted = false),
+            ps.commentCount,
             (SELECT CAST(COUNT(b2.id) AS int) FROM Bookmark b2 WHERE b2.post.id = p.id AND b2.user.id = u.id),
             p.createdAt,
             p.updatedAt,
@@ -140,15 +106,10 @@ public interface ITRepository extends JpaRepository<ITPost, Long> {
         JOIN p.user u
         JOIN PostStatistics ps ON p.id = ps.postId
         WHERE p.boardType = :boardType
-          AND (:keyword IS NULL
-               OR :keyword = ''
-               OR p.title LIKE CONCAT('%', :keyword, '%')
-               OR p.content LIKE CONCAT('%', :keyword, '%'))
         ORDER BY ps.viewCount DESC
         """)
-    Page<ITResponseDTO> findDTOByContentAndBoardTypeOrderByViewCount(@Param("keyword") String keyword,
-                                                                     @Param("boardType") BoardType boardType,
-                                                                     Pageable pageable);
+    Page<ITResponseDTO> findDTOByBoardTypeOrderByViewCount(@Param("boardType") BoardType boardType,
+                                                           Pageable pageable);
 
     @Query("""
         SELECT new kr.co.amateurs.server.domain.dto.it.ITResponseDTO(
@@ -164,7 +125,7 @@ public interface ITRepository extends JpaRepository<ITPost, Long> {
             p.isBlinded,
             ps.viewCount,
             p.likeCount,
-            (SELECT CAST(COUNT(c2.id) AS int) FROM Comment c2 WHERE c2.postId = p.id AND c2.isDeleted = false),
+            ps.commentCount,
             (SELECT CAST(COUNT(b2.id) AS int) FROM Bookmark b2 WHERE b2.post.id = p.id AND b2.user.id = u.id),
             p.createdAt,
             p.updatedAt,
@@ -176,9 +137,7 @@ public interface ITRepository extends JpaRepository<ITPost, Long> {
         JOIN ip.post p
         JOIN p.user u
         JOIN PostStatistics ps ON p.id = ps.postId
-        WHERE p.boardType = :boardType
-        ORDER BY ps.viewCount DESC
+        WHERE p.id IN :postIds
         """)
-    Page<ITResponseDTO> findDTOByBoardTypeOrderByViewCount(@Param("boardType") BoardType boardType,
-                                                           Pageable pageable);
-}
\ No newline at end of file
+    List<ITResponseDTO> findDTOByPostIdIn(@Param("postIds") Collection<Long> postIds);
+}
@@ -12,7 +12,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
-import java.time.LocalDateTime;
 
 public interface LikeRepository extends JpaRepository<Like, Long> {
 
@@ -44,8 +43,6 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
 
     List<Like> findTop3ByUserIdAndPostIsNotNullOrderByCreatedAtDesc(Long userId);
 
-    boolean existsByUserIdAndPostIsNotNullAndCreatedAtAfter(Long userId, LocalDateTime createdAt);
-
     boolean existsByComment_IdAndUser_Id(Long commentId, Long userId);
 
     void deleteByPost_Id(Long id);
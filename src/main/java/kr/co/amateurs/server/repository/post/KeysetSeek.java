@@ -0,0 +1,141 @@
+package kr.co.amateurs.server.repository.post;
+
+import kr.co.amateurs.server.domain.common.ErrorCode;
+import kr.co.amateurs.server.domain.dto.common.CursorPage;
+import kr.co.amateurs.server.domain.dto.common.PageCursor;
+import kr.co.amateurs.server.domain.dto.common.PaginationParam;
+import kr.co.amateurs.server.domain.dto.common.PaginationSortType;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.SortField;
+import org.jooq.impl.DSL;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.jooq.generated.Tables.POST_STATISTICS;
+import static org.jooq.generated.Tables.POSTS;
+
+/**
+ * 게시글 목록 키셋(seek) 페이지네이션 조건 조립
+ * ORDER BY (정렬 필드, id) 뒤에 "커서보다 뒤" 조건을 붙여 offset 없이 다음 페이지를 읽음
+ * 정렬 필드가 같은 행은 id 로 순서를 고정하므로 중복/누락 없이 이어짐
+ */
+public final class KeysetSeek<S> {
+
+    private final PaginationSortType sortType;
+    private final Sort.Direction direction;
+    private final Field<S> sortField;
+    private final Field<Long> idField;
+    private final int size;
+    private final S cursorValue;
+    private final Long cursorId;
+
+    private KeysetSeek(PaginationParam param, PaginationSortType sortType, Sort.Direction direction,
+                       Field<S> sortField, Field<Long> idField) {
+        this.sortType = sortType;
+        this.direction = direction;
+        this.sortField = sortField;
+        this.idField = idField;
+        this.size = param.getSize();
+
+        PageCursor cursor = PageCursor.decode(param.getCursor(), sortType, direction);
+        this.cursorValue = cursor == null ? null : parse(cursor.sortValue());
+        this.cursorId = cursor == null ? null : cursor.id();
+    }
+
+    /**
+     * @param idField 정렬 값이 같을 때 순서를 고정할 id 컬럼 (ID 정렬이면 이 컬럼만으로 정렬)
+     */
+    public static KeysetSeek<?> of(PaginationParam param, Field<Long> idField) {
+        PaginationSortType sortType = param.getField();
+        Sort.Direction direction = param.getSortDirection();
+
+        return switch (sortType) {
+            case LATEST, POST_LATEST, POST_RELEVANCE -> new KeysetSeek<>(param, sortType, direction, POSTS.CREATED_AT, idField);
+            case POPULAR, POST_POPULAR -> new KeysetSeek<>(param, sortType, direction, POSTS.LIKE_COUNT, idField);
+            case MOST_VIEW, POST_MOST_VIEW -> new KeysetSeek<>(param, sortType, direction, POST_STATISTICS.VIEW_COUNT, idField);
+            default -> new KeysetSeek<>(param, sortType, direction, idField, idField);
+        };
+    }
+
+    /**
+     * 요청 정렬과 무관하게 항상 최신순으로 보여주는 목록용 (내 글, 좋아요/북마크/팔로우 글)
+     */
+    public static KeysetSeek<LocalDateTime> latest(PaginationParam param, Field<Long> idField) {
+        return new KeysetSeek<>(param, PaginationSortType.POST_LATEST, Sort.Direction.DESC, POSTS.CREATED_AT, idField);
+    }
+
+    public Field<S> sortField() {
+        return sortField;
+    }
+
+    public boolean sortsByViewCount() {
+        return sortField == POST_STATISTICS.VIEW_COUNT;
+    }
+
+    public List<SortField<?>> orderBy() {
+        if (isIdOnly()) {
+            return List.of(sort(idField));
+        }
+        return List.of(sort(sortField), sort(idField));
+    }
+
+    public Condition condition() {
+        if (cursorId == null) {
+            return DSL.noCondition();
+        }
+        if (isIdOnly()) {
+            return after(idField, cursorId);
+        }
+        return after(sortField, cursorValue)
+                .or(sortField.eq(cursorValue).and(after(idField, cursorId)));
+    }
+
+    /**
+     * 다음 페이지 존재 여부를 알기 위해 한 건 더 읽음
+     */
+    public int limit() {
+        return size + 1;
+    }
+
+    /**
+     * limit() 으로 읽은 행을 잘라 페이지로 만들고 마지막 행으로 다음 커서를 만듦
+     */
+    public <T> CursorPage<T> toPage(List<T> rows, Function<T, ?> sortValueOf, Function<T, Long> idOf, Long total) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, size, null, total);
+        }
+
+        List<T> content = rows.subList(0, size);
+        T last = content.get(size - 1);
+        Object lastValue = isIdOnly() ? idOf.apply(last) : sortValueOf.apply(last);
+        String nextCursor = new PageCursor(sortType, direction, String.valueOf(lastValue), idOf.apply(last)).encode();
+
+        return new CursorPage<>(List.copyOf(content), size, nextCursor, total);
+    }
+
+    private boolean isIdOnly() {
+        return sortField == idField;
+    }
+
+    private <V> SortField<V> sort(Field<V> field) {
+        return direction == Sort.Direction.ASC ? field.asc() : field.desc();
+    }
+
+    private <V> Condition after(Field<V> field, V value) {
+        return direction == Sort.Direction.ASC ? field.gt(value) : field.lt(value);
+    }
+
+    private S parse(String raw) {
+        try {
+            Object value = sortField.getType() == LocalDateTime.class ? LocalDateTime.parse(raw) : Long.valueOf(raw);
+            return sortField.getDataType().convert(value);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw ErrorCode.INVALID_CURSOR.get();
+        }
+    }
+}
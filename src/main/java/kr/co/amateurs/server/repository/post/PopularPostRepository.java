@@ -6,12 +6,17 @@ import kr.co.amateurs.server.domain.entity.post.enums.DevCourseTrack;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.SelectOnConditionStep;
 import org.jooq.generated.enums.PopularPostsBoardType;
+import org.jooq.generated.enums.PostsBoardType;
 import org.jooq.impl.DSL;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import static org.jooq.generated.Tables.*;
@@ -22,45 +27,88 @@ import static org.jooq.generated.Tables.*;
 public class PopularPostRepository {
     private final DSLContext dsl;
 
-    public List<PopularPostRequest> findRecentPostsWithCounts(LocalDateTime threeDaysAgo) {
+    /**
+     * 인기글 후보(기간 내, 블라인드/삭제 제외)를 boardId, 상태, 댓글 수까지 한 번의 쿼리로 조회
+     */
+    public List<PopularPostRequest> findRecentPostsWithCounts(LocalDateTime since) {
+        return selectCandidates()
+                .where(POSTS.IS_DELETED.eq(false))
+                .and(POSTS.IS_BLINDED.eq(false))
+                .and(POSTS.CREATED_AT.ge(since))
+                .fetch(this::toCandidate);
+    }
+
+    /**
+     * 랭킹에서 꺼낸 게시글 ID 목록을 후보 조회와 같은 형태로 한 번에 조회
+     * 집계 기간을 벗어났거나 블라인드/삭제된 게시글은 제외
+     */
+    public List<PopularPostRequest> findPopularPostsByIds(Collection<Long> postIds, LocalDateTime since) {
+        if (postIds.isEmpty()) return List.of();
+
+        return selectCandidates()
+                .where(POSTS.ID.in(postIds))
+                .and(POSTS.IS_DELETED.eq(false))
+                .and(POSTS.IS_BLINDED.eq(false))
+                .and(POSTS.CREATED_AT.ge(since))
+                .fetch(this::toCandidate);
+    }
+
+    /**
+     * boardId 는 게시판 종류별 하위 테이블(community_posts, it_posts, projects, gathering_posts,
+     * matching_posts, market_items) LEFT JOIN 결과에서 board_type 에 맞는 쪽을 고름
+     */
+    private SelectOnConditionStep<? extends Record> selectCandidates() {
         return dsl.select(
                         POSTS.ID,
                         POST_STATISTICS.VIEW_COUNT,
                         POSTS.LIKE_COUNT,
-                        DSL.count(COMMENTS.ID).as("commentCount"),
+                        POST_STATISTICS.COMMENT_COUNT,
                         USERS.NICKNAME,
                         USERS.DEVCOURSE_NAME,
                         POSTS.CREATED_AT,
                         POSTS.TITLE,
-                        POSTS.BOARD_TYPE
+                        POSTS.BOARD_TYPE,
+                        boardIdField().as("boardId"),
+                        POSTS.IS_BLINDED,
+                        POSTS.IS_DELETED
                 )
                 .from(POSTS)
-                .join(USERS).on(USERS.ID.eq(POSTS.USER_ID))  // User JOIN 추가
+                .join(USERS).on(USERS.ID.eq(POSTS.USER_ID))
                 .join(POST_STATISTICS).on(POST_STATISTICS.POST_ID.eq(POSTS.ID))
-                .leftJoin(COMMENTS).on(COMMENTS.POST_ID.eq(POSTS.ID))
-                .where(POSTS.IS_DELETED.eq(false))
-                .and(POSTS.IS_BLINDED.eq(false))
-                .and(POSTS.CREATED_AT.ge(threeDaysAgo))
-                .groupBy(POSTS.ID)
-                .fetch()
-                .map(record -> new PopularPostRequest(
-                        record.get(POSTS.ID),
-                        record.get(POST_STATISTICS.VIEW_COUNT),
-                        record.get(POSTS.LIKE_COUNT),
-                        record.get("commentCount", Integer.class) != null ?
-                                record.get("commentCount", Integer.class) : 0,
-                        null,
-                        null,
-                        record.get(USERS.NICKNAME),
-                        record.get(USERS.DEVCOURSE_NAME) != null ?
-                                DevCourseTrack.valueOf(record.get(USERS.DEVCOURSE_NAME).getName()) : null,
-                        record.get(POSTS.CREATED_AT),
-                        record.get(POSTS.TITLE),
-                        BoardType.valueOf(record.get(POSTS.BOARD_TYPE, String.class)),
-                        null,
-                        false,
-                        false
-                ));
+                .leftJoin(COMMUNITY_POSTS).on(COMMUNITY_POSTS.POST_ID.eq(POSTS.ID))
+                .leftJoin(IT_POSTS).on(IT_POSTS.POST_ID.eq(POSTS.ID))
+                .leftJoin(PROJECTS).on(PROJECTS.POST_ID.eq(POSTS.ID))
+                .leftJoin(GATHERING_POSTS).on(GATHERING_POSTS.POST_ID.eq(POSTS.ID))
+                .leftJoin(MATCHING_POSTS).on(MATCHING_POSTS.POST_ID.eq(POSTS.ID))
+                .leftJoin(MARKET_ITEMS).on(MARKET_ITEMS.POST_ID.eq(POSTS.ID));
+    }
+
+    private PopularPostRequest toCandidate(Record record) {
+        Long postId = record.get(POSTS.ID);
+        Long boardId = record.get("boardId", Long.class);
+        if (boardId == null) {
+            log.warn("BoardId 조회 실패, postId로 대체: postId={}, boardType={}",
+                    postId, record.get(POSTS.BOARD_TYPE));
+            boardId = postId;
+        }
+
+        return new PopularPostRequest(
+                postId,
+                record.get(POST_STATISTICS.VIEW_COUNT),
+                record.get(POSTS.LIKE_COUNT),
+                record.get(POST_STATISTICS.COMMENT_COUNT),
+                null,
+                null,
+                record.get(USERS.NICKNAME),
+                record.get(USERS.DEVCOURSE_NAME) != null ?
+                        DevCourseTrack.valueOf(record.get(USERS.DEVCOURSE_NAME).getName()) : null,
+                record.get(POSTS.CREATED_AT),
+                record.get(POSTS.TITLE),
+                BoardType.valueOf(record.get(POSTS.BOARD_TYPE, String.class)),
+                boardId,
+                record.get(POSTS.IS_BLINDED),
+                record.get(POSTS.IS_DELETED)
+        );
     }
 
     public void savePopularPosts(List<PopularPostRequest> requests) {
@@ -101,7 +149,7 @@ public class PopularPostRepository {
                         POSTS.ID,
                         POST_STATISTICS.VIEW_COUNT,
                         POSTS.LIKE_COUNT,
-                        DSL.coalesce(DSL.count(COMMENTS.ID), 0).as("commentCount"),
+                        POST_STATISTICS.COMMENT_COUNT,
                         POPULAR_POSTS.POPULARITY_SCORE,
                         POPULAR_POSTS.CALCULATED_DATE,
                         USERS.NICKNAME,
@@ -117,15 +165,9 @@ public class PopularPostRepository {
                 .join(POSTS).on(POSTS.ID.eq(POPULAR_POSTS.POST_ID))
                 .join(USERS).on(USERS.ID.eq(POSTS.USER_ID))
                 .join(POST_STATISTICS).on(POST_STATISTICS.POST_ID.eq(POSTS.ID))
-                .leftJoin(COMMENTS).on(COMMENTS.POST_ID.eq(POSTS.ID))
                 .where(POPULAR_POSTS.CALCULATED_DATE.eq(latestDate))
                 .and(POSTS.IS_BLINDED.eq(false))
                 .and(POSTS.IS_DELETED.eq(false))
-                .groupBy(POSTS.ID, POPULAR_POSTS.POPULARITY_SCORE, POPULAR_POSTS.CALCULATED_DATE,
-                        POPULAR_POSTS.BOARD_TYPE, POPULAR_POSTS.BOARD_ID,
-                        POST_STATISTICS.VIEW_COUNT, POSTS.LIKE_COUNT, USERS.NICKNAME,
-                        USERS.DEVCOURSE_NAME, POSTS.CREATED_AT, POSTS.TITLE,
-                        POSTS.IS_BLINDED, POSTS.IS_DELETED)
                 .orderBy(POPULAR_POSTS.POPULARITY_SCORE.desc())
                 .limit(limit)
                 .fetch()
@@ -133,8 +175,7 @@ public class PopularPostRepository {
                         record.get(POSTS.ID, Long.class),
                         record.get(POST_STATISTICS.VIEW_COUNT, Integer.class),
                         record.get(POSTS.LIKE_COUNT, Integer.class),
-                        record.get("commentCount", Integer.class) != null ?
-                                record.get("commentCount", Integer.class) : 0,
+                        record.get(POST_STATISTICS.COMMENT_COUNT, Integer.class),
                         record.get(POPULAR_POSTS.POPULARITY_SCORE, Double.class),
                         record.get(POPULAR_POSTS.CALCULATED_DATE, LocalDate.class),
                         record.get(USERS.NICKNAME, String.class),
@@ -163,17 +204,17 @@ public class PopularPostRepository {
         log.info("날짜 {} 인기글 {}개 삭제", date, count);
     }
 
-    public BoardStatus getBoardStatus(Long postId) {
-        var record = dsl.select(POSTS.IS_BLINDED, POSTS.IS_DELETED)
-                .from(POSTS)
-                .where(POSTS.ID.eq(postId))
-                .fetchOne();
-
-        return record != null ?
-                new BoardStatus(record.get(POSTS.IS_BLINDED), record.get(POSTS.IS_DELETED)) :
-                new BoardStatus(false, false);
+    private static Field<Long> boardIdField() {
+        return DSL.case_(POSTS.BOARD_TYPE)
+                .when(PostsBoardType.FREE, COMMUNITY_POSTS.ID)
+                .when(PostsBoardType.QNA, COMMUNITY_POSTS.ID)
+                .when(PostsBoardType.RETROSPECT, COMMUNITY_POSTS.ID)
+                .when(PostsBoardType.REVIEW, IT_POSTS.ID)
+                .when(PostsBoardType.NEWS, IT_POSTS.ID)
+                .when(PostsBoardType.PROJECT_HUB, PROJECTS.ID)
+                .when(PostsBoardType.GATHER, GATHERING_POSTS.ID)
+                .when(PostsBoardType.MATCH, MATCHING_POSTS.ID)
+                .when(PostsBoardType.MARKET, MARKET_ITEMS.ID);
     }
 
-    public record BoardStatus(boolean isBlinded, boolean isDeleted) {}
-
 }
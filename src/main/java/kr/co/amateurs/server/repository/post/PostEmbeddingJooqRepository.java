@@ -0,0 +1,48 @@
+package kr.co.amateurs.server.repository.post;
+
+import kr.co.amateurs.server.domain.dto.ai.PostEmbeddingSource;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static org.jooq.generated.Tables.POSTS;
+
+@Repository
+@RequiredArgsConstructor
+public class PostEmbeddingJooqRepository {
+
+    private final DSLContext dslContext;
+
+    /**
+     * id 순서로 lastPostId 다음 게시글부터 limit 개 조회
+     * 엔티티 대신 필요한 컬럼만 읽고, 마지막 id 를 다음 조회 기준으로 쓰면 어디서 멈춰도 그 위치부터 이어갈 수 있음
+     */
+    public List<PostEmbeddingSource> findEmbeddingSourcesAfter(long lastPostId, int limit) {
+        return dslContext.select(
+                        POSTS.ID,
+                        POSTS.USER_ID,
+                        POSTS.TITLE,
+                        POSTS.CONTENT,
+                        POSTS.BOARD_TYPE,
+                        POSTS.CREATED_AT
+                )
+                .from(POSTS)
+                .where(POSTS.ID.gt(lastPostId))
+                .orderBy(POSTS.ID.asc())
+                .limit(limit)
+                .fetch(record -> new PostEmbeddingSource(
+                        record.get(POSTS.ID),
+                        record.get(POSTS.USER_ID),
+                        record.get(POSTS.TITLE),
+                        record.get(POSTS.CONTENT),
+                        record.get(POSTS.BOARD_TYPE).getLiteral(),
+                        record.get(POSTS.CREATED_AT)
+                ));
+    }
+
+    public int countPostsAfter(long lastPostId) {
+        return dslContext.fetchCount(POSTS, POSTS.ID.gt(lastPostId));
+    }
+}
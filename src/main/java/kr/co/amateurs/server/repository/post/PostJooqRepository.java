@@ -1,6 +1,7 @@
 package kr.co.amateurs.server.repository.post;
 
 import kr.co.amateurs.server.domain.common.ErrorCode;
+import kr.co.amateurs.server.domain.dto.common.PaginationParam;
 import kr.co.amateurs.server.domain.dto.post.PostResponseDTO;
 import kr.co.amateurs.server.domain.entity.post.enums.BoardType;
 import kr.co.amateurs.server.domain.entity.user.enums.Role;
@@ -16,6 +17,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.EnumSet;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -29,11 +31,13 @@ public class PostJooqRepository {
 
     private final DSLContext dslContext;
 
-    public Page<PostResponseDTO> findPostsByType(Long userId, Pageable pageable, String type) {
-        return findPostsByType(userId, pageable, type, Role.STUDENT);
+    public Page<PostResponseDTO> findPostsByType(Long userId, PaginationParam paginationParam, String type) {
+        return findPostsByType(userId, paginationParam, type, Role.STUDENT);
     }
 
-    public Page<PostResponseDTO> findPostsByType(Long userId, Pageable pageable, String type, Role userRole) {
+    public Page<PostResponseDTO> findPostsByType(Long userId, PaginationParam paginationParam, String type, Role userRole) {
+        Condition condition = buildTypeCondition(userId, type, userRole);
+
         var selectQuery = dslContext.select(
                         DSL.case_(POSTS.BOARD_TYPE)
                                 .when(PostsBoardType.FREE, COMMUNITY_POSTS.ID)
@@ -55,7 +59,7 @@ public class PostJooqRepository {
                         USERS.DEVCOURSE_NAME.as("devCourseTrack"),
                         POSTS.LIKE_COUNT,
                         POST_STATISTICS.VIEW_COUNT,
-                        DSL.count(COMMENTS.ID).as("commentCount"),
+                        POST_STATISTICS.COMMENT_COUNT.as("commentCount"),
                         POSTS.TAG,
                         POSTS.CREATED_AT,
                         POSTS.UPDATED_AT
@@ -69,101 +73,63 @@ public class PostJooqRepository {
                 .leftJoin(GATHERING_POSTS).on(POSTS.ID.eq(GATHERING_POSTS.POST_ID))
                 .leftJoin(MATCHING_POSTS).on(POSTS.ID.eq(MATCHING_POSTS.POST_ID))
                 .leftJoin(MARKET_ITEMS).on(POSTS.ID.eq(MARKET_ITEMS.POST_ID))
-                .leftJoin(COMMENTS).on(COMMENTS.POST_ID.eq(POSTS.ID));
+                .where(condition);
+
+        if (paginationParam.isCursorMode()) {
+            KeysetSeek<LocalDateTime> seek = KeysetSeek.latest(paginationParam, POSTS.ID);
+            var rows = selectQuery
+                    .and(seek.condition())
+                    .orderBy(seek.orderBy())
+                    .limit(seek.limit())
+                    .fetchInto(PostResponseDTO.class);
+            Long total = paginationParam.isTotalRequested() ? (long) getTotalCount(condition) : null;
 
+            return seek.toPage(rows, PostResponseDTO::createdAt, PostResponseDTO::postId, total);
+        }
 
-        var results = switch (type) {
-            case "my" -> selectQuery
-                    .where(POSTS.USER_ID.eq(userId))
-                    .groupBy(POSTS.ID)
-                    .orderBy(POSTS.CREATED_AT.desc())
-                    .limit(pageable.getPageSize())
-                    .offset(pageable.getOffset())
-                    .fetchInto(PostResponseDTO.class);
+        Pageable pageable = paginationParam.toPageable();
+        var results = selectQuery
+                .orderBy(POSTS.CREATED_AT.desc())
+                .limit(pageable.getPageSize())
+                .offset(pageable.getOffset())
+                .fetchInto(PostResponseDTO.class);
 
-            case "bookmarked" -> selectQuery
-                    .where(POSTS.ID.in(
-                            dslContext.select(BOOKMARKS.POST_ID)
-                                    .from(BOOKMARKS)
-                                    .where(BOOKMARKS.USER_ID.eq(userId))
-                    ))
-                    .groupBy(POSTS.ID)
-                    .orderBy(POSTS.CREATED_AT.desc())
-                    .limit(pageable.getPageSize())
-                    .offset(pageable.getOffset())
-                    .fetchInto(PostResponseDTO.class);
+        int total = getTotalCount(condition);
 
-            case "liked" -> selectQuery
-                    .where(POSTS.ID.in(
-                            dslContext.select(POST_LIKE.POST_ID)
-                                    .from(POST_LIKE)
-                                    .where(POST_LIKE.USER_ID.eq(userId))
-                    ))
-                    .groupBy(POSTS.ID)
-                    .orderBy(POSTS.CREATED_AT.desc())
-                    .limit(pageable.getPageSize())
-                    .offset(pageable.getOffset())
-                    .fetchInto(PostResponseDTO.class);
+        return new PageImpl<>(results, pageable, total);
+    }
 
-            case "follow" -> selectQuery
-                    .where(POSTS.USER_ID.in(
-                            dslContext.select(FOLLOWS.TO_USER_ID)
-                                    .from(FOLLOWS)
-                                    .where(FOLLOWS.FROM_USER_ID.eq(userId))
-                    ))
-                    .and(getRoleBasedBoardTypeCondition(userRole))
-                    .groupBy(POSTS.ID)
-                    .orderBy(POSTS.CREATED_AT.desc())
-                    .limit(pageable.getPageSize())
-                    .offset(pageable.getOffset())
-                    .fetchInto(PostResponseDTO.class);
+    private Condition buildTypeCondition(Long userId, String type, Role userRole) {
+        return switch (type) {
+            case "my" -> POSTS.USER_ID.eq(userId);
 
+            case "bookmarked" -> POSTS.ID.in(
+                    dslContext.select(BOOKMARKS.POST_ID)
+                            .from(BOOKMARKS)
+                            .where(BOOKMARKS.USER_ID.eq(userId))
+            );
 
-            default -> throw ErrorCode.NOT_FOUND.get();
-        };
+            case "liked" -> POSTS.ID.in(
+                    dslContext.select(POST_LIKE.POST_ID)
+                            .from(POST_LIKE)
+                            .where(POST_LIKE.USER_ID.eq(userId))
+            );
 
-        int total = getTotalCount(userId, type, userRole);
+            case "follow" -> POSTS.USER_ID.in(
+                    dslContext.select(FOLLOWS.TO_USER_ID)
+                            .from(FOLLOWS)
+                            .where(FOLLOWS.FROM_USER_ID.eq(userId))
+            ).and(getRoleBasedBoardTypeCondition(userRole));
 
-        return new PageImpl<>(results, pageable, total);
+            default -> throw ErrorCode.NOT_FOUND.get();
+        };
     }
 
-    private int getTotalCount(Long userId, String type, Role userRole) {
-        return switch (type) {
-            case "my" -> dslContext.selectCount()
-                    .from(POSTS)
-                    .where(POSTS.USER_ID.eq(userId))
-                    .fetchOne(0, int.class);
-
-            case "bookmarked" -> dslContext.selectCount()
-                    .from(POSTS)
-                    .where(POSTS.ID.in(
-                            dslContext.select(BOOKMARKS.POST_ID)
-                                    .from(BOOKMARKS)
-                                    .where(BOOKMARKS.USER_ID.eq(userId))
-                    ))
-                    .fetchOne(0, int.class);
-
-            case "liked" -> dslContext.selectCount()
-                    .from(POSTS)
-                    .where(POSTS.ID.in(
-                            dslContext.select(POST_LIKE.POST_ID)
-                                    .from(POST_LIKE)
-                                    .where(POST_LIKE.USER_ID.eq(userId))
-                    ))
-                    .fetchOne(0, int.class);
-
-            case "follow" -> dslContext.selectCount()
-                    .from(POSTS)
-                    .where(POSTS.USER_ID.in(
-                            dslContext.select(FOLLOWS.TO_USER_ID)
-                                    .from(FOLLOWS)
-                                    .where(FOLLOWS.FROM_USER_ID.eq(userId))
-                    ))
-                    .and(getRoleBasedBoardTypeCondition(userRole))
-                    .fetchOne(0, int.class);
-
-            default -> 0;
-        };
+    private int getTotalCount(Condition condition) {
+        return dslContext.selectCount()
+                .from(POSTS)
+                .where(condition)
+                .fetchOne(0, int.class);
     }
 
     private @NotNull Condition getRoleBasedBoardTypeCondition(Role role) {
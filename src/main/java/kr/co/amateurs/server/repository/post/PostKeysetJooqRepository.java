@@ -0,0 +1,70 @@
+package kr.co.amateurs.server.repository.post;
+
+import kr.co.amateurs.server.domain.dto.common.CursorPage;
+import kr.co.amateurs.server.domain.dto.common.PaginationParam;
+import kr.co.amateurs.server.domain.entity.post.enums.BoardType;
+import lombok.RequiredArgsConstructor;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Record2;
+import org.jooq.SelectJoinStep;
+import org.jooq.generated.enums.PostsBoardType;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.jooq.generated.Tables.POST_STATISTICS;
+import static org.jooq.generated.Tables.POSTS;
+
+/**
+ * 게시판 목록 커서 모드에서 한 페이지 분량의 게시글 id 만 키셋으로 조회
+ * 본문/작성자 등 목록 DTO 는 각 게시판 레포지토리의 findDTOByPostIdIn 으로 채움
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostKeysetJooqRepository {
+
+    private final DSLContext dslContext;
+    private final PostKeywordSearch postKeywordSearch;
+
+    public CursorPage<Long> findBoardPostIds(Collection<BoardType> boardTypes, String keyword, PaginationParam param) {
+        KeysetSeek<?> seek = KeysetSeek.of(param, POSTS.ID);
+        Condition condition = buildConditions(boardTypes, keyword);
+
+        List<Record2<Long, ?>> rows = fetchIds(seek, condition);
+        Long total = param.isTotalRequested() ? countPosts(condition) : null;
+
+        return seek.toPage(rows, Record2::value2, Record2::value1, total)
+                .map(Record2::value1);
+    }
+
+    private <S> List<Record2<Long, ?>> fetchIds(KeysetSeek<S> seek, Condition condition) {
+        SelectJoinStep<Record2<Long, S>> query = dslContext.select(POSTS.ID, seek.sortField()).from(POSTS);
+        if (seek.sortsByViewCount()) {
+            query = query.join(POST_STATISTICS).on(POST_STATISTICS.POST_ID.eq(POSTS.ID));
+        }
+
+        return List.copyOf(query
+                .where(condition)
+                .and(seek.condition())
+                .orderBy(seek.orderBy())
+                .limit(seek.limit())
+                .fetch());
+    }
+
+    private long countPosts(Condition condition) {
+        return dslContext.selectCount()
+                .from(POSTS)
+                .where(condition)
+                .fetchOne(0, long.class);
+    }
+
+    private Condition buildConditions(Collection<BoardType> boardTypes, String keyword) {
+        return POSTS.BOARD_TYPE.in(
+                boardTypes.stream()
+                        .map(boardType -> PostsBoardType.valueOf(boardType.name()))
+                        .toList()
+        ).and(postKeywordSearch.matches(keyword));
+    }
+}
@@ -0,0 +1,81 @@
+package kr.co.amateurs.server.repository.post;
+
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.impl.DSL;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.jooq.generated.Tables.POSTS;
+
+/**
+ * 게시글 제목/본문 키워드 검색 조건
+ * posts(title, content) 의 ngram FULLTEXT 인덱스를 MATCH ... AGAINST (BOOLEAN MODE) 로 사용
+ * ngram 토큰보다 짧은 검색어가 섞였거나 FULLTEXT 를 쓸 수 없는 환경(H2 테스트 등)에서는 기존 LIKE 로 처리
+ */
+@Component
+public class PostKeywordSearch {
+
+    private static final int NGRAM_TOKEN_SIZE = 2;
+    private static final String BOOLEAN_OPERATORS = "[+\\-<>()~*\"@]";
+
+    private final boolean fullTextEnabled;
+
+    public PostKeywordSearch(@Value("${post.search.full-text:true}") boolean fullTextEnabled) {
+        this.fullTextEnabled = fullTextEnabled;
+    }
+
+    public Condition matches(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return DSL.noCondition();
+        }
+
+        List<String> terms = terms(keyword);
+        if (!usesFullText(terms)) {
+            String pattern = "%" + keyword.trim() + "%";
+            return POSTS.TITLE.like(pattern).or(POSTS.CONTENT.like(pattern));
+        }
+
+        return DSL.condition("MATCH({0}, {1}) AGAINST ({2} IN BOOLEAN MODE)",
+                POSTS.TITLE, POSTS.CONTENT, DSL.val(toBooleanQuery(terms)));
+    }
+
+    /**
+     * 검색 관련도 점수 (클수록 관련도 높음)
+     * LIKE 로 처리하는 경우 제목 일치를 본문 일치보다 앞에 둠
+     */
+    public Field<Double> relevance(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return DSL.inline(0.0);
+        }
+
+        List<String> terms = terms(keyword);
+        if (!usesFullText(terms)) {
+            return DSL.when(POSTS.TITLE.like("%" + keyword.trim() + "%"), DSL.inline(1.0))
+                    .otherwise(DSL.inline(0.0));
+        }
+
+        return DSL.field("MATCH({0}, {1}) AGAINST ({2} IN BOOLEAN MODE)", Double.class,
+                POSTS.TITLE, POSTS.CONTENT, DSL.val(toBooleanQuery(terms)));
+    }
+
+    private boolean usesFullText(List<String> terms) {
+        return fullTextEnabled && !terms.isEmpty() && terms.stream().allMatch(term -> term.length() >= NGRAM_TOKEN_SIZE);
+    }
+
+    /**
+     * 사용자 입력의 BOOLEAN MODE 연산자는 제거하고 모든 단어를 필수(+)로 묶음
+     */
+    private String toBooleanQuery(List<String> terms) {
+        return String.join(" ", terms.stream().map(term -> "+" + term).toList());
+    }
+
+    private List<String> terms(String keyword) {
+        return Arrays.stream(keyword.replaceAll(BOOLEAN_OPERATORS, " ").trim().split("\\s+"))
+                .filter(term -> !term.isEmpty())
+                .toList();
+    }
+}
@@ -23,13 +23,14 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     List<Post> findByUser(User user);
 
-    boolean existsByUserIdAndCreatedAtAfter(Long userId, LocalDateTime createdAt);
-
     List<Post> findByUserIdIn(List<Long> followingUserId);
 
     @Query("SELECT COUNT(p) > 0 FROM Post p WHERE p.id = :id")
     boolean existsByIdUsingCount(@Param("id") Long id);
 
+    @Query("SELECT p.createdAt FROM Post p WHERE p.id = :postId")
+    Optional<LocalDateTime> findCreatedAtById(Long postId);
+
     @Query("SELECT p.boardType FROM Post p WHERE p.id = :postId")
     Optional<BoardType> findBoardTypeById(Long postId);
 
@@ -0,0 +1,69 @@
+package kr.co.amateurs.server.repository.post;
+
+import kr.co.amateurs.server.domain.dto.common.PaginationParam;
+import kr.co.amateurs.server.domain.dto.common.PaginationSortType;
+import kr.co.amateurs.server.domain.entity.post.enums.BoardType;
+import lombok.RequiredArgsConstructor;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Record1;
+import org.jooq.SelectJoinStep;
+import org.jooq.SortField;
+import org.jooq.generated.enums.PostsBoardType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.jooq.generated.Tables.POST_STATISTICS;
+import static org.jooq.generated.Tables.POSTS;
+
+/**
+ * 게시판 키워드 검색 (page 기반)
+ * FULLTEXT 검색으로 한 페이지 분량의 게시글 id 만 찾고, 목록 DTO 는 각 게시판 레포지토리의 findDTOByPostIdIn 으로 채움
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostSearchJooqRepository {
+
+    private final DSLContext dslContext;
+    private final PostKeywordSearch postKeywordSearch;
+
+    public Page<Long> searchBoardPostIds(Collection<BoardType> boardTypes, String keyword, PaginationParam param) {
+        Condition condition = POSTS.BOARD_TYPE.in(
+                boardTypes.stream()
+                        .map(boardType -> PostsBoardType.valueOf(boardType.name()))
+                        .toList()
+        ).and(postKeywordSearch.matches(keyword));
+
+        KeysetSeek<?> sort = KeysetSeek.of(param, POSTS.ID);
+        SelectJoinStep<Record1<Long>> query = dslContext.select(POSTS.ID).from(POSTS);
+        if (sort.sortsByViewCount()) {
+            query = query.join(POST_STATISTICS).on(POST_STATISTICS.POST_ID.eq(POSTS.ID));
+        }
+
+        List<Long> postIds = query
+                .where(condition)
+                .orderBy(orderBy(keyword, param, sort))
+                .limit(param.getSize())
+                .offset(param.getPage() * param.getSize())
+                .fetch(POSTS.ID);
+
+        long total = dslContext.selectCount()
+                .from(POSTS)
+                .where(condition)
+                .fetchOne(0, long.class);
+
+        return new PageImpl<>(postIds, PageRequest.of(param.getPage(), param.getSize()), total);
+    }
+
+    private List<SortField<?>> orderBy(String keyword, PaginationParam param, KeysetSeek<?> sort) {
+        if (param.getField() == PaginationSortType.POST_RELEVANCE) {
+            return List.of(postKeywordSearch.relevance(keyword).desc(), POSTS.ID.desc());
+        }
+        return sort.orderBy();
+    }
+}
@@ -0,0 +1,101 @@
+package kr.co.amateurs.server.repository.post;
+
+import lombok.RequiredArgsConstructor;
+import org.jooq.CaseValueStep;
+import org.jooq.CaseWhenStep;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.jooq.generated.Tables.COMMENTS;
+import static org.jooq.generated.Tables.POST_STATISTICS;
+
+@Repository
+@RequiredArgsConstructor
+public class PostStatisticsJooqRepository {
+
+    private static final int UPDATE_CHUNK_SIZE = 500;
+
+    private final DSLContext dslContext;
+
+    /**
+     * 게시글별 조회수 증가분을 multi-row UPDATE ... CASE 로 일괄 반영
+     * @param increments postId -> 증가분
+     * @return 실제로 갱신된 행 수 (존재하지 않는 게시글은 제외)
+     */
+    public int incrementViewCounts(Map<Long, Long> increments) {
+        if (increments.isEmpty()) {
+            return 0;
+        }
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(increments.entrySet());
+        int updated = 0;
+
+        for (int from = 0; from < entries.size(); from += UPDATE_CHUNK_SIZE) {
+            List<Map.Entry<Long, Long>> chunk = entries.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, entries.size()));
+            updated += updateChunk(chunk);
+        }
+
+        return updated;
+    }
+
+    /**
+     * 댓글 수 증감 (음수로 내려가지 않도록 0 에서 멈춤)
+     * @return 갱신된 행 수
+     */
+    public int incrementCommentCount(Long postId, int delta) {
+        return dslContext.update(POST_STATISTICS)
+                .set(POST_STATISTICS.COMMENT_COUNT, DSL.greatest(POST_STATISTICS.COMMENT_COUNT.plus(delta), DSL.inline(0)))
+                .where(POST_STATISTICS.POST_ID.eq(postId))
+                .execute();
+    }
+
+    /**
+     * post_id 구간 안에서 실제 댓글 수와 어긋난 comment_count 만 다시 맞춤
+     * @return 보정된 행 수
+     */
+    public int reconcileCommentCounts(long fromPostId, long toPostId) {
+        Field<Integer> actualCount = DSL.field(
+                DSL.selectCount()
+                        .from(COMMENTS)
+                        .where(COMMENTS.POST_ID.eq(POST_STATISTICS.POST_ID))
+                        .and(COMMENTS.IS_DELETED.eq(false))
+        );
+
+        return dslContext.update(POST_STATISTICS)
+                .set(POST_STATISTICS.COMMENT_COUNT, actualCount)
+                .where(POST_STATISTICS.POST_ID.between(fromPostId, toPostId))
+                .and(POST_STATISTICS.COMMENT_COUNT.ne(actualCount))
+                .execute();
+    }
+
+    public Long findMaxPostId() {
+        return dslContext.select(DSL.max(POST_STATISTICS.POST_ID))
+                .from(POST_STATISTICS)
+                .fetchOneInto(Long.class);
+    }
+
+    private int updateChunk(List<Map.Entry<Long, Long>> chunk) {
+        CaseValueStep<Long> caseStep = DSL.case_(POST_STATISTICS.POST_ID);
+        CaseWhenStep<Long, Integer> whenStep = null;
+        List<Long> postIds = new ArrayList<>(chunk.size());
+
+        for (Map.Entry<Long, Long> entry : chunk) {
+            Field<Integer> increment = DSL.val(Math.toIntExact(entry.getValue()));
+            whenStep = whenStep == null
+                    ? caseStep.when(entry.getKey(), increment)
+                    : whenStep.when(entry.getKey(), increment);
+            postIds.add(entry.getKey());
+        }
+
+        return dslContext.update(POST_STATISTICS)
+                .set(POST_STATISTICS.VIEW_COUNT, POST_STATISTICS.VIEW_COUNT.plus(whenStep.otherwise(0)))
+                .where(POST_STATISTICS.POST_ID.in(postIds))
+                .execute();
+    }
+}
@@ -1,8 +1,11 @@
 package kr.co.amateurs.server.repository.project;
 
 import kr.co.amateurs.server.domain.common.ErrorCode;
+import kr.co.amateurs.server.domain.dto.common.CursorPage;
 import kr.co.amateurs.server.domain.dto.project.ProjectResponseDTO;
 import kr.co.amateurs.server.domain.dto.project.ProjectSearchParam;
+import kr.co.amateurs.server.repository.post.KeysetSeek;
+import kr.co.amateurs.server.repository.post.PostKeywordSearch;
 import kr.co.amateurs.server.repository.project.strategy.ProjectQueryStrategy;
 import lombok.RequiredArgsConstructor;
 import org.jooq.*;
@@ -24,6 +27,7 @@ import static org.jooq.impl.DSL.noCondition;
 @RequiredArgsConstructor
 public class ProjectJooqRepository {
     private final DSLContext dslContext;
+    private final PostKeywordSearch postKeywordSearch;
 
     public Page<ProjectResponseDTO> findAllByUserId(ProjectSearchParam params, Long userId) {
         ProjectQueryStrategy strategy = ProjectQueryStrategy.forLoginUser(userId);
@@ -49,6 +53,10 @@ public class ProjectJooqRepository {
         var selectQuery = strategy.buildSelectQuery(dslContext);
         var joinQuery = buildJoinQuery(selectQuery);
         var finalQuery = strategy.buildJoinQuery(joinQuery);
+        if (params.isCursorMode()) {
+            return fetchProjectCursorPage(finalQuery, params);
+        }
+
         var results = fetchProjectList(finalQuery, params);
         int total = getTotalCount(params);
 
@@ -84,6 +92,22 @@ public class ProjectJooqRepository {
                 .fetchInto(ProjectResponseDTO.class);
     }
 
+    private CursorPage<ProjectResponseDTO> fetchProjectCursorPage(SelectJoinStep<?> query, ProjectSearchParam params) {
+        KeysetSeek<?> seek = KeysetSeek.of(params, PROJECTS.ID);
+        Condition condition = buildConditions(params);
+
+        List<org.jooq.Record> rows = List.copyOf(query
+                .where(condition)
+                .and(seek.condition())
+                .orderBy(seek.orderBy())
+                .limit(seek.limit())
+                .fetch());
+        Long total = params.isTotalRequested() ? (long) getTotalCount(params) : null;
+
+        return seek.toPage(rows, record -> record.get(seek.sortField()), record -> record.get(PROJECTS.ID), total)
+                .map(record -> record.into(ProjectResponseDTO.class));
+    }
+
     private int getTotalCount(ProjectSearchParam params) {
         Condition condition = buildConditions(params);
 
@@ -107,12 +131,7 @@ public class ProjectJooqRepository {
             condition = condition.and(USERS.DEVCOURSE_BATCH.eq(params.getBatch()));
         }
 
-        if (params.getKeyword() != null) {
-            String keyword = "%" + params.getKeyword() + "%";
-            condition = condition.and(POSTS.TITLE.like(keyword).or(POSTS.CONTENT.like(keyword)));
-        }
-
-        return condition;
+        return condition.and(postKeywordSearch.matches(params.getKeyword()));
     }
 
     private OrderField<?> buildOrderBy(ProjectSearchParam params) {
@@ -125,6 +144,8 @@ public class ProjectJooqRepository {
                     POSTS.LIKE_COUNT.asc() : POSTS.LIKE_COUNT.desc();
             case POST_MOST_VIEW -> params.getSortDirection() == Sort.Direction.ASC ?
                     POST_STATISTICS.VIEW_COUNT.asc() : POST_STATISTICS.VIEW_COUNT.desc();
+            case POST_RELEVANCE -> params.getKeyword() == null || params.getKeyword().isBlank() ?
+                    POSTS.CREATED_AT.desc() : postKeywordSearch.relevance(params.getKeyword()).desc();
             default -> PROJECTS.ID.desc();
         };
     }
@@ -8,9 +8,12 @@ import kr.co.amateurs.server.domain.entity.user.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface ReportRepository extends JpaRepository<Report, Long> {
@@ -33,9 +36,68 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
     """)
     Optional<Report> findByIdWithRelations(@Param("reportId") Long reportId);
 
+    @Query("""
+    SELECT r FROM Report r
+    LEFT JOIN FETCH r.post
+    LEFT JOIN FETCH r.comment
+    WHERE r.id IN :reportIds
+    ORDER BY r.id
+    """)
+    List<Report> findAllByIdWithRelations(@Param("reportIds") List<Long> reportIds);
+
     boolean existsByUserIdAndPostIdAndReportType(Long userId, Long postId, ReportType reportType);
 
     boolean existsByUserIdAndCommentIdAndReportType(Long userId, Long commentId, ReportType reportType);
 
     void deleteByPost_Id(Long id);
+
+    /**
+     * 처리할 차례가 된 대기 신고를 잠그고 가져옴
+     * 다른 워커가 잠근 행은 건너뛰므로 여러 워커/인스턴스가 같은 신고를 동시에 가져가지 않음
+     */
+    @Query(value = """
+    SELECT id FROM reports
+    WHERE status = 'PENDING'
+      AND (next_attempt_at IS NULL OR next_attempt_at <= :now)
+    ORDER BY id
+    LIMIT :limit
+    FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<Long> findClaimableIdsForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Report r SET r.status = :processing, r.processingStartedAt = :now WHERE r.id IN :ids")
+    int markProcessing(@Param("ids") List<Long> ids, @Param("processing") ReportStatus processing, @Param("now") LocalDateTime now);
+
+    /**
+     * lease 가 지난 신고 중 이번 회수로 최대 시도 횟수에 닿는 신고를 오류 상태로 바꿈
+     * 처리 도중 매번 프로세스를 죽이는 신고가 계속 다시 대기열로 돌아오지 않게 함
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+    UPDATE Report r SET r.status = :error, r.attemptCount = r.attemptCount + 1, r.processingCompletedAt = :now,
+                        r.isViolation = false, r.violationReason = :reason, r.confidenceScore = 0.0
+    WHERE r.status = :processing AND r.processingStartedAt < :staleBefore AND r.attemptCount + 1 >= :maxAttempts
+    """)
+    int failExhaustedStaleProcessing(@Param("staleBefore") LocalDateTime staleBefore,
+                                     @Param("now") LocalDateTime now,
+                                     @Param("maxAttempts") int maxAttempts,
+                                     @Param("reason") String reason,
+                                     @Param("processing") ReportStatus processing,
+                                     @Param("error") ReportStatus error);
+
+    /**
+     * lease 가 지난 신고를 다시 대기 상태로 돌리고, 회수도 한 번의 시도로 셈
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+    UPDATE Report r SET r.status = :pending, r.attemptCount = r.attemptCount + 1, r.nextAttemptAt = :now
+    WHERE r.status = :processing AND r.processingStartedAt < :staleBefore
+    """)
+    int releaseStaleProcessing(@Param("staleBefore") LocalDateTime staleBefore,
+                               @Param("now") LocalDateTime now,
+                               @Param("processing") ReportStatus processing,
+                               @Param("pending") ReportStatus pending);
+
+    long countByStatus(ReportStatus status);
 }
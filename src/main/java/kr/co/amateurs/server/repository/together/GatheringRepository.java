@@ -10,6 +10,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -27,7 +29,7 @@ public interface GatheringRepository extends JpaRepository<GatheringPost, Long>
             p.content,
             p.tags,
             ps.viewCount,
-            (SELECT CAST(COUNT(c2.id) AS int) FROM Comment c2 WHERE c2.postId = p.id AND c2.isDeleted = false),
+            ps.commentCount,
             p.likeCount,
             (SELECT CAST(COUNT(b2.id) AS int) FROM Bookmark b2 WHERE b2.post.id = p.id AND b2.user.id = u.id),
             gp.gatheringType,
@@ -45,13 +47,8 @@ public interface GatheringRepository extends JpaRepository<GatheringPost, Long>
         JOIN gp.post p
         JOIN p.user u
         JOIN PostStatistics ps ON ps.postId = p.id
-          AND (:keyword IS NULL
-               OR :keyword = ''
-               OR p.title LIKE CONCAT('%', :keyword, '%')
-               OR p.content LIKE CONCAT('%', :keyword, '%'))
         """)
-    Page<GatheringPostResponseDTO> findDTOByContent(@Param("keyword") String keyword,
-                                                            Pageable pageable);
+    Page<GatheringPostResponseDTO> findAllDTO(Pageable pageable);
     @Query("""
         SELECT new kr.co.amateurs.server.domain.dto.together.GatheringPostResponseDTO(
             gp.id,
@@ -65,7 +62,7 @@ public interface GatheringRepository extends JpaRepository<GatheringPost, Long>
             p.content,
             p.tags,
             ps.viewCount,
-            (SELECT CAST(COUNT(c2.id) AS int) FROM Comment c2 WHERE c2.postId = p.id AND c2.isDeleted = false),
+            ps.commentCount,
             p.likeCount,
             (SELECT CAST(COUNT(b2.id) AS int) FROM Bookmark b2 WHERE b2.post.id = p.id AND b2.user.id = u.id),
             gp.gatheringType,
@@ -83,14 +80,9 @@ public interface GatheringRepository extends JpaRepository<GatheringPost, Long>
         JOIN gp.post p
         JOIN p.user u
         JOIN PostStatistics ps ON ps.postId = p.id
-          AND (:keyword IS NULL
-               OR :keyword = ''
-               OR p.title LIKE CONCAT('%', :keyword, '%')
-               OR p.content LIKE CONCAT('%', :keyword, '%'))
         ORDER BY ps.viewCount DESC
         """)
-    Page<GatheringPostResponseDTO> findDTOByContentOrderByViewCount(@Param("keyword") String keyword,
-                                                                Pageable pageable);
+    Page<GatheringPostResponseDTO> findAllDTOOrderByViewCount(Pageable pageable);
 
     @Query("""
         SELECT new kr.co.amateurs.server.domain.dto.together.GatheringPostResponseDTO(
@@ -105,7 +97,7 @@ public interface GatheringRepository extends JpaRepository<GatheringPost, Long>
             p.content,
             p.tags,
             ps.viewCount,
-            (SELECT CAST(COUNT(c2.id) AS int) FROM Comment c2 WHERE c2.postId = p.id AND c2.isDeleted = false),
+            ps.commentCount,
             p.likeCount,
             (SELECT CAST(COUNT(b2.id) AS int) FROM Bookmark b2 WHERE b2.post.id = p.id AND b2.user.id = u.id),
             gp.gatheringType,
@@ -128,4 +120,39 @@ public interface GatheringRepository extends JpaRepository<GatheringPost, Long>
     Optional<GatheringPostResponseDTO> findDTOByIdAndUserId(@Param("id") Long id, @Param("userId") Long user);
 
     GatheringPost findByPostId(Long postId);
+
+    @Query("""
+        SELECT new kr.co.amateurs.server.domain.dto.together.GatheringPostResponseDTO(
+            gp.id,
+            p.id,
+            p.isBlinded,
+            u.nickname,
+            u.devcourseName,
+            u.devcourseBatch,
+            u.imageUrl,
+            p.title,
+            p.content,
+            p.tags,
+            ps.viewCount,
+            ps.commentCount,
+            p.likeCount,
+            (SELECT CAST(COUNT(b2.id) AS int) FROM Bookmark b2 WHERE b2.post.id = p.id AND b2.user.id = u.id),
+            gp.gatheringType,
+            gp.status,
+            gp.headCount,
+            gp.place,
+            gp.period,
+            gp.schedule,
+            p.createdAt,
+            p.updatedAt,
+            false,
+            false
+        )
+        FROM GatheringPost gp
+        JOIN gp.post p
+        JOIN p.user u
+        JOIN PostStatistics ps ON ps.postId = p.id
+        WHERE p.id IN :postIds
+        """)
+    List<GatheringPostResponseDTO> findDTOByPostIdIn(@Param("postIds") Collection<Long> postIds);
 }
@@ -10,6 +10,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -27,7 +29,7 @@ public interface MarketRepository extends JpaRepository<MarketItem, Long> {
             p.content,
             p.tags,
             ps.viewCount,
-            (SELECT CAST(COUNT(c2.id) AS int) FROM Comment c2 WHERE c2.postId = p.id AND c2.isDeleted = false),
+            ps.commentCount,
             p.likeCount,
             (SELECT CAST(COUNT(b2.id) AS int) FROM Bookmark b2 WHERE b2.post.id = p.id AND b2.user.id = u.id),
             mi.status,
@@ -43,13 +45,8 @@ public interface MarketRepository extends JpaRepository<MarketItem, Long> {
         JOIN mi.post p
         JOIN p.user u
         JOIN PostStatistics ps ON ps.postId = p.id
-          AND (:keyword IS NULL
-               OR :keyword = ''
-               OR p.title LIKE CONCAT('%', :keyword, '%')
-               OR p.content LIKE CONCAT('%', :keyword, '%'))
         """)
-    Page<MarketPostResponseDTO> findDTOByContent(@Param("keyword") String keyword,
-                                                 Pageable pageable);
+    Page<MarketPostResponseDTO> findAllDTO(Pageable pageable);
     @Query("""
         SELECT new kr.co.amateurs.server.domain.dto.together.MarketPostResponseDTO(
             mi.id,
@@ -63,7 +60,7 @@ public interface MarketRepository extends JpaRepository<MarketItem, Long> {
             p.content,
             p.tags,
             ps.viewCount,
-            (SELECT CAST(COUNT(c2.id) AS int) FROM Comment c2 WHERE c2.postId = p.id AND c2.isDeleted = false),
+            ps.commentCount,
             p.likeCount,
             (SELECT CAST(COUNT(b2.id) AS int) FROM Bookmark b2 WHERE b2.post.id = p.id AND b2.user.id = u.id),
             mi.status,
@@ -79,14 +76,9 @@ public interface MarketRepository extends JpaRepository<MarketItem, Long> {
         JOIN mi.post p
         JOIN p.user u
         JOIN PostStatistics ps ON ps.postId = p.id
-          AND (:keyword IS NULL
-               OR :keyword = ''
-               OR p.title LIKE CONCAT('%', :keyword, '%')
-               OR p.content LIKE CONCAT('%', :keyword, '%'))
         ORDER BY ps.viewCount DESC
         """)
-    Page<MarketPostResponseDTO> findDTOByContentOrderByViewCount(@Param("keyword") String keyword,
-                                                                    Pageable pageable);
+    Page<MarketPostResponseDTO> findAllDTOOrderByViewCount(Pageable pageable);
 
     @Query("""
         SELECT new kr.co.amateurs.server.domain.dto.together.MarketPostResponseDTO(
@@ -101,7 +93,7 @@ public interface MarketRepository extends JpaRepository<MarketItem, Long> {
             p.content,
             p.tags,
             ps.viewCount,
-            (SELECT CAST(COUNT(c2.id) AS int) FROM Comment c2 WHERE c2.postId = p.id AND c2.isDeleted = false),
+            ps.commentCount,
             p.likeCount,
             (SELECT CAST(COUNT(b2.id) AS int) FROM Bookmark b2 WHERE b2.post.id = p.id AND b2.user.id = u.id),
             mi.status,
@@ -123,4 +115,37 @@ public interface MarketRepository extends JpaRepository<MarketItem, Long> {
 
 
     MarketItem findByPostId(Long postId);
+
+    @Query("""
+        SELECT new kr.co.amateurs.server.domain.dto.together.MarketPostResponseDTO(
+            mi.id,
+            p.id,
+            p.isBlinded,
+            u.nickname,
+            u.devcourseName,
+            u.devcourseBatch,
+            u.imageUrl,
+            p.title,
+            p.content,
+            p.tags,
+            ps.viewCount,
+            ps.commentCount,
+            p.likeCount,
+            (SELECT CAST(COUNT(b2.id) AS int) FROM Bookmark b2 WHERE b2.post.id = p.id AND b2.user.id = u.id),
+            mi.status,
+            mi.price,
+            mi.place,
+            (SELECT COALESCE(pi.imageUrl, '') FROM PostImage pi WHERE pi.post.id = p.id ORDER BY pi.id ASC LIMIT 1),
+            p.createdAt,
+            p.updatedAt,
+            false,
+            false
+        )
+        FROM MarketItem mi
+        JOIN mi.post p
+        JOIN p.user u
+        JOIN PostStatistics ps ON ps.postId = p.id
+        WHERE p.id IN :postIds
+        """)
+    List<MarketPostResponseDTO> findDTOByPostIdIn(@Param("postIds") Collection<Long> postIds);
 }
@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -26,7 +28,7 @@ public interface MatchRepository extends JpaRepository<MatchingPost, Long> {
             p.content,
             p.tags,
             ps.viewCount,
-            (SELECT CAST(COUNT(c2.id) AS int) FROM Comment c2 WHERE c2.postId = p.id AND c2.isDeleted = false),
+            ps.commentCount,
             p.likeCount,
             (SELECT CAST(COUNT(b2.id) AS int) FROM Bookmark b2 WHERE b2.post.id = p.id AND b2.user.id = u.id),
             mp.matchingType,
@@ -41,13 +43,8 @@ public interface MatchRepository extends JpaRepository<MatchingPost, Long> {
         JOIN mp.post p
         JOIN p.user u
         JOIN PostStatistics ps ON ps.postId = p.id
-          AND (:keyword IS NULL
-               OR :keyword = ''
-               OR p.title LIKE CONCAT('%', :keyword, '%')
-               OR p.content LIKE CONCAT('%', :keyword, '%'))
         """)
-    Page<MatchPostResponseDTO> findDTOByContent(@Param("keyword") String keyword,
-                                                Pageable pageable);
+    Page<MatchPostResponseDTO> findAllDTO(Pageable pageable);
     @Query("""
         SELECT new kr.co.amateurs.server.domain.dto.together.MatchPostResponseDTO(
             mp.id,
@@ -61,7 +58,7 @@ public interface MatchRepository extends JpaRepository<MatchingPost, Long> {
             p.content,
             p.tags,
             ps.viewCount,
-            (SELECT CAST(COUNT(c2.id) AS int) FROM Comment c2 WHERE c2.postId = p.id AND c2.isDeleted = false),
+            ps.commentCount,
             p.likeCount,
             (SELECT CAST(COUNT(b2.id) AS int) FROM Bookmark b2 WHERE b2.post.id = p.id AND b2.user.id = u.id),
             mp.matchingType,
@@ -76,14 +73,9 @@ public interface MatchRepository extends JpaRepository<MatchingPost, Long> {
         JOIN mp.post p
         JOIN p.user u
         JOIN PostStatistics ps ON ps.postId = p.id
-          AND (:keyword IS NULL
-               OR :keyword = ''
-               OR p.title LIKE CONCAT('%', :keyword, '%')
-               OR p.content LIKE CONCAT('%', :keyword, '%'))
         ORDER BY ps.viewCount DESC
         """)
-    Page<MatchPostResponseDTO> findDTOByContentOrderByViewCount(@Param("keyword") String keyword,
-                                                                 Pageable pageable);
+    Page<MatchPostResponseDTO> findAllDTOOrderByViewCount(Pageable pageable);
 
     @Query("""
         SELECT new kr.co.amateurs.server.domain.dto.together.MatchPostResponseDTO(
@@ -98,7 +90,7 @@ public interface MatchRepository extends JpaRepository<MatchingPost, Long> {
             p.content,
             p.tags,
             ps.viewCount,
-            (SELECT CAST(COUNT(c2.id) AS int) FROM Comment c2 WHERE c2.postId = p.id AND c2.isDeleted = false),
+            ps.commentCount,
             p.likeCount,
             (SELECT CAST(COUNT(b2.id) AS int) FROM Bookmark b2 WHERE b2.post.id = p.id AND b2.user.id = u.id),
             mp.matchingType,
@@ -119,4 +111,36 @@ public interface MatchRepository extends JpaRepository<MatchingPost, Long> {
 
 
     MatchingPost findByPostId(Long postId);
+
+    @Query("""
+        SELECT new kr.co.amateurs.server.domain.dto.together.MatchPostResponseDTO(
+            mp.id,
+            p.id,
+            p.isBlinded,
+            u.nickname,
+            u.devcourseName,
+            u.devcourseBatch,
+            u.imageUrl,
+            p.title,
+            p.content,
+            p.tags,
+            ps.viewCount,
+            ps.commentCount,
+            p.likeCount,
+            (SELECT CAST(COUNT(b2.id) AS int) FROM Bookmark b2 WHERE b2.post.id = p.id AND b2.user.id = u.id),
+            mp.matchingType,
+            mp.status,
+            mp.expertiseAreas,
+            p.createdAt,
+            p.updatedAt,
+            false,
+            false
+        )
+        FROM MatchingPost mp
+        JOIN mp.post p
+        JOIN p.user u
+        JOIN PostStatistics ps ON ps.postId = p.id
+        WHERE p.id IN :postIds
+        """)
+    List<MatchPostResponseDTO> findDTOByPostIdIn(@Param("postIds") Collection<Long> postIds);
 }
@@ -2,15 +2,13 @@ package kr.co.amateurs.server.repository.user;
 
 import kr.co.amateurs.server.domain.dto.user.UserModalInfoResponseDTO;
 import kr.co.amateurs.server.domain.entity.user.User;
-import kr.co.amateurs.server.domain.entity.user.enums.Role;
 import kr.co.amateurs.server.domain.entity.user.enums.ProviderType;
 import kr.co.amateurs.server.domain.entity.user.enums.Topic;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,5 +24,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT ut.topic FROM UserTopic ut WHERE ut.user.id = :userId")
     List<Topic> findTopicDisplayNamesByUserId(@Param("userId") Long userId);
 
-    Page<User> findByRoleIn(List<Role> roles, Pageable pageable);
+    /**
+     * since 이후 북마크, 게시글 좋아요, 게시글 작성 중 하나라도 있는 사용자 id
+     */
+    @Query(value = """
+            SELECT u.id FROM users u
+            WHERE u.role IN (:roles)
+              AND u.id IN (
+                  SELECT b.user_id FROM bookmarks b WHERE b.created_at > :since
+                  UNION
+                  SELECT l.user_id FROM post_like l WHERE l.post_id IS NOT NULL AND l.created_at > :since
+                  UNION
+                  SELECT p.user_id FROM posts p WHERE p.created_at > :since
+              )
+            ORDER BY u.id
+            """, nativeQuery = true)
+    List<Long> findRecentlyActiveUserIds(@Param("roles") List<String> roles, @Param("since") LocalDateTime since);
 }
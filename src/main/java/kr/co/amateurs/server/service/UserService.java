@@ -1,6 +1,7 @@
 package kr.co.amateurs.server.service;
 
 import kr.co.amateurs.server.config.jwt.CustomUserDetails;
+import kr.co.amateurs.server.config.jwt.UserPrincipal;
 import kr.co.amateurs.server.domain.common.ErrorCode;
 import kr.co.amateurs.server.domain.dto.directmessage.event.AnonymizeEvent;
 import kr.co.amateurs.server.domain.dto.user.*;
@@ -9,6 +10,7 @@ import kr.co.amateurs.server.domain.entity.user.User;
 import kr.co.amateurs.server.domain.entity.user.enums.ProviderType;
 import kr.co.amateurs.server.domain.entity.user.enums.Role;
 import kr.co.amateurs.server.domain.entity.user.enums.Topic;
+import kr.co.amateurs.server.domain.event.UserPrincipalChangedEvent;
 import kr.co.amateurs.server.exception.CustomException;
 import kr.co.amateurs.server.repository.follow.FollowJooqRepository;
 import kr.co.amateurs.server.repository.follow.FollowRepository;
@@ -60,23 +62,42 @@ public class UserService {
                 .orElseThrow(ErrorCode.USER_NOT_FOUND);
     }
 
-    public Optional<User> getCurrentUser() {
+    public Optional<UserPrincipal> getCurrentPrincipal() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
         if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails customUserDetails) {
-            return Optional.ofNullable(customUserDetails.getUser());
+            return Optional.ofNullable(customUserDetails.getPrincipal());
         }
         return Optional.empty();
     }
 
-    public User getCurrentLoginUser() {
+    /**
+     * 로그인 사용자 정보 (DB 조회 없음)
+     */
+    public UserPrincipal getCurrentLoginPrincipal() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
             throw new CustomException(ErrorCode.ANONYMOUS_USER);
         }
 
         CustomUserDetails principal = (CustomUserDetails) auth.getPrincipal();
-        return principal.getUser();
+        return principal.getPrincipal();
+    }
+
+    /**
+     * 로그인 사용자 엔티티 프록시 (DB 조회 없음)
+     * 연관관계를 연결해 저장할 때만 사용하고, 필드가 필요하면 getCurrentLoginUser 사용
+     */
+    public User getCurrentUserReference() {
+        return userRepository.getReferenceById(getCurrentLoginPrincipal().id());
+    }
+
+    /**
+     * 로그인 사용자 엔티티 (PK 조회, 호출한 트랜잭션에서 관리되는 엔티티)
+     */
+    public User getCurrentLoginUser() {
+        return userRepository.findById(getCurrentLoginPrincipal().id())
+                .orElseThrow(ErrorCode.USER_NOT_FOUND);
     }
 
     public boolean isEmailAvailable(String email) {
@@ -87,10 +108,10 @@ public class UserService {
     public boolean isNicknameAvailable(String nickname) {
         validateNicknameFormat(nickname);
 
-        Optional<User> currentUser = getCurrentUser();
+        Optional<UserPrincipal> currentUser = getCurrentPrincipal();
 
         if (currentUser.isPresent()) {
-            if (currentUser.get().getNickname().equals(nickname)) {
+            if (currentUser.get().nickname().equals(nickname)) {
                 return true;
             }
         }
@@ -120,7 +141,7 @@ public class UserService {
     }
 
     public UserProfileResponseDTO getCurrentUserProfile() {
-        Long userId = getCurrentLoginUser().getId();
+        Long userId = getCurrentLoginPrincipal().id();
 
         User user = userRepository.findById(userId)
                 .orElseThrow(ErrorCode.USER_NOT_FOUND);
@@ -129,9 +150,7 @@ public class UserService {
     }
 
     public UserBasicProfileEditResponseDTO updateBasicProfile(UserBasicProfileEditRequestDTO request) {
-        User currentUser = getCurrentLoginUser();
-
-        User userFromDb = userRepository.findById(currentUser.getId())
+        User userFromDb = userRepository.findById(getCurrentLoginPrincipal().id())
                 .orElseThrow(ErrorCode.USER_NOT_FOUND);
 
         if(request.nickname() != null && !request.nickname().equals(userFromDb.getNickname())) {
@@ -146,13 +165,12 @@ public class UserService {
         );
 
         User savedUser = userRepository.save(userFromDb);
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(savedUser.getId()));
         return UserBasicProfileEditResponseDTO.from(savedUser);
     }
 
     public UserPasswordEditResponseDTO updatePassword(UserPasswordEditRequestDTO request) {
-        User currentUser = getCurrentLoginUser();
-
-        User userFromDb = userRepository.findById(currentUser.getId())
+        User userFromDb = userRepository.findById(getCurrentLoginPrincipal().id())
                 .orElseThrow(ErrorCode.USER_NOT_FOUND);
 
         validateCurrentPassword(userFromDb, request.currentPassword());
@@ -161,6 +179,7 @@ public class UserService {
         userFromDb.updatePassword(encodedPassword);
 
         userRepository.save(userFromDb);
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(userFromDb.getId()));
 
         return UserPasswordEditResponseDTO.builder()
                 .message("비밀번호가 성공적으로 변경되었습니다")
@@ -178,9 +197,7 @@ public class UserService {
     }
 
     public UserTopicsEditDTO updateTopics(UserTopicsEditDTO request) {
-        User currentUser = getCurrentLoginUser();
-
-        User userFromDb = userRepository.findById(currentUser.getId())
+        User userFromDb = userRepository.findById(getCurrentLoginPrincipal().id())
                 .orElseThrow(ErrorCode.USER_NOT_FOUND);
 
         validateTopicsCount(request.topics());
@@ -189,12 +206,12 @@ public class UserService {
         userFromDb.addUserTopics(request.topics());
 
         User savedUser = userRepository.save(userFromDb);
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(savedUser.getId()));
         return UserTopicsEditDTO.from(savedUser);
     }
 
     public UserDeleteResponseDTO deleteUser(UserDeleteRequestDTO request) {
-        User currentUser = getCurrentLoginUser();
-        User userFromDb = userRepository.findById(currentUser.getId())
+        User userFromDb = userRepository.findById(getCurrentLoginPrincipal().id())
                 .orElseThrow(ErrorCode.USER_NOT_FOUND);
 
         if (userFromDb.isDeleted()) {
@@ -212,6 +229,7 @@ public class UserService {
         userFromDb.anonymizeAndDelete(anonymousEmail, anonymousNickname);
         userRepository.save(userFromDb);
         eventPublisher.publishEvent(new AnonymizeEvent(userFromDb));
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(userFromDb.getId()));
 
         return UserDeleteResponseDTO.success();
     }
@@ -260,12 +278,14 @@ public class UserService {
     public void changeUserRole(User user, Role newRole) {
         user.changeRole(newRole);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(user.getId()));
     }
 
     @Transactional
     public void updateDevCourseInfo(User user, DevCourseTrack devcourseName, String devcourseBatch) {
         user.updateDevCourseInfo(devcourseName, devcourseBatch);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(user.getId()));
     }
 
     public UserModalInfoResponseDTO getUserModalInfo(String nickname) {
@@ -273,8 +293,7 @@ public class UserService {
             throw ErrorCode.EMPTY_NICKNAME.get();
         }
 
-        User currentUser = getCurrentLoginUser();
-        UserModalInfoResponseDTO userInfo = userJooqRepository.findUserModalInfoByNickname(nickname, currentUser.getId());
+        UserModalInfoResponseDTO userInfo = userJooqRepository.findUserModalInfoByNickname(nickname, getCurrentLoginPrincipal().id());
 
         if (userInfo == null) {
             throw ErrorCode.USER_NOT_FOUND.get();
@@ -7,9 +7,11 @@ import kr.co.amateurs.server.domain.dto.ai.PostContentData;
 import kr.co.amateurs.server.domain.dto.ai.PostSummaryData;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -17,7 +19,17 @@ import java.util.stream.Collectors;
 @Slf4j
 public class AiLlmService {
 
+    // 프롬프트 문구를 바꾸면 버전을 올려 이전 요약을 재사용하지 않게 함
+    private static final String BOOKMARK_SUMMARY_TEMPLATE = "post-summary.bookmarks:v1";
+    private static final String LIKE_SUMMARY_TEMPLATE = "post-summary.likes:v1";
+    private static final String WRITTEN_SUMMARY_TEMPLATE = "post-summary.written:v1";
+
     private final AiPostAnalysis aiPostAnalysis;
+    private final LlmResponseCache llmResponseCache;
+    private final AiRequestRateLimiter aiRequestRateLimiter;
+
+    @Value("${langchain4j.google-ai-gemini.recommend.model-name}")
+    private String modelName;
 
     public PostSummaryData summarizeBookmarkedPosts(List<PostContentData> bookmarkedPosts) {
         if (bookmarkedPosts.isEmpty()) {
@@ -26,7 +38,9 @@ public class AiLlmService {
 
         try {
             String postsContent = formatPostData(bookmarkedPosts);
-            String summary = aiPostAnalysis.analyzeBookmarks(postsContent);
+            String summary = llmResponseCache.getOrLoad(
+                    BOOKMARK_SUMMARY_TEMPLATE, modelName, postsContent, String.class,
+                    () -> callLlm(() -> aiPostAnalysis.analyzeBookmarks(postsContent)));
 
             log.info("북마크 게시물 요약 완료: {} 개 게시물", bookmarkedPosts.size());
             return new PostSummaryData("북마크", summary);
@@ -44,7 +58,9 @@ public class AiLlmService {
 
         try {
             String postsContent = formatPostData(likedPosts);
-            String summary = aiPostAnalysis.analyzeLikes(postsContent);
+            String summary = llmResponseCache.getOrLoad(
+                    LIKE_SUMMARY_TEMPLATE, modelName, postsContent, String.class,
+                    () -> callLlm(() -> aiPostAnalysis.analyzeLikes(postsContent)));
 
             log.info("좋아요 게시물 요약 완료: {} 개 게시물", likedPosts.size());
             return new PostSummaryData("좋아요", summary);
@@ -62,7 +78,9 @@ public class AiLlmService {
 
         try {
             String postsContent = formatPostData(writtenPosts);
-            String summary = aiPostAnalysis.analyzeWritten(postsContent);
+            String summary = llmResponseCache.getOrLoad(
+                    WRITTEN_SUMMARY_TEMPLATE, modelName, postsContent, String.class,
+                    () -> callLlm(() -> aiPostAnalysis.analyzeWritten(postsContent)));
 
             log.info("작성 게시물 요약 완료: {} 개 게시물", writtenPosts.size());
             return new PostSummaryData("작성글", summary);
@@ -75,7 +93,7 @@ public class AiLlmService {
 
     public AiProfileResponse generateInitialProfile(String userTopics) {
         try {
-            AiProfileResponse profile = aiPostAnalysis.generateInitialProfile(userTopics);
+            AiProfileResponse profile = callLlm(() -> aiPostAnalysis.generateInitialProfile(userTopics));
             log.info("초기 토픽 기반 프로필 생성 완료");
             return profile;
         } catch (Exception e) {
@@ -94,11 +112,12 @@ public class AiLlmService {
                 summariesText = "아직 충분한 활동 데이터가 없습니다.";
             }
 
-            AiProfileResponse profile = aiPostAnalysis.generateFinalProfile(
+            String activitySummaries = summariesText;
+            AiProfileResponse profile = callLlm(() -> aiPostAnalysis.generateFinalProfile(
                     request.userTopics(),
                     request.devcourseName(),
-                    summariesText
-            );
+                    activitySummaries
+            ));
 
             log.info("최종 AI 프로필 생성 완료");
             return profile;
@@ -109,6 +128,19 @@ public class AiLlmService {
         }
     }
 
+    /**
+     * 여러 스레드에서 동시에 호출해도 공유 토큰 버킷으로 할당량 안에서만 요청
+     */
+    private <T> T callLlm(Supplier<T> call) {
+        try {
+            aiRequestRateLimiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("LLM 호출 대기 중 중단됨", e);
+        }
+        return call.get();
+    }
+
     private String formatPostData(List<PostContentData> posts) {
         return posts.stream()
                 .map(post -> String.format("제목: %s\n내용: %s", post.title(), post.content()))
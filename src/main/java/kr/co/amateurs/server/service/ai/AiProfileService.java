@@ -13,8 +13,8 @@ import kr.co.amateurs.server.service.UserService;
 import kr.co.amateurs.server.service.bookmark.BookmarkService;
 import kr.co.amateurs.server.service.like.LikeService;
 import kr.co.amateurs.server.service.post.PostService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
@@ -22,9 +22,11 @@ import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class AiProfileService {
 
@@ -34,7 +36,23 @@ public class AiProfileService {
     private final UserService userService;
     private final AiLlmService aiLlmService;
     private final AiProfileRepository aiProfileRepository;
-
+    private final Executor aiSummaryExecutor;
+
+    public AiProfileService(BookmarkService bookmarkService,
+                            PostService postService,
+                            LikeService likeService,
+                            UserService userService,
+                            AiLlmService aiLlmService,
+                            AiProfileRepository aiProfileRepository,
+                            @Qualifier("aiSummaryExecutor") Executor aiSummaryExecutor) {
+        this.bookmarkService = bookmarkService;
+        this.postService = postService;
+        this.likeService = likeService;
+        this.userService = userService;
+        this.aiLlmService = aiLlmService;
+        this.aiProfileRepository = aiProfileRepository;
+        this.aiSummaryExecutor = aiSummaryExecutor;
+    }
 
     @Transactional
     public AiProfileResponse generateInitialProfile(Long userId) {
@@ -59,23 +77,29 @@ public class AiProfileService {
 
     /**ㅊㅌㅊㅌㅌㅌ
      * AI 완성 프로필 생성 이벤트 발행
+     * 트랜잭션 없이 실행해 게시글은 조회하는 동안만 DB 커넥션을 쓰고, LLM 호출 동안에는 커넥션을 잡지 않음
      */
-    @Transactional
     public AiProfileResponse generateCompleteUserProfile(Long userId) {
         try {
             log.info("사용자 AI 프로필 생성 시작: userId={}", userId);
 
-            PostSummaryData bookmarkSummary = collectAndAnalyzeBookmarks(userId);
-            PostSummaryData likeSummary = collectAndAnalyzeLikes(userId);
-            PostSummaryData writtenSummary = collectAndAnalyzeWritten(userId);
-            log.info("사용자 AI 프로필 데이터 수집 완료: userId={}", userId);
+            CompletableFuture<PostSummaryData> bookmarkSummary = collectAndAnalyzeAsync(userId, "북마크",
+                    () -> bookmarkService.getBookmarkedPosts(userId), aiLlmService::summarizeBookmarkedPosts,
+                    new PostSummaryData("북마크", "북마크 활동이 없습니다."));
+            CompletableFuture<PostSummaryData> likeSummary = collectAndAnalyzeAsync(userId, "좋아요",
+                    () -> likeService.getLikedPosts(userId), aiLlmService::summarizeLikedPosts,
+                    new PostSummaryData("좋아요", "좋아요 활동이 없습니다."));
+            CompletableFuture<PostSummaryData> writtenSummary = collectAndAnalyzeAsync(userId, "작성글",
+                    () -> postService.getWritePosts(userId), aiLlmService::summarizeWrittenPosts,
+                    new PostSummaryData("작성글", "작성 활동이 없습니다."));
 
             String userTopics = collectUserTopics(userId);;
             String devcourseName = collectDevcourseName(userId);
             log.info("사용자 정보 확인: userId={}, devcourseName={}", userId, devcourseName);
 
 
-            List<PostSummaryData> summaries = List.of(bookmarkSummary, likeSummary, writtenSummary);
+            List<PostSummaryData> summaries = List.of(bookmarkSummary.join(), likeSummary.join(), writtenSummary.join());
+            log.info("사용자 AI 프로필 데이터 수집 완료: userId={}", userId);
             AiProfileRequest request = new AiProfileRequest(userTopics, devcourseName, summaries);
             AiProfileResponse profile = aiLlmService.generateFinalProfile(request);
             log.info("AI 프로필 생성 1단계 완료: userId={}, profile={}", userId, profile);
@@ -111,20 +135,6 @@ public class AiProfileService {
 
 
 
-    /**
-     * 최근 활동 여부 체크 (북마크 OR 좋아요 OR 작성글)
-     */
-    public boolean hasRecentActivity(Long userId, int days) {
-        try {
-            return bookmarkService.hasRecentBookmarkActivity(userId, days) ||
-                    likeService.hasRecentLikeActivity(userId, days) ||
-                    postService.hasRecentPostActivity(userId, days);
-        } catch (Exception e) {
-            log.warn("활동 체크 실패: userId={}", userId, e);
-            return false;
-        }
-    }
-
     private String collectUserTopics(Long userId) {
         return userService.getUserTopics(userId);
     }
@@ -135,40 +145,28 @@ public class AiProfileService {
 
 
 
-    private PostSummaryData collectAndAnalyzeBookmarks(Long userId) {
-        try {
-            List<PostContentData> bookmarks = bookmarkService.getBookmarkedPosts(userId);
-            log.info("북마크 데이터 수집 완료: {} 개", bookmarks.size());
-            return aiLlmService.summarizeBookmarkedPosts(bookmarks);
-
-        } catch (Exception e) {
-            log.warn("북마크 수집 실패, 기본값 사용: userId={}", userId, e);
-            return new PostSummaryData("북마크", "북마크 활동이 없습니다.");
-        }
-    }
-
-    private PostSummaryData collectAndAnalyzeLikes(Long userId) {
+    /**
+     * 게시글 조회는 호출 스레드에서 하고, 원격 요약 호출만 aiSummaryExecutor 에서 동시에 실행
+     * 수집이나 요약에 실패하면 기본값 사용
+     */
+    private CompletableFuture<PostSummaryData> collectAndAnalyzeAsync(Long userId, String activity,
+                                                                      Supplier<List<PostContentData>> collector,
+                                                                      Function<List<PostContentData>, PostSummaryData> summarizer,
+                                                                      PostSummaryData fallback) {
+        List<PostContentData> posts;
         try {
-            List<PostContentData> likes = likeService.getLikedPosts(userId);
-            log.info("좋아요 데이터 수집 완료: {} 개", likes.size());
-            return aiLlmService.summarizeLikedPosts(likes);
-
+            posts = collector.get();
+            log.info("{} 데이터 수집 완료: {} 개", activity, posts.size());
         } catch (Exception e) {
-            log.warn("좋아요 수집 실패, 기본값 사용: userId={}", userId, e);
-            return new PostSummaryData("좋아요", "좋아요 활동이 없습니다.");
+            log.warn("{} 수집 실패, 기본값 사용: userId={}", activity, userId, e);
+            return CompletableFuture.completedFuture(fallback);
         }
-    }
-
-    private PostSummaryData collectAndAnalyzeWritten(Long userId) {
-        try {
-            List<PostContentData> written = postService.getWritePosts(userId);
-            log.info("작성글 데이터 수집 완료: {} 개", written.size());
-            return aiLlmService.summarizeWrittenPosts(written);
 
-        } catch (Exception e) {
-            log.warn("작성글 수집 실패, 기본값 사용: userId={}", userId, e);
-            return new PostSummaryData("작성글", "작성 활동이 없습니다.");
-        }
+        return CompletableFuture.supplyAsync(() -> summarizer.apply(posts), aiSummaryExecutor)
+                .exceptionally(e -> {
+                    log.warn("{} 요약 실패, 기본값 사용: userId={}", activity, userId, e);
+                    return fallback;
+                });
     }
 
     private void saveOrUpdateProfile(Long userId, AiProfileResponse profile) {
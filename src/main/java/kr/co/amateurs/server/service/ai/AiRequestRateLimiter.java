@@ -0,0 +1,18 @@
+package kr.co.amateurs.server.service.ai;
+
+import kr.co.amateurs.server.utils.TokenBucketRateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 추천/프로필용 Gemini 모델 호출 토큰 버킷
+ * 요약과 프로필 생성이 여러 스레드에서 동시에 돌아도 합쳐서 할당량을 넘지 않게 공유
+ */
+@Component
+public class AiRequestRateLimiter extends TokenBucketRateLimiter {
+
+    public AiRequestRateLimiter(@Value("${ai.llm.requests-per-minute:60}") int requestsPerMinute,
+                                @Value("${ai.llm.burst:4}") int burst) {
+        super(requestsPerMinute, burst, System::nanoTime);
+    }
+}
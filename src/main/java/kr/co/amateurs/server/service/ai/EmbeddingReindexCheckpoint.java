@@ -0,0 +1,34 @@
+package kr.co.amateurs.server.service.ai;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 임베딩 전체 재생성 체크포인트
+ * 이 id 까지의 게시글은 모두 저장이 끝났다는 뜻이며, 재생성이 끝나면 지움
+ */
+@Component
+@RequiredArgsConstructor
+public class EmbeddingReindexCheckpoint {
+
+    private static final String KEY = "embedding:reindex:checkpoint";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * @return 진행 중이던 재생성이 없으면 null
+     */
+    public Long load() {
+        String value = stringRedisTemplate.opsForValue().get(KEY);
+        return value != null ? Long.valueOf(value) : null;
+    }
+
+    public void save(long lastPostId) {
+        stringRedisTemplate.opsForValue().set(KEY, Long.toString(lastPostId));
+    }
+
+    public void clear() {
+        stringRedisTemplate.delete(KEY);
+    }
+}
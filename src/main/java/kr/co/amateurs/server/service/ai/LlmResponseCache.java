@@ -0,0 +1,197 @@
+package kr.co.amateurs.server.service.ai;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.amateurs.server.domain.entity.ai.LlmResponseCacheEntry;
+import kr.co.amateurs.server.repository.ai.LlmResponseCacheRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * LLM 응답 캐시
+ * - 키는 (프롬프트 템플릿, 모델명, 공백을 정리한 입력) 의 SHA-256 이라 같은 내용이면 요청자와 무관하게 재사용
+ * - Redis 에 먼저 두고 MySQL 에도 보관해, Redis 에서 밀려났거나 Redis 장애일 때는 MySQL 에서 읽음
+ * - Redis 는 TTL 과 함께 저장 순서 인덱스(sorted set)로 최대 개수를 넘으면 오래된 것부터 지움
+ * 프롬프트 문구를 바꾸면 템플릿 이름의 버전을 올려 이전 응답을 쓰지 않게 해야 함
+ */
+@Slf4j
+@Component
+public class LlmResponseCache {
+
+    private static final String KEY_PREFIX = "llm:cache:";
+    private static final String INDEX_KEY = "llm:cache:index";
+    private static final String REQUESTS_METRIC = "llm.cache.requests";
+    private static final String SAVED_TOKENS_METRIC = "llm.cache.saved.tokens";
+    // 한국어 위주 텍스트 기준 대략적인 글자 수 대비 토큰 수
+    private static final double CHARS_PER_TOKEN = 2.0;
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LlmResponseCacheRepository llmResponseCacheRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Duration ttl;
+    private final int maxEntries;
+
+    public LlmResponseCache(StringRedisTemplate stringRedisTemplate,
+                            LlmResponseCacheRepository llmResponseCacheRepository,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${llm.cache.ttl:7d}") Duration ttl,
+                            @Value("${llm.cache.max-entries:10000}") int maxEntries) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.llmResponseCacheRepository = llmResponseCacheRepository;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 캐시에 없을 때만 loader 로 원격 호출하고 결과를 저장. loader 가 예외를 던지면 저장하지 않음
+     */
+    public <T> T getOrLoad(String template, String model, String input, Class<T> type, Supplier<T> loader) {
+        Key key = Key.of(template, model, input);
+        return find(key, type).orElseGet(() -> {
+            T loaded = loader.get();
+            put(key, loaded);
+            return loaded;
+        });
+    }
+
+    public <T> Optional<T> find(Key key, Class<T> type) {
+        String cached = readRedis(key).or(() -> readDatabase(key)).orElse(null);
+        if (cached != null) {
+            try {
+                T value = objectMapper.readValue(cached, type);
+                meterRegistry.counter(REQUESTS_METRIC, "template", key.template(), "result", "hit").increment();
+                meterRegistry.counter(SAVED_TOKENS_METRIC, "template", key.template())
+                        .increment((key.inputLength() + cached.length()) / CHARS_PER_TOKEN);
+                return Optional.of(value);
+            } catch (JsonProcessingException e) {
+                log.warn("LLM 캐시 응답 변환 실패: template={}, error={}", key.template(), e.getMessage());
+            }
+        }
+
+        meterRegistry.counter(REQUESTS_METRIC, "template", key.template(), "result", "miss").increment();
+        return Optional.empty();
+    }
+
+    public void put(Key key, Object response) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            log.warn("LLM 캐시 저장 실패: template={}, error={}", key.template(), e.getMessage());
+            return;
+        }
+
+        writeRedis(key.hash(), json, ttl);
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            llmResponseCacheRepository.save(LlmResponseCacheEntry.builder()
+                    .cacheKey(key.hash())
+                    .namespace(key.template())
+                    .response(json)
+                    .createdAt(now)
+                    .expiresAt(now.plus(ttl))
+                    .build());
+        } catch (DataAccessException e) {
+            log.warn("LLM 캐시 MySQL 저장 실패: template={}, error={}", key.template(), e.getMessage());
+        }
+    }
+
+    /**
+     * MySQL 보관본에서 만료된 항목을 지우고, 최대 개수를 넘은 만큼 오래된 항목부터 지움
+     *
+     * @return 삭제된 항목 수
+     */
+    @Transactional
+    public int evictDatabaseEntries() {
+        int deleted = llmResponseCacheRepository.deleteExpired(LocalDateTime.now());
+        long overflow = llmResponseCacheRepository.count() - maxEntries;
+        if (overflow > 0) {
+            deleted += llmResponseCacheRepository.deleteOldest((int) overflow);
+        }
+        return deleted;
+    }
+
+    private Optional<String> readRedis(Key key) {
+        try {
+            return Optional.ofNullable(stringRedisTemplate.opsForValue().get(KEY_PREFIX + key.hash()));
+        } catch (DataAccessException e) {
+            log.warn("LLM 캐시 Redis 조회 실패, MySQL 에서 조회: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * MySQL 에서 찾으면 남은 TTL 만큼 Redis 에 다시 올려 둠
+     */
+    private Optional<String> readDatabase(Key key) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            return llmResponseCacheRepository.findById(key.hash())
+                    .filter(entry -> !entry.isExpired(now))
+                    .map(entry -> {
+                        writeRedis(key.hash(), entry.getResponse(), Duration.between(now, entry.getExpiresAt()));
+                        return entry.getResponse();
+                    });
+        } catch (DataAccessException e) {
+            log.warn("LLM 캐시 MySQL 조회 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void writeRedis(String hash, String json, Duration entryTtl) {
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + hash, json, entryTtl);
+
+            ZSetOperations<String, String> index = stringRedisTemplate.opsForZSet();
+            index.add(INDEX_KEY, hash, System.currentTimeMillis());
+            Long size = index.zCard(INDEX_KEY);
+            if (size != null && size > maxEntries) {
+                Set<ZSetOperations.TypedTuple<String>> evicted = index.popMin(INDEX_KEY, size - maxEntries);
+                if (evicted != null && !evicted.isEmpty()) {
+                    stringRedisTemplate.delete(evicted.stream().map(tuple -> KEY_PREFIX + tuple.getValue()).toList());
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("LLM 캐시 Redis 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    public record Key(String template, String hash, int inputLength) {
+
+        public static Key of(String template, String model, String input) {
+            String normalized = WHITESPACES.matcher(input == null ? "" : input.strip()).replaceAll(" ");
+            return new Key(template, sha256(template + '\0' + model + '\0' + normalized), normalized.length());
+        }
+
+        private static String sha256(String value) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -2,46 +2,155 @@ package kr.co.amateurs.server.service.ai;
 
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.store.embedding.EmbeddingStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import kr.co.amateurs.server.domain.common.ErrorCode;
-import kr.co.amateurs.server.domain.entity.post.Post;
-import kr.co.amateurs.server.service.post.PostService;
-import lombok.RequiredArgsConstructor;
+import kr.co.amateurs.server.domain.dto.ai.PostEmbeddingSource;
+import kr.co.amateurs.server.repository.post.PostEmbeddingJooqRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 게시글 임베딩 관리를 위한 유틸리티 서비스
- * CompletableFuture 비동기 처리를 공통화하여 코드 중복을 제거합니다.
+ * 전체 재생성은 게시글을 id 순서로 batch-size 개씩 읽어 한 번에 임베딩하고, 최대 in-flight 개 묶음을 동시에 처리합니다.
+ * 앞선 묶음이 모두 끝난 지점까지만 체크포인트로 남기므로 중간에 멈추면 그 다음 게시글부터 이어서 처리합니다.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class PostEmbeddingManageService {
 
+    private static final String INDEXED_POSTS_METRIC = "post.embedding.reindex.posts";
+    private static final String BATCH_TIMER_METRIC = "post.embedding.reindex.batch";
+    private static final String REMAINING_POSTS_METRIC = "post.embedding.reindex.remaining";
+
     private final PostEmbeddingService postEmbeddingService;
-    private final PostService postService;
+    private final PostEmbeddingJooqRepository postEmbeddingJooqRepository;
     private final EmbeddingStore<TextSegment> embeddingStore;
+    private final EmbeddingReindexCheckpoint reindexCheckpoint;
+    private final Executor embeddingExecutor;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxInFlight;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicInteger remainingPosts = new AtomicInteger();
+    private final Timer batchTimer;
+
+    public PostEmbeddingManageService(PostEmbeddingService postEmbeddingService,
+                                      PostEmbeddingJooqRepository postEmbeddingJooqRepository,
+                                      EmbeddingStore<TextSegment> embeddingStore,
+                                      EmbeddingReindexCheckpoint reindexCheckpoint,
+                                      @Qualifier("embeddingExecutor") Executor embeddingExecutor,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${ai.embedding.reindex.batch-size:64}") int batchSize,
+                                      @Value("${ai.embedding.reindex.in-flight:4}") int maxInFlight) {
+        this.postEmbeddingService = postEmbeddingService;
+        this.postEmbeddingJooqRepository = postEmbeddingJooqRepository;
+        this.embeddingStore = embeddingStore;
+        this.reindexCheckpoint = reindexCheckpoint;
+        this.embeddingExecutor = embeddingExecutor;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxInFlight = maxInFlight;
+        this.batchTimer = meterRegistry.timer(BATCH_TIMER_METRIC);
+        meterRegistry.gauge(REMAINING_POSTS_METRIC, remainingPosts);
+    }
 
     /**
      * 모든 게시글의 임베딩을 초기화합니다 (전체 삭제 후 재생성)
-     * @return 처리 결과 메시지
+     * 이전 재생성이 중간에 멈췄다면 삭제 없이 체크포인트 다음 게시글부터 이어서 처리합니다.
+     * @param restart true 면 체크포인트를 무시하고 처음부터 다시 생성
      */
-    public void initializeAllPostEmbeddings() {
+    public void initializeAllPostEmbeddings(boolean restart) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("임베딩 전체 재생성이 이미 실행 중");
+            return;
+        }
+
+        Deque<InFlightBatch> inFlight = new ArrayDeque<>();
         try {
-            embeddingStore.removeAll();
-            List<Post> allPosts = postService.findAllPosts();
+            long lastPostId = startOrResume(restart);
+            remainingPosts.set(postEmbeddingJooqRepository.countPostsAfter(lastPostId));
 
-            for (Post post : allPosts) {
-                postEmbeddingService.createPostEmbeddings(post);
+            int indexed = 0;
+            List<PostEmbeddingSource> page;
+            while (!(page = postEmbeddingJooqRepository.findEmbeddingSourcesAfter(lastPostId, batchSize)).isEmpty()) {
+                lastPostId = page.get(page.size() - 1).postId();
+                if (inFlight.size() >= maxInFlight) {
+                    indexed += completeOldest(inFlight);
+                }
+                inFlight.addLast(submit(page, lastPostId));
+            }
+            while (!inFlight.isEmpty()) {
+                indexed += completeOldest(inFlight);
             }
-            log.info("임베딩 전체 재생성 완료 - 처리된 게시글: {}개", allPosts.size());
+
+            reindexCheckpoint.clear();
+            log.info("임베딩 전체 재생성 완료 - 처리된 게시글: {}개", indexed);
 
         } catch (Exception e) {
+            awaitQuietly(inFlight);
             log.error("임베딩 초기화 실패", e);
             throw ErrorCode.ERROR_AI_EMBEDDING_GENERATION.get();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private long startOrResume(boolean restart) {
+        Long checkpoint = restart ? null : reindexCheckpoint.load();
+        if (checkpoint != null) {
+            log.info("임베딩 재생성 이어서 진행 - 마지막 완료 게시글 id: {}", checkpoint);
+            return checkpoint;
         }
+
+        embeddingStore.removeAll();
+        reindexCheckpoint.save(0);
+        return 0;
+    }
+
+    private InFlightBatch submit(List<PostEmbeddingSource> page, long lastPostId) {
+        CompletableFuture<Void> future = CompletableFuture.runAsync(
+                () -> batchTimer.record(() -> postEmbeddingService.createPostEmbeddings(page)),
+                embeddingExecutor
+        );
+        return new InFlightBatch(lastPostId, page.size(), future);
+    }
+
+    /**
+     * 가장 먼저 보낸 묶음이 끝나길 기다린 뒤 체크포인트를 그 묶음의 마지막 id 로 옮김
+     * 실패하면 예외가 그대로 올라가 체크포인트는 직전 묶음에 머묾
+     */
+    private int completeOldest(Deque<InFlightBatch> inFlight) {
+        InFlightBatch batch = inFlight.peekFirst();
+        batch.future().join();
+        inFlight.pollFirst();
+
+        reindexCheckpoint.save(batch.lastPostId());
+        meterRegistry.counter(INDEXED_POSTS_METRIC).increment(batch.size());
+        remainingPosts.addAndGet(-batch.size());
+        return batch.size();
+    }
+
+    /**
+     * 실패 후 다음 실행과 겹치지 않도록 이미 보낸 묶음이 끝날 때까지 기다림
+     */
+    private void awaitQuietly(Deque<InFlightBatch> inFlight) {
+        CompletableFuture.allOf(inFlight.stream().map(InFlightBatch::future).toArray(CompletableFuture[]::new))
+                .exceptionally(e -> null)
+                .join();
+    }
+
+    private record InFlightBatch(long lastPostId, int size, CompletableFuture<Void> future) {
     }
 }
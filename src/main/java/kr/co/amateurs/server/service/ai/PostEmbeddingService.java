@@ -11,17 +11,19 @@ import dev.langchain4j.store.embedding.filter.Filter;
 import dev.langchain4j.store.embedding.filter.comparison.IsEqualTo;
 import dev.langchain4j.store.embedding.filter.comparison.IsLessThan;
 import kr.co.amateurs.server.domain.common.ErrorCode;
+import kr.co.amateurs.server.domain.dto.ai.PostEmbeddingSource;
 import kr.co.amateurs.server.domain.entity.post.Post;
 import kr.co.amateurs.server.service.post.PostService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.regex.Pattern;
 
 @Service
@@ -43,24 +45,17 @@ public class PostEmbeddingService {
      */
     public void createPostEmbeddings(Post post) {
         try {
-            String content = formatPostContent(post);
-
-            long createdTimestamp = post.getCreatedAt()
-                    .atZone(ZoneId.of("Asia/Seoul"))
-                    .toEpochSecond();
-
-            Metadata metadata = Metadata.from(Map.of(
-                    "userId", post.getUser().getId().toString(),
-                    "postId", post.getId().toString(),
-                    "title", post.getTitle(),
-                    "boardType", post.getBoardType().name(),
-                    "createdDate", createdTimestamp
+            TextSegment segment = toSegment(new PostEmbeddingSource(
+                    post.getId(),
+                    post.getUser().getId(),
+                    post.getTitle(),
+                    post.getContent(),
+                    post.getBoardType().name(),
+                    post.getCreatedAt()
             ));
 
-            TextSegment segment = TextSegment.from(content, metadata);
-
             Embedding embedding = embeddingModel.embed(segment).content();
-            embeddingStore.add(embedding, segment);
+            embeddingStore.addAll(List.of(pointId(post.getId())), List.of(embedding), List.of(segment));
 
             log.info("게시글 임베딩 저장 완료: postId={}", post.getId());
 
@@ -69,6 +64,19 @@ public class PostEmbeddingService {
         }
     }
 
+    /**
+     * 게시글 여러 건을 한 번의 요청으로 임베딩하고 한 번에 저장합니다.
+     * 게시글마다 포인트 id 가 고정되어 있어 같은 게시글을 다시 저장하면 덮어씁니다.
+     * @param sources 게시글 정보 목록
+     */
+    public void createPostEmbeddings(List<PostEmbeddingSource> sources) {
+        List<TextSegment> segments = sources.stream().map(this::toSegment).toList();
+        List<String> ids = sources.stream().map(source -> pointId(source.postId())).toList();
+
+        List<Embedding> embeddings = embeddingModel.embedAll(segments).content();
+        embeddingStore.addAll(ids, embeddings, segments);
+    }
+
     /**
      * [개발용] 특정 게시글의 임베딩을 생성합니다.
      * @param postId 게시글 ID
@@ -132,17 +140,40 @@ public class PostEmbeddingService {
                 search(request).matches();
     }
 
+    private TextSegment toSegment(PostEmbeddingSource source) {
+        long createdTimestamp = source.createdAt()
+                .atZone(ZoneId.of("Asia/Seoul"))
+                .toEpochSecond();
+
+        Metadata metadata = Metadata.from(Map.of(
+                "userId", source.userId().toString(),
+                "postId", source.postId().toString(),
+                "title", source.title(),
+                "boardType", source.boardType(),
+                "createdDate", createdTimestamp
+        ));
+
+        return TextSegment.from(formatPostContent(source), metadata);
+    }
+
+    /**
+     * Qdrant 포인트 id 는 UUID 여야 하므로 게시글 id 로 고정 UUID 를 만듭니다.
+     */
+    private String pointId(Long postId) {
+        return UUID.nameUUIDFromBytes(("post:" + postId).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
     /**
      * 게시글 내용을 포맷팅합니다.
      * 이미지 태그는 제거하고, 내용이 없을 경우 빈 문자열로 처리합니다.
-     * @param post 게시글 정보
+     * @param source 게시글 정보
      * @return 포맷된 게시글 내용
      */
-    private String formatPostContent(Post post) {
-        String content = post.getContent() != null ? post.getContent() : "";
+    private String formatPostContent(PostEmbeddingSource source) {
+        String content = source.content() != null ? source.content() : "";
         content = IMG_TAG_PATTERN.matcher(content).replaceAll("");
         content = content.replaceAll("\\s+", " ").trim();
-        return String.format("제목: %s\n내용: %s", post.getTitle(), content);
+        return String.format("제목: %s\n내용: %s", source.title(), content);
     }
 
     /**
@@ -0,0 +1,108 @@
+package kr.co.amateurs.server.service.alarm;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.co.amateurs.server.domain.dto.alarm.AlarmDTO;
+import kr.co.amateurs.server.domain.entity.alarm.Alarm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 인스턴스 간 알람 전달
+ * 저장된 알람을 Redis 채널에 한 번 발행하면 모든 인스턴스가 받고, 해당 사용자의 SSE 연결을 가진 인스턴스만 전송
+ * 안 읽은 알람 수가 바뀌면 같은 채널로 함께 전달
+ * Redis 발행에 실패하면 이 인스턴스의 연결로만 전송
+ */
+@Slf4j
+@Component
+public class AlarmBroadcaster implements MessageListener {
+
+    public static final String CHANNEL = "alarm:delivery";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final SseService sseService;
+    private final Timer deliveryLatency;
+
+    public AlarmBroadcaster(StringRedisTemplate stringRedisTemplate,
+                            ObjectMapper objectMapper,
+                            SseService sseService,
+                            MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.sseService = sseService;
+        this.deliveryLatency = Timer.builder("sse.alarm.delivery.latency")
+                .description("알람 발행부터 SSE 전송까지 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("sse.connections", sseService, SseService::getConnectionCount)
+                .description("이 인스턴스에 연결된 SSE 클라이언트 수")
+                .register(meterRegistry);
+    }
+
+    public void publish(Alarm alarm, long unreadCount) {
+        try {
+            AlarmDelivery delivery = new AlarmDelivery(
+                    alarm.getUserId(),
+                    alarm.getId(),
+                    System.currentTimeMillis(),
+                    objectMapper.writeValueAsString(AlarmDTO.from(alarm)),
+                    unreadCount
+            );
+            stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(delivery));
+        } catch (Exception e) {
+            log.warn("알람 발행 실패, 로컬 연결로만 전송: userId={}, alarmId={}", alarm.getUserId(), alarm.getId(), e);
+            sseService.sendAlarmToUser(alarm.getUserId(), alarm);
+            sseService.sendUnreadCount(alarm.getUserId(), unreadCount);
+        }
+    }
+
+    /**
+     * 읽음 처리처럼 알람 없이 안 읽은 알람 수만 바뀐 경우
+     */
+    public void publishUnreadCount(long userId, long unreadCount) {
+        try {
+            AlarmDelivery delivery = new AlarmDelivery(userId, null, System.currentTimeMillis(), null, unreadCount);
+            stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(delivery));
+        } catch (Exception e) {
+            log.warn("안 읽은 알람 수 발행 실패, 로컬 연결로만 전송: userId={}", userId, e);
+            sseService.sendUnreadCount(userId, unreadCount);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        AlarmDelivery delivery;
+        try {
+            delivery = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), AlarmDelivery.class);
+        } catch (JsonProcessingException e) {
+            log.warn("알람 전달 메시지 형식 오류: {}", e.getMessage());
+            return;
+        }
+
+        if (!sseService.isConnected(delivery.userId())) {
+            return;
+        }
+
+        if (delivery.payload() != null) {
+            sseService.sendAlarmPayload(delivery.userId(), delivery.alarmId(), delivery.payload());
+            deliveryLatency.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - delivery.publishedAt())));
+        }
+        sseService.sendUnreadCount(delivery.userId(), delivery.unreadCount());
+    }
+
+    /**
+     * @param payload     클라이언트에 그대로 보낼 AlarmDTO JSON, 안 읽은 알람 수만 바뀐 경우 null
+     * @param unreadCount 전달 시점의 안 읽은 알람 수
+     */
+    record AlarmDelivery(long userId, String alarmId, long publishedAt, String payload, long unreadCount) {
+    }
+}
@@ -4,13 +4,17 @@ import kr.co.amateurs.server.domain.dto.alarm.AlarmPageDTO;
 import kr.co.amateurs.server.domain.dto.common.PaginationParam;
 import kr.co.amateurs.server.domain.entity.alarm.Alarm;
 import kr.co.amateurs.server.domain.entity.alarm.enums.AlarmType;
-import kr.co.amateurs.server.domain.entity.user.User;
 import kr.co.amateurs.server.repository.alarm.AlarmRepository;
 import kr.co.amateurs.server.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class AlarmService {
@@ -18,37 +22,65 @@ public class AlarmService {
     private final AlarmRepository alarmRepository;
 
     private final UserService userService;
-    private final SseService sseService;
+    private final AlarmBroadcaster alarmBroadcaster;
+    private final UnreadAlarmCounter unreadAlarmCounter;
 
     public void saveAlarm(Alarm alarm) {
-        Alarm savedAlarm = alarmRepository.save(alarm);
-        sseService.sendAlarmToUser(savedAlarm.getUserId(), savedAlarm);
+        saveAlarms(List.of(alarm));
+    }
+
+    /**
+     * 알람을 insertMany 한 번으로 저장하고, 안 읽은 알람 수는 수신자별로 한 번만 갱신
+     */
+    public void saveAlarms(List<Alarm> alarms) {
+        Map<Long, List<Alarm>> alarmsByUser = alarmRepository.insert(alarms).stream()
+                .collect(Collectors.groupingBy(Alarm::getUserId, LinkedHashMap::new, Collectors.toList()));
+
+        alarmsByUser.forEach((userId, userAlarms) -> {
+            long unreadCount = unreadAlarmCounter.increment(userId, userAlarms.size());
+            long countBefore = unreadCount - userAlarms.size();
+            for (int i = 0; i < userAlarms.size(); i++) {
+                alarmBroadcaster.publish(userAlarms.get(i), countBefore + i + 1);
+            }
+        });
     }
 
     public void createTestAlarm() {
         Alarm alarm = Alarm.builder()
-                .userId(userService.getCurrentLoginUser().getId())
+                .userId(userService.getCurrentLoginPrincipal().id())
                 .type(AlarmType.COMMENT)
                 .title("테스트용 더미 알람 데이터")
                 .content("개발개밥계발")
                 .build();
-        alarmRepository.save(alarm);
+        saveAlarm(alarm);
     }
 
     public AlarmPageDTO readAlarms(PaginationParam param) {
-        User user = userService.getCurrentLoginUser();
-        Page<Alarm> page = alarmRepository.findByUserId(user.getId(), param.toPageable());
-        long unReadCount = alarmRepository.countByUserIdAndIsReadFalse(user.getId());
+        Long userId = userService.getCurrentLoginPrincipal().id();
+        Page<Alarm> page = alarmRepository.findByUserId(userId, param.toPageable());
+        long unReadCount = unreadAlarmCounter.get(userId);
         return AlarmPageDTO.from(page, unReadCount);
     }
 
     public void markAllAsRead() {
-        User user = userService.getCurrentLoginUser();
-        alarmRepository.markAllAsReadByUserId(user.getId());
+        Long userId = userService.getCurrentLoginPrincipal().id();
+        long updated = alarmRepository.markAllAsReadByUserId(userId);
+        publishUnreadCountChange(userId, updated);
     }
 
     public void markAsRead(String alarmId) {
-        User user = userService.getCurrentLoginUser();
-        alarmRepository.markAsReadByUserIdAndId(user.getId(), alarmId);
+        Long userId = userService.getCurrentLoginPrincipal().id();
+        long updated = alarmRepository.markAsReadByUserIdAndId(userId, alarmId);
+        publishUnreadCountChange(userId, updated);
+    }
+
+    /**
+     * 전체 읽음도 0 으로 덮어쓰지 않고 실제 읽음 처리된 수만큼 차감해, 그 사이 저장된 알람이 카운트에서 빠지지 않게 함
+     */
+    private void publishUnreadCountChange(long userId, long readCount) {
+        if (readCount == 0) {
+            return;
+        }
+        alarmBroadcaster.publishUnreadCount(userId, unreadAlarmCounter.decrement(userId, readCount));
     }
 }
@@ -0,0 +1,120 @@
+package kr.co.amateurs.server.service.alarm;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * SSE 연결 하나와 전송 대기열
+ * 이벤트는 호출한 스레드에서 대기열에 넣기만 하고, 실제 전송은 전송 전용 실행기에서 연결마다 한 작업씩 순서대로 처리
+ * 대기열이 가득 찬 느린 클라이언트는 정책에 따라 이벤트를 버리거나 연결을 끊음
+ */
+@Slf4j
+class SseConnection {
+
+    @Getter
+    private final long userId;
+    @Getter
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseEmitter.SseEventBuilder> outbound;
+    private final Executor sendExecutor;
+    private final Consumer<SseConnection> onClose;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    SseConnection(long userId, SseEmitter emitter, Executor sendExecutor, int queueCapacity,
+                  Consumer<SseConnection> onClose) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.outbound = new ArrayBlockingQueue<>(queueCapacity);
+        this.sendExecutor = sendExecutor;
+        this.onClose = onClose;
+    }
+
+    /**
+     * 대기열이 가득 차 있으면 이벤트를 버림 (하트비트처럼 놓쳐도 되는 이벤트용)
+     */
+    boolean offerOrDrop(SseEmitter.SseEventBuilder event) {
+        if (closed.get() || !outbound.offer(event)) {
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    /**
+     * 대기열이 가득 차 있으면 느린 클라이언트로 보고 연결을 끊음 (재연결 시 놓친 알람을 다시 받음)
+     */
+    void offerOrDisconnect(SseEmitter.SseEventBuilder event) {
+        if (closed.get()) {
+            return;
+        }
+        if (!outbound.offer(event)) {
+            log.info("SSE 전송 대기열 초과로 연결 종료: userId={}", userId);
+            close();
+            return;
+        }
+        scheduleDrain();
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        outbound.clear();
+        try {
+            emitter.complete();
+        } catch (Exception ignored) {
+            // emitter 종료 중 예외는 무시 (이미 종료된 상태일 수 있음)
+        }
+        onClose.accept(this);
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sendExecutor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+            log.warn("SSE 전송 작업 등록 실패로 연결 종료: userId={}", userId);
+            close();
+        }
+    }
+
+    private void drain() {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!closed.get() && (event = outbound.poll()) != null) {
+                emitter.send(event);
+            }
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 - 정상적인 상황이므로 조용히 처리
+            close();
+        } catch (Exception e) {
+            // 예상치 못한 오류만 로깅
+            log.warn("SSE 전송 예상치 못한 오류: userId={}, error={}", userId, e.getMessage());
+            close();
+        } finally {
+            draining.set(false);
+        }
+
+        if (!closed.get() && !outbound.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+}
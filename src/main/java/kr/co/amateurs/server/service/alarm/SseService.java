@@ -2,75 +2,89 @@ package kr.co.amateurs.server.service.alarm;
 
 import kr.co.amateurs.server.domain.dto.alarm.AlarmDTO;
 import kr.co.amateurs.server.domain.entity.alarm.Alarm;
+import kr.co.amateurs.server.repository.alarm.AlarmRepository;
 import kr.co.amateurs.server.service.UserService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-
+import java.util.concurrent.Executor;
+
+/**
+ * 이 인스턴스에 붙은 SSE 연결 관리
+ * 사용자당 여러 연결(탭)을 허용하고, 알람은 AlarmBroadcaster 를 통해 연결을 가진 인스턴스에서 전송
+ * 전송은 연결별 대기열에 넣기만 하므로 하트비트 스케줄러나 알람을 만든 요청 스레드가 느린 클라이언트에 막히지 않음
+ * 재연결 시 Last-Event-ID 이후 저장된 알람과 현재 안 읽은 알람 수를 먼저 보내므로 클라이언트가 알람 목록을 폴링할 필요가 없음
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class SseService {
     private static final long DEFAULT_TIMEOUT = 60L * 1000 * 60; // 1시간
     private static final long DEFAULT_HEARTBEAT_INTERVAL = 30L * 1000; // 30초
+    private static final int REPLAY_LIMIT = 100; // AlarmRepository.findTop100... 와 맞춤
 
-    private final ConcurrentHashMap<Long, SseEmitter> connections = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Set<SseConnection>> connections = new ConcurrentHashMap<>();
     private final UserService userService;
+    private final AlarmRepository alarmRepository;
+    private final UnreadAlarmCounter unreadAlarmCounter;
+    private final Executor sseSendExecutor;
+    private final int outboundQueueCapacity;
+
+    public SseService(UserService userService,
+                      AlarmRepository alarmRepository,
+                      UnreadAlarmCounter unreadAlarmCounter,
+                      @Qualifier("sseSendExecutor") Executor sseSendExecutor,
+                      @Value("${sse.outbound-queue-capacity:32}") int outboundQueueCapacity) {
+        this.userService = userService;
+        this.alarmRepository = alarmRepository;
+        this.unreadAlarmCounter = unreadAlarmCounter;
+        this.sseSendExecutor = sseSendExecutor;
+        this.outboundQueueCapacity = outboundQueueCapacity;
+    }
 
+    /**
+     * 모든 연결의 대기열에 하트비트를 넣음
+     * 이전 이벤트가 아직 빠지지 않아 대기열이 가득 찬 연결은 이번 하트비트를 건너뜀
+     */
     @Scheduled(fixedRate = DEFAULT_HEARTBEAT_INTERVAL)
     public void sendHeartbeat() {
         if (connections.isEmpty()) {
             return;
         }
 
-        connections.entrySet().removeIf(entry -> {
-            Long userId = entry.getKey();
-            SseEmitter emitter = entry.getValue();
-            
-            try {
-                emitter.send(SseEmitter.event()
+        connections.values().forEach(userConnections -> userConnections.forEach(connection ->
+                connection.offerOrDrop(SseEmitter.event()
                         .name("heartbeat")
-                        .data("ping"));
-                return false; // 정상 전송, 유지
-            } catch (IOException e) {
-                // 클라이언트 연결 종료 - 정상적인 상황이므로 조용히 처리
-                closeEmitterSafely(emitter);
-                return true; // 제거
-            } catch (Exception e) {
-                // 예상치 못한 오류만 로깅
-                log.warn("SSE 하트비트 전송 실패: userId={}, error={}", userId, e.getMessage());
-                closeEmitterSafely(emitter);
-                return true; // 제거
-            }
-        });
+                        .data("ping"))));
     }
 
-    public SseEmitter connect() {
-        long currentUserId = userService.getCurrentLoginUser().getId();
-        
-        // 기존 연결이 있다면 안전하게 정리
-        SseEmitter existingEmitter = connections.remove(currentUserId);
-        if (existingEmitter != null) {
-            closeEmitterSafely(existingEmitter);
-        }
+    /**
+     * @param lastEventId 클라이언트가 마지막으로 받은 알람 id (EventSource 재연결 시 Last-Event-ID 헤더), 없거나 형식이 다르면 재전송하지 않음
+     */
+    public SseEmitter connect(String lastEventId) {
+        long currentUserId = userService.getCurrentLoginPrincipal().id();
 
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-        connections.put(currentUserId, emitter);
+        SseConnection connection = register(currentUserId, emitter);
 
         // 연결 수명주기 이벤트 핸들러 등록
-        emitter.onCompletion(() -> connections.remove(currentUserId));
-        emitter.onTimeout(() -> connections.remove(currentUserId));
+        emitter.onCompletion(() -> removeConnection(connection));
+        emitter.onTimeout(() -> removeConnection(connection));
         emitter.onError(throwable -> {
-            connections.remove(currentUserId);
+            removeConnection(connection);
             // 예상치 못한 오류만 로깅
             if (!isExpectedConnectionError(throwable)) {
-                log.warn("SSE 연결 예상치 못한 오류: userId={}, error={}", 
+                log.warn("SSE 연결 예상치 못한 오류: userId={}, error={}",
                         currentUserId, throwable.getMessage());
             }
         });
@@ -79,56 +93,112 @@ public class SseService {
             emitter.send(SseEmitter.event()
                     .name("connect")
                     .data("Connected successfully"));
+            replayMissedAlarms(currentUserId, lastEventId, emitter);
+            emitter.send(SseEmitter.event()
+                    .name("unread-count")
+                    .data(unreadAlarmCounter.get(currentUserId)));
         } catch (IOException e) {
-            connections.remove(currentUserId);
+            connection.close();
             log.error("SSE 초기 연결 메시지 전송 실패: userId={}", currentUserId, e);
         }
 
         return emitter;
     }
 
+    /**
+     * 연결을 등록한 뒤 조회하므로 그 사이 저장된 알람은 실시간 전송과 겹쳐 두 번 갈 수 있음 (클라이언트는 id 로 중복 제거)
+     * 놓친 알람이 재전송 한도를 넘으면 resync 이벤트를 보내 클라이언트가 알람 목록을 다시 불러오게 함
+     */
+    private void replayMissedAlarms(long userId, String lastEventId, SseEmitter emitter) throws IOException {
+        if (lastEventId == null || !ObjectId.isValid(lastEventId)) {
+            return;
+        }
+
+        List<Alarm> missed = alarmRepository.findTop100ByUserIdAndIdGreaterThanOrderByIdAsc(userId, lastEventId);
+        for (Alarm alarm : missed) {
+            emitter.send(SseEmitter.event()
+                    .id(alarm.getId())
+                    .name("alarm")
+                    .data(AlarmDTO.from(alarm)));
+        }
+
+        if (missed.size() >= REPLAY_LIMIT) {
+            emitter.send(SseEmitter.event()
+                    .name("resync")
+                    .data("Too many missed alarms"));
+        }
+    }
+
+    /**
+     * 현재 사용자의 이 인스턴스 연결을 모두 해제
+     */
     public void disconnect() {
-        long currentUserId = userService.getCurrentLoginUser().getId();
-        SseEmitter emitter = connections.remove(currentUserId);
-        if (emitter != null) {
-            closeEmitterSafely(emitter);
+        long currentUserId = userService.getCurrentLoginPrincipal().id();
+        Set<SseConnection> userConnections = connections.remove(currentUserId);
+        if (userConnections != null) {
+            userConnections.forEach(SseConnection::close);
         }
     }
 
+    public boolean isConnected(long userId) {
+        return connections.containsKey(userId);
+    }
+
+    public int getConnectionCount() {
+        return connections.values().stream()
+                .mapToInt(Set::size)
+                .sum();
+    }
+
     public void sendAlarmToUser(long userId, Alarm alarm) {
-        SseEmitter emitter = connections.get(userId);
-        if (emitter == null) {
-            return; // 연결 없음 - 조용히 무시
-        }
+        sendAlarmEvent(userId, alarm.getId(), AlarmDTO.from(alarm), null);
+    }
 
-        try {
-            AlarmDTO alarmDTO = AlarmDTO.from(alarm);
-            emitter.send(SseEmitter.event()
-                    .id(String.valueOf(alarm.getId()))
-                    .name("alarm")
-                    .data(alarmDTO));
-        } catch (IOException e) {
-            // 클라이언트 연결 종료 - 정상적인 상황이므로 조용히 처리
-            connections.remove(userId);
-            closeEmitterSafely(emitter);
-        } catch (Exception e) {
-            // 예상치 못한 오류만 로깅
-            log.warn("알람 전송 예상치 못한 오류: userId={}, alarmId={}, error={}", 
-                    userId, alarm.getId(), e.getMessage());
-            connections.remove(userId);
-            closeEmitterSafely(emitter);
+    public void sendUnreadCount(long userId, long unreadCount) {
+        Set<SseConnection> userConnections = connections.get(userId);
+        if (userConnections == null) {
+            return;
         }
+
+        userConnections.forEach(connection -> connection.offerOrDisconnect(SseEmitter.event()
+                .name("unread-count")
+                .data(unreadCount)));
     }
 
     /**
-     * SseEmitter를 안전하게 종료하는 유틸리티 메서드
+     * 다른 인스턴스에서 이미 JSON 으로 직렬화해 보낸 알람을 그대로 전송
      */
-    private void closeEmitterSafely(SseEmitter emitter) {
-        try {
-            emitter.complete();
-        } catch (Exception ignored) {
-            // emitter 종료 중 예외는 무시 (이미 종료된 상태일 수 있음)
+    public void sendAlarmPayload(long userId, String alarmId, String alarmJson) {
+        sendAlarmEvent(userId, alarmId, alarmJson, MediaType.APPLICATION_JSON);
+    }
+
+    private void sendAlarmEvent(long userId, String alarmId, Object data, MediaType mediaType) {
+        Set<SseConnection> userConnections = connections.get(userId);
+        if (userConnections == null) {
+            return; // 연결 없음 - 조용히 무시
         }
+
+        userConnections.forEach(connection -> connection.offerOrDisconnect(SseEmitter.event()
+                .id(alarmId)
+                .name("alarm")
+                .data(data, mediaType)));
+    }
+
+    SseConnection register(long userId, SseEmitter emitter) {
+        SseConnection connection = new SseConnection(userId, emitter, sseSendExecutor, outboundQueueCapacity, this::removeConnection);
+        connections.compute(userId, (key, userConnections) -> {
+            Set<SseConnection> updated = userConnections != null ? userConnections : ConcurrentHashMap.newKeySet();
+            updated.add(connection);
+            return updated;
+        });
+        return connection;
+    }
+
+    private void removeConnection(SseConnection connection) {
+        connections.computeIfPresent(connection.getUserId(), (key, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
     }
 
     /**
@@ -137,7 +207,7 @@ public class SseService {
     private boolean isExpectedConnectionError(Throwable throwable) {
         return throwable instanceof IOException ||
                throwable instanceof AsyncRequestNotUsableException ||
-               (throwable.getMessage() != null && 
+               (throwable.getMessage() != null &&
                 throwable.getMessage().contains("Broken pipe"));
     }
 }
@@ -0,0 +1,91 @@
+package kr.co.amateurs.server.service.alarm;
+
+import kr.co.amateurs.server.repository.alarm.AlarmRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 사용자별 안 읽은 알람 수 Redis 카운터
+ * 키가 없으면 Mongo 에서 한 번 세어 채우고, TTL 이 지나면 다시 세므로 어긋난 값도 주기적으로 보정됨
+ * Redis 장애 시에는 Mongo 카운트로 대신함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadAlarmCounter {
+
+    private static final String KEY_PREFIX = "alarm:unread:";
+
+    /**
+     * KEYS[1]: 카운터 키
+     * ARGV[1]: 증감량
+     * 키가 없으면 nil 을 돌려 호출 측에서 Mongo 기준으로 채우게 하고, 음수가 되면 0 으로 맞춤 (TTL 유지)
+     */
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return nil
+            end
+            local count = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if count < 0 then
+                redis.call('INCRBY', KEYS[1], -count)
+                count = 0
+            end
+            return count
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AlarmRepository alarmRepository;
+
+    @Value("${alarm.unread-count.ttl:1h}")
+    private Duration ttl;
+
+    public long get(long userId) {
+        try {
+            String cached = stringRedisTemplate.opsForValue().get(key(userId));
+            return cached != null ? Long.parseLong(cached) : reload(userId);
+        } catch (DataAccessException e) {
+            log.warn("안 읽은 알람 수 조회 실패, Mongo 로 대체: userId={}", userId, e);
+            return alarmRepository.countByUserIdAndIsReadFalse(userId);
+        }
+    }
+
+    public long increment(long userId, long count) {
+        return adjust(userId, count);
+    }
+
+    public long decrement(long userId, long count) {
+        return adjust(userId, -count);
+    }
+
+    private long adjust(long userId, long delta) {
+        try {
+            Long count = stringRedisTemplate.execute(ADJUST_SCRIPT, List.of(key(userId)), String.valueOf(delta));
+            return count != null ? count : reload(userId);
+        } catch (DataAccessException e) {
+            log.warn("안 읽은 알람 수 갱신 실패, Mongo 로 대체: userId={}", userId, e);
+            return alarmRepository.countByUserIdAndIsReadFalse(userId);
+        }
+    }
+
+    /**
+     * 알람 저장/읽음 처리가 끝난 뒤 호출되므로 Mongo 카운트에 이번 변경이 이미 반영되어 있음
+     */
+    private long reload(long userId) {
+        long count = alarmRepository.countByUserIdAndIsReadFalse(userId);
+        stringRedisTemplate.opsForValue().setIfAbsent(key(userId), String.valueOf(count), ttl);
+        return count;
+    }
+
+    private String key(long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -79,7 +79,7 @@ public class AuthService {
             throw ErrorCode.INVALID_PASSWORD.get();
         }
 
-        String accessToken = jwtProvider.generateAccessToken(user.getEmail());
+        String accessToken = jwtProvider.generateAccessToken(user);
         Long expiresIn = jwtProvider.getAccessTokenExpirationMs();
 
         String refreshToken = jwtProvider.generateRefreshToken(user.getEmail());
@@ -112,7 +112,8 @@ public class AuthService {
             throw ErrorCode.UNAUTHORIZED.get();
         }
 
-        String newAccessToken = jwtProvider.generateAccessToken(email);
+        User user = userService.findByEmail(email);
+        String newAccessToken = jwtProvider.generateAccessToken(user);
         Long expiresIn = jwtProvider.getAccessTokenExpirationMs();
 
         if (response != null) {
@@ -136,8 +137,7 @@ public class AuthService {
 
     @Transactional
     public void logout(HttpServletResponse response) {
-        User currentUser = userService.getCurrentLoginUser();
-        refreshTokenService.deleteByEmail(currentUser.getEmail());
+        refreshTokenService.deleteByEmail(userService.getCurrentLoginPrincipal().email());
 
         if (response != null) {
             cookieUtils.clearAuthTokenCookie(response);
@@ -146,9 +146,7 @@ public class AuthService {
 
     @Transactional
     public ProfileCompleteResponseDTO completeProfile(ProfileCompleteRequestDTO request) {
-        User currentUser = userService.getCurrentLoginUser();
-
-        User managedUser = userService.findById(currentUser.getId());
+        User managedUser = userService.findById(userService.getCurrentLoginPrincipal().id());
 
         if (!managedUser.getNickname().equals(request.nickname())) {
             userService.validateNicknameDuplicate(request.nickname());
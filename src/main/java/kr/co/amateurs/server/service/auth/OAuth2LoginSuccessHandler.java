@@ -60,7 +60,7 @@ public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
 
             log.info("{} 로그인 성공: userId={}, providerId={}", providerType.getProviderName(), user.getId(), providerId);
 
-            String accessToken = jwtProvider.generateAccessToken(user.getEmail());
+            String accessToken = jwtProvider.generateAccessToken(user);
             Long accessExpiresIn = jwtProvider.getAccessTokenExpirationMs();
 
             String refreshToken = jwtProvider.generateRefreshToken(user.getEmail());
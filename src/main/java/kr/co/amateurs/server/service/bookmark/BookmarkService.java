@@ -23,12 +23,9 @@ import kr.co.amateurs.server.repository.user.UserRepository;
 import kr.co.amateurs.server.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-
 import java.util.Collections;
 import java.util.List;
 
@@ -44,10 +41,8 @@ public class BookmarkService {
     private final UserService userService;
 
     public PageResponseDTO<PostResponseDTO> getBookmarkPostList(PaginationParam paginationParam) {
-        User user = userService.getCurrentLoginUser();
-        Pageable pageable = paginationParam.toPageable();
-
-        Page<PostResponseDTO> postResponseDTO = postJooqRepository.findPostsByType(user.getId(), pageable, "bookmarked")
+        Long userId = userService.getCurrentLoginPrincipal().id();
+        Page<PostResponseDTO> postResponseDTO = postJooqRepository.findPostsByType(userId, paginationParam, "bookmarked")
                 .map(PostResponseDTO::applyBlindFilter);
 
         return convertPageToDTO(postResponseDTO);
@@ -55,7 +50,7 @@ public class BookmarkService {
 
     @Transactional
     public BookmarkResponseDTO addBookmarkPost(Long postId) {
-        User currentUser = userService.getCurrentLoginUser();
+        User currentUser = userService.getCurrentUserReference();
         Post post = postRepository.findById(postId).orElseThrow(ErrorCode.POST_NOT_FOUND);
         if (checkHasBookmarked(postId, currentUser.getId())) {
             throw ErrorCode.DUPLICATE_BOOKMARK.get();
@@ -71,9 +66,9 @@ public class BookmarkService {
 
     @Transactional
     public void removeBookmarkPost(Long postId) {
-        User user = userService.getCurrentLoginUser();
+        Long userId = userService.getCurrentLoginPrincipal().id();
 
-        bookmarkRepository.deleteByUserIdAndPostId(user.getId(), postId);
+        bookmarkRepository.deleteByUserIdAndPostId(userId, postId);
     }
 
     public boolean checkHasBookmarked(Long postId, Long userId) {
@@ -81,6 +76,7 @@ public class BookmarkService {
                 .existsByPost_IdAndUser_Id(postId, userId);
     }
 
+    @Transactional(readOnly = true)
     public List<PostContentData> getBookmarkedPosts(Long userId) {
         try {
             List<Bookmark> bookmarks = bookmarkRepository.findTop3ByUserIdOrderByCreatedAtDesc(userId);
@@ -91,17 +87,8 @@ public class BookmarkService {
         }
     }
 
-    public boolean hasRecentBookmarkActivity(Long userId, int days) {
-        try {
-            LocalDateTime since = LocalDateTime.now().minusDays(days);
-            return bookmarkRepository.existsByUserIdAndCreatedAtAfter(userId, since);
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
     public Integer countBookmark(Post post){
-        User user = userService.getCurrentLoginUser();
+        User user = userService.getCurrentUserReference();
         Integer count = bookmarkRepository.countByPostAndUser(post, user);
         return count;
     }
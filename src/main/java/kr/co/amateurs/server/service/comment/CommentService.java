@@ -1,22 +1,27 @@
 package kr.co.amateurs.server.service.comment;
 
 import kr.co.amateurs.server.annotation.alarmtrigger.AlarmTrigger;
+import kr.co.amateurs.server.config.jwt.UserPrincipal;
 import kr.co.amateurs.server.domain.common.ErrorCode;
 import kr.co.amateurs.server.domain.dto.comment.CommentJooqDTO;
 import kr.co.amateurs.server.domain.dto.comment.CommentPageDTO;
 import kr.co.amateurs.server.domain.dto.comment.CommentRequestDTO;
 import kr.co.amateurs.server.domain.dto.comment.CommentResponseDTO;
+import kr.co.amateurs.server.domain.dto.post.PostPopularityEvent;
 import kr.co.amateurs.server.domain.entity.alarm.enums.AlarmType;
 import kr.co.amateurs.server.domain.entity.comment.Comment;
+import kr.co.amateurs.server.domain.entity.post.enums.PopularityEventType;
 import kr.co.amateurs.server.domain.entity.user.User;
 import kr.co.amateurs.server.domain.entity.user.enums.Role;
 import kr.co.amateurs.server.exception.CustomException;
 import kr.co.amateurs.server.repository.comment.CommentJooqRepository;
 import kr.co.amateurs.server.repository.comment.CommentRepository;
 import kr.co.amateurs.server.repository.post.PostRepository;
+import kr.co.amateurs.server.repository.post.PostStatisticsJooqRepository;
 import kr.co.amateurs.server.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,10 +40,12 @@ public class CommentService {
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final CommentJooqRepository commentJooqRepository;
+    private final PostStatisticsJooqRepository postStatisticsJooqRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CommentPageDTO getCommentsByPostId(Long postId, Long cursor, int size) {
-        Optional<User> currentUser = userService.getCurrentUser();
+        Optional<UserPrincipal> currentUser = userService.getCurrentPrincipal();
         PageRequest pageRequest = PageRequest.of(0, size + CURSOR_OFFSET);
 
         Boolean isBlinded = postRepository.findIsBlindedByPostId(postId);
@@ -48,7 +55,7 @@ public class CommentService {
 
         List<CommentJooqDTO> comments = fetchRootComments(
                 postId,
-                currentUser.map(User::getId).orElse(null),
+                currentUser.map(UserPrincipal::id).orElse(null),
                 cursor,
                 pageRequest
         );
@@ -65,13 +72,13 @@ public class CommentService {
         Comment parentComment = commentRepository.findByIdAndPostId(parentCommentId, postId)
                 .orElseThrow(() -> new CustomException(ErrorCode.INVALID_COMMENT_POST_RELATION));
 
-        Optional<User> currentUser = userService.getCurrentUser();
+        Optional<UserPrincipal> currentUser = userService.getCurrentPrincipal();
 
         PageRequest pageRequest = PageRequest.of(0, size + CURSOR_OFFSET);
 
         List<CommentJooqDTO> replies = fetchReplies(
                 parentCommentId,
-                currentUser.map(User::getId).orElse(null),
+                currentUser.map(UserPrincipal::id).orElse(null),
                 cursor,
                 pageRequest
         );
@@ -108,6 +115,8 @@ public class CommentService {
         }
 
         Comment savedComment = commentRepository.save(comment);
+        postStatisticsJooqRepository.incrementCommentCount(postId, 1);
+        eventPublisher.publishEvent(new PostPopularityEvent(postId, PopularityEventType.COMMENT));
 
         return CommentResponseDTO.from(savedComment, 0, false);
     }
@@ -137,6 +146,8 @@ public class CommentService {
         }
 
         commentRepository.delete(comment);
+        postStatisticsJooqRepository.incrementCommentCount(postId, -1);
+        eventPublisher.publishEvent(new PostPopularityEvent(postId, PopularityEventType.UNCOMMENT));
     }
 
     private List<CommentJooqDTO> fetchRootComments(Long postId, Long userId, Long cursor, PageRequest pageRequest) {
@@ -164,9 +175,9 @@ public class CommentService {
     }
 
     private void validateCommentAccess(Long commentUserId) {
-        User user = userService.getCurrentLoginUser();
+        UserPrincipal user = userService.getCurrentLoginPrincipal();
 
-        if (!(commentUserId.equals(user.getId()) || user.getRole() == Role.ADMIN)) {
+        if (!(commentUserId.equals(user.id()) || user.role() == Role.ADMIN)) {
             throw new CustomException(ErrorCode.ACCESS_DENIED);
         }
     }
@@ -1,6 +1,9 @@
 package kr.co.amateurs.server.service.community;
 
+import kr.co.amateurs.server.config.jwt.UserPrincipal;
 import kr.co.amateurs.server.domain.common.ErrorCode;
+import kr.co.amateurs.server.domain.dto.common.CursorPage;
+import kr.co.amateurs.server.domain.dto.common.PageHydrator;
 import kr.co.amateurs.server.domain.dto.common.PageResponseDTO;
 import kr.co.amateurs.server.domain.dto.common.PaginationSortType;
 import kr.co.amateurs.server.domain.dto.community.CommunityRequestDTO;
@@ -18,7 +21,9 @@ import kr.co.amateurs.server.repository.comment.CommentRepository;
 import kr.co.amateurs.server.repository.community.CommunityRepository;
 import kr.co.amateurs.server.repository.file.PostImageRepository;
 import kr.co.amateurs.server.repository.like.LikeRepository;
+import kr.co.amateurs.server.repository.post.PostKeysetJooqRepository;
 import kr.co.amateurs.server.repository.post.PostRepository;
+import kr.co.amateurs.server.repository.post.PostSearchJooqRepository;
 import kr.co.amateurs.server.repository.post.PostStatisticsRepository;
 import kr.co.amateurs.server.repository.report.ReportRepository;
 import kr.co.amateurs.server.service.UserService;
@@ -26,6 +31,7 @@ import kr.co.amateurs.server.service.ai.PostEmbeddingService;
 import kr.co.amateurs.server.service.bookmark.BookmarkService;
 import kr.co.amateurs.server.service.file.FileService;
 import kr.co.amateurs.server.service.like.LikeService;
+import kr.co.amateurs.server.service.post.ViewCountService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -36,6 +42,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 
@@ -56,6 +63,9 @@ public class CommunityService {
     private final UserService userService;
     private final PostEmbeddingService postEmbeddingService;
     private final FileService fileService;
+    private final ViewCountService viewCountService;
+    private final PostKeysetJooqRepository postKeysetJooqRepository;
+    private final PostSearchJooqRepository postSearchJooqRepository;
 
     private final ApplicationEventPublisher eventPublisher;
 
@@ -63,32 +73,31 @@ public class CommunityService {
         String keyword = paginationParam.getKeyword();
         Page<CommunityResponseDTO> communityPage;
 
-        if (paginationParam.getField() == PaginationSortType.POST_MOST_VIEW){
+        if (paginationParam.isCursorMode()) {
+            CursorPage<Long> postIds = postKeysetJooqRepository.findBoardPostIds(List.of(boardType), keyword, paginationParam);
+            communityPage = postIds.hydrate(communityRepository.findDTOByPostIdIn(postIds.getContent()), CommunityResponseDTO::postId);
+        } else if (keyword != null && !keyword.trim().isEmpty()) {
+            Page<Long> postIds = postSearchJooqRepository.searchBoardPostIds(List.of(boardType), keyword.trim(), paginationParam);
+            communityPage = PageHydrator.hydrate(postIds, communityRepository.findDTOByPostIdIn(postIds.getContent()), CommunityResponseDTO::postId);
+        } else if (paginationParam.getField() == PaginationSortType.POST_MOST_VIEW){
             Pageable pageable = PageRequest.of(paginationParam.getPage(), paginationParam.getSize());
-            if (keyword != null && !keyword.trim().isEmpty()) {
-                communityPage = communityRepository.findDTOByContentAndBoardTypeOrderByViewCount(keyword.trim(), boardType, pageable);
-            }
-            else{
-                communityPage = communityRepository.findDTOByBoardTypeOrderByViewCount(boardType, pageable);
-            }
-        }else{
-            Pageable pageable = paginationParam.toPageable();
-            if (keyword != null && !keyword.trim().isEmpty()) {
-                communityPage = communityRepository.findDTOByContentAndBoardType(keyword.trim(), boardType, pageable);
-            } else {
-                communityPage = communityRepository.findDTOByBoardType(boardType, pageable);
-            }
+            communityPage = communityRepository.findDTOByBoardTypeOrderByViewCount(boardType, pageable);
+        } else {
+            communityPage = communityRepository.findDTOByBoardType(boardType, paginationParam.toPageable());
         }
 
-        Page<CommunityResponseDTO> processedPage = communityPage.map(CommunityResponseDTO::applyBlindFilter);
+        Map<Long, Long> pendingViewCounts = viewCountService.getPendingViewCounts(communityPage.map(CommunityResponseDTO::postId).getContent());
+        Page<CommunityResponseDTO> processedPage = communityPage
+                .map(dto -> dto.applyPendingViewCount(pendingViewCounts))
+                .map(CommunityResponseDTO::applyBlindFilter);
 
         return convertPageToDTO(processedPage);
  }
 
     public CommunityResponseDTO getPost(Long communityId, String ipAddress) {
-        User user = userService.getCurrentLoginUser();
+        Long userId = userService.getCurrentLoginPrincipal().id();
 
-        CommunityResponseDTO result = communityRepository.findDTOByIdForUser(communityId, user.getId())
+        CommunityResponseDTO result = communityRepository.findDTOByIdForUser(communityId, userId)
                 .orElseThrow(ErrorCode.NOT_FOUND);
 
         eventPublisher.publishEvent(new PostViewedEvent(result.postId(), ipAddress));
@@ -170,15 +179,15 @@ public class CommunityService {
     }
 
     private void validatePost(Post post) {
-        User user = userService.getCurrentLoginUser();
+        UserPrincipal user = userService.getCurrentLoginPrincipal();
 
         if (!canEditOrDelete(post, user)) {
             throw ErrorCode.ACCESS_DENIED.get();
         }
     }
 
-    private boolean canEditOrDelete(Post post, User user) {
-        return Objects.equals(post.getUser().getId(), user.getId()) || user.getRole() == Role.ADMIN;
+    private boolean canEditOrDelete(Post post, UserPrincipal user) {
+        return Objects.equals(post.getUser().getId(), user.id()) || user.role() == Role.ADMIN;
     }
 
     public CommunityPost findById(Long communityId) {
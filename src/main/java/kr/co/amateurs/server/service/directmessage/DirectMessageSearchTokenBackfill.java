@@ -0,0 +1,42 @@
+package kr.co.amateurs.server.service.directmessage;
+
+import kr.co.amateurs.server.repository.directmessage.DirectMessageCustomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 토큰 도입 전에 저장된 DM 에 토큰을 채움
+ * 새 메시지는 저장 시점에 채워지므로 기동 후 한 번, 남은 메시지가 없을 때까지만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DirectMessageSearchTokenBackfill {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final DirectMessageCustomRepository directMessageCustomRepository;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            long total = 0;
+            int filled;
+            do {
+                filled = directMessageCustomRepository.backfillSearchTokens(BATCH_SIZE);
+                total += filled;
+            } while (filled == BATCH_SIZE);
+
+            if (total > 0) {
+                log.info("DM 검색 토큰 채움: {}건", total);
+            }
+        } catch (Exception e) {
+            log.error("DM 검색 토큰 채우기 실패", e);
+        }
+    }
+}
@@ -26,6 +26,8 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -34,15 +36,22 @@ public class DirectMessageService {
     private final DirectMessageRoomRepository directMessageRoomRepository;
     private final DirectMessageCustomRepository customRepository;
 
+    private final DirectMessageWriteBuffer directMessageWriteBuffer;
+    private final RoomMembershipCache roomMembershipCache;
+
     private final UserService userService;
     private final FileService fileService;
 
+    /**
+     * 메시지 전송 경로는 방 문서를 읽지 않고 참여자 캐시로 권한을 확인하며,
+     * 방의 마지막 메시지는 DirectMessageWriteBuffer 가 방마다 모아 $set 으로 반영
+     */
     @AlarmTrigger(type = AlarmType.DIRECT_MESSAGE)
     public DirectMessageResponse saveMessage(String roomId, DirectMessageRequest request) {
-        DirectMessageRoom room = validateRoomAccess(roomId, request.senderId());
+        validateRoomMembership(roomId, request.senderId());
 
-        DirectMessage message = directMessageRepository.save(request.toCollection(roomId));
-        updateLastMessage(room, message.getContent());
+        DirectMessage message = directMessageWriteBuffer.saveMessage(request.toCollection(roomId));
+        directMessageWriteBuffer.updateLastMessage(roomId, message.getContent(), message.getSentAt());
         return DirectMessageResponse.fromCollection(message);
     }
 
@@ -59,7 +68,7 @@ public class DirectMessageService {
                 .map(this::reEntryParticipants)
                 .orElseGet(() -> directMessageRoomRepository.save(DirectMessageRoom.from(participants)));
 
-        return DirectMessageRoomResponse.fromCollection(room, currentUser);
+        return DirectMessageRoomResponse.fromCollection(room, currentUser.getId());
     }
 
     public DirectMessageRoom findRoomById(String roomId) {
@@ -68,11 +77,11 @@ public class DirectMessageService {
     }
 
     public List<DirectMessageRoomResponse> getRooms() {
-        User currentUser = userService.getCurrentLoginUser();
+        Long currentUserId = userService.getCurrentLoginPrincipal().id();
         Sort sort = Sort.by(Sort.Direction.DESC, "sentAt");
-        List<DirectMessageRoom> rooms = directMessageRoomRepository.findActiveRoomsByUserId(currentUser.getId(), sort);
+        List<DirectMessageRoom> rooms = directMessageRoomRepository.findActiveRoomsByUserId(currentUserId, sort);
         return rooms.stream()
-                .map(room -> DirectMessageRoomResponse.fromCollection(room, currentUser))
+                .map(room -> DirectMessageRoomResponse.fromCollection(room, currentUserId))
                 .toList();
     }
 
@@ -91,21 +100,22 @@ public class DirectMessageService {
     }
 
     public PageResponseDTO<DirectMessageResponse> findMessages(DirectMessageSearchPaginationParam param) {
-        User currentUser = userService.getCurrentLoginUser();
+        Long currentUserId = userService.getCurrentLoginPrincipal().id();
 
-        List<DirectMessageRoom> userRooms = directMessageRoomRepository.findAllRoomsByUserId(currentUser.getId());
-        Page<DirectMessage> searchResult = customRepository.searchMessages(userRooms, currentUser.getId(), param);
+        List<DirectMessageRoom> userRooms = directMessageRoomRepository.findAllRoomsByUserId(currentUserId);
+        Page<DirectMessage> searchResult = customRepository.searchMessages(userRooms, currentUserId, param);
 
         return PageResponseDTO.convertPageToDTO(searchResult.map(DirectMessageResponse::fromCollection));
     }
 
     public void exitRoom(String roomId) {
-        User currentUser = userService.getCurrentLoginUser();
-        DirectMessageRoom room = validateRoomAccess(roomId, currentUser.getId());
-        room.userLeaveRoom(currentUser.getId());
+        Long currentUserId = userService.getCurrentLoginPrincipal().id();
+        DirectMessageRoom room = validateRoomAccess(roomId, currentUserId);
+        room.userLeaveRoom(currentUserId);
 
         if (room.allParticipantsLeft()) {
             directMessageRoomRepository.delete(room);
+            roomMembershipCache.evictRoom(roomId);
             directMessageRepository.deleteAllByRoomId(roomId);
             directMessageRepository.findByRoomIdAndMessageTypeIn(roomId, List.of(MessageType.FILE, MessageType.IMAGE))
                     .forEach(message -> fileService.deleteFile(message.getContent()));
@@ -128,6 +138,29 @@ public class DirectMessageService {
         return room;
     }
 
+    /**
+     * 캐시에 없는 참여자면 방이 다시 만들어졌을 수 있으므로 한 번 더 조회한 뒤 거부
+     */
+    private void validateRoomMembership(String roomId, Long userId) {
+        if (roomMembershipCache.get(roomId, this::loadParticipantIds).contains(userId)) {
+            return;
+        }
+
+        Set<Long> participantIds = loadParticipantIds(roomId);
+        roomMembershipCache.put(roomId, participantIds);
+        if (!participantIds.contains(userId)) {
+            throw new CustomException(ErrorCode.USER_NOT_IN_ROOM);
+        }
+    }
+
+    private Set<Long> loadParticipantIds(String roomId) {
+        return directMessageRoomRepository.findById(roomId)
+                .orElseThrow(ErrorCode.NOT_FOUND_ROOM)
+                .getParticipants().stream()
+                .map(Participant::getUserId)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
     private Page<DirectMessage> getMessagesByRoomId(DirectMessagePaginationParam pageParam, LocalDateTime afterTime) {
         return afterTime != null
                 ? directMessageRepository.findByRoomIdAndSentAtAfterOrderBySentAtDesc(
@@ -145,9 +178,4 @@ public class DirectMessageService {
 
         return reEntry ? directMessageRoomRepository.save(room) : room;
     }
-
-    private void updateLastMessage(DirectMessageRoom room, String message) {
-        room.updateLastMessage(message);
-        directMessageRoomRepository.save(room);
-    }
 }
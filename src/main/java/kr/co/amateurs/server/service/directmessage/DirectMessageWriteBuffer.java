@@ -0,0 +1,214 @@
+package kr.co.amateurs.server.service.directmessage;
+
+import jakarta.annotation.PreDestroy;
+import kr.co.amateurs.server.domain.entity.directmessage.DirectMessage;
+import kr.co.amateurs.server.domain.entity.directmessage.DirectMessageRoom;
+import kr.co.amateurs.server.repository.directmessage.DirectMessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DM 전송 경로의 Mongo 쓰기를 모아서 처리
+ * - 방의 마지막 메시지는 방마다 가장 최근 값만 남겨 flush-interval 뒤 $set 으로 반영 (참여자 배열을 포함한 방 문서 전체를 다시 쓰지 않음)
+ * - dm.write-behind.enabled=true 이면 메시지도 모아서 insertMany 로 저장 (flush 전에 프로세스가 비정상 종료되면 유실될 수 있어 기본값은 꺼 둠)
+ */
+@Slf4j
+@Component
+public class DirectMessageWriteBuffer {
+
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(1);
+
+    private final DirectMessageRepository directMessageRepository;
+    private final MongoTemplate mongoTemplate;
+    private final TaskScheduler dmWriteScheduler;
+    private final Duration flushInterval;
+    private final boolean writeBehind;
+    private final int batchSize;
+
+    private final Map<String, LastMessage> pendingRoomUpdates = new ConcurrentHashMap<>();
+    private final Queue<DirectMessage> pendingMessages = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingMessageCount = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    public DirectMessageWriteBuffer(DirectMessageRepository directMessageRepository,
+                                    MongoTemplate mongoTemplate,
+                                    @Qualifier("dmWriteScheduler") TaskScheduler dmWriteScheduler,
+                                    @Value("${dm.write.flush-interval:20ms}") Duration flushInterval,
+                                    @Value("${dm.write-behind.enabled:false}") boolean writeBehind,
+                                    @Value("${dm.write-behind.batch-size:500}") int batchSize) {
+        this.directMessageRepository = directMessageRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.dmWriteScheduler = dmWriteScheduler;
+        this.flushInterval = flushInterval;
+        this.writeBehind = writeBehind;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * write-behind 모드에서는 id 를 미리 정해 응답에 싣고 저장은 다음 flush 에서 처리
+     */
+    public DirectMessage saveMessage(DirectMessage message) {
+        if (!writeBehind) {
+            return directMessageRepository.insert(message);
+        }
+
+        message.assignId(new ObjectId().toHexString());
+        pendingMessages.add(message);
+        if (pendingMessageCount.incrementAndGet() >= batchSize) {
+            dmWriteScheduler.schedule(this::flush, Instant.now());
+        } else {
+            scheduleFlush(flushInterval);
+        }
+        return message;
+    }
+
+    public void updateLastMessage(String roomId, String content, LocalDateTime sentAt) {
+        mergeRoomUpdate(roomId, new LastMessage(content, sentAt));
+        scheduleFlush(flushInterval);
+    }
+
+    private void mergeRoomUpdate(String roomId, LastMessage lastMessage) {
+        pendingRoomUpdates.merge(roomId, lastMessage,
+                (previous, latest) -> latest.sentAt().isBefore(previous.sentAt()) ? previous : latest);
+    }
+
+    private void scheduleFlush(Duration delay) {
+        if (!flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dmWriteScheduler.schedule(this::flush, Instant.now().plus(delay));
+        } catch (TaskRejectedException e) {
+            log.error("DM flush 예약 실패 (종료 중): messages={}, rooms={}", pendingMessageCount.get(), pendingRoomUpdates.size());
+        }
+    }
+
+    /**
+     * 전용 스케줄러 스레드 하나에서만 실행되고, 종료 시 남은 쓰기를 반영하기 위해 한 번 더 호출됨
+     * 반영하지 못한 메시지와 방 갱신은 버리지 않고 다시 대기열에 넣어 RETRY_DELAY 뒤에 재시도
+     */
+    @PreDestroy
+    synchronized void flush() {
+        flushScheduled.set(false);
+        boolean retry = flushMessages() | flushRoomUpdates();
+        if (retry) {
+            scheduleFlush(RETRY_DELAY);
+        }
+    }
+
+    /**
+     * @return 저장하지 못해 다시 대기열에 넣은 메시지가 있는지 여부
+     */
+    private boolean flushMessages() {
+        List<DirectMessage> failed = new ArrayList<>();
+        List<DirectMessage> batch = new ArrayList<>(batchSize);
+        DirectMessage message;
+        while ((message = pendingMessages.poll()) != null) {
+            pendingMessageCount.decrementAndGet();
+            batch.add(message);
+            if (batch.size() == batchSize) {
+                insertAll(batch, failed);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            insertAll(batch, failed);
+        }
+
+        if (failed.isEmpty()) {
+            return false;
+        }
+        log.error("DM 저장 실패, 다음 flush 에서 재시도: count={}", failed.size());
+        pendingMessages.addAll(failed);
+        pendingMessageCount.addAndGet(failed.size());
+        return true;
+    }
+
+    /**
+     * 한 건이 실패해도 나머지는 저장되도록 일괄 저장이 실패하면 한 건씩 다시 시도
+     * 일괄 저장에서 이미 들어간 메시지는 id 중복으로 실패하므로 저장된 것으로 봄
+     */
+    private void insertAll(List<DirectMessage> batch, List<DirectMessage> failed) {
+        try {
+            mongoTemplate.insert(batch, DirectMessage.class);
+        } catch (Exception e) {
+            log.warn("DM 일괄 저장 실패, 한 건씩 재시도: count={}, error={}", batch.size(), e.getMessage());
+            for (DirectMessage message : batch) {
+                try {
+                    directMessageRepository.insert(message);
+                } catch (DuplicateKeyException alreadySaved) {
+                    // 일괄 저장에서 이미 저장됨
+                } catch (Exception retryError) {
+                    log.warn("DM 저장 실패: roomId={}, messageId={}, error={}",
+                            message.getRoomId(), message.getId(), retryError.getMessage());
+                    failed.add(message);
+                }
+            }
+        }
+    }
+
+    /**
+     * 여러 인스턴스가 같은 방을 갱신해도 더 오래된 메시지로 덮어쓰지 않도록 sentAt 이 더 최신일 때만 반영
+     * 같은 조건 덕분에 실패한 갱신을 다시 대기열에 넣어 재시도해도 안전함
+     * @return 반영하지 못해 다시 대기열에 넣은 갱신이 있는지 여부
+     */
+    private boolean flushRoomUpdates() {
+        if (pendingRoomUpdates.isEmpty()) {
+            return false;
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, DirectMessageRoom.class);
+        Map<String, LastMessage> drained = new HashMap<>();
+        for (String roomId : pendingRoomUpdates.keySet()) {
+            LastMessage lastMessage = pendingRoomUpdates.remove(roomId);
+            if (lastMessage == null) {
+                continue;
+            }
+            drained.put(roomId, lastMessage);
+            Query query = Query.query(Criteria.where("_id").is(roomId)
+                    .orOperator(Criteria.where("sentAt").lt(lastMessage.sentAt()), Criteria.where("sentAt").is(null)));
+            bulk.updateOne(query, new Update()
+                    .set("lastMessage", lastMessage.content())
+                    .set("sentAt", lastMessage.sentAt()));
+        }
+
+        if (drained.isEmpty()) {
+            return false;
+        }
+        try {
+            bulk.execute();
+            return false;
+        } catch (Exception e) {
+            log.warn("DM 방 마지막 메시지 갱신 실패, 다음 flush 에서 재시도: rooms={}, error={}", drained.size(), e.getMessage());
+            drained.forEach(this::mergeRoomUpdate);
+            return true;
+        }
+    }
+
+    private record LastMessage(String content, LocalDateTime sentAt) {
+    }
+}
@@ -0,0 +1,65 @@
+package kr.co.amateurs.server.service.directmessage;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kr.co.amateurs.server.config.cache.CacheInvalidationPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * DM 방 ID → 참여자 ID 캐시 (나간 사용자 포함, 방이 삭제될 때까지 바뀌지 않음)
+ * 방이 삭제되면 자기 엔트리를 지우고 다른 인스턴스에도 캐시 무효화 채널로 알려, TTL 동안 삭제된 방에 메시지가 쌓이지 않게 함
+ */
+@Component
+public class RoomMembershipCache implements MessageListener {
+
+    static final String CACHE_NAME = "dmRoomMembership";
+
+    private final Cache<String, Set<Long>> cache;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    public RoomMembershipCache(CacheInvalidationPublisher invalidationPublisher,
+                               MeterRegistry meterRegistry,
+                               @Value("${dm.room-membership-cache.ttl:30s}") Duration ttl,
+                               @Value("${dm.room-membership-cache.max-size:10000}") long maxSize) {
+        this.invalidationPublisher = invalidationPublisher;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Set<Long> get(String roomId, Function<String, Set<Long>> loader) {
+        return cache.get(roomId, loader);
+    }
+
+    public void put(String roomId, Set<Long> participantIds) {
+        cache.put(roomId, participantIds);
+    }
+
+    public void evictRoom(String roomId) {
+        cache.invalidate(roomId);
+        invalidationPublisher.publish(CACHE_NAME, roomId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length < 3 || !CACHE_NAME.equals(parts[1])
+                || invalidationPublisher.getInstanceId().equals(parts[0])) {
+            return;
+        }
+        cache.invalidate(parts[2]);
+    }
+}
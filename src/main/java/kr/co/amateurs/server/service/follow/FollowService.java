@@ -1,6 +1,7 @@
 package kr.co.amateurs.server.service.follow;
 
 import jakarta.transaction.Transactional;
+import kr.co.amateurs.server.config.jwt.UserPrincipal;
 import kr.co.amateurs.server.domain.common.ErrorCode;
 import kr.co.amateurs.server.domain.dto.common.PageResponseDTO;
 import kr.co.amateurs.server.domain.dto.common.PaginationParam;
@@ -36,18 +37,16 @@ public class FollowService {
     private final UserService userService;
 
     public PageResponseDTO<FollowResponseDTO> getFollowingList(PaginationParam paginationParam) {
-        User user = userService.getCurrentLoginUser();
+        Long userId = userService.getCurrentLoginPrincipal().id();
 
         Pageable pageable = paginationParam.toPageable();
-        Page<FollowResponseDTO> followList = followJooqRepository.findFollowingList(user.getId(), pageable);
+        Page<FollowResponseDTO> followList = followJooqRepository.findFollowingList(userId, pageable);
         return convertPageToDTO(followList);
     }
 
     public PageResponseDTO<PostResponseDTO> getFollowPostList(PaginationParam paginationParam) {
-        User user = userService.getCurrentLoginUser();
-        Pageable pageable = paginationParam.toPageable();
-
-        Page<PostResponseDTO> postResponseDTO = postJooqRepository.findPostsByType(user.getId(), pageable, "follow", user.getRole())
+        UserPrincipal principal = userService.getCurrentLoginPrincipal();
+        Page<PostResponseDTO> postResponseDTO = postJooqRepository.findPostsByType(principal.id(), paginationParam, "follow", principal.role())
                 .map(PostResponseDTO::applyBlindFilter);
 
         return convertPageToDTO(postResponseDTO);
@@ -55,7 +54,7 @@ public class FollowService {
 
     @Transactional
     public void followUser(Long targetUserId){
-        User currentUser = userService.getCurrentLoginUser();
+        User currentUser = userService.getCurrentUserReference();
         User targetUser = userRepository.findById(targetUserId).orElseThrow(ErrorCode.USER_NOT_FOUND);
         if(currentUser.getId().equals(targetUser.getId())){
             throw new CustomException(ErrorCode.SELF_FOLLOW);
@@ -66,7 +65,7 @@ public class FollowService {
 
     @Transactional
     public void unfollowUser(Long targetUserId){
-        User currentUser = userService.getCurrentLoginUser();
+        User currentUser = userService.getCurrentUserReference();
         User targetUser = userRepository.findById(targetUserId).orElseThrow(ErrorCode.USER_NOT_FOUND);
         followRepository.deleteByToUserAndFromUser(targetUser, currentUser);
     }
@@ -1,6 +1,9 @@
 package kr.co.amateurs.server.service.it;
 
+import kr.co.amateurs.server.config.jwt.UserPrincipal;
 import kr.co.amateurs.server.domain.common.ErrorCode;
+import kr.co.amateurs.server.domain.dto.common.CursorPage;
+import kr.co.amateurs.server.domain.dto.common.PageHydrator;
 import kr.co.amateurs.server.domain.dto.common.PageResponseDTO;
 import kr.co.amateurs.server.domain.dto.common.PaginationSortType;
 import kr.co.amateurs.server.domain.dto.common.PostPaginationParam;
@@ -18,12 +21,15 @@ import kr.co.amateurs.server.repository.bookmark.BookmarkRepository;
 import kr.co.amateurs.server.repository.comment.CommentRepository;
 import kr.co.amateurs.server.repository.it.ITRepository;
 import kr.co.amateurs.server.repository.like.LikeRepository;
+import kr.co.amateurs.server.repository.post.PostKeysetJooqRepository;
 import kr.co.amateurs.server.repository.post.PostRepository;
+import kr.co.amateurs.server.repository.post.PostSearchJooqRepository;
 import kr.co.amateurs.server.repository.post.PostStatisticsRepository;
 import kr.co.amateurs.server.repository.report.ReportRepository;
 import kr.co.amateurs.server.service.UserService;
 import kr.co.amateurs.server.service.ai.PostEmbeddingService;
 import kr.co.amateurs.server.service.file.FileService;
+import kr.co.amateurs.server.service.post.ViewCountService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -35,6 +41,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -56,6 +63,9 @@ public class ITService {
     private final UserService userService;
     private final FileService fileService;
     private final PostEmbeddingService postEmbeddingService;
+    private final ViewCountService viewCountService;
+    private final PostKeysetJooqRepository postKeysetJooqRepository;
+    private final PostSearchJooqRepository postSearchJooqRepository;
 
     private final ApplicationEventPublisher eventPublisher;
 
@@ -63,36 +73,35 @@ public class ITService {
         String keyword = paginationParam.getKeyword();
         Page<ITResponseDTO> itPage;
 
-        if (paginationParam.getField() == PaginationSortType.POST_MOST_VIEW){
+        if (paginationParam.isCursorMode()) {
+            CursorPage<Long> postIds = postKeysetJooqRepository.findBoardPostIds(List.of(boardType), keyword, paginationParam);
+            itPage = postIds.hydrate(itRepository.findDTOByPostIdIn(postIds.getContent()), ITResponseDTO::postId);
+        } else if (keyword != null && !keyword.trim().isEmpty()) {
+            Page<Long> postIds = postSearchJooqRepository.searchBoardPostIds(List.of(boardType), keyword.trim(), paginationParam);
+            itPage = PageHydrator.hydrate(postIds, itRepository.findDTOByPostIdIn(postIds.getContent()), ITResponseDTO::postId);
+        } else if (paginationParam.getField() == PaginationSortType.POST_MOST_VIEW){
             Pageable pageable = PageRequest.of(paginationParam.getPage(), paginationParam.getSize());
-            if (keyword != null && !keyword.trim().isEmpty()) {
-                itPage = itRepository.findDTOByContentAndBoardTypeOrderByViewCount(keyword.trim(), boardType, pageable);
-            }
-            else{
-                itPage = itRepository.findDTOByBoardTypeOrderByViewCount(boardType, pageable);
-            }
-        }else{
-            Pageable pageable = paginationParam.toPageable();
-            if (keyword != null && !keyword.trim().isEmpty()) {
-                itPage = itRepository.findDTOByContentAndBoardType(keyword.trim(), boardType, pageable);
-            } else {
-                itPage = itRepository.findDTOByBoardType(boardType, pageable);
-            }
+            itPage = itRepository.findDTOByBoardTypeOrderByViewCount(boardType, pageable);
+        } else {
+            itPage = itRepository.findDTOByBoardType(boardType, paginationParam.toPageable());
         }
 
-        Page<ITResponseDTO> itBlindPage = itPage.map(ITResponseDTO::applyBlindFilter);
+        Map<Long, Long> pendingViewCounts = viewCountService.getPendingViewCounts(itPage.map(ITResponseDTO::postId).getContent());
+        Page<ITResponseDTO> itBlindPage = itPage
+                .map(dto -> dto.applyPendingViewCount(pendingViewCounts))
+                .map(ITResponseDTO::applyBlindFilter);
 
 
         return convertPageToDTO(itBlindPage);
     }
 
     public ITResponseDTO getPost(Long itId, String ipAddress) {
-        Optional<User> user = userService.getCurrentUser();
+        Optional<UserPrincipal> user = userService.getCurrentPrincipal();
 
         ITResponseDTO result;
 
         if (user.isPresent()) {
-            result = itRepository.findDTOByIdForUser(itId, user.get().getId())
+            result = itRepository.findDTOByIdForUser(itId, user.get().id())
                     .orElseThrow(ErrorCode.NOT_FOUND);
         } else {
             result = itRepository.findDTOByIdForGuest(itId)
@@ -180,15 +189,15 @@ public class ITService {
     }
 
     private void validatePost(Post post) {
-        User user = userService.getCurrentLoginUser();
+        UserPrincipal user = userService.getCurrentLoginPrincipal();
 
         if (!canEditOrDelete(post, user)) {
             throw ErrorCode.ACCESS_DENIED.get();
         }
     }
 
-    private boolean canEditOrDelete(Post post, User user) {
-        return Objects.equals(post.getUser().getId(), user.getId()) || user.getRole() == Role.ADMIN;
+    private boolean canEditOrDelete(Post post, UserPrincipal user) {
+        return Objects.equals(post.getUser().getId(), user.id()) || user.role() == Role.ADMIN;
     }
 
     private ITPost findById(Long itId) {
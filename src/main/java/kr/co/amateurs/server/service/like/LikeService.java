@@ -6,10 +6,12 @@ import kr.co.amateurs.server.domain.common.ErrorCode;
 import kr.co.amateurs.server.domain.dto.common.PageResponseDTO;
 import kr.co.amateurs.server.domain.dto.common.PaginationParam;
 import kr.co.amateurs.server.domain.dto.like.LikeResponseDTO;
+import kr.co.amateurs.server.domain.dto.post.PostPopularityEvent;
 import kr.co.amateurs.server.domain.dto.post.PostResponseDTO;
 import kr.co.amateurs.server.domain.entity.comment.Comment;
 import kr.co.amateurs.server.domain.entity.like.Like;
 import kr.co.amateurs.server.domain.entity.post.Post;
+import kr.co.amateurs.server.domain.entity.post.enums.PopularityEventType;
 import kr.co.amateurs.server.domain.entity.user.User;
 import kr.co.amateurs.server.domain.entity.user.enums.Role;
 import kr.co.amateurs.server.exception.CustomException;
@@ -20,12 +22,11 @@ import kr.co.amateurs.server.repository.post.PostRepository;
 import kr.co.amateurs.server.repository.user.UserRepository;
 import kr.co.amateurs.server.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -43,14 +44,13 @@ public class LikeService {
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final PostJooqRepository postJooqRepository;
 
     public PageResponseDTO<PostResponseDTO> getLikePostList(PaginationParam paginationParam) {
-        User user = userService.getCurrentLoginUser();
-        Pageable pageable = paginationParam.toPageable();
-
-        Page<PostResponseDTO> postResponseDTO = postJooqRepository.findPostsByType(user.getId(), pageable, "liked")
+        Long userId = userService.getCurrentLoginPrincipal().id();
+        Page<PostResponseDTO> postResponseDTO = postJooqRepository.findPostsByType(userId, paginationParam, "liked")
                 .map(PostResponseDTO::applyBlindFilter);
 
         return convertPageToDTO(postResponseDTO);
@@ -58,7 +58,7 @@ public class LikeService {
 
     @Transactional
     public LikeResponseDTO addLikeToPost(Long postId) {
-        User currentUser = userService.getCurrentLoginUser();
+        User currentUser = userService.getCurrentUserReference();
         Post post = postRepository.findById(postId).orElseThrow(ErrorCode.NOT_FOUND);
         if(checkHasLiked(postId, currentUser.getId())) {
             throw ErrorCode.DUPLICATE_LIKE.get();
@@ -71,13 +71,14 @@ public class LikeService {
         Like savedLike = likeRepository.save(likeToPost);
 
         post.incrementLikeCount();
+        eventPublisher.publishEvent(new PostPopularityEvent(postId, PopularityEventType.LIKE));
 
         return convertToDTO(savedLike, "post");
     }
 
     @Transactional
     public LikeResponseDTO addLikeToComment(Long postId, Long commentId) {
-        User currentUser = userService.getCurrentLoginUser();
+        User currentUser = userService.getCurrentUserReference();
         Comment comment = commentRepository.findById(commentId).orElseThrow(ErrorCode.NOT_FOUND);
 
         validateCommentBelongsToPost(comment, postId);
@@ -99,29 +100,30 @@ public class LikeService {
 
     @Transactional
     public void removeLikeFromPost(Long postId) {
-        User currentUser = userService.getCurrentLoginUser();
+        Long userId = userService.getCurrentLoginPrincipal().id();
         Post post = postRepository.findById(postId).orElseThrow(ErrorCode.NOT_FOUND);
 
-        if(!checkHasLiked(postId, currentUser.getId())) {
+        if(!checkHasLiked(postId, userId)) {
             throw ErrorCode.NOT_FOUND.get();
         }
 
-        likeRepository.deleteByPostIdAndUserId(postId, currentUser.getId());
+        likeRepository.deleteByPostIdAndUserId(postId, userId);
 
         post.decrementLikeCount();
+        eventPublisher.publishEvent(new PostPopularityEvent(postId, PopularityEventType.UNLIKE));
     }
 
     @Transactional
     public void removeLikeFromComment(Long postId, Long commentId) {
-        User currentUser = userService.getCurrentLoginUser();
+        Long userId = userService.getCurrentLoginPrincipal().id();
         Comment comment = commentRepository.findById(commentId).orElseThrow(ErrorCode.NOT_FOUND);
 
         validateCommentBelongsToPost(comment, postId);
-        if(!checkCommentHasLiked(commentId, currentUser.getId())) {
+        if(!checkCommentHasLiked(commentId, userId)) {
             throw ErrorCode.NOT_FOUND.get();
         }
 
-        likeRepository.deleteByCommentIdAndUserId(commentId, currentUser.getId());
+        likeRepository.deleteByCommentIdAndUserId(commentId, userId);
 
         comment.decrementLikeCount();
     }
@@ -136,6 +138,7 @@ public class LikeService {
                 .existsByComment_IdAndUser_Id(commentId, userId);
     }
 
+    @Transactional(readOnly = true)
     public List<PostContentData> getLikedPosts(Long userId) {
         try {
             List<Like> likes = likeRepository.findTop3ByUserIdAndPostIsNotNullOrderByCreatedAtDesc(userId);
@@ -151,13 +154,4 @@ public class LikeService {
             throw new CustomException(ErrorCode.INVALID_COMMENT_POST_RELATION);
         }
     }
-
-    public boolean hasRecentLikeActivity(Long userId, int days) {
-        try {
-            LocalDateTime since = LocalDateTime.now().minusDays(days);
-            return likeRepository.existsByUserIdAndPostIsNotNullAndCreatedAtAfter(userId, since);
-        } catch (Exception e) {
-            return false;
-        }
-    }
 }
@@ -0,0 +1,44 @@
+package kr.co.amateurs.server.service.post;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.amateurs.server.repository.post.PostStatisticsJooqRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * post_statistics.comment_count 가 실제 댓글 수와 어긋난 경우를 찾아 보정
+ * 한 번에 테이블 전체를 잠그지 않도록 post_id 구간 단위로 나눠 처리
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CommentCountRepairService {
+
+    private static final long REPAIR_CHUNK_SIZE = 1000;
+    private static final String REPAIRED_ROWS_METRIC = "post.comment_count.repaired";
+
+    private final PostStatisticsJooqRepository postStatisticsJooqRepository;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @return 보정된 게시글 수
+     */
+    public int repairCommentCounts() {
+        Long maxPostId = postStatisticsJooqRepository.findMaxPostId();
+        if (maxPostId == null) {
+            return 0;
+        }
+
+        int repaired = 0;
+        for (long from = 1; from <= maxPostId; from += REPAIR_CHUNK_SIZE) {
+            repaired += postStatisticsJooqRepository.reconcileCommentCounts(from, from + REPAIR_CHUNK_SIZE - 1);
+        }
+
+        meterRegistry.counter(REPAIRED_ROWS_METRIC).increment(repaired);
+        if (repaired > 0) {
+            log.warn("댓글 수 불일치 보정: {}건", repaired);
+        }
+        return repaired;
+    }
+}
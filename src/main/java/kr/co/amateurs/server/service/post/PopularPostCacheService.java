@@ -7,11 +7,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,9 +24,14 @@ import java.util.stream.Collectors;
 @Slf4j
 public class PopularPostCacheService {
 
+    public static final String RANKED_POPULAR_POSTS_CACHE = "rankedPopularPosts";
+
+    private static final int RANKING_OVER_FETCH_FACTOR = 3;
+
     private final PopularPostRepository popularPostRepository;
+    private final PopularPostRankingService popularPostRankingService;
 
-    @Cacheable(value = "popularPosts", key = "#limit")
+    @Cacheable(value = "popularPosts", key = "#limit", sync = true)
     @Transactional(readOnly = true)
     public List<PopularPostResponse> getCachedPopularPosts(int limit) {
         try {
@@ -39,7 +49,35 @@ public class PopularPostCacheService {
         }
     }
 
-    @CacheEvict(value = "popularPosts", allEntries = true)
+    /**
+     * 실시간 랭킹(Redis ZSET) 상위 게시글을 게시글 정보까지 채운 결과를 limit 별로 짧게 캐시
+     * 블라인드/삭제/기간 만료 게시글이 섞여 있을 수 있어 limit 보다 넉넉히 꺼낸 뒤 한 번의 쿼리로 걸러냄
+     */
+    @Cacheable(value = RANKED_POPULAR_POSTS_CACHE, key = "#limit", sync = true)
+    @Transactional(readOnly = true)
+    public List<PopularPostResponse> getCachedRankedPopularPosts(int limit) {
+        List<Long> rankedIds = popularPostRankingService.getTopPostIds(limit * RANKING_OVER_FETCH_FACTOR);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PopularPostRequest> postsById = popularPostRepository
+                .findPopularPostsByIds(rankedIds, LocalDateTime.now().minusDays(PopularPostService.RANKING_WINDOW_DAYS))
+                .stream()
+                .collect(Collectors.toMap(PopularPostRequest::postId, Function.identity()));
+
+        return rankedIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .limit(limit)
+                .map(PopularPostResponse::from)
+                .toList();
+    }
+
+    @Caching(evict = {
+            @CacheEvict(value = "popularPosts", allEntries = true),
+            @CacheEvict(value = RANKED_POPULAR_POSTS_CACHE, allEntries = true)
+    })
     public void invalidatePopularPostsCache() {
         log.info("인기글 캐시 무효화 완료");
     }
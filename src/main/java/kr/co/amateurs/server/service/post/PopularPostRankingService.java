@@ -0,0 +1,200 @@
+package kr.co.amateurs.server.service.post;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kr.co.amateurs.server.domain.dto.post.PopularPostRequest;
+import kr.co.amateurs.server.domain.entity.post.enums.PopularityEventType;
+import kr.co.amateurs.server.repository.post.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 좋아요/댓글/조회 이벤트를 시간 감쇠 점수로 누적하는 Redis ZSET 인기글 랭킹
+ * 점수 = (이벤트 가중치 합) × 2^((게시글 작성 시각 - epoch)/반감기)
+ * 이벤트마다 게시글 작성 시각 기준 배율을 쓰므로 취소 이벤트는 원래 이벤트를 정확히 상쇄하고,
+ * DB 집계값으로 다시 계산한 점수(rebuild)와 실시간 누적 점수가 같은 값이 됨
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PopularPostRankingService {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final PostRepository postRepository;
+
+    @Value("${popular-post.ranking.half-life:24h}")
+    private Duration halfLife;
+
+    @Value("${popular-post.ranking.max-size:1000}")
+    private long maxSize;
+
+    private static final String RANKING_KEY = "post:popular:ranking";
+    private static final String RANKING_REBUILD_KEY = "post:popular:ranking:rebuilding";
+    private static final String RANKING_EPOCH_KEY = "post:popular:epoch";
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final int CREATED_AT_CACHE_SIZE = 10_000;
+
+    /**
+     * 게시글 ID -> 작성 시각(초), 작성 시각은 바뀌지 않으므로 무효화 없이 크기로만 제한
+     */
+    private final Cache<Long, Long> createdAtCache = Caffeine.newBuilder()
+            .maximumSize(CREATED_AT_CACHE_SIZE)
+            .build();
+
+    /**
+     * KEYS[1]: 랭킹 ZSET, KEYS[2]: 기준 시각(epoch)
+     * ARGV[1]: 현재 시각(초), ARGV[2]: 반감기(초), ARGV[3]: 이벤트 가중치, ARGV[4]: 게시글 ID, ARGV[5]: 게시글 작성 시각(초)
+     * 재계산 직전/직후 이벤트가 엇갈려 음수가 되는 경우는 0 으로 맞춤
+     */
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            local epoch = redis.call('GET', KEYS[2])
+            if not epoch then
+                epoch = ARGV[1]
+                redis.call('SET', KEYS[2], epoch)
+            end
+            local boost = 2 ^ ((tonumber(ARGV[5]) - tonumber(epoch)) / tonumber(ARGV[2]))
+            local score = tonumber(redis.call('ZINCRBY', KEYS[1], tonumber(ARGV[3]) * boost, ARGV[4]))
+            if score < 0 then
+                redis.call('ZADD', KEYS[1], 0, ARGV[4])
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1]: 재계산된 ZSET, KEYS[2]: 랭킹 ZSET, KEYS[3]: 기준 시각(epoch)
+     * ARGV[1]: 새 기준 시각(초)
+     */
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('RENAME', KEYS[1], KEYS[2])
+            else
+                redis.call('DEL', KEYS[2])
+            end
+            redis.call('SET', KEYS[3], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * 이벤트 한 건을 게시글 작성 시각 기준 가중치로 랭킹에 반영 (삭제된 게시글이면 무시)
+     * 랭킹 반영 실패가 본 요청을 깨뜨리지 않도록 예외는 로그만 남김 (야간 재계산에서 보정)
+     */
+    public void recordEvent(Long postId, PopularityEventType type) {
+        try {
+            Long createdAt = findCreatedAt(postId);
+            if (createdAt == null) {
+                return;
+            }
+            redisTemplate.execute(
+                    INCREMENT_SCRIPT,
+                    List.of(RANKING_KEY, RANKING_EPOCH_KEY),
+                    String.valueOf(toEpochSecond(LocalDateTime.now())),
+                    String.valueOf(halfLife.toSeconds()),
+                    String.valueOf(type.getWeight()),
+                    postId.toString(),
+                    String.valueOf(createdAt)
+            );
+        } catch (Exception e) {
+            log.warn("인기글 랭킹 반영 실패: postId={}, type={}", postId, type, e);
+        }
+    }
+
+    /**
+     * 점수 내림차순 상위 게시글 ID 조회 (ZREVRANGE)
+     * @return 랭킹이 비어 있거나 Redis 조회에 실패하면 빈 리스트
+     */
+    public List<Long> getTopPostIds(int count) {
+        try {
+            Set<Object> members = redisTemplate.opsForZSet().reverseRange(RANKING_KEY, 0, count - 1L);
+            if (members == null) {
+                return List.of();
+            }
+            return members.stream()
+                    .filter(Objects::nonNull)
+                    .map(member -> Long.valueOf(member.toString()))
+                    .toList();
+        } catch (Exception e) {
+            log.warn("인기글 랭킹 조회 실패: count={}", count, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * DB 집계값으로 랭킹 전체를 새 기준 시각에 맞춰 다시 만들고 원자적으로 교체
+     * @param posts 집계 대상 기간의 게시글 (블라인드/삭제 제외)
+     */
+    public void rebuild(List<PopularPostRequest> posts) {
+        long epoch = toEpochSecond(LocalDateTime.now());
+
+        try {
+            redisTemplate.delete(RANKING_REBUILD_KEY);
+
+            for (int from = 0; from < posts.size(); from += REBUILD_BATCH_SIZE) {
+                List<PopularPostRequest> chunk = posts.subList(from, Math.min(from + REBUILD_BATCH_SIZE, posts.size()));
+                Set<ZSetOperations.TypedTuple<Object>> tuples = new HashSet<>(chunk.size());
+                for (PopularPostRequest post : chunk) {
+                    createdAtCache.put(post.postId(), toEpochSecond(post.postCreatedAt()));
+                    tuples.add(ZSetOperations.TypedTuple.of(post.postId().toString(), decayedScore(post, epoch)));
+                }
+                redisTemplate.opsForZSet().add(RANKING_REBUILD_KEY, tuples);
+            }
+
+            if (!posts.isEmpty()) {
+                redisTemplate.opsForZSet().removeRange(RANKING_REBUILD_KEY, 0, -(maxSize + 1));
+            }
+
+            redisTemplate.execute(
+                    REPLACE_SCRIPT,
+                    List.of(RANKING_REBUILD_KEY, RANKING_KEY, RANKING_EPOCH_KEY),
+                    String.valueOf(epoch)
+            );
+            log.info("인기글 랭킹 재계산 완료: 대상={}개", posts.size());
+        } catch (Exception e) {
+            log.error("인기글 랭킹 재계산 실패", e);
+        }
+    }
+
+    private double decayedScore(PopularPostRequest post, long epoch) {
+        double rawScore = count(post.viewCount()) * PopularityEventType.VIEW.getWeight()
+                + count(post.likeCount()) * PopularityEventType.LIKE.getWeight()
+                + count(post.commentCount()) * PopularityEventType.COMMENT.getWeight();
+
+        double elapsed = toEpochSecond(post.postCreatedAt()) - epoch;
+        return rawScore * Math.pow(2, elapsed / halfLife.toSeconds());
+    }
+
+    private Long findCreatedAt(Long postId) {
+        Long cached = createdAtCache.getIfPresent(postId);
+        if (cached != null) {
+            return cached;
+        }
+        return postRepository.findCreatedAtById(postId)
+                .map(createdAt -> {
+                    long seconds = toEpochSecond(createdAt);
+                    createdAtCache.put(postId, seconds);
+                    return seconds;
+                })
+                .orElse(null);
+    }
+
+    private static int count(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+}
@@ -2,7 +2,6 @@ package kr.co.amateurs.server.service.post;
 
 import kr.co.amateurs.server.domain.dto.post.PopularPostRequest;
 import kr.co.amateurs.server.domain.dto.post.PopularPostResponse;
-import kr.co.amateurs.server.domain.entity.post.Post;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,8 +18,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public class PopularPostService {
     private final PopularPostRepository popularPostRepository;
-    private final PostService postService;
     private final PopularPostCacheService popularPostCacheService;
+    private final PopularPostRankingService popularPostRankingService;
 
     private static final double VIEW_WEIGHT = 0.4;
     private static final double LIKE_WEIGHT = 0.4;
@@ -29,14 +28,17 @@ public class PopularPostService {
     private static final int LIKE_MULTIPLIER = 10;
     private static final int COMMENT_MULTIPLIER = 10;
 
+    static final int RANKING_WINDOW_DAYS = 7;
+
     @Transactional
     public void calculateAndSavePopularPosts() {
-        LocalDateTime daysAgo = LocalDateTime.now().minusDays(7);
+        LocalDateTime daysAgo = LocalDateTime.now().minusDays(RANKING_WINDOW_DAYS);
         LocalDate today = LocalDate.now();
 
         log.info("인기글 계산 시작: 기준일자={}, 대상기간=7일", today);
 
         List<PopularPostRequest> recentPosts = popularPostRepository.findRecentPostsWithCounts(daysAgo);
+        popularPostRankingService.rebuild(recentPosts);
 
         if (recentPosts.isEmpty()) {
             log.warn("7일 이내 게시글이 없습니다.");
@@ -64,38 +66,20 @@ public class PopularPostService {
                 (likeScore * LIKE_WEIGHT) +
                 (commentScore * COMMENT_WEIGHT);
 
-        PopularPostRequest postWithScore = PopularPostRequest.withScore(
-                post, popularityScore, calculatedDate
-        );
-
-        try {
-            Long boardId = postService.getBoardId(post.postId(), post.boardType());
-            if (boardId == null) {
-                boardId = post.postId();
-                log.warn("BoardId 조회 실패, postId로 대체: postId={}, boardType={}",
-                        post.postId(), post.boardType());
-            }
-
-            var status = popularPostRepository.getBoardStatus(post.postId());
-
-            return PopularPostRequest.withBoardIdAndStatus(
-                    postWithScore,
-                    boardId,
-                    status.isBlinded(),
-                    status.isDeleted()
-            );
-        } catch (Exception e) {
-            log.warn("BoardId/상태 조회 실패: postId={}, boardType={}, error={}",
-                    post.postId(), post.boardType(), e.getMessage());
-            return PopularPostRequest.withBoardIdAndStatus(
-                    postWithScore, post.postId(), false, false
-            );
-        }
+        return PopularPostRequest.withScore(post, popularityScore, calculatedDate);
     }
 
+    /**
+     * 실시간 랭킹(Redis ZSET) 기준 인기글 조회
+     * 랭킹이 비어 있으면 야간 계산 결과(popular_posts) 캐시로 대체
+     * 두 결과 모두 limit 별 2단 캐시에서 읽으므로 요청마다 ZSET 조회나 게시글 조회 쿼리가 나가지 않음
+     */
     @Transactional(readOnly = true)
     public List<PopularPostResponse> getPopularPosts(int limit) {
+        List<PopularPostResponse> rankedPosts = popularPostCacheService.getCachedRankedPopularPosts(limit);
+        if (!rankedPosts.isEmpty()) {
+            return rankedPosts;
+        }
         return popularPostCacheService.getCachedPopularPosts(limit);
     }
 }
-
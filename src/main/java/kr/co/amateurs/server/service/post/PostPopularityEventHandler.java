@@ -0,0 +1,23 @@
+package kr.co.amateurs.server.service.post;
+
+import kr.co.amateurs.server.domain.dto.post.PostPopularityEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PostPopularityEventHandler {
+
+    private final PopularPostRankingService popularPostRankingService;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handlePostPopularity(PostPopularityEvent event) {
+        popularPostRankingService.recordEvent(event.postId(), event.type());
+    }
+}
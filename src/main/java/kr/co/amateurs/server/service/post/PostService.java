@@ -8,7 +8,6 @@ import kr.co.amateurs.server.domain.dto.common.PaginationParam;
 import kr.co.amateurs.server.domain.dto.post.PostResponseDTO;
 import kr.co.amateurs.server.domain.entity.post.Post;
 import kr.co.amateurs.server.domain.entity.post.enums.BoardType;
-import kr.co.amateurs.server.domain.entity.user.User;
 import kr.co.amateurs.server.repository.post.PostJooqRepository;
 import kr.co.amateurs.server.repository.post.PostRepository;
 import kr.co.amateurs.server.service.UserService;
@@ -16,10 +15,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 
@@ -52,24 +49,9 @@ public class PostService {
                 .orElseThrow(ErrorCode.POST_NOT_FOUND);
     }
 
-    public List<Post> findAllPosts() {
-        return postRepository.findAll();
-    }
-
-    public boolean hasRecentPostActivity(Long userId, int days) {
-        try {
-            LocalDateTime since = LocalDateTime.now().minusDays(days);
-            return postRepository.existsByUserIdAndCreatedAtAfter(userId, since);
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
     public PageResponseDTO<PostResponseDTO> getMyPostList(PaginationParam paginationParam) {
-        User user = userService.getCurrentLoginUser();
-        Pageable pageable = paginationParam.toPageable();
-
-        Page<PostResponseDTO> postResponseDTO = postJooqRepository.findPostsByType(user.getId(), pageable, "my");
+        Long userId = userService.getCurrentLoginPrincipal().id();
+        Page<PostResponseDTO> postResponseDTO = postJooqRepository.findPostsByType(userId, paginationParam, "my");
 
         return convertPageToDTO(postResponseDTO);
     }
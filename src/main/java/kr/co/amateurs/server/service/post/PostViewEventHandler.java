@@ -1,6 +1,7 @@
 package kr.co.amateurs.server.service.post;
 
 import kr.co.amateurs.server.domain.dto.post.PostViewedEvent;
+import kr.co.amateurs.server.domain.entity.post.enums.PopularityEventType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -13,10 +14,13 @@ import org.springframework.stereotype.Component;
 public class PostViewEventHandler {
 
     private final ViewCountService viewCountService;
+    private final PopularPostRankingService popularPostRankingService;
 
     @Async
     @EventListener
     public void handlePostViewed(PostViewedEvent event) {
-        viewCountService.incrementViewCount(event.getPostId(), event.getIpAddress());
+        if (viewCountService.incrementViewCount(event.getPostId(), event.getIpAddress())) {
+            popularPostRankingService.recordEvent(event.getPostId(), PopularityEventType.VIEW);
+        }
     }
 }
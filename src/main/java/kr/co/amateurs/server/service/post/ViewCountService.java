@@ -1,15 +1,40 @@
 package kr.co.amateurs.server.service.post;
 
-import kr.co.amateurs.server.domain.entity.post.PostStatistics;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import kr.co.amateurs.server.domain.entity.post.enums.ViewDedupMode;
+import kr.co.amateurs.server.repository.post.PostStatisticsJooqRepository;
 import kr.co.amateurs.server.repository.post.PostStatisticsRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -18,10 +43,70 @@ public class ViewCountService {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final PostStatisticsRepository postStatisticsRepository;
+    private final PostStatisticsJooqRepository postStatisticsJooqRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${view-count.dedup-mode:HYPER_LOG_LOG}")
+    private ViewDedupMode dedupMode;
+
+    @Value("${view-count.base-cache.max-size:10000}")
+    private long baseCacheMaxSize;
+
+    @Value("${view-count.base-cache.staleness:5m}")
+    private Duration baseCacheStaleness;
+
+    private final AtomicLong observedFlushGeneration = new AtomicLong(-1L);
+
+    private Cache<Long, Integer> baseCountCache;
+
+    @PostConstruct
+    public void initBaseCountCache() {
+        baseCountCache = Caffeine.newBuilder()
+                .maximumSize(baseCacheMaxSize)
+                .expireAfterWrite(baseCacheStaleness)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, baseCountCache, "postViewBaseCount");
+    }
 
     private static final String VIEW_COUNT_KEY = "post:view:count:";
     private static final String VIEW_IP_KEY = "post:view:ip:";
     private static final String VIEW_COUNT_HASH = "post:view:counts";
+    private static final String VIEW_COUNT_FLUSH_HASH = "post:view:counts:flushing";
+    private static final String VIEW_HLL_KEY = "post:view:hll:";
+    private static final String VIEW_FLUSH_GENERATION_KEY = "post:view:flush:generation";
+    private static final String VIEW_FLUSH_LOCK_KEY = "post:view:flush:lock";
+
+    private static final Duration VIEW_DEDUP_WINDOW = Duration.ofHours(1);
+    private static final DateTimeFormatter HOUR_BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final long SCAN_BATCH_SIZE = 500;
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofMinutes(10);
+
+    /**
+     * KEYS[1]: 시간 버킷 HyperLogLog, KEYS[2]: 조회수 집계 해시
+     * ARGV[1]: 클라이언트 IP, ARGV[2]: HyperLogLog TTL(초), ARGV[3]: 게시글 ID
+     */
+    private static final RedisScript<Long> HLL_INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('PFADD', KEYS[1], ARGV[1]) == 1 then
+                redis.call('EXPIRE', KEYS[1], ARGV[2])
+                redis.call('HINCRBY', KEYS[2], ARGV[3], 1)
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS[1]: 동기화 락, ARGV[1]: 락을 잡을 때 쓴 토큰 (내가 잡은 락만 해제)
+     */
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private static final String FLUSH_ROWS_METRIC = "post.view.flush.rows";
+    private static final String FLUSH_LATENCY_METRIC = "post.view.flush.latency";
 
     /**
      * 조회수 증가 (IP 기반 중복 방지)
@@ -30,10 +115,17 @@ public class ViewCountService {
      * @return 증가 여부
      */
     public boolean incrementViewCount(Long postId, String clientIp) {
+        if (dedupMode == ViewDedupMode.HYPER_LOG_LOG) {
+            return incrementWithHyperLogLog(postId, clientIp);
+        }
+        return incrementWithIpKey(postId, clientIp);
+    }
+
+    private boolean incrementWithIpKey(Long postId, String clientIp) {
         String ipKey = VIEW_IP_KEY + postId + ":" + clientIp;
 
         Boolean isNewView = redisTemplate.opsForValue()
-                .setIfAbsent(ipKey, "1", Duration.ofHours(1));
+                .setIfAbsent(ipKey, "1", VIEW_DEDUP_WINDOW);
 
         if (Boolean.TRUE.equals(isNewView)) {
             redisTemplate.opsForHash().increment(VIEW_COUNT_HASH, postId.toString(), 1);
@@ -43,55 +135,210 @@ public class ViewCountService {
         return false;
     }
 
+    /**
+     * 시간 단위 HyperLogLog 에 IP 를 기록하고 처음 본 IP 일 때만 카운터를 올리는 작업을 Lua 스크립트 한 번으로 처리
+     */
+    private boolean incrementWithHyperLogLog(Long postId, String clientIp) {
+        Long added = redisTemplate.execute(
+                HLL_INCREMENT_SCRIPT,
+                List.of(hyperLogLogKey(postId, LocalDateTime.now()), VIEW_COUNT_HASH),
+                clientIp,
+                String.valueOf(VIEW_DEDUP_WINDOW.toSeconds()),
+                postId.toString()
+        );
+
+        return Long.valueOf(1L).equals(added);
+    }
+
+    private String hyperLogLogKey(Long postId, LocalDateTime now) {
+        return VIEW_HLL_KEY + postId + ":" + now.format(HOUR_BUCKET_FORMAT);
+    }
+
     /**
      * Redis에서 실시간 조회수 조회
      * @param postId 게시글 ID
      * @return 현재 조회수
      */
     public Long getViewCount(Long postId) {
-        Object redisCount = redisTemplate.opsForHash().get(VIEW_COUNT_HASH, postId.toString());
-        Long incrementCount = redisCount != null ? Long.valueOf(redisCount.toString()) : 0L;
+        return getViewCounts(List.of(postId)).get(postId);
+    }
 
-        Long baseCount = postStatisticsRepository.findById(postId)
-                .map(PostStatistics::getViewCount)
-                .map(Integer::longValue)
-                .orElse(0L);
+    /**
+     * 여러 게시글의 실시간 조회수 일괄 조회
+     * Redis 증가분은 한 번의 파이프라인(HMGET)으로, DB 기준값은 로컬 캐시에 없는 게시글만 한 번의 IN 쿼리로 가져옵니다.
+     * @param postIds 게시글 ID 목록
+     * @return postId -> 현재 조회수
+     */
+    public Map<Long, Long> getViewCounts(List<Long> postIds) {
+        Map<Long, Long> pendingCounts = getPendingViewCounts(postIds);
+        Map<Long, Integer> baseCounts = baseCountCache.getAll(postIds, this::loadBaseCounts);
 
-        return baseCount + incrementCount;
+        Map<Long, Long> viewCounts = new HashMap<>(postIds.size());
+        for (Long postId : postIds) {
+            viewCounts.put(postId, baseCounts.getOrDefault(postId, 0) + pendingCounts.getOrDefault(postId, 0L));
+        }
+        return viewCounts;
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 증가분 (집계 해시 + 동기화 중인 스냅샷)
+     * 목록 조회처럼 DB 기준값을 이미 함께 읽어온 경우 이 값만 더해 실시간 조회수를 만듭니다.
+     * @param postIds 게시글 ID 목록
+     * @return postId -> 증가분 (증가분이 없는 게시글은 포함되지 않음)
+     */
+    public Map<Long, Long> getPendingViewCounts(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Object> fields = postIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.toList());
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                operations.opsForHash().multiGet(VIEW_COUNT_HASH, fields);
+                operations.opsForHash().multiGet(VIEW_COUNT_FLUSH_HASH, fields);
+                operations.opsForValue().get(VIEW_FLUSH_GENERATION_KEY);
+                return null;
+            }
+        });
+
+        evictBaseCountsIfFlushed(toLong(results.get(2)));
+
+        List<?> counts = (List<?>) results.get(0);
+        List<?> flushingCounts = (List<?>) results.get(1);
+        Map<Long, Long> pendingCounts = new HashMap<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            long pending = toLong(counts.get(i)) + toLong(flushingCounts.get(i));
+            if (pending > 0) {
+                pendingCounts.put(postIds.get(i), pending);
+            }
+        }
+        return pendingCounts;
+    }
+
+    private Map<Long, Integer> loadBaseCounts(Set<? extends Long> postIds) {
+        Map<Long, Integer> baseCounts = new HashMap<>();
+        postIds.forEach(postId -> baseCounts.put(postId, 0));
+        postStatisticsRepository.findByPostIdIn(new ArrayList<>(postIds))
+                .forEach(stats -> baseCounts.put(stats.getPostId(), stats.getViewCount()));
+        return baseCounts;
+    }
+
+    /**
+     * 어느 인스턴스에서든 동기화가 일어나 세대 번호가 바뀌었다면 DB 기준값 캐시를 비웁니다.
+     */
+    private void evictBaseCountsIfFlushed(long flushGeneration) {
+        if (observedFlushGeneration.getAndSet(flushGeneration) != flushGeneration) {
+            baseCountCache.invalidateAll();
+        }
+    }
+
+    private long toLong(Object value) {
+        return value != null ? Long.parseLong(value.toString()) : 0L;
     }
 
     /**
      * Redis의 조회수 데이터를 DB에 동기화
+     * 집계 해시를 스냅샷 키로 원자적으로 RENAME 한 뒤 반영하므로, 동기화 도중 들어온 조회수는 다음 주기에 반영됩니다.
+     * DB 반영에 실패하면 스냅샷이 남아 다음 주기에 재시도됩니다.
+     * 스냅샷 삭제와 세대 번호 증가, 기준값 캐시 무효화는 UPDATE 가 커밋된 뒤에 합니다.
+     * 커밋 전에 세대가 바뀌면 다른 인스턴스가 아직 반영 전인 DB 값을 다시 캐시하고, 롤백되면 스냅샷을 잃기 때문입니다.
+     * 남은 스냅샷을 다시 반영하므로 동기화는 Redis 락(SET NX PX)으로 인스턴스 전체에서 한 번에 하나만 실행하고,
+     * 락은 스냅샷 삭제까지 끝난 트랜잭션 완료 시점에 해제합니다.
      */
     @Transactional
     public void syncViewCountsToDB() {
+        String lockToken = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(VIEW_FLUSH_LOCK_KEY, lockToken, FLUSH_LOCK_TTL))) {
+            log.info("다른 조회수 동기화가 진행 중이라 이번 주기는 건너뜁니다.");
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
-            Set<Object> postIds = redisTemplate.opsForHash().keys(VIEW_COUNT_HASH);
-
-            for (Object postIdObj : postIds) {
-                try {
-                    Long postId = Long.valueOf(postIdObj.toString());
-                    Object countObj = redisTemplate.opsForHash().get(VIEW_COUNT_HASH, postIdObj);
-
-                    if (countObj != null) {
-                        Long incrementCount = Long.valueOf(countObj.toString());
-
-                        postStatisticsRepository.findById(postId)
-                                .ifPresent(stats -> {
-                                    int newCount = stats.getViewCount() + incrementCount.intValue();
-                                    stats.updateViewCount(newCount);
-                                    postStatisticsRepository.save(stats);
-                                });
-                    }
-                } catch (Exception e) {
-                    log.error("개별 게시글 조회수 동기화 실패: postId={}", postIdObj.toString(), e);
-                }
+            if (!prepareFlushSnapshot()) {
+                return;
             }
 
-            redisTemplate.delete(VIEW_COUNT_HASH);
-        } catch (Exception e) {
-            log.error("조회수 동기화 중 오류 발생", e);
+            Map<Long, Long> increments = readFlushSnapshot();
+            int updatedRows = postStatisticsJooqRepository.incrementViewCounts(increments);
+            afterCommit(() -> {
+                redisTemplate.delete(VIEW_COUNT_FLUSH_HASH);
+                redisTemplate.opsForValue().increment(VIEW_FLUSH_GENERATION_KEY);
+                baseCountCache.invalidateAll(increments.keySet());
+            });
+
+            meterRegistry.counter(FLUSH_ROWS_METRIC).increment(updatedRows);
+            log.info("조회수 동기화 완료: 대상 게시글={}, 반영된 행={}", increments.size(), updatedRows);
+        } finally {
+            sample.stop(meterRegistry.timer(FLUSH_LATENCY_METRIC));
+            afterCompletion(() -> redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(VIEW_FLUSH_LOCK_KEY), lockToken));
+        }
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋된 뒤에, 밖이면 바로 실행
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋/롤백이 끝난 뒤에(afterCommit 콜백 이후), 밖이면 바로 실행
+     */
+    private void afterCompletion(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 이전 주기에 반영하지 못한 스냅샷이 있으면 그대로 재사용하고, 없으면 집계 해시를 스냅샷 키로 RENAME
+     * @return 반영할 스냅샷 존재 여부
+     */
+    private boolean prepareFlushSnapshot() {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(VIEW_COUNT_FLUSH_HASH))) {
+            log.warn("이전 주기의 조회수 스냅샷이 남아 있어 먼저 반영합니다.");
+            return true;
+        }
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(VIEW_COUNT_HASH))) {
+            return false;
+        }
+        return Boolean.TRUE.equals(redisTemplate.renameIfAbsent(VIEW_COUNT_HASH, VIEW_COUNT_FLUSH_HASH));
+    }
+
+    private Map<Long, Long> readFlushSnapshot() {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(VIEW_COUNT_FLUSH_HASH);
+        Map<Long, Long> increments = new HashMap<>(entries.size());
+
+        entries.forEach((postId, count) -> {
+            try {
+                increments.put(Long.valueOf(postId.toString()), Long.valueOf(count.toString()));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 조회수 데이터 무시: postId={}, count={}", postId, count);
+            }
+        });
+
+        return increments;
     }
 
     /**
@@ -100,10 +347,23 @@ public class ViewCountService {
      */
     public void clearViewCountCache(Long postId) {
         redisTemplate.opsForHash().delete(VIEW_COUNT_HASH, postId.toString());
+        redisTemplate.opsForHash().delete(VIEW_COUNT_FLUSH_HASH, postId.toString());
+        baseCountCache.invalidate(postId);
+
+        if (dedupMode == ViewDedupMode.HYPER_LOG_LOG) {
+            redisTemplate.delete(hyperLogLogKey(postId, LocalDateTime.now()));
+            return;
+        }
 
-        String pattern = VIEW_IP_KEY + postId + ":*";
-        Set<String> keys = redisTemplate.keys(pattern);
-        if (keys != null && !keys.isEmpty()) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(VIEW_IP_KEY + postId + ":*")
+                .count(SCAN_BATCH_SIZE)
+                .build();
+        List<String> keys = new ArrayList<>();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        if (!keys.isEmpty()) {
             redisTemplate.delete(keys);
         }
     }
@@ -26,6 +26,7 @@ import kr.co.amateurs.server.repository.report.ReportRepository;
 import kr.co.amateurs.server.service.UserService;
 import kr.co.amateurs.server.service.ai.PostEmbeddingService;
 import kr.co.amateurs.server.service.file.FileService;
+import kr.co.amateurs.server.service.post.ViewCountService;
 import kr.co.amateurs.server.utils.JsonUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,6 +36,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 @Service
@@ -56,24 +58,28 @@ public class ProjectService {
     private final FileService fileService;
 
     private final PostEmbeddingService postEmbeddingService;
+    private final ViewCountService viewCountService;
 
     private final ApplicationEventPublisher eventPublisher;
 
     private final JsonUtil jsonUtil;
 
     public PageResponseDTO<ProjectResponseDTO> getProjects(ProjectSearchParam params) {
-        Page<ProjectResponseDTO> projects = userService.getCurrentUser()
-                .map(user -> projectJooqRepository.findAllByUserId(params, user.getId()))
+        Page<ProjectResponseDTO> projects = userService.getCurrentPrincipal()
+                .map(user -> projectJooqRepository.findAllByUserId(params, user.id()))
                 .orElseGet(() -> projectJooqRepository.findAll(params));
 
-        Page<ProjectResponseDTO> projectsPage = projects.map(ProjectResponseDTO::applyBlindFilter);
+        Map<Long, Long> pendingViewCounts = viewCountService.getPendingViewCounts(projects.map(ProjectResponseDTO::postId).getContent());
+        Page<ProjectResponseDTO> projectsPage = projects
+                .map(dto -> dto.applyPendingViewCount(pendingViewCounts))
+                .map(ProjectResponseDTO::applyBlindFilter);
 
         return PageResponseDTO.convertPageToDTO(projectsPage);
     }
 
     public ProjectResponseDTO getProjectDetails(Long projectId, String ipAddress) {
-        ProjectResponseDTO result = userService.getCurrentUser()
-                .map(user -> projectJooqRepository.findByIdAndUserId(projectId, user.getId()))
+        ProjectResponseDTO result = userService.getCurrentPrincipal()
+                .map(user -> projectJooqRepository.findByIdAndUserId(projectId, user.id()))
                 .orElseGet(() -> projectJooqRepository.findById(projectId));
 
         eventPublisher.publishEvent(new PostViewedEvent(result.postId(), ipAddress));
@@ -125,14 +131,14 @@ public class ProjectService {
 
     @Transactional
     public void updateProject(Long projectId, ProjectRequestDTO projectRequestDTO) {
-        User user = userService.getCurrentLoginUser();
+        String email = userService.getCurrentLoginPrincipal().email();
 
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(ErrorCode.POST_NOT_FOUND);
 
         Post post = project.getPost();
 
-        validatePost(post, user.getEmail());
+        validatePost(post, email);
 
         if(post.getIsBlinded()){
             throw ErrorCode.IS_BLINDED_POST.get();
@@ -159,13 +165,13 @@ public class ProjectService {
 
     @Transactional
     public void deleteProject(Long projectId) {
-        User user = userService.getCurrentLoginUser();
+        String email = userService.getCurrentLoginPrincipal().email();
 
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(ErrorCode.POST_NOT_FOUND);
 
         Post post = project.getPost();
-        validatePost(post, user.getEmail());
+        validatePost(post, email);
 
         CompletableFuture.runAsync(() -> {
             try {
@@ -1,20 +1,90 @@
 package kr.co.amateurs.server.service.report.llm;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.co.amateurs.server.domain.dto.report.ReportAIResponse;
 import kr.co.amateurs.server.domain.dto.report.LLMAnalysisResult;
+import kr.co.amateurs.server.domain.dto.report.ReportAnalysisRequest;
+import kr.co.amateurs.server.domain.dto.report.ReportBatchAIResponse;
 import kr.co.amateurs.server.domain.entity.report.enums.ReportType;
+import kr.co.amateurs.server.service.ai.LlmResponseCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "report.moderation.llm", havingValue = "gemini", matchIfMissing = true)
 public class GeminiReportLLMService implements ReportLLMService {
+    // 판정 프롬프트를 바꾸면 버전을 올려 이전 판정을 재사용하지 않게 함
+    private static final String VERDICT_TEMPLATE = "report-verdict:v1";
+
     private final ReportAnalysis reportAnalysis;
+    private final ObjectMapper objectMapper;
+    private final LlmResponseCache llmResponseCache;
+
+    @Value("${langchain4j.google-ai-gemini.report.model-name}")
+    private String modelName;
 
+    /**
+     * 같은 유형으로 신고된 같은 내용은 이전 판정을 재사용하고, 성공한 판정만 캐시에 저장
+     */
     @Override
     public LLMAnalysisResult analyzeContent(String content, ReportType reportType, String description) {
+        LlmResponseCache.Key key = verdictKey(content, reportType);
+        return findVerdict(key)
+                .orElseGet(() -> saveVerdict(key, analyzeUncached(content, reportType, description)));
+    }
+
+    /**
+     * 캐시에 없는 신고만 지시문을 한 번만 보내고 JSON 배열로 묶어 한 번에 분석
+     * 응답에 빠진 항목은 실패로 돌려 해당 신고만 다시 시도되게 함
+     */
+    @Override
+    public List<LLMAnalysisResult> analyzeContents(List<ReportAnalysisRequest> requests) {
+        LLMAnalysisResult[] results = new LLMAnalysisResult[requests.size()];
+        List<LlmResponseCache.Key> keys = new ArrayList<>(requests.size());
+        List<Integer> missed = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ReportAnalysisRequest request = requests.get(i);
+            LlmResponseCache.Key key = verdictKey(request.content(), request.reportType());
+            keys.add(key);
+            results[i] = findVerdict(key).orElse(null);
+            if (results[i] == null) {
+                missed.add(i);
+            }
+        }
+
+        if (missed.isEmpty()) {
+            return List.of(results);
+        }
+
+        List<ReportAnalysisRequest> missedRequests = missed.stream().map(requests::get).toList();
+        List<LLMAnalysisResult> analyzed = missedRequests.size() == 1
+                ? List.of(analyzeUncached(missedRequests.get(0)))
+                : analyzeBatchUncached(missedRequests);
+        for (int i = 0; i < missed.size(); i++) {
+            int index = missed.get(i);
+            results[index] = saveVerdict(keys.get(index), analyzed.get(i));
+        }
+        return List.of(results);
+    }
+
+    private LLMAnalysisResult analyzeUncached(ReportAnalysisRequest request) {
+        return analyzeUncached(request.content(), request.reportType(), request.description());
+    }
+
+    private LLMAnalysisResult analyzeUncached(String content, ReportType reportType, String description) {
         try {
             String typeDescription = getTypeDescription(reportType);
 
@@ -28,15 +98,75 @@ public class GeminiReportLLMService implements ReportLLMService {
             return new LLMAnalysisResult(response.isViolation(), response.reason(), response.confidenceScore(), true);
 
         } catch (Exception e) {
-            return new LLMAnalysisResult(
-                    false,
-                    "LLM 분석 실패: " + e.getMessage(),
-                    0.0,
-                    false
-            );
+            return failure(e.getMessage());
         }
     }
 
+    private List<LLMAnalysisResult> analyzeBatchUncached(List<ReportAnalysisRequest> requests) {
+        try {
+            ReportBatchAIResponse response = reportAnalysis.analyzeReports(toItemsJson(requests));
+            Map<Integer, ReportBatchAIResponse.Item> resultsById = new HashMap<>();
+            if (response.results() != null) {
+                response.results().forEach(item -> resultsById.put(item.id(), item));
+            }
+
+            List<LLMAnalysisResult> results = new ArrayList<>(requests.size());
+            for (int id = 0; id < requests.size(); id++) {
+                ReportBatchAIResponse.Item item = resultsById.get(id);
+                results.add(item == null || item.confidenceScore() == null
+                        ? failure("일괄 분석 응답에 결과 누락")
+                        : new LLMAnalysisResult(item.isViolation(), item.reason(), item.confidenceScore(), true));
+            }
+            return results;
+
+        } catch (Exception e) {
+            return Collections.nCopies(requests.size(), failure(e.getMessage()));
+        }
+    }
+
+    private String toItemsJson(List<ReportAnalysisRequest> requests) throws JsonProcessingException {
+        List<Map<String, Object>> items = new ArrayList<>(requests.size());
+        for (int id = 0; id < requests.size(); id++) {
+            ReportAnalysisRequest request = requests.get(id);
+            items.add(Map.of(
+                    "id", id,
+                    "reportType", request.reportType().name(),
+                    "reportTypeDescription", getTypeDescription(request.reportType()),
+                    "description", request.description() != null ? request.description() : "",
+                    "content", request.content() != null ? request.content() : ""
+            ));
+        }
+        return objectMapper.writeValueAsString(items);
+    }
+
+    /**
+     * 신고자가 적은 설명은 신고마다 달라 키에서 제외하고 유형과 내용만 사용
+     */
+    private LlmResponseCache.Key verdictKey(String content, ReportType reportType) {
+        return LlmResponseCache.Key.of(VERDICT_TEMPLATE, modelName, reportType.name() + "\n" + (content != null ? content : ""));
+    }
+
+    private Optional<LLMAnalysisResult> findVerdict(LlmResponseCache.Key key) {
+        return llmResponseCache.find(key, CachedVerdict.class)
+                .map(verdict -> new LLMAnalysisResult(verdict.violation(), verdict.reason(), verdict.confidenceScore(), true));
+    }
+
+    private LLMAnalysisResult saveVerdict(LlmResponseCache.Key key, LLMAnalysisResult result) {
+        if (result.success()) {
+            llmResponseCache.put(key, new CachedVerdict(result.isViolation(), result.reason(), result.confidenceScore()));
+        }
+        return result;
+    }
+
+    private LLMAnalysisResult failure(String message) {
+        return new LLMAnalysisResult(
+                false,
+                "LLM 분석 실패: " + message,
+                0.0,
+                false
+        );
+    }
+
     private String getTypeDescription(ReportType reportType) {
         return switch (reportType) {
             case BAD_WORDS -> "욕설, 비방, 모욕적 표현";
@@ -47,4 +177,7 @@ public class GeminiReportLLMService implements ReportLLMService {
             case OTHER -> "기타 커뮤니티 규정 위반";
         };
     }
-}
\ No newline at end of file
+
+    record CachedVerdict(boolean violation, String reason, double confidenceScore) {
+    }
+}
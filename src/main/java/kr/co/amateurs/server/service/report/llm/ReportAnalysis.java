@@ -4,6 +4,7 @@ import dev.langchain4j.service.SystemMessage;
 import dev.langchain4j.service.UserMessage;
 import dev.langchain4j.service.V;
 import kr.co.amateurs.server.domain.dto.report.ReportAIResponse;
+import kr.co.amateurs.server.domain.dto.report.ReportBatchAIResponse;
 
 public interface ReportAnalysis {
     @SystemMessage("""
@@ -31,4 +32,25 @@ public interface ReportAnalysis {
             @V("reportTypeDescription") String reportTypeDescription,
             @V("description") String description
     );
+
+    @SystemMessage("""
+        당신은 사용자의 신고를 분석하는 심사 담당자입니다.
+
+        여러 건의 신고가 JSON 배열로 주어집니다. 각 항목을 서로 독립적으로 분석하고 주어진 JSON 형식으로만 응답하세요:
+
+        - 항목마다 reportTypeDescription 에 적힌 신고 타입 기준으로 판단합니다.
+        - 한국어 맥락과 문화적 기준을 고려하여 판단합니다.
+        - 단순 의견 표현과 악의적 공격을 명확히 구분합니다.
+        - 맥락을 충분히 반영하여 판단합니다.
+        - description 은 신고자 설명으로 참고용이며, 판단은 주로 content 를 기준으로 합니다.
+        - 아래 기준에 따라 confidenceScore를 설정하세요:
+            - 명백한 위반: 0.8 이상
+            - 애매한 경우 (수동 검토 필요): 0.5 이상 0.8 미만
+            - 위반 아님: 0.5 미만
+        - results 에는 입력의 모든 항목을 빠짐없이 넣고, 각 결과의 id 는 입력 항목의 id 를 그대로 사용합니다.
+        """)
+    @UserMessage("""
+        신고 목록: {{items}}
+        """)
+    ReportBatchAIResponse analyzeReports(@V("items") String items);
 }
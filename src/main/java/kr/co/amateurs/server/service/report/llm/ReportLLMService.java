@@ -1,8 +1,11 @@
 package kr.co.amateurs.server.service.report.llm;
 
 import kr.co.amateurs.server.domain.dto.report.LLMAnalysisResult;
+import kr.co.amateurs.server.domain.dto.report.ReportAnalysisRequest;
 import kr.co.amateurs.server.domain.entity.report.enums.ReportType;
 
+import java.util.List;
+
 public interface ReportLLMService {
     /**
      * 텍스트 콘텐츠를 분석하여 위반 여부를 판단
@@ -13,4 +16,16 @@ public interface ReportLLMService {
      * @return LLM 분석 결과
      */
     LLMAnalysisResult analyzeContent(String content, ReportType reportType, String description);
+
+    /**
+     * 여러 신고 내용을 한 번에 분석
+     * 기본 구현은 한 건씩 호출하며, 한 번의 요청으로 묶을 수 있는 구현체가 재정의
+     *
+     * @return requests 와 같은 순서의 분석 결과
+     */
+    default List<LLMAnalysisResult> analyzeContents(List<ReportAnalysisRequest> requests) {
+        return requests.stream()
+                .map(request -> analyzeContent(request.content(), request.reportType(), request.description()))
+                .toList();
+    }
 }
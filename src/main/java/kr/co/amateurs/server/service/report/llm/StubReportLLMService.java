@@ -0,0 +1,57 @@
+package kr.co.amateurs.server.service.report.llm;
+
+import kr.co.amateurs.server.domain.dto.report.LLMAnalysisResult;
+import kr.co.amateurs.server.domain.dto.report.ReportAnalysisRequest;
+import kr.co.amateurs.server.domain.entity.report.enums.ReportType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 신고 처리량 측정용 LLM 대역 (report.moderation.llm=stub)
+ * 호출 한 번마다 latency 만큼 기다린 뒤 금칙어 포함 여부로만 판정하므로, 묶음 크기에 따른 분당 처리 건수를 할당량 소모 없이 비교할 수 있음
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "report.moderation.llm", havingValue = "stub")
+public class StubReportLLMService implements ReportLLMService {
+
+    private static final List<String> VIOLATION_WORDS = List.of("욕설", "광고", "spam");
+
+    private final Duration latency;
+
+    public StubReportLLMService(@Value("${report.moderation.stub-latency:800ms}") Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public LLMAnalysisResult analyzeContent(String content, ReportType reportType, String description) {
+        waitLatency();
+        return judge(content);
+    }
+
+    @Override
+    public List<LLMAnalysisResult> analyzeContents(List<ReportAnalysisRequest> requests) {
+        waitLatency();
+        return requests.stream().map(request -> judge(request.content())).toList();
+    }
+
+    private LLMAnalysisResult judge(String content) {
+        boolean violation = content != null && VIOLATION_WORDS.stream().anyMatch(content::contains);
+        return violation
+                ? new LLMAnalysisResult(true, "금칙어 포함", 0.9, true)
+                : new LLMAnalysisResult(false, "위반 아님", 0.1, true);
+    }
+
+    private void waitLatency() {
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
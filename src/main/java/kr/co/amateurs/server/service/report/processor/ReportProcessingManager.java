@@ -2,7 +2,6 @@ package kr.co.amateurs.server.service.report.processor;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
-import kr.co.amateurs.server.domain.common.ErrorCode;
 import kr.co.amateurs.server.domain.dto.report.LLMAnalysisResult;
 import kr.co.amateurs.server.domain.dto.report.QueueStatus;
 import kr.co.amateurs.server.domain.entity.report.Report;
@@ -10,189 +9,287 @@ import kr.co.amateurs.server.domain.entity.report.enums.ReportStatus;
 import kr.co.amateurs.server.repository.report.ReportRepository;
 import kr.co.amateurs.server.service.report.handler.ReportTargetHandler;
 import kr.co.amateurs.server.service.report.handler.ReportTargetHandlerFactory;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * 신고 AI 처리 워커 관리
+ * - 대기열은 reports 테이블의 PENDING 행이라 재시작해도 유실되지 않고, 워커 N 개가 SKIP LOCKED 로 나눠 가져감
+ * - LLM 호출 속도는 ReportRateLimiter 가 할당량에 맞춰 조절하고, 실패한 신고만 지수 백오프로 다시 미룸
+ * - batch-size 가 1보다 크면 최대 batch-size 건을 batch-wait 동안 모아 한 번의 LLM 요청으로 분석
+ * - 처리 도중 프로세스가 죽어 PROCESSING 으로 남은 신고는 lease 가 지나면 다시 대기 상태로 돌림
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ai.processing.enabled", havingValue = "true", matchIfMissing = true)
 public class ReportProcessingManager {
 
+    private static final long RETRY_BASE_MS = 5000;
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofMinutes(10);
+    private static final Duration RATE_LIMIT_WAIT = Duration.ofSeconds(60);
+    private static final long SHUTDOWN_WAIT_MS = 5000;
+
     private final ReportRepository reportRepository;
     private final ReportProcessor reportProcessor;
     private final ReportTargetHandlerFactory handlerFactory;
+    private final ReportWorkQueue workQueue;
+    private final ReportRateLimiter rateLimiter;
+    private final int workerCount;
+    private final int maxAttempts;
+    private final int batchSize;
+    private final Duration batchWait;
+    private final Duration pollInterval;
+    private final Duration processingLease;
 
-    private final BlockingQueue<Long> processingQueue = new LinkedBlockingQueue<>();
     private final AtomicBoolean running = new AtomicBoolean(false);
-    private Thread processingThread;
-
-    private static final int MAX_RETRY_ATTEMPTS = 3;
-    private static final long RATE_LIMIT_WAIT_MS = 60000;
-    private static final long RETRY_WAIT_MS = 5000;
-    private static final long WAIT_NEXT_MS = 1000;
+    private final Semaphore wakeUp = new Semaphore(0);
+    private final List<Thread> workers = new ArrayList<>();
+
+    public ReportProcessingManager(ReportRepository reportRepository,
+                                   ReportProcessor reportProcessor,
+                                   ReportTargetHandlerFactory handlerFactory,
+                                   ReportWorkQueue workQueue,
+                                   ReportRateLimiter rateLimiter,
+                                   @Value("${report.moderation.workers:2}") int workerCount,
+                                   @Value("${report.moderation.max-attempts:3}") int maxAttempts,
+                                   @Value("${report.moderation.batch-size:1}") int batchSize,
+                                   @Value("${report.moderation.batch-wait:2s}") Duration batchWait,
+                                   @Value("${report.moderation.poll-interval:5s}") Duration pollInterval,
+                                   @Value("${report.moderation.processing-lease:10m}") Duration processingLease) {
+        this.reportRepository = reportRepository;
+        this.reportProcessor = reportProcessor;
+        this.handlerFactory = handlerFactory;
+        this.workQueue = workQueue;
+        this.rateLimiter = rateLimiter;
+        this.workerCount = workerCount;
+        this.maxAttempts = maxAttempts;
+        this.batchSize = batchSize;
+        this.batchWait = batchWait;
+        this.pollInterval = pollInterval;
+        this.processingLease = processingLease;
+    }
 
     @PostConstruct
     public void initialize() {
         log.info("신고 처리 관리자 초기화 시작");
 
-        startProcessingThread();
+        recoverStaleReports();
+        startWorkers();
 
-        log.info("신고 처리 관리자 초기화 완료");
+        log.info("신고 처리 관리자 초기화 완료 - 워커 수: {}", workerCount);
     }
 
     @PreDestroy
     public void destroy() {
-        stopProcessingThread();
+        stopWorkers();
         log.info("신고 처리 관리자 종료 완료");
     }
 
+    /**
+     * 신고는 이미 PENDING 으로 저장되어 있으므로 쉬고 있는 워커만 깨움
+     */
     public void addToQueue(Long reportId) {
-        boolean success = processingQueue.offer(reportId);
-        if (success) {
-            log.info("신고 큐 추가 완료 - Report ID: {}, 현재 큐 크기: {}",
-                    reportId, processingQueue.size());
-        } else {
-            log.warn("신고 큐가 가득 찼습니다 - Report ID: {}", reportId);
+        if (wakeUp.availablePermits() < workerCount) {
+            wakeUp.release();
         }
+        log.info("신고 처리 요청 - Report ID: {}", reportId);
     }
 
     public QueueStatus getQueueStatus() {
         return new QueueStatus(
-                processingQueue.size(),
+                (int) workQueue.countPending(),
                 running.get(),
-                processingThread != null && processingThread.isAlive()
+                workers.stream().anyMatch(Thread::isAlive)
         );
     }
 
-    private void startProcessingThread() {
+    @Scheduled(fixedDelayString = "${report.moderation.recovery-interval-ms:60000}")
+    public void recoverStaleReports() {
+        try {
+            ReportWorkQueue.StaleRelease stale = workQueue.releaseStale(processingLease, maxAttempts);
+            if (stale.failed() > 0) {
+                log.error("처리 중 멈춘 신고 {}건이 최대 재시도 횟수를 넘어 오류 상태로 변경", stale.failed());
+            }
+            if (stale.released() > 0) {
+                log.warn("처리 중 멈춘 신고 {}건을 다시 대기 상태로 변경", stale.released());
+                wakeUp.release(Math.min(stale.released(), workerCount));
+            }
+        } catch (Exception e) {
+            log.error("멈춘 신고 복구 실패", e);
+        }
+    }
+
+    private void startWorkers() {
         if (running.compareAndSet(false, true)) {
-            processingThread = new Thread(this::processReports, "report-processor");
-            processingThread.setDaemon(true);
-            processingThread.start();
+            for (int i = 0; i < workerCount; i++) {
+                Thread worker = new Thread(this::runWorker, "report-processor-" + i);
+                worker.setDaemon(true);
+                worker.start();
+                workers.add(worker);
+            }
         }
     }
 
-    private void stopProcessingThread() {
+    private void stopWorkers() {
         if (running.compareAndSet(true, false)) {
-            if (processingThread != null) {
-                processingThread.interrupt();
+            workers.forEach(Thread::interrupt);
+            for (Thread worker : workers) {
                 try {
-                    processingThread.join(RETRY_WAIT_MS);
+                    worker.join(SHUTDOWN_WAIT_MS);
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
+                    return;
                 }
             }
         }
     }
 
-    private void processReports() {
+    /**
+     * 가져간 뒤 종료되면 그 신고는 lease 가 지난 뒤 복구됨
+     */
+    private void runWorker() {
         while (running.get() && !Thread.currentThread().isInterrupted()) {
             try {
-                Long reportId = processingQueue.take();
+                List<Long> claimed = claimBatch();
+                if (claimed.isEmpty()) {
+                    wakeUp.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                    continue;
+                }
 
-                processReportWithRetry(reportId);
+                processClaimed(claimed);
 
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 break;
             } catch (Exception e) {
                 log.error("신고 처리 중 예상치 못한 오류 발생", e);
+                waitBeforeNextPoll();
             }
         }
     }
 
-    private void processReportWithRetry(Long reportId) {
-        int attempt = 0;
-
-        while (attempt < MAX_RETRY_ATTEMPTS) {
-            try {
-                processReport(reportId);
-                Thread.sleep(WAIT_NEXT_MS);
-                return;
+    /**
+     * 한 건이라도 있으면 batchWait 동안 더 모은 뒤 한 번 더 가져감
+     */
+    private List<Long> claimBatch() throws InterruptedException {
+        List<Long> claimed = new ArrayList<>(workQueue.claim(batchSize));
+        if (claimed.isEmpty() || claimed.size() >= batchSize || batchWait.isZero()) {
+            return claimed;
+        }
 
-            } catch (Exception e) {
-                attempt++;
+        Thread.sleep(batchWait.toMillis());
+        claimed.addAll(workQueue.claim(batchSize - claimed.size()));
+        return claimed;
+    }
 
-                ///  429 에러 발생 시 1분 대기 후 다시 시작
-                if (isRateLimitException(e)) {
-                    log.warn("Rate limit 에러 발생");
+    void processClaimed(List<Long> reportIds) throws InterruptedException {
+        List<Report> toAnalyze = new ArrayList<>(reportIds.size());
+        for (Report report : reportRepository.findAllByIdWithRelations(reportIds)) {
+            if (report.getStatus() != ReportStatus.PROCESSING) {
+                log.warn("처리 대상이 아닌 신고 - Report ID: {}", report.getId());
+                continue;
+            }
 
-                    waitForRateLimit();
+            try {
+                ReportTargetHandler handler = handlerFactory.getHandler(report.getReportTarget());
+                if (handler.isAlreadyBlinded(report)) {
+                    log.warn("이미 블라인드 된 {} - Target ID: {}",
+                            handler.getTargetType(), handler.getTargetId(report));
 
-                } else if (attempt < MAX_RETRY_ATTEMPTS) {
-                    waitForRetry();
-                } else {
-                    handleProcessingError(reportId, "최대 재시도 횟수 초과: " + e.getMessage());
-                    break;
+                    handleAlreadyBlindedReport(report, handler);
+                    continue;
                 }
+                toAnalyze.add(report);
+            } catch (Exception e) {
+                log.error("신고 처리 실패 - Report ID: {}", report.getId(), e);
+                handleProcessingFailure(report, e.getMessage());
             }
         }
-    }
 
-    private boolean isRateLimitException(Exception e) {
-        String message = e.getMessage();
-        if (message == null) return false;
-
-        return message.contains("429") ||
-                message.contains("rate limit") ||
-                message.contains("Too Many Requests") ||
-                message.contains("quota exceeded");
-    }
-
-    private void waitForRateLimit() {
-        try {
-            Thread.sleep(RATE_LIMIT_WAIT_MS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+        if (toAnalyze.isEmpty()) {
+            return;
         }
-    }
 
-    private void waitForRetry() {
-        try {
-            Thread.sleep(RETRY_WAIT_MS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+        rateLimiter.acquire();
+        List<LLMAnalysisResult> results = reportProcessor.processAll(toAnalyze);
+        for (int i = 0; i < toAnalyze.size(); i++) {
+            applyResult(toAnalyze.get(i), results.get(i));
         }
     }
 
-    private void processReport(Long reportId) {
+    private void applyResult(Report report, LLMAnalysisResult result) {
         try {
-            Report report = reportRepository.findByIdWithRelations(reportId)
-                    .orElseThrow(ErrorCode.REPORT_NOT_FOUND);
-
-            if (!report.getStatus().equals(ReportStatus.PENDING)) {
-                log.warn("이미 처리된 신고 - Report ID: {}, 상태: {}",
-                        reportId, report.getStatus());
-
-                handleAlreadyProcessedReport(report);
+            if (!result.success()) {
+                handleProcessingFailure(report, result.reason());
                 return;
             }
+            handleProcessingResult(report, result, handlerFactory.getHandler(report.getReportTarget()));
+        } catch (Exception e) {
+            log.error("신고 처리 실패 - Report ID: {}", report.getId(), e);
+            handleProcessingFailure(report, e.getMessage());
+        }
+    }
 
-            ReportTargetHandler handler = handlerFactory.getHandler(report.getReportTarget());
+    /**
+     * 실패한 신고만 뒤로 미루고 다른 신고는 계속 처리
+     * 429 면 공유 토큰 버킷도 잠시 멈춰 다른 워커가 같은 할당량 초과를 반복하지 않게 함
+     */
+    private void handleProcessingFailure(Report report, String reason) {
+        int attempt = report.getAttemptCount() + 1;
+        if (attempt >= maxAttempts) {
+            report.errorProcessing("최대 재시도 횟수 초과: " + reason);
+            reportRepository.save(report);
+            return;
+        }
 
-            if (handler.isAlreadyBlinded(report)) {
-                log.warn("이미 블라인드 된 {} - Target ID: {}",
-                        handler.getTargetType(), handler.getTargetId(report));
+        Duration backoff = retryBackoff(attempt);
+        if (isRateLimited(reason)) {
+            log.warn("Rate limit 에러 발생 - Report ID: {}", report.getId());
+            rateLimiter.penalize(RATE_LIMIT_WAIT);
+            backoff = backoff.compareTo(RATE_LIMIT_WAIT) < 0 ? RATE_LIMIT_WAIT : backoff;
+        }
 
-                handleAlreadyBlindedReport(report, handler);
-                return;
-            }
+        log.warn("신고 처리 재시도 예약 - Report ID: {}, attempt: {}, backoff: {}, reason: {}",
+                report.getId(), attempt, backoff, reason);
+        report.retryLater(LocalDateTime.now().plus(backoff));
+        reportRepository.save(report);
+    }
 
-            report.startProcessing();
-            reportRepository.save(report);
+    /**
+     * 5초부터 두 배씩 늘리고 최대 10분, 같은 시각에 몰리지 않도록 20% 이내로 흔듦
+     */
+    private Duration retryBackoff(int attempt) {
+        long backoffMs = Math.min(MAX_RETRY_BACKOFF.toMillis(), RETRY_BASE_MS << Math.min(attempt - 1, 20));
+        long jitterMs = ThreadLocalRandom.current().nextLong(backoffMs / 5 + 1);
+        return Duration.ofMillis(backoffMs + jitterMs);
+    }
 
-            LLMAnalysisResult result = reportProcessor.process(report);
-            handleProcessingResult(report, result, handler);
+    private boolean isRateLimited(String message) {
+        if (message == null) return false;
 
-        } catch (Exception e) {
-            log.error("신고 처리 실패 - Report ID: {}", reportId, e);
-            handleProcessingError(reportId, e.getMessage());
-            throw e;
+        return message.contains("429") ||
+                message.contains("rate limit") ||
+                message.contains("Too Many Requests") ||
+                message.contains("quota exceeded");
+    }
+
+    private void waitBeforeNextPoll() {
+        try {
+            Thread.sleep(pollInterval.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
     }
 
@@ -208,27 +305,13 @@ public class ReportProcessingManager {
             );
 
             if (result.isHighConfidence()) {
-                Long targetId = handler.getTargetId(report);
                 handler.blindTarget(report);
-
             }
         }
 
         reportRepository.save(report);
     }
 
-    private void handleProcessingError(Long reportId, String errorMessage) {
-        Report report = reportRepository.findById(reportId).orElseThrow(ErrorCode.REPORT_NOT_FOUND);
-        report.errorProcessing(errorMessage);
-        reportRepository.save(report);
-    }
-
-    private void handleAlreadyProcessedReport(Report report) {
-        String reason = String.format("이미 처리된 신고입니다. 현재 상태: %s", report.getStatus());
-        report.completeProcessing(false, reason, null);
-        reportRepository.save(report);
-    }
-
     private void handleAlreadyBlindedReport(Report report, ReportTargetHandler handler) {
         String reason = String.format("이미 블라인드 처리된 %s입니다. 대상 ID: %s",
                 handler.getTargetType(), handler.getTargetId(report));
@@ -236,4 +319,4 @@ public class ReportProcessingManager {
         report.completeProcessing(true, reason, 1.0);
         reportRepository.save(report);
     }
-}
\ No newline at end of file
+}
@@ -1,50 +1,84 @@
 package kr.co.amateurs.server.service.report.processor;
 
 import kr.co.amateurs.server.domain.dto.report.LLMAnalysisResult;
+import kr.co.amateurs.server.domain.dto.report.ReportAnalysisRequest;
 import kr.co.amateurs.server.domain.entity.report.Report;
+import kr.co.amateurs.server.domain.entity.report.enums.ReportTarget;
+import kr.co.amateurs.server.domain.entity.report.enums.ReportType;
 import kr.co.amateurs.server.service.report.llm.ReportLLMService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ReportProcessor {
+    private static final int MAX_MERGED_DESCRIPTIONS = 5;
+
     private final ReportLLMService reportLLMService;
 
-    public LLMAnalysisResult process(Report report) {
-        try {
-            log.info("{} 신고 처리 시작 - Report ID: {}",
-                    report.getReportType().getDescription(), report.getId());
+    /**
+     * 같은 대상에 같은 유형으로 들어온 신고는 내용이 같으므로 한 번만 분석하고 결과를 나눠 줌
+     *
+     * @return reports 와 같은 순서의 분석 결과
+     */
+    public List<LLMAnalysisResult> processAll(List<Report> reports) {
+        Map<AnalysisKey, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < reports.size(); i++) {
+            groups.computeIfAbsent(AnalysisKey.of(reports.get(i)), key -> new ArrayList<>()).add(i);
+        }
 
-            String content = extractContent(report);
+        List<ReportAnalysisRequest> requests = new ArrayList<>(groups.size());
+        for (List<Integer> indexes : groups.values()) {
+            Report report = reports.get(indexes.get(0));
+            requests.add(new ReportAnalysisRequest(extractContent(report), report.getReportType(), mergeDescriptions(reports, indexes)));
+        }
 
-            LLMAnalysisResult result = reportLLMService.analyzeContent(
-                    content,
-                    report.getReportType(),
-                    report.getDescription()
-            );
+        List<LLMAnalysisResult> analyzed = analyze(requests);
 
-            log.info("{} 분석 완료 - Report ID: {}, 위반여부: {}, 신뢰도: {}",
-                    report.getReportType().getDescription(), report.getId(),
-                    result.isViolation(), result.confidenceScore());
+        LLMAnalysisResult[] results = new LLMAnalysisResult[reports.size()];
+        int group = 0;
+        for (List<Integer> indexes : groups.values()) {
+            LLMAnalysisResult result = analyzed.get(group++);
+            indexes.forEach(index -> results[index] = result);
+        }
 
-            return result;
+        log.info("신고 분석 완료 - 신고 {}건, 분석 {}건", reports.size(), requests.size());
+        return List.of(results);
+    }
 
+    private List<LLMAnalysisResult> analyze(List<ReportAnalysisRequest> requests) {
+        try {
+            return reportLLMService.analyzeContents(requests);
         } catch (Exception e) {
-            log.error("{} 신고 처리 실패 - Report ID: {}",
-
-                    report.getReportType().getDescription(), report.getId(), e);
-            return new LLMAnalysisResult(
+            log.error("신고 분석 실패 - 요청 {}건", requests.size(), e);
+            LLMAnalysisResult failure = new LLMAnalysisResult(
                     false,
                     "처리 중 오류 발생: " + e.getMessage(),
                     0.0,
                     false
             );
+            return requests.stream().map(request -> failure).toList();
         }
     }
 
+    private String mergeDescriptions(List<Report> reports, List<Integer> indexes) {
+        return indexes.stream()
+                .map(index -> reports.get(index).getDescription())
+                .filter(Objects::nonNull)
+                .distinct()
+                .limit(MAX_MERGED_DESCRIPTIONS)
+                .collect(Collectors.joining(" / "));
+    }
+
     private String extractContent(Report report) {
         if (report.getPost() != null) {
             String title = report.getPost().getTitle() != null ? report.getPost().getTitle() : "";
@@ -58,4 +92,20 @@ public class ReportProcessor {
             return "";
         }
     }
-}
\ No newline at end of file
+
+    private record AnalysisKey(ReportTarget target, Long targetId, ReportType reportType, Long reportId) {
+
+        /**
+         * 대상이 명확하지 않은 신고는 신고 id 로 따로 분석
+         */
+        static AnalysisKey of(Report report) {
+            if (report.getPost() != null) {
+                return new AnalysisKey(ReportTarget.POST, report.getPost().getId(), report.getReportType(), null);
+            }
+            if (report.getComment() != null) {
+                return new AnalysisKey(ReportTarget.COMMENT, report.getComment().getId(), report.getReportType(), null);
+            }
+            return new AnalysisKey(report.getReportTarget(), null, report.getReportType(), report.getId());
+        }
+    }
+}
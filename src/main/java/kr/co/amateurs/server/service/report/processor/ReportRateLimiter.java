@@ -0,0 +1,26 @@
+package kr.co.amateurs.server.service.report.processor;
+
+import kr.co.amateurs.server.utils.TokenBucketRateLimiter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 신고 분석 LLM 호출용 토큰 버킷
+ * 모든 워커가 공유하며 분당 요청 수를 Gemini 할당량에 맞춰 두면 429 없이 최대 속도로 처리
+ */
+@Component
+public class ReportRateLimiter extends TokenBucketRateLimiter {
+
+    @Autowired
+    public ReportRateLimiter(@Value("${report.moderation.requests-per-minute:15}") int requestsPerMinute,
+                             @Value("${report.moderation.burst:3}") int burst) {
+        this(requestsPerMinute, burst, System::nanoTime);
+    }
+
+    ReportRateLimiter(int requestsPerMinute, int burst, LongSupplier nanoClock) {
+        super(requestsPerMinute, burst, nanoClock);
+    }
+}
@@ -0,0 +1,56 @@
+package kr.co.amateurs.server.service.report.processor;
+
+import kr.co.amateurs.server.domain.entity.report.enums.ReportStatus;
+import kr.co.amateurs.server.repository.report.ReportRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * reports 테이블을 그대로 작업 큐로 사용
+ * PENDING 행이 곧 대기열이라 재시작해도 유실되지 않고, 가져갈 때 PROCESSING 으로 바꿔 커밋하므로 한 번에 한 워커만 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class ReportWorkQueue {
+
+    private static final String STALE_FAILURE_REASON = "최대 재시도 횟수 초과: 처리 시간 초과";
+
+    private final ReportRepository reportRepository;
+
+    @Transactional
+    public List<Long> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = reportRepository.findClaimableIdsForUpdate(now, limit);
+        if (!ids.isEmpty()) {
+            reportRepository.markProcessing(ids, ReportStatus.PROCESSING, now);
+        }
+        return ids;
+    }
+
+    /**
+     * 처리 중에 프로세스가 죽어 lease 가 지나도록 PROCESSING 으로 남은 신고를 다시 대기 상태로 돌림
+     * 회수도 시도 횟수에 더하고, 최대 시도 횟수에 닿은 신고는 대기열로 돌리지 않고 오류 상태로 바꿈
+     */
+    @Transactional
+    public StaleRelease releaseStale(Duration lease, int maxAttempts) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minus(lease);
+        int failed = reportRepository.failExhaustedStaleProcessing(staleBefore, now, maxAttempts,
+                STALE_FAILURE_REASON, ReportStatus.PROCESSING, ReportStatus.ERROR);
+        int released = reportRepository.releaseStaleProcessing(staleBefore, now, ReportStatus.PROCESSING, ReportStatus.PENDING);
+        return new StaleRelease(released, failed);
+    }
+
+    @Transactional(readOnly = true)
+    public long countPending() {
+        return reportRepository.countByStatus(ReportStatus.PENDING);
+    }
+
+    public record StaleRelease(int released, int failed) {
+    }
+}
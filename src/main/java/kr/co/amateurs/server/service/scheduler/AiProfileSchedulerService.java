@@ -1,68 +1,133 @@
 package kr.co.amateurs.server.service.scheduler;
 
-import kr.co.amateurs.server.domain.entity.user.User;
+import kr.co.amateurs.server.domain.dto.ai.AiProfileRefreshProgress;
 import kr.co.amateurs.server.domain.entity.user.enums.Role;
 import kr.co.amateurs.server.repository.user.UserRepository;
 import kr.co.amateurs.server.service.ai.AiProfileService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 최근 활동한 사용자의 AI 프로필 일괄 갱신
+ * 대상은 쿼리 한 번으로 뽑고, 사용자별 작업은 aiProfileExecutor 에서 동시에 처리
+ * 공용 @Scheduled 스레드를 붙잡지 않도록 실행을 넘기고 바로 반환하며, running 플래그로 겹친 실행을 막음
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class AiProfileSchedulerService {
 
+    private static final List<String> TARGET_ROLES = List.of(Role.GUEST.name(), Role.STUDENT.name());
+    private static final int ACTIVITY_CHECK_DAYS = 3;
+
     private final AiProfileService aiProfileService;
     private final UserRepository userRepository;
+    private final Executor aiProfileExecutor;
 
-    private static final int BATCH_SIZE = 20;
-    private static final int ACTIVITY_CHECK_DAYS = 3;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicInteger processed = new AtomicInteger();
+    private final AtomicInteger updated = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private volatile int total;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    public AiProfileSchedulerService(AiProfileService aiProfileService,
+                                     UserRepository userRepository,
+                                     @Qualifier("aiProfileExecutor") Executor aiProfileExecutor) {
+        this.aiProfileService = aiProfileService;
+        this.userRepository = userRepository;
+        this.aiProfileExecutor = aiProfileExecutor;
+    }
 
     @Scheduled(cron = "0 0 4 */3 * *")
     public void updateActiveUsersProfiles() {
+        startRefresh();
+    }
+
+    /**
+     * 대상 조회와 사용자별 작업을 모두 aiProfileExecutor 에 넘기고 바로 반환
+     * 호출한 스레드(단일 @Scheduled 스레드, 관리자 요청 스레드)는 전체 작업을 기다리지 않음
+     * @return 이번 실행이 끝나면 완료되는 future (이미 실행 중이면 바로 완료된 future)
+     */
+    public CompletableFuture<Void> startRefresh() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("AI 프로필 업데이트 작업이 이미 실행 중");
+            return CompletableFuture.completedFuture(null);
+        }
         log.info("AI 프로필 업데이트 스케줄링 작업 시작");
 
         try {
-            int totalProcessed = 0;
-            int totalUpdated = 0;
-            int page = 0;
-
-            Page<User> userPage;
-            do {
-                Pageable pageable = PageRequest.of(page, BATCH_SIZE);
-                userPage = userRepository.findByRoleIn(List.of(Role.GUEST, Role.STUDENT), pageable);
-
-                for (User user : userPage.getContent()) {
-                    totalProcessed++;
+            return CompletableFuture.supplyAsync(() -> userRepository.findRecentlyActiveUserIds(
+                            TARGET_ROLES, LocalDateTime.now().minusDays(ACTIVITY_CHECK_DAYS)), aiProfileExecutor)
+                    .thenCompose(this::updateProfiles)
+                    .whenComplete((ignored, e) -> finish(e));
+        } catch (RuntimeException e) {
+            finish(e);
+            throw e;
+        }
+    }
 
-                    try {
-                        if (aiProfileService.hasRecentActivity(user.getId(), ACTIVITY_CHECK_DAYS)) {
-                            log.info("사용자 활동 감지, 프로필 업데이트 시작: userId={}", user.getId());
-                            aiProfileService.generateCompleteUserProfile(user.getId());
-                            totalUpdated++;
-                            log.info("사용자 프로필 업데이트 완료: userId={}", user.getId());
-                        }
-                    } catch (Exception e) {
-                        log.error("사용자 프로필 업데이트 실패: userId={}", user.getId(), e);
-                    }
-                }
+    public AiProfileRefreshProgress getProgress() {
+        boolean isRunning = running.get();
+        int done = processed.get();
+        Long etaSeconds = null;
+        if (isRunning && done > 0 && startedAt != null) {
+            long elapsedMs = Duration.between(startedAt, LocalDateTime.now()).toMillis();
+            etaSeconds = elapsedMs * (total - done) / done / 1000;
+        }
+        return new AiProfileRefreshProgress(isRunning, total, done, updated.get(), failed.get(),
+                startedAt, isRunning ? null : finishedAt, etaSeconds);
+    }
 
-                page++;
-                log.info("배치 처리 완료: page={}, processed={}, updated={}", page, totalProcessed, totalUpdated);
+    private CompletableFuture<Void> updateProfiles(List<Long> userIds) {
+        start(userIds.size());
+        CompletableFuture<?>[] tasks = userIds.stream()
+                .map(userId -> CompletableFuture.runAsync(() -> updateProfile(userId), aiProfileExecutor))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(tasks);
+    }
 
-            } while (userPage.hasNext());
+    private void finish(Throwable error) {
+        if (error != null) {
+            log.error("AI 프로필 업데이트 스케줄링 작업 실패", error);
+        } else {
+            log.info("AI 프로필 업데이트 스케줄링 작업 완료: 대상={}, 업데이트={}, 실패={}, 소요시간={}s",
+                    total, updated.get(), failed.get(), Duration.between(startedAt, LocalDateTime.now()).toSeconds());
+        }
+        finishedAt = LocalDateTime.now();
+        running.set(false);
+    }
 
-            log.info("AI 프로필 업데이트 스케줄링 작업 완료: 총 처리={}, 총 업데이트={}", totalProcessed, totalUpdated);
+    private void start(int userCount) {
+        total = userCount;
+        processed.set(0);
+        updated.set(0);
+        failed.set(0);
+        startedAt = LocalDateTime.now();
+        finishedAt = null;
+        log.info("최근 {}일 내 활동한 사용자: {} 명", ACTIVITY_CHECK_DAYS, userCount);
+    }
 
+    private void updateProfile(Long userId) {
+        try {
+            aiProfileService.generateCompleteUserProfile(userId);
+            updated.incrementAndGet();
+            log.info("사용자 프로필 업데이트 완료: userId={}", userId);
         } catch (Exception e) {
-            log.error("AI 프로필 업데이트 스케줄링 작업 실패", e);
+            failed.incrementAndGet();
+            log.error("사용자 프로필 업데이트 실패: userId={}", userId, e);
+        } finally {
+            processed.incrementAndGet();
         }
     }
-}
\ No newline at end of file
+}
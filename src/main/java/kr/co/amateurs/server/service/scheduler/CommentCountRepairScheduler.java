@@ -0,0 +1,27 @@
+package kr.co.amateurs.server.service.scheduler;
+
+import kr.co.amateurs.server.service.post.CommentCountRepairService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CommentCountRepairScheduler {
+
+    private final CommentCountRepairService commentCountRepairService;
+
+    /**
+     * 매일 새벽 4시에 게시글 댓글 수 보정
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void repairCommentCounts() {
+        try {
+            commentCountRepairService.repairCommentCounts();
+        } catch (Exception e) {
+            log.error("댓글 수 보정 작업 실패", e);
+        }
+    }
+}
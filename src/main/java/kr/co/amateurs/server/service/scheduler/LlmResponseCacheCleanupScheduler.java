@@ -0,0 +1,28 @@
+package kr.co.amateurs.server.service.scheduler;
+
+import kr.co.amateurs.server.service.ai.LlmResponseCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LlmResponseCacheCleanupScheduler {
+
+    private final LlmResponseCache llmResponseCache;
+
+    /**
+     * 매일 새벽 3시 30분에 만료되었거나 최대 개수를 넘은 LLM 응답 캐시 정리
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void cleanupLlmResponseCache() {
+        try {
+            int deleted = llmResponseCache.evictDatabaseEntries();
+            log.info("LLM 응답 캐시 정리 완료: {} 건 삭제", deleted);
+        } catch (Exception e) {
+            log.error("LLM 응답 캐시 정리 작업 실패", e);
+        }
+    }
+}
@@ -24,7 +24,7 @@ public class ViewCountScheduler {
         try {
             viewCountService.syncViewCountsToDB();
         } catch (Exception e) {
-            log.error("조회수 동기화 오류 발생");
+            log.error("조회수 동기화 오류 발생", e);
         }
     }
 }
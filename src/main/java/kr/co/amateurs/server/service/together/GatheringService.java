@@ -2,7 +2,10 @@ package kr.co.amateurs.server.service.together;
 
 
 import jakarta.transaction.Transactional;
+import kr.co.amateurs.server.config.jwt.UserPrincipal;
 import kr.co.amateurs.server.domain.common.ErrorCode;
+import kr.co.amateurs.server.domain.dto.common.CursorPage;
+import kr.co.amateurs.server.domain.dto.common.PageHydrator;
 import kr.co.amateurs.server.domain.dto.common.PageResponseDTO;
 import kr.co.amateurs.server.domain.dto.common.PaginationSortType;
 import kr.co.amateurs.server.domain.dto.community.CommunityRequestDTO;
@@ -22,7 +25,9 @@ import kr.co.amateurs.server.exception.CustomException;
 import kr.co.amateurs.server.repository.bookmark.BookmarkRepository;
 import kr.co.amateurs.server.repository.comment.CommentRepository;
 import kr.co.amateurs.server.repository.like.LikeRepository;
+import kr.co.amateurs.server.repository.post.PostKeysetJooqRepository;
 import kr.co.amateurs.server.repository.post.PostRepository;
+import kr.co.amateurs.server.repository.post.PostSearchJooqRepository;
 import kr.co.amateurs.server.repository.post.PostStatisticsRepository;
 import kr.co.amateurs.server.repository.report.ReportRepository;
 import kr.co.amateurs.server.repository.together.GatheringRepository;
@@ -31,6 +36,7 @@ import kr.co.amateurs.server.service.ai.PostEmbeddingService;
 import kr.co.amateurs.server.service.file.FileService;
 import kr.co.amateurs.server.service.bookmark.BookmarkService;
 import kr.co.amateurs.server.service.like.LikeService;
+import kr.co.amateurs.server.service.post.ViewCountService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -69,30 +75,42 @@ public class GatheringService {
     private final FileService fileService;
 
     private final PostEmbeddingService postEmbeddingService;
+    private final ViewCountService viewCountService;
+    private final PostKeysetJooqRepository postKeysetJooqRepository;
+    private final PostSearchJooqRepository postSearchJooqRepository;
 
     private final ApplicationEventPublisher eventPublisher;
 
     public PageResponseDTO<GatheringPostResponseDTO> getGatheringPostList(PostPaginationParam paginationParam) {
         String keyword = paginationParam.getKeyword();
         Page<GatheringPostResponseDTO> gpPage;
-        if (paginationParam.getField() == PaginationSortType.POST_MOST_VIEW) {
+        if (paginationParam.isCursorMode()) {
+            CursorPage<Long> postIds = postKeysetJooqRepository.findBoardPostIds(List.of(BoardType.GATHER), keyword, paginationParam);
+            gpPage = postIds.hydrate(gatheringRepository.findDTOByPostIdIn(postIds.getContent()), GatheringPostResponseDTO::postId);
+        } else if (keyword != null && !keyword.trim().isEmpty()) {
+            Page<Long> postIds = postSearchJooqRepository.searchBoardPostIds(List.of(BoardType.GATHER), keyword.trim(), paginationParam);
+            gpPage = PageHydrator.hydrate(postIds, gatheringRepository.findDTOByPostIdIn(postIds.getContent()), GatheringPostResponseDTO::postId);
+        } else if (paginationParam.getField() == PaginationSortType.POST_MOST_VIEW) {
             Pageable pageable = PageRequest.of(paginationParam.getPage(), paginationParam.getSize());
-            gpPage = gatheringRepository.findDTOByContentOrderByViewCount(keyword, pageable);
+            gpPage = gatheringRepository.findAllDTOOrderByViewCount(pageable);
         }else{
             Pageable pageable = paginationParam.toPageable();
-            gpPage = gatheringRepository.findDTOByContent(keyword, pageable);
+            gpPage = gatheringRepository.findAllDTO(pageable);
         }
 
-        Page<GatheringPostResponseDTO> processedPage = gpPage.map(GatheringPostResponseDTO::applyBlindFilter);
+        Map<Long, Long> pendingViewCounts = viewCountService.getPendingViewCounts(gpPage.map(GatheringPostResponseDTO::postId).getContent());
+        Page<GatheringPostResponseDTO> processedPage = gpPage
+                .map(dto -> dto.applyPendingViewCount(pendingViewCounts))
+                .map(GatheringPostResponseDTO::applyBlindFilter);
 
         return convertPageToDTO(processedPage);
     }
 
 
     public GatheringPostResponseDTO getGatheringPost(Long id, String ipAddress) {
-        User user = userService.getCurrentLoginUser();
+        Long userId = userService.getCurrentLoginPrincipal().id();
 
-        GatheringPostResponseDTO gp = gatheringRepository.findDTOByIdAndUserId(id, user.getId())
+        GatheringPostResponseDTO gp = gatheringRepository.findDTOByIdAndUserId(id, userId)
                 .orElseThrow(ErrorCode.POST_NOT_FOUND);
 
         eventPublisher.publishEvent(new PostViewedEvent(gp.postId(), ipAddress));
@@ -185,15 +203,15 @@ public class GatheringService {
     }
 
     private void validateUser(Post post) {
-        User currentUser = userService.getCurrentLoginUser();
+        UserPrincipal currentUser = userService.getCurrentLoginPrincipal();
 
         if (!canEditOrDelete(post, currentUser)) {
             throw new CustomException(ErrorCode.ACCESS_DENIED);
         }
     }
 
-    private boolean canEditOrDelete(Post post, User user) {
-        return Objects.equals(post.getUser().getId(), user.getId()) || user.getRole() == Role.ADMIN;
+    private boolean canEditOrDelete(Post post, UserPrincipal user) {
+        return Objects.equals(post.getUser().getId(), user.id()) || user.role() == Role.ADMIN;
     }
 
     @Transactional
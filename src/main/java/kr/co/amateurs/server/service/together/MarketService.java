@@ -1,7 +1,10 @@
 package kr.co.amateurs.server.service.together;
 
 import jakarta.transaction.Transactional;
+import kr.co.amateurs.server.config.jwt.UserPrincipal;
 import kr.co.amateurs.server.domain.common.ErrorCode;
+import kr.co.amateurs.server.domain.dto.common.CursorPage;
+import kr.co.amateurs.server.domain.dto.common.PageHydrator;
 import kr.co.amateurs.server.domain.dto.common.PageResponseDTO;
 import kr.co.amateurs.server.domain.dto.common.PaginationSortType;
 import kr.co.amateurs.server.domain.dto.community.CommunityRequestDTO;
@@ -23,7 +26,9 @@ import kr.co.amateurs.server.exception.CustomException;
 import kr.co.amateurs.server.repository.bookmark.BookmarkRepository;
 import kr.co.amateurs.server.repository.comment.CommentRepository;
 import kr.co.amateurs.server.repository.like.LikeRepository;
+import kr.co.amateurs.server.repository.post.PostKeysetJooqRepository;
 import kr.co.amateurs.server.repository.post.PostRepository;
+import kr.co.amateurs.server.repository.post.PostSearchJooqRepository;
 import kr.co.amateurs.server.repository.post.PostStatisticsRepository;
 import kr.co.amateurs.server.repository.report.ReportRepository;
 import kr.co.amateurs.server.repository.together.MarketRepository;
@@ -32,6 +37,7 @@ import kr.co.amateurs.server.service.ai.PostEmbeddingService;
 import kr.co.amateurs.server.service.bookmark.BookmarkService;
 import kr.co.amateurs.server.service.file.FileService;
 import kr.co.amateurs.server.service.like.LikeService;
+import kr.co.amateurs.server.service.post.ViewCountService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -70,6 +76,9 @@ public class MarketService {
 
     private final FileService fileService;
     private final PostEmbeddingService postEmbeddingService;
+    private final ViewCountService viewCountService;
+    private final PostKeysetJooqRepository postKeysetJooqRepository;
+    private final PostSearchJooqRepository postSearchJooqRepository;
 
     private final ApplicationEventPublisher eventPublisher;
 
@@ -77,24 +86,33 @@ public class MarketService {
     public PageResponseDTO<MarketPostResponseDTO> getMarketPostList(PostPaginationParam paginationParam) {
         String keyword = paginationParam.getKeyword();
         Page<MarketPostResponseDTO> mpPage;
-        if (paginationParam.getField() == PaginationSortType.POST_MOST_VIEW) {
+        if (paginationParam.isCursorMode()) {
+            CursorPage<Long> postIds = postKeysetJooqRepository.findBoardPostIds(List.of(BoardType.MARKET), keyword, paginationParam);
+            mpPage = postIds.hydrate(marketRepository.findDTOByPostIdIn(postIds.getContent()), MarketPostResponseDTO::postId);
+        } else if (keyword != null && !keyword.trim().isEmpty()) {
+            Page<Long> postIds = postSearchJooqRepository.searchBoardPostIds(List.of(BoardType.MARKET), keyword.trim(), paginationParam);
+            mpPage = PageHydrator.hydrate(postIds, marketRepository.findDTOByPostIdIn(postIds.getContent()), MarketPostResponseDTO::postId);
+        } else if (paginationParam.getField() == PaginationSortType.POST_MOST_VIEW) {
             Pageable pageable = PageRequest.of(paginationParam.getPage(), paginationParam.getSize());
-            mpPage = marketRepository.findDTOByContentOrderByViewCount(keyword, pageable);
+            mpPage = marketRepository.findAllDTOOrderByViewCount(pageable);
         }else{
             Pageable pageable = paginationParam.toPageable();
-            mpPage = marketRepository.findDTOByContent(keyword, pageable);
+            mpPage = marketRepository.findAllDTO(pageable);
         }
 
-        Page<MarketPostResponseDTO> processedPage = mpPage.map(MarketPostResponseDTO::applyBlindFilter);
+        Map<Long, Long> pendingViewCounts = viewCountService.getPendingViewCounts(mpPage.map(MarketPostResponseDTO::postId).getContent());
+        Page<MarketPostResponseDTO> processedPage = mpPage
+                .map(dto -> dto.applyPendingViewCount(pendingViewCounts))
+                .map(MarketPostResponseDTO::applyBlindFilter);
 
         return convertPageToDTO(processedPage);
     }
 
 
     public MarketPostResponseDTO getMarketPost(Long id, String ipAddress) {
-        User user = userService.getCurrentLoginUser();
+        Long userId = userService.getCurrentLoginPrincipal().id();
 
-        MarketPostResponseDTO mp = marketRepository.findDTOByIdAndUserId(id, user.getId())
+        MarketPostResponseDTO mp = marketRepository.findDTOByIdAndUserId(id, userId)
                 .orElseThrow(ErrorCode.POST_NOT_FOUND);
 
         eventPublisher.publishEvent(new PostViewedEvent(mp.postId(), ipAddress));
@@ -185,7 +203,7 @@ public class MarketService {
     }
 
     private void validateUser(Post post) {
-        User currentUser = userService.getCurrentLoginUser();
+        UserPrincipal currentUser = userService.getCurrentLoginPrincipal();
 
         if (!canEditOrDelete(post, currentUser)) {
             throw new CustomException(ErrorCode.ACCESS_DENIED);
@@ -193,8 +211,8 @@ public class MarketService {
     }
 
 
-    private boolean canEditOrDelete(Post post, User user) {
-        return Objects.equals(post.getUser().getId(), user.getId()) || user.getRole() == Role.ADMIN;
+    private boolean canEditOrDelete(Post post, UserPrincipal user) {
+        return Objects.equals(post.getUser().getId(), user.id()) || user.role() == Role.ADMIN;
     }
 
     @Transactional
@@ -2,7 +2,10 @@ package kr.co.amateurs.server.service.together;
 
 
 import jakarta.transaction.Transactional;
+import kr.co.amateurs.server.config.jwt.UserPrincipal;
 import kr.co.amateurs.server.domain.common.ErrorCode;
+import kr.co.amateurs.server.domain.dto.common.CursorPage;
+import kr.co.amateurs.server.domain.dto.common.PageHydrator;
 import kr.co.amateurs.server.domain.dto.common.PageResponseDTO;
 import kr.co.amateurs.server.domain.dto.common.PaginationSortType;
 import kr.co.amateurs.server.domain.dto.community.CommunityRequestDTO;
@@ -23,7 +26,9 @@ import kr.co.amateurs.server.exception.CustomException;
 import kr.co.amateurs.server.repository.bookmark.BookmarkRepository;
 import kr.co.amateurs.server.repository.comment.CommentRepository;
 import kr.co.amateurs.server.repository.like.LikeRepository;
+import kr.co.amateurs.server.repository.post.PostKeysetJooqRepository;
 import kr.co.amateurs.server.repository.post.PostRepository;
+import kr.co.amateurs.server.repository.post.PostSearchJooqRepository;
 import kr.co.amateurs.server.repository.post.PostStatisticsRepository;
 import kr.co.amateurs.server.repository.report.ReportRepository;
 import kr.co.amateurs.server.repository.together.MatchRepository;
@@ -32,6 +37,7 @@ import kr.co.amateurs.server.service.ai.PostEmbeddingService;
 import kr.co.amateurs.server.service.bookmark.BookmarkService;
 import kr.co.amateurs.server.service.file.FileService;
 import kr.co.amateurs.server.service.like.LikeService;
+import kr.co.amateurs.server.service.post.ViewCountService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -71,30 +77,42 @@ public class MatchService {
 
     private final FileService fileService;
     private final PostEmbeddingService postEmbeddingService;
+    private final ViewCountService viewCountService;
+    private final PostKeysetJooqRepository postKeysetJooqRepository;
+    private final PostSearchJooqRepository postSearchJooqRepository;
 
     private final ApplicationEventPublisher eventPublisher;
 
     public PageResponseDTO<MatchPostResponseDTO> getMatchPostList(PostPaginationParam paginationParam) {
         String keyword = paginationParam.getKeyword();
         Page<MatchPostResponseDTO> mpPage;
-        if (paginationParam.getField() == PaginationSortType.POST_MOST_VIEW) {
+        if (paginationParam.isCursorMode()) {
+            CursorPage<Long> postIds = postKeysetJooqRepository.findBoardPostIds(List.of(BoardType.MATCH), keyword, paginationParam);
+            mpPage = postIds.hydrate(matchRepository.findDTOByPostIdIn(postIds.getContent()), MatchPostResponseDTO::postId);
+        } else if (keyword != null && !keyword.trim().isEmpty()) {
+            Page<Long> postIds = postSearchJooqRepository.searchBoardPostIds(List.of(BoardType.MATCH), keyword.trim(), paginationParam);
+            mpPage = PageHydrator.hydrate(postIds, matchRepository.findDTOByPostIdIn(postIds.getContent()), MatchPostResponseDTO::postId);
+        } else if (paginationParam.getField() == PaginationSortType.POST_MOST_VIEW) {
             Pageable pageable = PageRequest.of(paginationParam.getPage(), paginationParam.getSize());
-            mpPage = matchRepository.findDTOByContentOrderByViewCount(keyword, pageable);
+            mpPage = matchRepository.findAllDTOOrderByViewCount(pageable);
         }else{
             Pageable pageable = paginationParam.toPageable();
-            mpPage = matchRepository.findDTOByContent(keyword, pageable);
+            mpPage = matchRepository.findAllDTO(pageable);
         }
 
-        Page<MatchPostResponseDTO> processedPage = mpPage.map(MatchPostResponseDTO::applyBlindFilter);
+        Map<Long, Long> pendingViewCounts = viewCountService.getPendingViewCounts(mpPage.map(MatchPostResponseDTO::postId).getContent());
+        Page<MatchPostResponseDTO> processedPage = mpPage
+                .map(dto -> dto.applyPendingViewCount(pendingViewCounts))
+                .map(MatchPostResponseDTO::applyBlindFilter);
 
         return convertPageToDTO(processedPage);
     }
 
 
     public MatchPostResponseDTO getMatchPost(Long id, String ipAddress) {
-        User user = userService.getCurrentLoginUser();
+        Long userId = userService.getCurrentLoginPrincipal().id();
 
-        MatchPostResponseDTO mp = matchRepository.findDTOByIdAndUserId(id, user.getId())
+        MatchPostResponseDTO mp = matchRepository.findDTOByIdAndUserId(id, userId)
                 .orElseThrow(ErrorCode.POST_NOT_FOUND);
 
         eventPublisher.publishEvent(new PostViewedEvent(mp.postId(), ipAddress));
@@ -185,15 +203,15 @@ public class MatchService {
     }
 
     private void validateUser(Post post) {
-        User currentUser = userService.getCurrentLoginUser();
+        UserPrincipal currentUser = userService.getCurrentLoginPrincipal();
 
         if (!canEditOrDelete(post, currentUser)) {
             throw new CustomException(ErrorCode.ACCESS_DENIED);
         }
     }
 
-    private boolean canEditOrDelete(Post post, User user) {
-        return Objects.equals(post.getUser().getId(), user.getId()) || user.getRole() == Role.ADMIN;
+    private boolean canEditOrDelete(Post post, UserPrincipal user) {
+        return Objects.equals(post.getUser().getId(), user.id()) || user.role() == Role.ADMIN;
     }
 
     @Transactional
@@ -0,0 +1,58 @@
+package kr.co.amateurs.server.utils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 외부 API 호출 속도 제한용 토큰 버킷
+ * 분당 요청 수만큼 토큰을 채우고 최대 burst 개까지 모아 둠
+ */
+public class TokenBucketRateLimiter {
+
+    private final double permitsPerNano;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long refilledAt;
+
+    public TokenBucketRateLimiter(int requestsPerMinute, int burst, LongSupplier nanoClock) {
+        this.permitsPerNano = requestsPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.capacity = burst;
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.refilledAt = nanoClock.getAsLong();
+    }
+
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        while ((waitNanos = reserve()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * 토큰이 있으면 하나 가져가고 0, 없으면 다음 토큰까지 기다릴 시간(ns)
+     */
+    public synchronized long reserve() {
+        long now = nanoClock.getAsLong();
+        if (now > refilledAt) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * permitsPerNano);
+            refilledAt = now;
+        }
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return Math.max(0, refilledAt - now) + (long) Math.ceil((1 - tokens) / permitsPerNano);
+    }
+
+    /**
+     * 429 를 받으면 쌓인 토큰을 비우고 pause 동안은 채우지 않음
+     */
+    public synchronized void penalize(Duration pause) {
+        tokens = 0;
+        refilledAt = Math.max(refilledAt, nanoClock.getAsLong() + pause.toNanos());
+    }
+}
@@ -0,0 +1,10 @@
+ALTER TABLE `post_statistics`
+    ADD COLUMN `comment_count` int NOT NULL DEFAULT 0;
+
+UPDATE `post_statistics`
+SET `comment_count` = (
+    SELECT COUNT(*)
+    FROM `comments` c
+    WHERE c.`post_id` = `post_statistics`.`post_id`
+      AND c.`is_deleted` = FALSE
+);
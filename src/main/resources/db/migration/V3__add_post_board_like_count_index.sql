@@ -0,0 +1 @@
+CREATE INDEX `idx_post_board_like` ON `posts` (`board_type`, `like_count`);
@@ -0,0 +1 @@
+CREATE FULLTEXT INDEX `ft_post_title_content` ON `posts` (`title`, `content`) WITH PARSER ngram;
@@ -0,0 +1,7 @@
+ALTER TABLE `reports`
+    ADD COLUMN `attempt_count` int NOT NULL DEFAULT 0;
+
+ALTER TABLE `reports`
+    ADD COLUMN `next_attempt_at` datetime(6) DEFAULT NULL;
+
+CREATE INDEX `idx_reports_status_next_attempt_at` ON `reports` (`status`, `next_attempt_at`);
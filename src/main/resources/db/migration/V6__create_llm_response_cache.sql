@@ -0,0 +1,9 @@
+CREATE TABLE `llm_response_cache` (
+                                      `cache_key` varchar(64) NOT NULL,
+                                      `namespace` varchar(100) NOT NULL,
+                                      `response` text NOT NULL,
+                                      `created_at` datetime(6) NOT NULL,
+                                      `expires_at` datetime(6) NOT NULL,
+                                      PRIMARY KEY (`cache_key`),
+                                      KEY `idx_llm_response_cache_expires_at` (`expires_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -24,10 +24,11 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 
 
 class AlarmAspectTest extends AbstractControllerTest {
@@ -83,7 +84,7 @@ class AlarmAspectTest extends AbstractControllerTest {
         void 다이렉트_메시지_전송_시_수신자에게_알람이_자동으로_생성된다() {
             // given
             setAuthentication(messageReceiver.getEmail());
-            sseService.connect();
+            sseService.connect(null);
 
             directMessageRoomFixture.createAndSaveRoom(
                     DirectMessageRoomFixture.ROOM_1,
@@ -103,11 +104,11 @@ class AlarmAspectTest extends AbstractControllerTest {
             // when
             directMessageService.saveMessage(DirectMessageRoomFixture.ROOM_1, messageRequest);
 
-            // then
-            List<Alarm> alarms = alarmRepository.findAll();
-            assertThat(alarms).hasSize(1);
+            // then - 알람은 커밋 이후 별도 스레드에서 저장됨
+            await().atMost(Duration.ofSeconds(5))
+                    .untilAsserted(() -> assertThat(alarmRepository.findAll()).hasSize(1));
 
-            Alarm alarm = alarms.get(0);
+            Alarm alarm = alarmRepository.findAll().get(0);
             assertThat(alarm.getType()).isEqualTo(AlarmType.DIRECT_MESSAGE);
             assertThat(alarm.getTitle()).isEqualTo(AlarmType.DIRECT_MESSAGE.getTitle());
             assertThat(alarm.getContent()).contains(messageSender.getNickname() + "님으로부터 새로운 메시지가 도착했습니다.");
@@ -136,18 +137,16 @@ class AlarmAspectTest extends AbstractControllerTest {
                     .senderName(messageSender.getNickname())
                     .build();
 
-            // when
-            assertThatThrownBy(() -> {
-                directMessageService.saveMessage(DirectMessageRoomFixture.ROOM_1, messageRequest);
-            }).isInstanceOf(RuntimeException.class);
+            // when - 알람 생성은 요청 스레드 밖에서 실패하므로 예외가 전파되지 않음
+            directMessageService.saveMessage(DirectMessageRoomFixture.ROOM_1, messageRequest);
 
             // then
             List<DirectMessage> messages = directMessageRepository.findAll();
             assertThat(messages).hasSize(1);
             assertThat(messages.get(0).getContent()).isEqualTo("트랜잭션 분리 테스트 메시지");
 
-            List<Alarm> alarms = alarmRepository.findAll();
-            assertThat(alarms).isEmpty();
+            await().during(Duration.ofMillis(500)).atMost(Duration.ofSeconds(2))
+                    .untilAsserted(() -> assertThat(alarmRepository.findAll()).isEmpty());
         }
     }
 
@@ -0,0 +1,96 @@
+package kr.co.amateurs.server.annotation.alarmtrigger;
+
+import kr.co.amateurs.server.annotation.alarmtrigger.creator.AlarmCreator;
+import kr.co.amateurs.server.annotation.alarmtrigger.creator.AlarmCreatorRegistry;
+import kr.co.amateurs.server.domain.entity.alarm.Alarm;
+import kr.co.amateurs.server.domain.entity.alarm.enums.AlarmType;
+import kr.co.amateurs.server.domain.event.AlarmTriggeredEvent;
+import kr.co.amateurs.server.fixture.alarm.AlarmTestFixture;
+import kr.co.amateurs.server.service.alarm.AlarmService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AlarmTriggerDispatcherTest {
+
+    @Mock
+    private AlarmCreatorRegistry alarmCreatorRegistry;
+
+    @Mock
+    private AlarmCreator alarmCreator;
+
+    @Mock
+    private AlarmService alarmService;
+
+    @Test
+    void 쌓인_알람_요청을_한_번에_저장한다() {
+        // given - 실행기에 넘긴 작업을 모아 두었다가 한 번에 실행
+        List<Runnable> pendingTasks = new ArrayList<>();
+        AlarmTriggerDispatcher dispatcher = new AlarmTriggerDispatcher(
+                alarmCreatorRegistry, alarmService, pendingTasks::add, 100, 100);
+        Alarm first = AlarmTestFixture.defaultAlarm().userId(1L).build();
+        Alarm second = AlarmTestFixture.defaultAlarm().userId(2L).build();
+        given(alarmCreatorRegistry.getCreator(AlarmType.COMMENT)).willReturn(alarmCreator);
+        given(alarmCreator.createAlarms("first", null)).willReturn(List.of(first));
+        given(alarmCreator.createAlarms("second", null)).willReturn(List.of(second));
+
+        // when
+        dispatcher.handleAlarmTriggered(new AlarmTriggeredEvent(AlarmType.COMMENT, "first", null));
+        dispatcher.handleAlarmTriggered(new AlarmTriggeredEvent(AlarmType.COMMENT, "second", null));
+        verify(alarmService, never()).saveAlarms(any());
+        pendingTasks.forEach(Runnable::run);
+
+        // then
+        assertThat(pendingTasks).hasSize(1);
+        verify(alarmService).saveAlarms(List.of(first, second));
+    }
+
+    @Test
+    void 종료_시_대기열에_남은_요청을_모두_저장한다() {
+        // given - 실행기가 작업을 실행하지 못한 채 종료되는 상황
+        AlarmTriggerDispatcher dispatcher = new AlarmTriggerDispatcher(
+                alarmCreatorRegistry, alarmService, task -> { }, 100, 100);
+        Alarm alarm = AlarmTestFixture.defaultAlarm().userId(1L).build();
+        given(alarmCreatorRegistry.getCreator(AlarmType.COMMENT)).willReturn(alarmCreator);
+        given(alarmCreator.createAlarms("pending", null)).willReturn(List.of(alarm));
+        dispatcher.handleAlarmTriggered(new AlarmTriggeredEvent(AlarmType.COMMENT, "pending", null));
+
+        // when
+        dispatcher.drainOnShutdown();
+
+        // then
+        verify(alarmService).saveAlarms(List.of(alarm));
+    }
+
+    @Test
+    void 알람_생성에_실패한_요청만_건너뛴다() {
+        // given
+        AlarmTriggerDispatcher dispatcher = new AlarmTriggerDispatcher(
+                alarmCreatorRegistry, alarmService, Runnable::run, 100, 100);
+        Alarm alarm = AlarmTestFixture.defaultAlarm().userId(1L).build();
+        given(alarmCreatorRegistry.getCreator(AlarmType.DIRECT_MESSAGE)).willReturn(alarmCreator);
+        given(alarmCreator.createAlarms("broken", null)).willThrow(new IllegalStateException("boom"));
+        given(alarmCreator.createAlarms("ok", null)).willReturn(List.of(alarm));
+
+        // when
+        dispatcher.handleAlarmTriggered(new AlarmTriggeredEvent(AlarmType.DIRECT_MESSAGE, "broken", null));
+        dispatcher.handleAlarmTriggered(new AlarmTriggeredEvent(AlarmType.DIRECT_MESSAGE, "ok", null));
+
+        // then
+        ArgumentCaptor<List<Alarm>> saved = ArgumentCaptor.forClass(List.class);
+        verify(alarmService).saveAlarms(saved.capture());
+        assertThat(saved.getValue()).containsExactly(alarm);
+    }
+}
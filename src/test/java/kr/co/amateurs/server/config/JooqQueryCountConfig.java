@@ -0,0 +1,47 @@
+package kr.co.amateurs.server.config;
+
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.ExecuteListenerProvider;
+import org.jooq.ExecuteType;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * jOOQ 로 실행된 조회 쿼리 수를 세는 테스트 설정 (N+1 여부 검증용)
+ */
+@TestConfiguration
+public class JooqQueryCountConfig {
+
+    @Bean
+    public JooqQueryCounter jooqQueryCounter() {
+        return new JooqQueryCounter();
+    }
+
+    @Bean
+    public ExecuteListenerProvider jooqQueryCountListenerProvider(JooqQueryCounter jooqQueryCounter) {
+        return new DefaultExecuteListenerProvider(jooqQueryCounter);
+    }
+
+    public static class JooqQueryCounter implements ExecuteListener {
+        private final AtomicInteger readCount = new AtomicInteger();
+
+        @Override
+        public void executeStart(ExecuteContext ctx) {
+            if (ctx.type() == ExecuteType.READ) {
+                readCount.incrementAndGet();
+            }
+        }
+
+        public int getReadCount() {
+            return readCount.get();
+        }
+
+        public void reset() {
+            readCount.set(0);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package kr.co.amateurs.server.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheTest {
+
+    private static final String CACHE_NAME = "popularPosts";
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrentMapCache remoteCache;
+    private TwoLevelCache twoLevelCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        remoteCache = new ConcurrentMapCache(CACHE_NAME, false);
+        twoLevelCache = new TwoLevelCache(
+                CACHE_NAME,
+                Caffeine.newBuilder().expireAfterWrite(Duration.ofSeconds(30)).build(),
+                remoteCache,
+                invalidationPublisher,
+                meterRegistry
+        );
+    }
+
+    @Test
+    void L2에서_찾은_값은_L1에_올라가_다음_조회부터_L1에서_응답한다() {
+        // given
+        remoteCache.put(10, "cached");
+
+        // when
+        twoLevelCache.get(10);
+        remoteCache.evict(10);
+        Object value = twoLevelCache.get(10).get();
+
+        // then
+        assertThat(value).isEqualTo("cached");
+        assertThat(requestCount("l1", "hit")).isEqualTo(1);
+        assertThat(requestCount("l2", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    void 같은_키를_동시에_조회해도_원본은_한_번만_로딩한다() throws Exception {
+        // given
+        int concurrency = 8;
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return twoLevelCache.get(10, () -> {
+                    loadCount.incrementAndGet();
+                    Thread.sleep(100);
+                    return "loaded";
+                });
+            }));
+        }
+        start.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo("loaded");
+        }
+        executor.shutdown();
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(remoteCache.get(10).get()).isEqualTo("loaded");
+    }
+
+    @Test
+    void 다른_인스턴스의_무효화_메시지는_L1만_비운다() {
+        // given
+        twoLevelCache.put(10, "cached");
+
+        // when
+        twoLevelCache.evictLocal("10");
+        twoLevelCache.get(10);
+
+        // then
+        assertThat(requestCount("l1", "miss")).isEqualTo(1);
+        assertThat(requestCount("l2", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    void 전체_삭제하면_두_계층을_모두_비우고_무효화_메시지를_발행한다() {
+        // given
+        twoLevelCache.put(10, "cached");
+
+        // when
+        twoLevelCache.clear();
+
+        // then
+        assertThat(twoLevelCache.get(10)).isNull();
+        assertThat(remoteCache.get(10)).isNull();
+        verify(invalidationPublisher).publish(eq(CACHE_NAME), isNull());
+    }
+
+    private double requestCount(String tier, String result) {
+        return meterRegistry.get("cache.tier.requests")
+                .tag("cache", CACHE_NAME)
+                .tag("tier", tier)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
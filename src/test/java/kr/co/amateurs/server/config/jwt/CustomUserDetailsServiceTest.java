@@ -14,6 +14,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.Instant;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
@@ -53,7 +55,20 @@ public class CustomUserDetailsServiceTest {
         // then
         assertThat(userDetails).isInstanceOf(CustomUserDetails.class);
         assertThat(userDetails.getUsername()).isEqualTo("test@test.com");
-        assertThat(userDetails.getPassword()).isEqualTo("password123");
+        assertThat(userDetails.getPassword()).isNull();
+    }
+
+    @Test
+    void 탈퇴한_사용자의_토큰은_인증_정보를_만들지_않는다() {
+        // given
+        testUser.anonymizeAndDelete("deleted@anonymous.amateurs.com", "탈퇴한회원_1");
+        given(userService.findById(1L)).willReturn(testUser);
+        AccessTokenClaims claims = new AccessTokenClaims("test@test.com", 1L, Role.GUEST, Instant.now().plusSeconds(60));
+
+        // when & then
+        assertThatThrownBy(() -> customUserDetailsService.loadUserByClaims(claims))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.USER_NOT_FOUND);
     }
 
     @Test
@@ -37,7 +37,7 @@ public class CustomUserDetailsTest {
 
         // then
         assertThat(userDetails.getUsername()).isEqualTo("test@test.com");
-        assertThat(userDetails.getPassword()).isEqualTo("password123");
+        assertThat(userDetails.getPassword()).isNull();
         assertThat(userDetails.isEnabled()).isTrue();
         assertThat(userDetails.isAccountNonExpired()).isTrue();
         assertThat(userDetails.isAccountNonLocked()).isTrue();
@@ -63,14 +63,15 @@ public class CustomUserDetailsTest {
     }
 
     @Test
-    void getUser로_원본_User_엔티티에_접근할_수_있다() {
+    void getPrincipal로_User_엔티티_대신_사용자_정보에_접근할_수_있다() {
         // when
         CustomUserDetails userDetails = new CustomUserDetails(testUser);
 
         // then
-        assertThat(userDetails.getUser()).isEqualTo(testUser);
-        assertThat(userDetails.getUser().getNickname()).isEqualTo("testnick");
-        assertThat(userDetails.getUser().getEmail()).isEqualTo("test@test.com");
-        assertThat(userDetails.getUser().getName()).isEqualTo("김테스트");
+        UserPrincipal principal = userDetails.getPrincipal();
+        assertThat(principal.nickname()).isEqualTo("testnick");
+        assertThat(principal.email()).isEqualTo("test@test.com");
+        assertThat(principal.name()).isEqualTo("김테스트");
+        assertThat(principal.role()).isEqualTo(Role.GUEST);
     }
 }
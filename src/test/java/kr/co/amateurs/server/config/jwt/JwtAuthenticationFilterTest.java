@@ -3,19 +3,29 @@ package kr.co.amateurs.server.config.jwt;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.amateurs.server.config.cache.CacheInvalidationPublisher;
 import kr.co.amateurs.server.domain.entity.user.User;
 import kr.co.amateurs.server.domain.entity.user.enums.ProviderType;
 import kr.co.amateurs.server.domain.entity.user.enums.Role;
+import kr.co.amateurs.server.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -37,11 +47,15 @@ public class JwtAuthenticationFilterTest {
     @Mock
     private FilterChain filterChain;
 
-    @InjectMocks
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    private AuthPrincipalCache authPrincipalCache;
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
     private User testUser;
     private CustomUserDetails testUserDetails;
+    private AccessTokenClaims testClaims;
 
     @BeforeEach
     void setUp() {
@@ -54,8 +68,13 @@ public class JwtAuthenticationFilterTest {
                 .role(Role.GUEST)
                 .providerType(ProviderType.LOCAL)
                 .build();
+        ReflectionTestUtils.setField(testUser, "id", 1L);
 
         testUserDetails = new CustomUserDetails(testUser);
+        testClaims = new AccessTokenClaims("test@test.com", 1L, Role.GUEST, Instant.now().plusSeconds(3600));
+
+        authPrincipalCache = new AuthPrincipalCache(invalidationPublisher, new SimpleMeterRegistry(), Duration.ofSeconds(60), 100);
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtProvider, userDetailsService, authPrincipalCache);
 
         SecurityContextHolder.clearContext();
     }
@@ -65,9 +84,8 @@ public class JwtAuthenticationFilterTest {
         // given
         String validToken = "valid.jwt.token";
         given(request.getHeader("Authorization")).willReturn("Bearer " + validToken);
-        given(jwtProvider.validateToken(validToken)).willReturn(true);
-        given(jwtProvider.getEmailFromToken(validToken)).willReturn("test@test.com");
-        given(userDetailsService.loadUserByUsername("test@test.com")).willReturn(testUserDetails);
+        given(jwtProvider.parseAccessToken(validToken)).willReturn(Optional.of(testClaims));
+        given(userDetailsService.loadUserByClaims(testClaims)).willReturn(testUserDetails);
 
         // when
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -79,6 +97,65 @@ public class JwtAuthenticationFilterTest {
         verify(filterChain).doFilter(request, response);
     }
 
+    @Test
+    void 같은_토큰으로_다시_요청하면_사용자를_다시_조회하지_않는다() throws Exception {
+        // given
+        String validToken = "valid.jwt.token";
+        given(request.getHeader("Authorization")).willReturn("Bearer " + validToken);
+        given(jwtProvider.parseAccessToken(validToken)).willReturn(Optional.of(testClaims));
+        given(userDetailsService.loadUserByClaims(testClaims)).willReturn(testUserDetails);
+
+        // when
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+        SecurityContextHolder.clearContext();
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal())
+                .isEqualTo(testUserDetails);
+        verify(userDetailsService, times(1)).loadUserByClaims(any());
+    }
+
+    @Test
+    void 사용자_정보가_바뀌면_캐시된_인증_정보를_다시_조회한다() throws Exception {
+        // given
+        String validToken = "valid.jwt.token";
+        given(request.getHeader("Authorization")).willReturn("Bearer " + validToken);
+        given(jwtProvider.parseAccessToken(validToken)).willReturn(Optional.of(testClaims));
+        given(userDetailsService.loadUserByClaims(testClaims)).willReturn(testUserDetails);
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // when
+        authPrincipalCache.evictUser(1L);
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(userDetailsService, times(2)).loadUserByClaims(any());
+        verify(invalidationPublisher).publish(AuthPrincipalCache.CACHE_NAME, 1L);
+    }
+
+    @Test
+    void 탈퇴한_사용자의_토큰은_인증하지_않는다() throws Exception {
+        // given - 탈퇴 후에도 id 로는 익명화된 사용자가 조회됨
+        UserService userService = mock(UserService.class);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(
+                jwtProvider, new CustomUserDetailsService(userService), authPrincipalCache);
+        testUser.anonymizeAndDelete("deleted@anonymous.amateurs.com", "탈퇴한회원_1");
+        String token = "deleted.user.token";
+        given(request.getHeader("Authorization")).willReturn("Bearer " + token);
+        given(jwtProvider.parseAccessToken(token)).willReturn(Optional.of(testClaims));
+        given(userService.findById(1L)).willReturn(testUser);
+
+        // when
+        filter.doFilterInternal(request, response, filterChain);
+        filter.doFilterInternal(request, response, filterChain);
+
+        // then - 실패한 조회는 캐시되지 않아 매 요청마다 거부됨
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(userService, times(2)).findById(1L);
+        verify(filterChain, times(2)).doFilter(request, response);
+    }
+
     @Test
     void 토큰이_없으면_인증을_건너뛴다() throws Exception {
         // given
@@ -99,7 +176,7 @@ public class JwtAuthenticationFilterTest {
         // given
         String invalidToken = "invalid.jwt.token";
         given(request.getHeader("Authorization")).willReturn("Bearer " + invalidToken);
-        given(jwtProvider.validateToken(invalidToken)).willReturn(false);
+        given(jwtProvider.parseAccessToken(invalidToken)).willReturn(Optional.empty());
 
         // when
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -107,7 +184,7 @@ public class JwtAuthenticationFilterTest {
         // then
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
         verify(filterChain).doFilter(request, response);
-        verify(jwtProvider).validateToken(invalidToken);
+        verify(jwtProvider).parseAccessToken(invalidToken);
         verifyNoInteractions(userDetailsService);
     }
 
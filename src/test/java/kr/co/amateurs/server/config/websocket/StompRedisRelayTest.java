@@ -0,0 +1,114 @@
+package kr.co.amateurs.server.config.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.amateurs.server.config.cache.CacheInvalidationPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class StompRedisRelayTest {
+
+    private static final String DESTINATION = "/topic/dm/room/room-1";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private MessageChannel brokerChannel;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private StompRedisRelay localRelay;
+    private StompRedisRelay remoteRelay;
+
+    @BeforeEach
+    void setUp() {
+        localRelay = new StompRedisRelay(stringRedisTemplate, objectMapper, brokerChannel,
+                new CacheInvalidationPublisher(stringRedisTemplate, "local"));
+        remoteRelay = new StompRedisRelay(stringRedisTemplate, objectMapper, brokerChannel,
+                new CacheInvalidationPublisher(stringRedisTemplate, "remote"));
+    }
+
+    @Test
+    void 다른_인스턴스에서_발행한_메시지를_로컬_브로커로_전달한다() {
+        // given
+        localRelay.preSend(topicMessage("{\"content\":\"안녕\"}"), brokerChannel);
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq(StompRedisRelay.CHANNEL), published.capture());
+
+        // when
+        remoteRelay.onMessage(redisMessage(published.getValue()), null);
+
+        // then
+        ArgumentCaptor<Message<?>> forwarded = ArgumentCaptor.forClass(Message.class);
+        verify(brokerChannel).send(forwarded.capture());
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(forwarded.getValue());
+        assertThat(accessor.getDestination()).isEqualTo(DESTINATION);
+        assertThat(accessor.getContentType()).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+        assertThat(new String((byte[]) forwarded.getValue().getPayload(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"content\":\"안녕\"}");
+    }
+
+    @Test
+    void 자신이_발행한_메시지는_다시_전달하지_않는다() {
+        // given
+        localRelay.preSend(topicMessage("{}"), brokerChannel);
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq(StompRedisRelay.CHANNEL), published.capture());
+
+        // when
+        localRelay.onMessage(redisMessage(published.getValue()), null);
+
+        // then
+        verify(brokerChannel, never()).send(any());
+    }
+
+    @Test
+    void 중계받은_메시지는_Redis_로_다시_발행하지_않는다() {
+        // given
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(DESTINATION);
+        accessor.setHeader(StompRedisRelay.RELAYED_FROM_HEADER, "remote");
+        Message<byte[]> relayed = MessageBuilder.createMessage("{}".getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+
+        // when
+        localRelay.preSend(relayed, brokerChannel);
+
+        // then
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    private Message<byte[]> topicMessage(String json) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(DESTINATION);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return MessageBuilder.createMessage(json.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    private DefaultMessage redisMessage(String body) {
+        return new DefaultMessage(
+                StompRedisRelay.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
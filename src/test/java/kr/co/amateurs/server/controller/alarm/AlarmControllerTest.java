@@ -386,7 +386,7 @@ class AlarmControllerTest extends AbstractControllerTest {
                 User receiver = UserFixture.createStudentUser(DevCourseTrack.AI_BACKEND, "2");
                 receiver = userRepository.save(receiver);
                 setAuthentication(receiver.getEmail());
-                sseService.connect();
+                sseService.connect(null);
 
                 directMessageRoomFixture.createAndSaveRoom(
                         DirectMessageRoomFixture.ROOM_1,
@@ -17,6 +17,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.Duration;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static io.restassured.RestAssured.given;
@@ -98,7 +99,7 @@ class SseIntegrationTest extends AbstractControllerTest {
     }
 
     @Test
-    void 같은_사용자가_중복_연결_시_기존_연결이_교체된다() {
+    void 같은_사용자가_여러_번_연결하면_모든_연결이_유지된다() {
         // given & when
         given().header("Authorization", "Bearer " + accessToken)
                 .accept(MediaType.TEXT_EVENT_STREAM_VALUE)
@@ -117,6 +118,7 @@ class SseIntegrationTest extends AbstractControllerTest {
         // then
         assertThat(isUserConnected(testUser.getId())).isTrue();
         assertThat(getConnections()).hasSize(1);
+        assertThat(sseService.getConnectionCount()).isEqualTo(2);
     }
 
     @Test
@@ -143,21 +145,21 @@ class SseIntegrationTest extends AbstractControllerTest {
 
     // 헬퍼 메서드들
     @SuppressWarnings("unchecked")
-    private ConcurrentHashMap<Long, SseEmitter> getConnections() {
+    private ConcurrentHashMap<Long, Set<SseEmitter>> getConnections() {
         Object field = ReflectionTestUtils.getField(sseService, "connections");
         if (field instanceof ConcurrentHashMap<?, ?>) {
-            return (ConcurrentHashMap<Long, SseEmitter>) field;
+            return (ConcurrentHashMap<Long, Set<SseEmitter>>) field;
         }
         throw new RuntimeException();
     }
 
     private void clearAllConnections() {
-        ConcurrentHashMap<Long, SseEmitter> connections = getConnections();
+        ConcurrentHashMap<Long, Set<SseEmitter>> connections = getConnections();
         connections.clear();
     }
 
     private boolean isUserConnected(Long userId) {
-        ConcurrentHashMap<Long, SseEmitter> connections = getConnections();
+        ConcurrentHashMap<Long, Set<SseEmitter>> connections = getConnections();
         return connections.containsKey(userId);
     }
 }
@@ -0,0 +1,44 @@
+package kr.co.amateurs.server.fixture.ai;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 원격 호출 없이 텍스트 해시로 고정 벡터를 만드는 테스트용 임베딩 모델
+ * embedAll 호출마다 받은 묶음 크기를 기록
+ */
+public class FakeEmbeddingModel implements EmbeddingModel {
+
+    private static final int DIMENSION = 8;
+
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> segments) {
+        batchSizes.add(segments.size());
+        return Response.from(segments.stream().map(segment -> vectorOf(segment.text())).toList());
+    }
+
+    @Override
+    public int dimension() {
+        return DIMENSION;
+    }
+
+    public List<Integer> getBatchSizes() {
+        return batchSizes;
+    }
+
+    private Embedding vectorOf(String text) {
+        float[] vector = new float[DIMENSION];
+        int hash = text.hashCode();
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = ((hash >>> (i * 4)) & 0xF) / 15f;
+        }
+        return Embedding.from(vector);
+    }
+}
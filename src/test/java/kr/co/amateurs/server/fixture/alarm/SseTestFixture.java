@@ -4,7 +4,6 @@ import kr.co.amateurs.server.domain.entity.alarm.Alarm;
 import kr.co.amateurs.server.domain.entity.alarm.metadata.DirectMessageMetaData;
 import kr.co.amateurs.server.service.alarm.SseService;
 import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.lang.reflect.Field;
 import java.util.concurrent.ConcurrentHashMap;
@@ -40,32 +39,14 @@ public class SseTestFixture {
      * 현재 활성 연결 수 조회 (리플렉션 사용)
      */
     public int getActiveConnectionCount() {
-        try {
-            Field connectionsField = SseService.class.getDeclaredField("connections");
-            connectionsField.setAccessible(true);
-            @SuppressWarnings("unchecked")
-            ConcurrentHashMap<Long, SseEmitter> connections = 
-                (ConcurrentHashMap<Long, SseEmitter>) connectionsField.get(sseService);
-            return connections.size();
-        } catch (Exception e) {
-            return 0;
-        }
+        return sseService.getConnectionCount();
     }
 
     /**
      * 특정 사용자 연결 확인 (리플렉션 사용)
      */
     public boolean isUserConnected(Long userId) {
-        try {
-            Field connectionsField = SseService.class.getDeclaredField("connections");
-            connectionsField.setAccessible(true);
-            @SuppressWarnings("unchecked")
-            ConcurrentHashMap<Long, SseEmitter> connections = 
-                (ConcurrentHashMap<Long, SseEmitter>) connectionsField.get(sseService);
-            return connections.containsKey(userId);
-        } catch (Exception e) {
-            return false;
-        }
+        return sseService.isConnected(userId);
     }
 
     /**
@@ -76,8 +57,8 @@ public class SseTestFixture {
             Field connectionsField = SseService.class.getDeclaredField("connections");
             connectionsField.setAccessible(true);
             @SuppressWarnings("unchecked")
-            ConcurrentHashMap<Long, SseEmitter> connections = 
-                (ConcurrentHashMap<Long, SseEmitter>) connectionsField.get(sseService);
+            ConcurrentHashMap<Long, ?> connections =
+                (ConcurrentHashMap<Long, ?>) connectionsField.get(sseService);
             connections.clear();
         } catch (Exception e) {
             // 테스트 환경에서 리플렉션 실패는 무시
@@ -10,6 +10,12 @@ import java.time.LocalDateTime;
 public class PopularPostRequestFixture {
     public static PopularPostRequest 생성(
             Long postId, int view, int like, int comment, double score, LocalDate date
+    ) {
+        return 생성(postId, view, like, comment, score, date, LocalDateTime.now());
+    }
+
+    public static PopularPostRequest 생성(
+            Long postId, int view, int like, int comment, double score, LocalDate date, LocalDateTime postCreatedAt
     ) {
         return new PopularPostRequest(
                 postId,
@@ -20,7 +26,7 @@ public class PopularPostRequestFixture {
                 date,
                 "테스터",
                 DevCourseTrack.BACKEND,
-                LocalDateTime.now(),
+                postCreatedAt,
                 "테스트 제목",
                 BoardType.FREE,
                 1L,
@@ -0,0 +1,111 @@
+package kr.co.amateurs.server.service.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.amateurs.server.domain.entity.ai.LlmResponseCacheEntry;
+import kr.co.amateurs.server.repository.ai.LlmResponseCacheRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class LlmResponseCacheTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+    private final LlmResponseCacheRepository repository = mock(LlmResponseCacheRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LlmResponseCache llmResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        llmResponseCache = new LlmResponseCache(redisTemplate, repository, new ObjectMapper(), meterRegistry,
+                Duration.ofDays(7), 100);
+    }
+
+    @Test
+    void 공백만_다른_입력은_같은_키를_사용한다() {
+        // when
+        LlmResponseCache.Key key = LlmResponseCache.Key.of("summary:v1", "model", "  제목: 자바\n\n내용:   스프링 ");
+        LlmResponseCache.Key same = LlmResponseCache.Key.of("summary:v1", "model", "제목: 자바 내용: 스프링");
+        LlmResponseCache.Key otherModel = LlmResponseCache.Key.of("summary:v1", "other", "제목: 자바 내용: 스프링");
+
+        // then
+        assertThat(key.hash()).isEqualTo(same.hash());
+        assertThat(key.hash()).isNotEqualTo(otherModel.hash());
+    }
+
+    @Test
+    void 캐시에_있으면_원격_호출을_하지_않는다() {
+        // given
+        given(valueOperations.get(anyString())).willReturn("\"이전 요약\"");
+        Supplier<String> loader = mock(Supplier.class);
+
+        // when
+        String result = llmResponseCache.getOrLoad("summary:v1", "model", "입력", String.class, loader);
+
+        // then
+        assertThat(result).isEqualTo("이전 요약");
+        verify(loader, never()).get();
+        assertThat(meterRegistry.counter("llm.cache.requests", "template", "summary:v1", "result", "hit").count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.counter("llm.cache.saved.tokens", "template", "summary:v1").count())
+                .isPositive();
+    }
+
+    @Test
+    void 캐시에_없으면_원격_호출_결과를_Redis와_MySQL에_저장한다() {
+        // given
+        given(repository.findById(anyString())).willReturn(Optional.empty());
+
+        // when
+        String result = llmResponseCache.getOrLoad("summary:v1", "model", "입력", String.class, () -> "새 요약");
+
+        // then
+        assertThat(result).isEqualTo("새 요약");
+        verify(valueOperations).set(anyString(), any(), any(Duration.class));
+        verify(repository).save(any(LlmResponseCacheEntry.class));
+        assertThat(meterRegistry.counter("llm.cache.requests", "template", "summary:v1", "result", "miss").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void Redis_장애면_MySQL에서_읽는다() {
+        // given
+        given(valueOperations.get(anyString())).willThrow(new RedisConnectionFailureException("down"));
+        given(repository.findById(anyString())).willReturn(Optional.of(LlmResponseCacheEntry.builder()
+                .cacheKey("hash")
+                .namespace("summary:v1")
+                .response("\"저장된 요약\"")
+                .createdAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build()));
+        Supplier<String> loader = mock(Supplier.class);
+
+        // when
+        String result = llmResponseCache.getOrLoad("summary:v1", "model", "입력", String.class, loader);
+
+        // then
+        assertThat(result).isEqualTo("저장된 요약");
+        verify(loader, never()).get();
+    }
+}
@@ -0,0 +1,127 @@
+package kr.co.amateurs.server.service.ai;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.amateurs.server.domain.dto.ai.PostEmbeddingSource;
+import kr.co.amateurs.server.exception.CustomException;
+import kr.co.amateurs.server.fixture.ai.FakeEmbeddingModel;
+import kr.co.amateurs.server.repository.post.PostEmbeddingJooqRepository;
+import kr.co.amateurs.server.service.post.PostService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class PostEmbeddingManageServiceTest {
+
+    private static final int POST_COUNT = 10;
+    private static final int BATCH_SIZE = 3;
+
+    private final FakeEmbeddingModel embeddingModel = new FakeEmbeddingModel();
+    private final InMemoryEmbeddingStore<TextSegment> embeddingStore = new InMemoryEmbeddingStore<>();
+    private final PostEmbeddingJooqRepository postEmbeddingJooqRepository = mock(PostEmbeddingJooqRepository.class);
+    private final EmbeddingReindexCheckpoint reindexCheckpoint = mock(EmbeddingReindexCheckpoint.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final PostEmbeddingService postEmbeddingService =
+            spy(new PostEmbeddingService(embeddingModel, embeddingStore, mock(PostService.class)));
+
+    private final PostEmbeddingManageService manageService = new PostEmbeddingManageService(
+            postEmbeddingService, postEmbeddingJooqRepository, embeddingStore, reindexCheckpoint,
+            executor, meterRegistry, BATCH_SIZE, 2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 게시글을_묶음으로_임베딩하고_모두_저장한다() {
+        // given
+        givenPosts(POST_COUNT);
+
+        // when
+        manageService.initializeAllPostEmbeddings(true);
+
+        // then
+        assertThat(embeddingModel.getBatchSizes()).containsExactlyInAnyOrder(3, 3, 3, 1);
+        assertThat(storedCount()).isEqualTo(POST_COUNT);
+        assertThat(meterRegistry.counter("post.embedding.reindex.posts").count()).isEqualTo(POST_COUNT);
+        verify(reindexCheckpoint).save(9L);
+        verify(reindexCheckpoint).clear();
+    }
+
+    @Test
+    void 체크포인트가_있으면_그_다음_게시글부터_이어서_처리한다() {
+        // given
+        givenPosts(POST_COUNT);
+        given(reindexCheckpoint.load()).willReturn(6L);
+
+        // when
+        manageService.initializeAllPostEmbeddings(false);
+
+        // then
+        assertThat(embeddingModel.getBatchSizes()).containsExactlyInAnyOrder(3, 1);
+        assertThat(storedCount()).isEqualTo(4);
+        verify(reindexCheckpoint, never()).save(0L);
+    }
+
+    @Test
+    void 묶음이_실패하면_앞선_묶음까지만_체크포인트를_남긴다() {
+        // given
+        givenPosts(POST_COUNT);
+        List<PostEmbeddingSource> secondBatch = sources(4, 6);
+        doThrow(new IllegalStateException("embedding api down"))
+                .when(postEmbeddingService).createPostEmbeddings(secondBatch);
+
+        // when & then
+        assertThatThrownBy(() -> manageService.initializeAllPostEmbeddings(true))
+                .isInstanceOf(CustomException.class);
+        verify(reindexCheckpoint).save(3L);
+        verify(reindexCheckpoint, never()).save(6L);
+        verify(reindexCheckpoint, never()).clear();
+    }
+
+    private void givenPosts(int count) {
+        given(postEmbeddingJooqRepository.countPostsAfter(anyLong()))
+                .willAnswer(invocation -> (int) Math.max(0, count - (long) invocation.getArgument(0)));
+        given(postEmbeddingJooqRepository.findEmbeddingSourcesAfter(anyLong(), anyInt()))
+                .willAnswer(invocation -> {
+                    long lastPostId = invocation.getArgument(0);
+                    int limit = invocation.getArgument(1);
+                    return sources(lastPostId + 1, Math.min(count, lastPostId + limit));
+                });
+    }
+
+    private List<PostEmbeddingSource> sources(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> new PostEmbeddingSource(id, 1L, "제목" + id, "<img src='a.png'>내용 " + id, "FREE",
+                        LocalDateTime.of(2025, 1, 1, 0, 0)))
+                .toList();
+    }
+
+    private int storedCount() {
+        return embeddingStore.search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(embeddingModel.embed("제목").content())
+                .maxResults(100)
+                .minScore(0.0)
+                .build()).matches().size();
+    }
+}
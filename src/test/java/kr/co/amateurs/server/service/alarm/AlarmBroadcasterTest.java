@@ -0,0 +1,115 @@
+package kr.co.amateurs.server.service.alarm;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.amateurs.server.domain.entity.alarm.Alarm;
+import kr.co.amateurs.server.fixture.alarm.AlarmTestFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AlarmBroadcasterTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private SseService sseService;
+
+    private AlarmBroadcaster alarmBroadcaster;
+    private Alarm alarm;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        alarmBroadcaster = new AlarmBroadcaster(stringRedisTemplate, objectMapper, sseService, new SimpleMeterRegistry());
+        alarm = AlarmTestFixture.defaultAlarm()
+                .id("alarm-1")
+                .userId(1L)
+                .build();
+    }
+
+    @Test
+    void 발행한_알람은_연결을_가진_인스턴스에서_전송된다() {
+        // given
+        given(sseService.isConnected(1L)).willReturn(true);
+        alarmBroadcaster.publish(alarm, 3L);
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq(AlarmBroadcaster.CHANNEL), message.capture());
+
+        // when
+        alarmBroadcaster.onMessage(new DefaultMessage(
+                AlarmBroadcaster.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                message.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(sseService).sendAlarmPayload(eq(1L), eq("alarm-1"), payload.capture());
+        assertThat(payload.getValue()).contains("\"id\":\"alarm-1\"");
+        verify(sseService).sendUnreadCount(1L, 3L);
+    }
+
+    @Test
+    void 안_읽은_알람_수만_바뀌면_알람_없이_수만_전송한다() {
+        // given
+        given(sseService.isConnected(1L)).willReturn(true);
+        alarmBroadcaster.publishUnreadCount(1L, 0L);
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq(AlarmBroadcaster.CHANNEL), message.capture());
+
+        // when
+        alarmBroadcaster.onMessage(new DefaultMessage(
+                AlarmBroadcaster.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                message.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        verify(sseService, never()).sendAlarmPayload(anyLong(), anyString(), anyString());
+        verify(sseService).sendUnreadCount(1L, 0L);
+    }
+
+    @Test
+    void 연결이_없는_인스턴스는_전달_메시지를_무시한다() {
+        // given
+        given(sseService.isConnected(1L)).willReturn(false);
+        alarmBroadcaster.publish(alarm, 3L);
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq(AlarmBroadcaster.CHANNEL), message.capture());
+
+        // when
+        alarmBroadcaster.onMessage(new DefaultMessage(
+                AlarmBroadcaster.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                message.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        verify(sseService, never()).sendAlarmPayload(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    void Redis_발행에_실패하면_로컬_연결로_전송한다() {
+        // given
+        doThrow(new RuntimeException("redis down"))
+                .when(stringRedisTemplate).convertAndSend(eq(AlarmBroadcaster.CHANNEL), anyString());
+
+        // when
+        alarmBroadcaster.publish(alarm, 3L);
+
+        // then
+        verify(sseService).sendAlarmToUser(1L, alarm);
+        verify(sseService).sendUnreadCount(1L, 3L);
+    }
+}
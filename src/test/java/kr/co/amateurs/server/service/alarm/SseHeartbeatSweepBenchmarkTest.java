@@ -0,0 +1,71 @@
+package kr.co.amateurs.server.service.alarm;
+
+import kr.co.amateurs.server.repository.alarm.AlarmRepository;
+import kr.co.amateurs.server.service.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 유휴 연결 1만 개에 대한 하트비트 한 바퀴 시간 측정
+ * 스케줄러 스레드가 대기열에 넣는 시간과, 전송 실행기가 모든 연결에 실제로 보내는 시간을 따로 기록
+ * 일반 test 태스크에서는 제외되고 benchmark 태스크로만 실행
+ */
+@Slf4j
+@Tag("benchmark")
+class SseHeartbeatSweepBenchmarkTest {
+
+    private static final int CONNECTIONS = 10_000;
+
+    private ExecutorService sendExecutor;
+    private SseService sseService;
+
+    @BeforeEach
+    void setUp() {
+        sendExecutor = Executors.newFixedThreadPool(16);
+        sseService = new SseService(mock(UserService.class), mock(AlarmRepository.class), mock(UnreadAlarmCounter.class), sendExecutor, 32);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sendExecutor.shutdownNow();
+    }
+
+    @Test
+    void 유휴_연결_1만개에_하트비트를_보낸다() throws InterruptedException {
+        // given
+        CountDownLatch sent = new CountDownLatch(CONNECTIONS);
+        for (long userId = 1; userId <= CONNECTIONS; userId++) {
+            sseService.register(userId, new SseEmitter() {
+                @Override
+                public void send(SseEventBuilder builder) {
+                    sent.countDown();
+                }
+            });
+        }
+
+        // when
+        long startedAt = System.nanoTime();
+        sseService.sendHeartbeat();
+        long sweepMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        boolean completed = sent.await(10, TimeUnit.SECONDS);
+        long deliveredMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // then
+        log.info("SSE heartbeat: connections={}, sweep={}ms, delivered={}ms",
+                CONNECTIONS, sweepMillis, deliveredMillis);
+        assertThat(completed).isTrue();
+        assertThat(sseService.getConnectionCount()).isEqualTo(CONNECTIONS);
+    }
+}
@@ -1,15 +1,17 @@
 package kr.co.amateurs.server.service.alarm;
 
+import kr.co.amateurs.server.config.jwt.UserPrincipal;
 import kr.co.amateurs.server.domain.entity.alarm.Alarm;
 import kr.co.amateurs.server.domain.entity.user.User;
 import kr.co.amateurs.server.exception.CustomException;
 import kr.co.amateurs.server.fixture.alarm.AlarmTestFixture;
 import kr.co.amateurs.server.fixture.common.UserTestFixture;
+import kr.co.amateurs.server.repository.alarm.AlarmRepository;
 import kr.co.amateurs.server.service.UserService;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -18,7 +20,12 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -29,18 +36,22 @@ import static org.mockito.Mockito.*;
 @MockitoSettings(strictness = Strictness.LENIENT)
 class SseServiceUnitTest {
 
-    @InjectMocks
     private SseService sseService;
 
     @Mock
     private UserService userService;
 
+    @Mock
+    private AlarmRepository alarmRepository;
+
+    @Mock
+    private UnreadAlarmCounter unreadAlarmCounter;
+
     @Mock
     private SseEmitter mockEmitter;
 
     private User testUser;
     private Alarm testAlarm;
-    private ConcurrentHashMap<Long, SseEmitter> connections;
 
     @BeforeEach
     void setUp() {
@@ -49,16 +60,16 @@ class SseServiceUnitTest {
 
         testAlarm = AlarmTestFixture.defaultAlarm().build();
 
-        when(userService.getCurrentLoginUser()).thenReturn(testUser);
+        when(userService.getCurrentLoginPrincipal()).thenReturn(UserPrincipal.from(testUser));
 
-        connections = new ConcurrentHashMap<>();
-        ReflectionTestUtils.setField(sseService, "connections", connections);
+        // 전송 작업을 호출 스레드에서 바로 실행해 결과를 동기적으로 검증
+        sseService = new SseService(userService, alarmRepository, unreadAlarmCounter, Runnable::run, 32);
     }
 
     @Test
     void 연결된_사용자에게_알람을_성공적으로_전송한다() throws IOException {
         // given
-        connections.put(testUser.getId(), mockEmitter);
+        connect(testUser.getId(), mockEmitter);
 
         // when
         assertDoesNotThrow(() -> sseService.sendAlarmToUser(testUser.getId(), testAlarm));
@@ -70,14 +81,14 @@ class SseServiceUnitTest {
     @Test
     void 알람_전송_중_IOException_발생_시_연결을_제거한다() throws IOException {
         // given
-        connections.put(testUser.getId(), mockEmitter);
+        connect(testUser.getId(), mockEmitter);
         doThrow(new IOException("Connection lost")).when(mockEmitter).send(any(SseEmitter.SseEventBuilder.class));
 
         // when
         assertDoesNotThrow(() -> sseService.sendAlarmToUser(testUser.getId(), testAlarm));
 
         // then
-        assertThat(connections).doesNotContainKey(testUser.getId());
+        assertThat(sseService.isConnected(testUser.getId())).isFalse();
         verify(mockEmitter).send(any(SseEmitter.SseEventBuilder.class));
     }
 
@@ -89,8 +100,8 @@ class SseServiceUnitTest {
 
         SseEmitter anotherMockEmitter = mock(SseEmitter.class);
 
-        connections.put(testUser.getId(), mockEmitter);
-        connections.put(anotherUser.getId(), anotherMockEmitter);
+        connect(testUser.getId(), mockEmitter);
+        connect(anotherUser.getId(), anotherMockEmitter);
 
         // when
         assertDoesNotThrow(() -> {
@@ -103,6 +114,135 @@ class SseServiceUnitTest {
         verify(anotherMockEmitter).send(any(SseEmitter.SseEventBuilder.class));
     }
 
+    @Test
+    void 같은_사용자의_모든_연결에_알람을_전송한다() throws IOException {
+        // given
+        SseEmitter secondTabEmitter = mock(SseEmitter.class);
+        connect(testUser.getId(), mockEmitter);
+        connect(testUser.getId(), secondTabEmitter);
+
+        // when
+        sseService.sendAlarmToUser(testUser.getId(), testAlarm);
+
+        // then
+        verify(mockEmitter).send(any(SseEmitter.SseEventBuilder.class));
+        verify(secondTabEmitter).send(any(SseEmitter.SseEventBuilder.class));
+        assertThat(sseService.getConnectionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 끊긴_연결만_제거하고_같은_사용자의_다른_연결은_유지한다() throws IOException {
+        // given
+        SseEmitter secondTabEmitter = mock(SseEmitter.class);
+        connect(testUser.getId(), mockEmitter);
+        connect(testUser.getId(), secondTabEmitter);
+        doThrow(new IOException("Connection lost")).when(mockEmitter).send(any(SseEmitter.SseEventBuilder.class));
+
+        // when
+        sseService.sendAlarmToUser(testUser.getId(), testAlarm);
+
+        // then
+        assertThat(sseService.isConnected(testUser.getId())).isTrue();
+        assertThat(sseService.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 전송_대기열이_가득_찬_느린_클라이언트는_연결을_끊는다() throws IOException {
+        // given - 전송 작업이 실행되지 않아 대기열이 비워지지 않는 상황
+        List<Runnable> pendingSends = new ArrayList<>();
+        sseService = new SseService(userService, alarmRepository, unreadAlarmCounter, pendingSends::add, 2);
+        connect(testUser.getId(), mockEmitter);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            sseService.sendAlarmToUser(testUser.getId(), testAlarm);
+        }
+
+        // then
+        assertThat(sseService.isConnected(testUser.getId())).isFalse();
+        verify(mockEmitter).complete();
+        verify(mockEmitter, never()).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    void 하트비트는_응답이_막힌_클라이언트를_기다리지_않는다() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        sseService = new SseService(userService, alarmRepository, unreadAlarmCounter, executor, 32);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(1);
+
+        SseEmitter stuckEmitter = mock(SseEmitter.class);
+        doAnswer(invocation -> {
+            blocked.await();
+            return null;
+        }).when(stuckEmitter).send(any(SseEmitter.SseEventBuilder.class));
+        doAnswer(invocation -> {
+            delivered.countDown();
+            return null;
+        }).when(mockEmitter).send(any(SseEmitter.SseEventBuilder.class));
+
+        connect(2L, stuckEmitter);
+        connect(testUser.getId(), mockEmitter);
+
+        try {
+            // when
+            long startedAt = System.nanoTime();
+            sseService.sendHeartbeat();
+            sseService.sendHeartbeat();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+            // then
+            assertThat(elapsedMillis).isLessThan(500);
+            assertThat(delivered.await(1, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            blocked.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void Last_Event_ID_로_재연결하면_이후_알람을_조회해_재전송한다() {
+        // given
+        String lastEventId = new ObjectId().toHexString();
+        when(alarmRepository.findTop100ByUserIdAndIdGreaterThanOrderByIdAsc(testUser.getId(), lastEventId))
+                .thenReturn(List.of(testAlarm));
+
+        // when
+        SseEmitter emitter = sseService.connect(lastEventId);
+
+        // then
+        assertThat(emitter).isNotNull();
+        assertThat(sseService.isConnected(testUser.getId())).isTrue();
+        verify(alarmRepository).findTop100ByUserIdAndIdGreaterThanOrderByIdAsc(testUser.getId(), lastEventId);
+    }
+
+    @Test
+    void Last_Event_ID_가_없거나_형식이_다르면_재전송하지_않는다() {
+        // when
+        sseService.connect(null);
+        sseService.connect("not-an-object-id");
+
+        // then
+        assertThat(sseService.getConnectionCount()).isEqualTo(2);
+        verifyNoInteractions(alarmRepository);
+    }
+
+    @Test
+    void 안_읽은_알람_수를_같은_사용자의_모든_연결에_전송한다() throws IOException {
+        // given
+        SseEmitter secondTabEmitter = mock(SseEmitter.class);
+        connect(testUser.getId(), mockEmitter);
+        connect(testUser.getId(), secondTabEmitter);
+
+        // when
+        sseService.sendUnreadCount(testUser.getId(), 3L);
+
+        // then
+        verify(mockEmitter).send(any(SseEmitter.SseEventBuilder.class));
+        verify(secondTabEmitter).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
     @Test
     void 연결되지_않은_상태에서_해제_시도_시_예외가_발생하지_않는다() {
         // given - 연결하지 않음
@@ -118,10 +258,10 @@ class SseServiceUnitTest {
         ReflectionTestUtils.setField(anotherUser, "id", 2L);
         SseEmitter anotherMockEmitter = mock(SseEmitter.class);
 
-        when(userService.getCurrentLoginUser()).thenReturn(testUser);
+        when(userService.getCurrentLoginPrincipal()).thenReturn(UserPrincipal.from(testUser));
 
-        connections.put(testUser.getId(), mockEmitter);
-        connections.put(anotherUser.getId(), anotherMockEmitter);
+        connect(testUser.getId(), mockEmitter);
+        connect(anotherUser.getId(), anotherMockEmitter);
 
         // when
         sseService.sendHeartbeat();
@@ -134,14 +274,14 @@ class SseServiceUnitTest {
     @Test
     void 하트비트_전송_중_오류_발생_시_해당_연결을_제거한다() throws IOException {
         // given
-        connections.put(testUser.getId(), mockEmitter);
+        connect(testUser.getId(), mockEmitter);
         doThrow(new IOException("Connection lost")).when(mockEmitter).send(any(SseEmitter.SseEventBuilder.class));
 
         // when
         sseService.sendHeartbeat();
 
         // then
-        assertThat(connections).doesNotContainKey(testUser.getId());
+        assertThat(sseService.isConnected(testUser.getId())).isFalse();
     }
 
     @Test
@@ -152,4 +292,8 @@ class SseServiceUnitTest {
         assertDoesNotThrow(() -> sseService.sendHeartbeat());
         verifyNoInteractions(mockEmitter);
     }
+
+    private void connect(Long userId, SseEmitter emitter) {
+        sseService.register(userId, emitter);
+    }
 }
@@ -0,0 +1,89 @@
+package kr.co.amateurs.server.service.alarm;
+
+import kr.co.amateurs.server.repository.alarm.AlarmRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadAlarmCounterTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private AlarmRepository alarmRepository;
+
+    @InjectMocks
+    private UnreadAlarmCounter unreadAlarmCounter;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(unreadAlarmCounter, "ttl", Duration.ofHours(1));
+    }
+
+    @Test
+    void 카운터가_있으면_Mongo_를_조회하지_않는다() {
+        // given
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("alarm:unread:1")).willReturn("5");
+
+        // when
+        long count = unreadAlarmCounter.get(1L);
+
+        // then
+        assertThat(count).isEqualTo(5L);
+        verify(alarmRepository, never()).countByUserIdAndIsReadFalse(1L);
+    }
+
+    @Test
+    void 카운터가_없으면_Mongo_에서_세어_채운다() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), anyString())).willReturn(null);
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(alarmRepository.countByUserIdAndIsReadFalse(1L)).willReturn(4L);
+
+        // when
+        long count = unreadAlarmCounter.increment(1L, 1L);
+
+        // then
+        assertThat(count).isEqualTo(4L);
+        verify(valueOperations).setIfAbsent("alarm:unread:1", "4", Duration.ofHours(1));
+    }
+
+    @Test
+    void Redis_장애_시_Mongo_카운트로_대신한다() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), anyString()))
+                .willThrow(new RedisConnectionFailureException("redis down"));
+        given(alarmRepository.countByUserIdAndIsReadFalse(1L)).willReturn(2L);
+
+        // when
+        long count = unreadAlarmCounter.decrement(1L, 1L);
+
+        // then
+        assertThat(count).isEqualTo(2L);
+    }
+}
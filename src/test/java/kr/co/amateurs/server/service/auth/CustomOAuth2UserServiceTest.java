@@ -108,7 +108,7 @@ public class CustomOAuth2UserServiceTest {
         assertThat(result).isInstanceOf(CustomUserDetails.class);
 
         CustomUserDetails userDetails = (CustomUserDetails) result;
-        User returnedUser = userDetails.getUser();
+        User returnedUser = userRepository.findById(userDetails.getPrincipal().id()).orElseThrow();
         assertThat(returnedUser.getEmail()).isEqualTo("newuser@github.com");
         assertThat(returnedUser.getNickname()).isEqualTo("newuser_abc123");
         assertThat(returnedUser.getName()).isEqualTo("뉴깃헙");
@@ -107,7 +107,7 @@ public class KakaoOAuth2UserServiceTest {
         // then
         assertThat(result).isInstanceOf(CustomUserDetails.class);
         CustomUserDetails userDetails = (CustomUserDetails) result;
-        User returnedUser = userDetails.getUser();
+        User returnedUser = userRepository.findById(userDetails.getPrincipal().id()).orElseThrow();
         assertThat(returnedUser.getEmail()).isEqualTo("existing@kakao.com");
         assertThat(returnedUser.getNickname()).isEqualTo("기존카카오_abc123");
 
@@ -145,7 +145,7 @@ public class KakaoOAuth2UserServiceTest {
         // then: 사용자 생성
         assertThat(oAuth2User).isInstanceOf(CustomUserDetails.class);
         CustomUserDetails userDetails = (CustomUserDetails) oAuth2User;
-        User savedUser = userDetails.getUser();
+        User savedUser = userRepository.findById(userDetails.getPrincipal().id()).orElseThrow();
 
         assertThat(savedUser.getEmail()).isEqualTo(uniqueEmail);
         assertThat(savedUser.getProviderType()).isEqualTo(ProviderType.KAKAO);
@@ -78,7 +78,7 @@ public class OAuth2JwtIntegrationTest {
         // then: 사용자 생성
         assertThat(oAuth2User).isInstanceOf(CustomUserDetails.class);
         CustomUserDetails userDetails = (CustomUserDetails) oAuth2User;
-        User savedUser = userDetails.getUser();
+        User savedUser = userRepository.findById(userDetails.getPrincipal().id()).orElseThrow();
 
         assertThat(savedUser.getEmail()).isEqualTo(uniqueEmail);
         assertThat(savedUser.getProviderType()).isEqualTo(ProviderType.GITHUB);
@@ -136,7 +136,7 @@ public class OAuth2JwtIntegrationTest {
         // when
         OAuth2User oAuth2User = customOAuth2UserService.loadUser(userRequest);
         CustomUserDetails userDetails = (CustomUserDetails) oAuth2User;
-        User loginUser = userDetails.getUser();
+        User loginUser = userRepository.findById(userDetails.getPrincipal().id()).orElseThrow();
 
         String newAccessToken = jwtProvider.generateAccessToken(loginUser.getEmail());
         String newRefreshToken = jwtProvider.generateRefreshToken(loginUser.getEmail());
@@ -171,7 +171,7 @@ public class OAuth2JwtIntegrationTest {
         );
         OAuth2TestFixture.enqueueMockResponse(mockWebServer, response1);
         OAuth2UserRequest userRequest1 = OAuth2TestFixture.createGitHubOAuth2UserRequest(mockWebServer);
-        User user1 = ((CustomUserDetails) customOAuth2UserService.loadUser(userRequest1)).getUser();
+        User user1 = userRepository.findById(((CustomUserDetails) customOAuth2UserService.loadUser(userRequest1)).getPrincipal().id()).orElseThrow();
         String token1 = jwtProvider.generateAccessToken(user1.getEmail());
 
         // given - User2
@@ -181,7 +181,7 @@ public class OAuth2JwtIntegrationTest {
         );
         OAuth2TestFixture.enqueueMockResponse(mockWebServer, response2);
         OAuth2UserRequest userRequest2 = OAuth2TestFixture.createGitHubOAuth2UserRequest(mockWebServer);
-        User user2 = ((CustomUserDetails) customOAuth2UserService.loadUser(userRequest2)).getUser();
+        User user2 = userRepository.findById(((CustomUserDetails) customOAuth2UserService.loadUser(userRequest2)).getPrincipal().id()).orElseThrow();
         String token2 = jwtProvider.generateAccessToken(user2.getEmail());
 
         // then
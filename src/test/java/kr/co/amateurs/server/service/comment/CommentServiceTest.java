@@ -1,15 +1,19 @@
 package kr.co.amateurs.server.service.comment;
 
+import jakarta.persistence.EntityManager;
+import kr.co.amateurs.server.config.jwt.UserPrincipal;
 import kr.co.amateurs.server.domain.dto.comment.CommentPageDTO;
 import kr.co.amateurs.server.domain.dto.comment.CommentRequestDTO;
 import kr.co.amateurs.server.domain.dto.comment.CommentResponseDTO;
 import kr.co.amateurs.server.domain.entity.comment.Comment;
 import kr.co.amateurs.server.domain.entity.post.Post;
+import kr.co.amateurs.server.domain.entity.post.PostStatistics;
 import kr.co.amateurs.server.domain.entity.user.User;
 import kr.co.amateurs.server.exception.CustomException;
 import kr.co.amateurs.server.fixture.comment.CommentTestFixtures;
 import kr.co.amateurs.server.repository.comment.CommentRepository;
 import kr.co.amateurs.server.repository.post.PostRepository;
+import kr.co.amateurs.server.repository.post.PostStatisticsRepository;
 import kr.co.amateurs.server.repository.user.UserRepository;
 import kr.co.amateurs.server.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,6 +47,12 @@ class CommentServiceTest {
     @Autowired
     private CommentRepository commentRepository;
 
+    @Autowired
+    private PostStatisticsRepository postStatisticsRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @MockitoBean
     private UserService userService;
 
@@ -222,7 +232,7 @@ class CommentServiceTest {
         Long commentId = testRootComment.getId();
         CommentRequestDTO requestDTO = CommentTestFixtures.createRootCommentRequestDTO("수정된 댓글");
 
-        given(userService.getCurrentLoginUser()).willReturn(testStudentUser);
+        given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(testStudentUser));
 
         // when
         commentService.updateComment(postId, commentId, requestDTO);
@@ -239,7 +249,7 @@ class CommentServiceTest {
         Long nonExistentCommentId = 999L;
         CommentRequestDTO requestDTO = CommentTestFixtures.createRootCommentRequestDTO("수정된 댓글");
 
-        given(userService.getCurrentLoginUser()).willReturn(testStudentUser);
+        given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(testStudentUser));
 
         // when & then
         assertThatThrownBy(() -> commentService.updateComment(postId,nonExistentCommentId, requestDTO))
@@ -253,7 +263,7 @@ class CommentServiceTest {
         Long commentId = testRootComment.getId();
         CommentRequestDTO requestDTO = CommentTestFixtures.createRootCommentRequestDTO("수정된 댓글");
 
-        given(userService.getCurrentLoginUser()).willReturn(testOtherUser);
+        given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(testOtherUser));
 
         // when & then
         assertThatThrownBy(() -> commentService.updateComment(postId, commentId, requestDTO))
@@ -267,7 +277,7 @@ class CommentServiceTest {
         Long commentId = testRootComment.getId();
         CommentRequestDTO requestDTO = CommentTestFixtures.createRootCommentRequestDTO("수정된 댓글");
 
-        given(userService.getCurrentLoginUser()).willThrow(CustomException.class);
+        given(userService.getCurrentLoginPrincipal()).willThrow(CustomException.class);
 
         // when & then
         assertThatThrownBy(() -> commentService.updateComment(postId, commentId, requestDTO))
@@ -280,7 +290,7 @@ class CommentServiceTest {
         Long postId = testPost.getId();
         Long commentId = testRootComment.getId();
 
-        given(userService.getCurrentLoginUser()).willReturn(testStudentUser);
+        given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(testStudentUser));
 
         // when
         commentService.deleteComment(postId, commentId);
@@ -290,13 +300,34 @@ class CommentServiceTest {
         assertThat(deletedComment).isEmpty();
     }
 
+    @Test
+    void 댓글을_작성하고_삭제하면_게시글_댓글_수가_함께_갱신된다() {
+        // given
+        Long postId = testPost.getId();
+        postStatisticsRepository.save(PostStatistics.from(testPost));
+        entityManager.flush();
+
+        given(userService.getCurrentLoginUser()).willReturn(testStudentUser);
+        given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(testStudentUser));
+
+        // when
+        CommentResponseDTO created = commentService.createComment(postId, CommentTestFixtures.createRootCommentRequestDTO("새 댓글"));
+        int countAfterCreate = commentCountOf(postId);
+        commentService.deleteComment(postId, created.id());
+        int countAfterDelete = commentCountOf(postId);
+
+        // then
+        assertThat(countAfterCreate).isEqualTo(1);
+        assertThat(countAfterDelete).isEqualTo(0);
+    }
+
     @Test
     void 존재하지_않는_댓글을_삭제하려하면_예외가_발생한다() {
         // given
         Long postId = testPost.getId();
         Long nonExistentCommentId = 999L;
 
-        given(userService.getCurrentLoginUser()).willReturn(testStudentUser);
+        given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(testStudentUser));
 
         // when & then
         assertThatThrownBy(() -> commentService.deleteComment(postId, nonExistentCommentId))
@@ -309,7 +340,7 @@ class CommentServiceTest {
         Long postId = testPost.getId();
         Long commentId = testRootComment.getId();
 
-        given(userService.getCurrentLoginUser()).willReturn(testOtherUser);
+        given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(testOtherUser));
 
         // when & then
         assertThatThrownBy(() -> commentService.deleteComment(postId, commentId))
@@ -322,10 +353,16 @@ class CommentServiceTest {
         Long postId = testPost.getId();
         Long commentId = testRootComment.getId();
 
-        given(userService.getCurrentLoginUser()).willThrow(CustomException.class);
+        given(userService.getCurrentLoginPrincipal()).willThrow(CustomException.class);
 
         // when & then
         assertThatThrownBy(() -> commentService.deleteComment(postId, commentId))
                 .isInstanceOf(CustomException.class);
     }
-}
\ No newline at end of file
+
+    private int commentCountOf(Long postId) {
+        entityManager.flush();
+        entityManager.clear();
+        return postStatisticsRepository.findById(postId).orElseThrow().getCommentCount();
+    }
+}
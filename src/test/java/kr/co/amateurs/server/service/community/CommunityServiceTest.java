@@ -1,5 +1,6 @@
 package kr.co.amateurs.server.service.community;
 
+import kr.co.amateurs.server.config.jwt.UserPrincipal;
 import kr.co.amateurs.server.domain.dto.common.PageResponseDTO;
 import kr.co.amateurs.server.domain.dto.common.PaginationSortType;
 import kr.co.amateurs.server.domain.dto.community.CommunityRequestDTO;
@@ -247,12 +248,85 @@ class CommunityServiceTest {
         assertThat(result.content().get(0).title()).contains("자유1");
     }
 
+    @Test
+    void 유저가_관련도순으로_검색하면_제목이_일치하는_게시글이_먼저_반환되어야_한다() {
+        // given
+        Post contentOnlyPost = postRepository.save(
+                CommunityTestFixtures.createPost(testStudentUser, "다른 제목", "자유1 에 대한 본문", BoardType.FREE)
+        );
+        postStatisticsRepository.save(PostStatistics.from(contentOnlyPost));
+        communityRepository.save(CommunityTestFixtures.createCommunityPost(contentOnlyPost));
+
+        PostPaginationParam param = PostPaginationParam.builder()
+                .keyword("자유1")
+                .page(0)
+                .size(10)
+                .field(PaginationSortType.POST_RELEVANCE)
+                .build();
+
+        // when
+        PageResponseDTO<CommunityResponseDTO> result = communityService.searchPosts(BoardType.FREE, param);
+
+        // then
+        assertThat(result.content()).hasSize(2);
+        assertThat(result.content().get(0).title()).isEqualTo("자유1");
+        assertThat(result.content().get(1).title()).isEqualTo("다른 제목");
+        assertThat(result.pageInfo().getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void 유저가_커서로_조회하면_다음_커서로_이어서_조회되어야_한다() {
+        // given
+        BoardType boardType = BoardType.FREE;
+        PostPaginationParam firstParam = PostPaginationParam.builder()
+                .size(1)
+                .sortDirection(Sort.Direction.DESC)
+                .field(PaginationSortType.POST_LATEST)
+                .cursor("")
+                .build();
+
+        // when
+        PageResponseDTO<CommunityResponseDTO> first = communityService.searchPosts(boardType, firstParam);
+        PostPaginationParam nextParam = PostPaginationParam.builder()
+                .size(1)
+                .sortDirection(Sort.Direction.DESC)
+                .field(PaginationSortType.POST_LATEST)
+                .cursor(first.pageInfo().getNextCursor())
+                .build();
+        PageResponseDTO<CommunityResponseDTO> next = communityService.searchPosts(boardType, nextParam);
+
+        // then
+        assertThat(first.content()).hasSize(1);
+        assertThat(first.content().get(0).title()).isEqualTo("자유2");
+        assertThat(first.pageInfo().getHasNext()).isTrue();
+        assertThat(first.pageInfo().getTotalElements()).isEqualTo(-1L);
+
+        assertThat(next.content()).hasSize(1);
+        assertThat(next.content().get(0).title()).isEqualTo("자유1");
+        assertThat(next.pageInfo().getHasNext()).isFalse();
+        assertThat(next.pageInfo().getNextCursor()).isNull();
+    }
+
+    @Test
+    void 유저가_잘못된_커서로_조회하면_예외가_발생해야_한다() {
+        // given
+        PostPaginationParam param = PostPaginationParam.builder()
+                .size(10)
+                .field(PaginationSortType.POST_LATEST)
+                .cursor("not-a-cursor")
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> communityService.searchPosts(BoardType.FREE, param))
+                .isInstanceOf(CustomException.class);
+    }
+
     @Test
     void 유저가_유효한_communityId로_조회하면_게시글상세가_반환되어야_한다() {
         // given
         Long communityId = testFreeCommunityPost.getId();
 
-        given(userService.getCurrentLoginUser()).willReturn(testStudentUser);
+        given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(testStudentUser));
 
         // when
         CommunityResponseDTO result = communityService.getPost(communityId, "1");
@@ -275,7 +349,7 @@ class CommunityServiceTest {
         // given
         Long nonExistentCommunityId = 999L;
 
-        given(userService.getCurrentLoginUser()).willReturn(testStudentUser);
+        given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(testStudentUser));
 
         // when & then
         assertThatThrownBy(() -> communityService.getPost(nonExistentCommunityId, "1"))
@@ -321,7 +395,7 @@ class CommunityServiceTest {
         CommunityRequestDTO requestDTO = CommunityTestFixtures.createRequestDTO("수정된 제목","수정 태그", "수정된 내용");
         Long communityId = testFreeCommunityPost.getId();
 
-        given(userService.getCurrentLoginUser()).willReturn(testStudentUser);
+        given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(testStudentUser));
 
         // when
         communityService.updatePost(requestDTO, communityId);
@@ -339,7 +413,7 @@ class CommunityServiceTest {
         CommunityRequestDTO requestDTO = CommunityTestFixtures.createRequestDTO("수정된 제목","수정 태그","수정된 내용");
         Long nonExistentCommunityId = 999L;
 
-        given(userService.getCurrentUser()).willReturn(Optional.of(testStudentUser));
+        given(userService.getCurrentPrincipal()).willReturn(Optional.of(UserPrincipal.from(testStudentUser)));
 
         // when & then
         assertThatThrownBy(() -> communityService.updatePost(requestDTO, nonExistentCommunityId))
@@ -352,7 +426,7 @@ class CommunityServiceTest {
         CommunityRequestDTO requestDTO = CommunityTestFixtures.createRequestDTO("수정된 제목","수정 태그", "수정된 내용");
         Long communityId = testFreeCommunityPost.getId();
 
-        given(userService.getCurrentLoginUser()).willReturn(testOtherUser);
+        given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(testOtherUser));
 
         // when & then
         assertThatThrownBy(() -> communityService.updatePost(requestDTO, communityId))
@@ -364,7 +438,7 @@ class CommunityServiceTest {
         // given
         Long communityId = testFreeCommunityPost.getId();
         Long postId = testFreeCommunityPost.getPost().getId();
-        given(userService.getCurrentLoginUser()).willReturn(testStudentUser);
+        given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(testStudentUser));
 
         // when
         communityService.deletePost(communityId);
@@ -379,7 +453,7 @@ class CommunityServiceTest {
         // given
         Long nonExistentCommunityId = 999L;
 
-        given(userService.getCurrentUser()).willReturn(Optional.of(testStudentUser));
+        given(userService.getCurrentPrincipal()).willReturn(Optional.of(UserPrincipal.from(testStudentUser)));
 
         // when & then
         assertThatThrownBy(() -> communityService.deletePost(nonExistentCommunityId))
@@ -391,7 +465,7 @@ class CommunityServiceTest {
         // given
         Long communityId = testFreeCommunityPost.getId();
 
-        given(userService.getCurrentLoginUser()).willReturn(testOtherUser);
+        given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(testOtherUser));
 
         // when & then
         assertThatThrownBy(() -> communityService.deletePost(communityId))
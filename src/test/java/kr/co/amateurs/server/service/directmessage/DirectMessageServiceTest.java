@@ -1,6 +1,7 @@
 package kr.co.amateurs.server.service.directmessage;
 
 import kr.co.amateurs.server.config.EmbeddedRedisConfig;
+import kr.co.amateurs.server.config.jwt.UserPrincipal;
 import kr.co.amateurs.server.domain.common.ErrorCode;
 import kr.co.amateurs.server.domain.dto.common.PageResponseDTO;
 import kr.co.amateurs.server.domain.dto.directmessage.*;
@@ -83,6 +84,7 @@ class DirectMessageServiceTest {
 
         // UserService Mock 설정
         when(userService.getCurrentLoginUser()).thenReturn(testUser1);
+        when(userService.getCurrentLoginPrincipal()).thenReturn(UserPrincipal.from(testUser1));
         when(userService.findById(TestConstants.USER_ID_1)).thenReturn(testUser1);
         when(userService.findById(TestConstants.USER_ID_2)).thenReturn(testUser2);
         when(userService.findById(TestConstants.USER_ID_3)).thenReturn(deletedUser);
@@ -268,7 +270,7 @@ class DirectMessageServiceTest {
             directMessageService.exitRoom(room.getId());
 
             // Mock 설정 변경 - 두 번째 사용자로 전환
-            when(userService.getCurrentLoginUser()).thenReturn(testUser2);
+            when(userService.getCurrentLoginPrincipal()).thenReturn(UserPrincipal.from(testUser2));
 
             // when - 두 번째 사용자도 방을 나감
             directMessageService.exitRoom(room.getId());
@@ -608,6 +610,48 @@ class DirectMessageServiceTest {
             assertThat(response.pageInfo().getTotalPages()).isEqualTo(2);
         }
 
+        @Test
+        void 커서로_다음_페이지를_이어서_검색한다() {
+            // given
+            DirectMessageRoom room = roomFixture.createAndSaveRoom(DirectMessageRoomFixture.ROOM_1);
+            messageFixture.createPaginationTestMessages(room.getId(), 5);
+
+            DirectMessageSearchPaginationParam firstParam = DirectMessageFixture.createSearchPaginationParam("페이징", 0, 3);
+            firstParam.setCursor("");
+
+            // when
+            PageResponseDTO<DirectMessageResponse> first = directMessageService.findMessages(firstParam);
+            DirectMessageSearchPaginationParam nextParam = DirectMessageFixture.createSearchPaginationParam("페이징", 0, 3);
+            nextParam.setCursor(first.pageInfo().getNextCursor());
+            PageResponseDTO<DirectMessageResponse> next = directMessageService.findMessages(nextParam);
+
+            // then
+            assertThat(first.content()).hasSize(3);
+            assertThat(first.pageInfo().getHasNext()).isTrue();
+            assertThat(next.content()).hasSize(2);
+            assertThat(next.pageInfo().getHasNext()).isFalse();
+            assertThat(next.content())
+                    .extracting(DirectMessageResponse::id)
+                    .doesNotContainAnyElementsOf(first.content().stream().map(DirectMessageResponse::id).toList());
+        }
+
+        @Test
+        void 한_글자_검색어로도_검색된다() {
+            // given
+            DirectMessageRoom room = roomFixture.createAndSaveRoom(DirectMessageRoomFixture.ROOM_1);
+            messageFixture.createSearchTestMessages(room.getId());
+
+            DirectMessageSearchPaginationParam param = DirectMessageFixture.createSearchPaginationParam("히");
+
+            // when
+            PageResponseDTO<DirectMessageResponse> response = directMessageService.findMessages(param);
+
+            // then
+            assertThat(response.content())
+                    .extracting(DirectMessageResponse::content)
+                    .containsExactly(DirectMessageFixture.SEARCH_CONTENT_2);
+        }
+
         @Test
         void 참여한_방이_없으면_빈_결과를_반환한다() {
             // given - 현재 사용자가 참여한 방이 없음
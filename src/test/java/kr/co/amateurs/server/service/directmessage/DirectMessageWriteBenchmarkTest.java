@@ -0,0 +1,139 @@
+package kr.co.amateurs.server.service.directmessage;
+
+import kr.co.amateurs.server.config.EmbeddedRedisConfig;
+import kr.co.amateurs.server.domain.dto.directmessage.DirectMessageRequest;
+import kr.co.amateurs.server.domain.entity.directmessage.DirectMessage;
+import kr.co.amateurs.server.domain.entity.directmessage.DirectMessageRoom;
+import kr.co.amateurs.server.domain.entity.directmessage.enums.MessageType;
+import kr.co.amateurs.server.fixture.common.TestConstants;
+import kr.co.amateurs.server.fixture.directmessage.DirectMessageRoomFixture;
+import kr.co.amateurs.server.repository.directmessage.DirectMessageRepository;
+import kr.co.amateurs.server.repository.directmessage.DirectMessageRoomRepository;
+import kr.co.amateurs.server.service.UserService;
+import kr.co.amateurs.server.service.alarm.SseService;
+import kr.co.amateurs.server.service.file.FileService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 방에 메시지 2천 건을 연달아 보낼 때 초당 처리량 비교
+ * - 기존: 방 조회 + 메시지 저장 + 방 문서 전체 저장
+ * - 현재: 참여자 캐시 + 메시지 저장 + 방 마지막 메시지 $set 묶음 반영
+ * - write-behind: 메시지 insertMany 묶음 저장 + 방 마지막 메시지 $set 묶음 반영
+ * 일반 test 태스크에서는 제외되고 benchmark 태스크로만 실행
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@Import(EmbeddedRedisConfig.class)
+@ActiveProfiles("test")
+class DirectMessageWriteBenchmarkTest {
+
+    private static final int MESSAGES = 2_000;
+
+    @Autowired
+    private DirectMessageService directMessageService;
+
+    @Autowired
+    private DirectMessageWriteBuffer directMessageWriteBuffer;
+
+    @Autowired
+    private DirectMessageRepository directMessageRepository;
+
+    @Autowired
+    private DirectMessageRoomRepository directMessageRoomRepository;
+
+    @Autowired
+    private DirectMessageRoomFixture roomFixture;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @MockitoBean
+    private UserService userService;
+
+    @MockitoBean
+    private FileService fileService;
+
+    @MockitoBean
+    private SseService sseService;
+
+    @BeforeEach
+    void setUp() {
+        directMessageRepository.deleteAll();
+        directMessageRoomRepository.deleteAll();
+    }
+
+    @Test
+    void 한_방의_메시지_처리량을_비교한다() {
+        // given
+        DirectMessageRoom room = roomFixture.createAndSaveRoom(DirectMessageRoomFixture.ROOM_1);
+        DirectMessageRequest request = DirectMessageRequest.builder()
+                .content("벤치마크 메시지")
+                .senderId(TestConstants.USER_ID_1)
+                .senderName(TestConstants.USER_NAME_1)
+                .messageType(MessageType.TEXT)
+                .build();
+
+        // when - 기존 경로
+        long legacyNanos = measure(() -> {
+            DirectMessageRoom loaded = directMessageRoomRepository.findById(room.getId()).orElseThrow();
+            directMessageRepository.save(request.toCollection(room.getId()));
+            loaded.updateLastMessage(request.content());
+            directMessageRoomRepository.save(loaded);
+        });
+
+        // when - 현재 경로
+        long bufferedNanos = measure(() -> directMessageService.saveMessage(room.getId(), request));
+        directMessageWriteBuffer.flush();
+
+        // when - write-behind
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.initialize();
+        DirectMessageWriteBuffer writeBehindBuffer = new DirectMessageWriteBuffer(
+                directMessageRepository, mongoTemplate, scheduler, Duration.ofMillis(20), true, 500);
+        long writeBehindNanos;
+        try {
+            writeBehindNanos = measure(() -> {
+                DirectMessage message = writeBehindBuffer.saveMessage(request.toCollection(room.getId()));
+                writeBehindBuffer.updateLastMessage(room.getId(), message.getContent(), message.getSentAt());
+            });
+            writeBehindBuffer.flush();
+        } finally {
+            scheduler.shutdown();
+        }
+
+        // then
+        log.info("DM write throughput (1 room, {} msgs): legacy={}/s, buffered={}/s, write-behind={}/s",
+                MESSAGES, perSecond(legacyNanos), perSecond(bufferedNanos), perSecond(writeBehindNanos));
+        assertThat(directMessageRepository.count()).isEqualTo(MESSAGES * 3L);
+        assertThat(directMessageRoomRepository.findById(room.getId()).orElseThrow().getLastMessage())
+                .isEqualTo(request.content());
+    }
+
+    private long measure(Runnable send) {
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < MESSAGES; i++) {
+            send.run();
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private long perSecond(long nanos) {
+        return MESSAGES * TimeUnit.SECONDS.toNanos(1) / Math.max(1, nanos);
+    }
+}
@@ -0,0 +1,92 @@
+package kr.co.amateurs.server.service.directmessage;
+
+import kr.co.amateurs.server.domain.entity.directmessage.DirectMessage;
+import kr.co.amateurs.server.domain.entity.directmessage.DirectMessageRoom;
+import kr.co.amateurs.server.repository.directmessage.DirectMessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DirectMessageWriteBufferTest {
+
+    private static final String ROOM_ID = "room-1";
+
+    @Mock
+    private DirectMessageRepository directMessageRepository;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private TaskScheduler dmWriteScheduler;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    private DirectMessageWriteBuffer writeBuffer;
+
+    @BeforeEach
+    void setUp() {
+        writeBuffer = new DirectMessageWriteBuffer(directMessageRepository, mongoTemplate, dmWriteScheduler,
+                Duration.ofMillis(20), true, 500);
+    }
+
+    @Test
+    void 저장에_실패한_메시지는_버리지_않고_다음_flush_에서_다시_저장한다() {
+        // given
+        DirectMessage message = DirectMessage.builder().roomId(ROOM_ID).content("안녕").build();
+        writeBuffer.saveMessage(message);
+        when(mongoTemplate.insert(anyList(), eq(DirectMessage.class)))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+        when(directMessageRepository.insert(message))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(message);
+
+        // when
+        writeBuffer.flush();
+        writeBuffer.flush();
+
+        // then
+        verify(directMessageRepository, times(2)).insert(message);
+        verify(mongoTemplate, times(2)).insert(List.of(message), DirectMessage.class);
+    }
+
+    @Test
+    void 방_갱신에_실패하면_다시_대기열에_넣어_다음_flush_에서_반영한다() {
+        // given
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, DirectMessageRoom.class)).thenReturn(bulkOperations);
+        doThrow(new DataAccessResourceFailureException("down"))
+                .doReturn(null)
+                .when(bulkOperations).execute();
+        writeBuffer.updateLastMessage(ROOM_ID, "안녕", LocalDateTime.now());
+
+        // when
+        writeBuffer.flush();
+        writeBuffer.flush();
+
+        // then
+        verify(bulkOperations, times(2)).updateOne(any(Query.class), any(Update.class));
+        verify(bulkOperations, times(2)).execute();
+    }
+}
@@ -0,0 +1,70 @@
+package kr.co.amateurs.server.service.directmessage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.amateurs.server.config.cache.CacheInvalidationPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RoomMembershipCacheTest {
+
+    private static final String ROOM_ID = "room-1";
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    private RoomMembershipCache roomMembershipCache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(invalidationPublisher.getInstanceId()).thenReturn("local");
+        roomMembershipCache = new RoomMembershipCache(invalidationPublisher, new SimpleMeterRegistry(), Duration.ofSeconds(30), 100);
+        roomMembershipCache.put(ROOM_ID, Set.of(1L, 2L));
+    }
+
+    @Test
+    void 방을_지우면_로컬_엔트리를_지우고_다른_인스턴스에_알린다() {
+        // when
+        roomMembershipCache.evictRoom(ROOM_ID);
+
+        // then
+        assertThat(roomMembershipCache.get(ROOM_ID, roomId -> Set.of())).isEmpty();
+        verify(invalidationPublisher).publish(RoomMembershipCache.CACHE_NAME, ROOM_ID);
+    }
+
+    @Test
+    void 다른_인스턴스의_무효화_메시지를_받으면_해당_방_엔트리를_지운다() {
+        // when
+        roomMembershipCache.onMessage(message("remote|" + RoomMembershipCache.CACHE_NAME + "|" + ROOM_ID), null);
+
+        // then
+        assertThat(roomMembershipCache.get(ROOM_ID, roomId -> Set.of())).isEmpty();
+    }
+
+    @Test
+    void 자기_인스턴스나_다른_캐시의_메시지는_무시한다() {
+        // when
+        roomMembershipCache.onMessage(message("local|" + RoomMembershipCache.CACHE_NAME + "|" + ROOM_ID), null);
+        roomMembershipCache.onMessage(message("remote|authPrincipal|" + ROOM_ID), null);
+
+        // then
+        assertThat(roomMembershipCache.get(ROOM_ID, roomId -> Set.of())).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(CacheInvalidationPublisher.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,6 +1,7 @@
 package kr.co.amateurs.server.service.it;
 
 import jakarta.persistence.EntityManager;
+import kr.co.amateurs.server.config.jwt.UserPrincipal;
 import kr.co.amateurs.server.domain.dto.common.PageResponseDTO;
 import kr.co.amateurs.server.domain.dto.common.PaginationSortType;
 import kr.co.amateurs.server.domain.dto.common.PostPaginationParam;
@@ -314,7 +315,7 @@ class ITServiceTest {
         ITRequestDTO requestDTO = ITTestFixtures.createRequestDTO("수정된 제목","수정 태그", "수정된 내용");
         Long itId = testReviewITPost.getId();
 
-        given(userService.getCurrentLoginUser()).willReturn(testStudentUser);
+        given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(testStudentUser));
 
         // when
         itService.updatePost(requestDTO, itId);
@@ -332,7 +333,7 @@ class ITServiceTest {
         ITRequestDTO requestDTO = ITTestFixtures.createRequestDTO("수정된 제목","수정 태그","수정된 내용");
         Long nonExistentItId = 999L;
 
-        given(userService.getCurrentUser()).willReturn(Optional.of(testStudentUser));
+        given(userService.getCurrentPrincipal()).willReturn(Optional.of(UserPrincipal.from(testStudentUser)));
 
         // when & then
         assertThatThrownBy(() -> itService.updatePost(requestDTO, nonExistentItId))
@@ -345,7 +346,7 @@ class ITServiceTest {
         ITRequestDTO requestDTO = ITTestFixtures.createRequestDTO("수정된 제목","수정 태그", "수정된 내용");
         Long itId = testReviewITPost.getId();
 
-        given(userService.getCurrentLoginUser()).willReturn(testOtherUser);
+        given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(testOtherUser));
 
         // when & then
         assertThatThrownBy(() -> itService.updatePost(requestDTO, itId))
@@ -357,7 +358,7 @@ class ITServiceTest {
         // given
         Long itId = testReviewITPost.getId();
 
-        given(userService.getCurrentLoginUser()).willReturn(testStudentUser);
+        given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(testStudentUser));
 
         // when & then
         assertThatCode(() -> itService.deletePost(itId))
@@ -369,7 +370,7 @@ class ITServiceTest {
         // given
         Long nonExistentItId = 999L;
 
-        given(userService.getCurrentUser()).willReturn(Optional.of(testStudentUser));
+        given(userService.getCurrentPrincipal()).willReturn(Optional.of(UserPrincipal.from(testStudentUser)));
 
         // when & then
         assertThatThrownBy(() -> itService.deletePost(nonExistentItId))
@@ -381,7 +382,7 @@ class ITServiceTest {
         // given
         Long itId = testReviewITPost.getId();
 
-        given(userService.getCurrentLoginUser()).willReturn(testOtherUser);
+        given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(testOtherUser));
 
         // when & then
         assertThatThrownBy(() -> itService.deletePost(itId))
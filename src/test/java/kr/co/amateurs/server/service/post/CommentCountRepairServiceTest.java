@@ -0,0 +1,65 @@
+package kr.co.amateurs.server.service.post;
+
+import jakarta.persistence.EntityManager;
+import kr.co.amateurs.server.domain.entity.post.Post;
+import kr.co.amateurs.server.domain.entity.post.PostStatistics;
+import kr.co.amateurs.server.domain.entity.post.enums.BoardType;
+import kr.co.amateurs.server.domain.entity.user.User;
+import kr.co.amateurs.server.fixture.community.CommunityTestFixtures;
+import kr.co.amateurs.server.repository.comment.CommentRepository;
+import kr.co.amateurs.server.repository.post.PostRepository;
+import kr.co.amateurs.server.repository.post.PostStatisticsRepository;
+import kr.co.amateurs.server.repository.user.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class CommentCountRepairServiceTest {
+
+    @Autowired
+    private CommentCountRepairService commentCountRepairService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostStatisticsRepository postStatisticsRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void 실제_댓글_수와_어긋난_comment_count를_보정한다() {
+        // given
+        User user = userRepository.save(CommunityTestFixtures.createStudentUser());
+        Post drifted = postRepository.save(CommunityTestFixtures.createPost(user, "어긋난 글", "내용", BoardType.FREE));
+        Post consistent = postRepository.save(CommunityTestFixtures.createPost(user, "정상 글", "내용", BoardType.FREE));
+        postStatisticsRepository.save(PostStatistics.builder().post(drifted).commentCount(5).build());
+        postStatisticsRepository.save(PostStatistics.builder().post(consistent).commentCount(1).build());
+        commentRepository.save(CommunityTestFixtures.createComment(drifted, user, "댓글"));
+        commentRepository.save(CommunityTestFixtures.createComment(consistent, user, "댓글"));
+        entityManager.flush();
+
+        // when
+        int repaired = commentCountRepairService.repairCommentCounts();
+
+        // then
+        entityManager.clear();
+        assertThat(repaired).isGreaterThanOrEqualTo(1);
+        assertThat(postStatisticsRepository.findById(drifted.getId()).orElseThrow().getCommentCount()).isEqualTo(1);
+        assertThat(postStatisticsRepository.findById(consistent.getId()).orElseThrow().getCommentCount()).isEqualTo(1);
+    }
+}
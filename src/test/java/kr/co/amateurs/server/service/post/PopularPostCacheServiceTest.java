@@ -0,0 +1,62 @@
+package kr.co.amateurs.server.service.post;
+
+import kr.co.amateurs.server.domain.dto.post.PopularPostResponse;
+import kr.co.amateurs.server.repository.post.PopularPostRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static kr.co.amateurs.server.fixture.post.PopularPostRequestFixture.생성;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PopularPostCacheServiceTest {
+
+    @Mock
+    private PopularPostRepository popularPostRepository;
+
+    @Mock
+    private PopularPostRankingService popularPostRankingService;
+
+    @InjectMocks
+    private PopularPostCacheService popularPostCacheService;
+
+    @Test
+    void 실시간_랭킹_순서대로_조회되지_않는_게시글은_건너뛰고_limit_개까지_채운다() {
+        // given
+        when(popularPostRankingService.getTopPostIds(6)).thenReturn(List.of(2L, 3L, 1L, 4L));
+        when(popularPostRepository.findPopularPostsByIds(any(), any())).thenReturn(List.of(
+                생성(1L, 100, 10, 5, 0.0, LocalDate.now()),
+                생성(2L, 200, 20, 10, 0.0, LocalDate.now()),
+                생성(4L, 50, 5, 1, 0.0, LocalDate.now())
+        ));
+
+        // when
+        List<PopularPostResponse> result = popularPostCacheService.getCachedRankedPopularPosts(2);
+
+        // then
+        assertThat(result).extracting(PopularPostResponse::id).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 실시간_랭킹이_비어_있으면_게시글을_조회하지_않는다() {
+        // given
+        when(popularPostRankingService.getTopPostIds(30)).thenReturn(List.of());
+
+        // when
+        List<PopularPostResponse> result = popularPostCacheService.getCachedRankedPopularPosts(10);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(popularPostRepository, never()).findPopularPostsByIds(any(), any());
+    }
+}
@@ -0,0 +1,121 @@
+package kr.co.amateurs.server.service.post;
+
+import jakarta.persistence.EntityManager;
+import kr.co.amateurs.server.config.EmbeddedRedisConfig;
+import kr.co.amateurs.server.config.JooqQueryCountConfig;
+import kr.co.amateurs.server.config.JooqQueryCountConfig.JooqQueryCounter;
+import kr.co.amateurs.server.domain.dto.post.PopularPostRequest;
+import kr.co.amateurs.server.domain.entity.post.Post;
+import kr.co.amateurs.server.domain.entity.post.PostStatistics;
+import kr.co.amateurs.server.domain.entity.post.enums.BoardType;
+import kr.co.amateurs.server.domain.entity.user.User;
+import kr.co.amateurs.server.fixture.community.CommunityTestFixtures;
+import kr.co.amateurs.server.fixture.it.ITTestFixtures;
+import kr.co.amateurs.server.repository.community.CommunityRepository;
+import kr.co.amateurs.server.repository.it.ITRepository;
+import kr.co.amateurs.server.repository.post.PopularPostRepository;
+import kr.co.amateurs.server.repository.post.PostRepository;
+import kr.co.amateurs.server.repository.post.PostStatisticsRepository;
+import kr.co.amateurs.server.repository.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({EmbeddedRedisConfig.class, JooqQueryCountConfig.class})
+@Transactional
+class PopularPostQueryCountTest {
+
+    private static final int CANDIDATE_COUNT = 10;
+
+    @Autowired
+    private PopularPostService popularPostService;
+
+    @Autowired
+    private PopularPostRepository popularPostRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostStatisticsRepository postStatisticsRepository;
+
+    @Autowired
+    private CommunityRepository communityRepository;
+
+    @Autowired
+    private ITRepository itRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JooqQueryCounter jooqQueryCounter;
+
+    private final Map<Long, Long> expectedBoardIds = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(CommunityTestFixtures.createStudentUser());
+
+        for (int i = 0; i < CANDIDATE_COUNT; i++) {
+            boolean isCommunity = i % 2 == 0;
+            Post post = postRepository.save(isCommunity
+                    ? CommunityTestFixtures.createPost(user, "커뮤니티" + i, "내용", BoardType.FREE)
+                    : ITTestFixtures.createPost(user, "IT" + i, "내용", BoardType.REVIEW));
+            postStatisticsRepository.save(PostStatistics.builder().post(post).commentCount(1).build());
+
+            Long boardId = isCommunity
+                    ? communityRepository.save(CommunityTestFixtures.createCommunityPost(post)).getId()
+                    : itRepository.save(ITTestFixtures.createITPost(post)).getId();
+            expectedBoardIds.put(post.getId(), boardId);
+        }
+
+        entityManager.flush();
+        jooqQueryCounter.reset();
+    }
+
+    @Test
+    void 인기글_계산_시_후보_수와_관계없이_조회_쿼리는_한_번만_실행된다() {
+        // when
+        popularPostService.calculateAndSavePopularPosts();
+
+        // then
+        assertThat(jooqQueryCounter.getReadCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 후보_조회_결과에_게시판별_ID와_상태와_댓글_수가_함께_담긴다() {
+        // when
+        List<PopularPostRequest> candidates = popularPostRepository
+                .findRecentPostsWithCounts(LocalDateTime.now().minusDays(7))
+                .stream()
+                .filter(candidate -> expectedBoardIds.containsKey(candidate.postId()))
+                .toList();
+
+        // then
+        assertThat(candidates).hasSize(CANDIDATE_COUNT);
+        assertThat(candidates).allSatisfy(candidate -> {
+            assertThat(candidate.boardId()).isEqualTo(expectedBoardIds.get(candidate.postId()));
+            assertThat(candidate.commentCount()).isEqualTo(1);
+            assertThat(candidate.isBlinded()).isFalse();
+            assertThat(candidate.isDeleted()).isFalse();
+        });
+        assertThat(jooqQueryCounter.getReadCount()).isEqualTo(1);
+    }
+}
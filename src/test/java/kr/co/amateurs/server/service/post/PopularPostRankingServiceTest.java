@@ -0,0 +1,131 @@
+package kr.co.amateurs.server.service.post;
+
+import kr.co.amateurs.server.config.EmbeddedRedisConfig;
+import kr.co.amateurs.server.domain.entity.post.enums.PopularityEventType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static kr.co.amateurs.server.fixture.post.PopularPostRequestFixture.생성;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(EmbeddedRedisConfig.class)
+class PopularPostRankingServiceTest {
+
+    @Autowired
+    private PopularPostRankingService popularPostRankingService;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private final LocalDateTime createdAt = LocalDateTime.now().minusHours(3);
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+    }
+
+    @Test
+    void 이벤트가_발생하면_가중치만큼_랭킹에_즉시_반영된다() {
+        // given
+        활동_없는_게시글(1L, 2L);
+        popularPostRankingService.recordEvent(1L, PopularityEventType.VIEW);
+        popularPostRankingService.recordEvent(2L, PopularityEventType.VIEW);
+
+        // when
+        popularPostRankingService.recordEvent(2L, PopularityEventType.LIKE);
+
+        // then
+        assertThat(popularPostRankingService.getTopPostIds(10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 좋아요를_취소하면_점수가_다시_내려간다() {
+        // given
+        활동_없는_게시글(1L, 2L);
+        popularPostRankingService.recordEvent(1L, PopularityEventType.COMMENT);
+        popularPostRankingService.recordEvent(2L, PopularityEventType.LIKE);
+
+        // when
+        popularPostRankingService.recordEvent(2L, PopularityEventType.UNLIKE);
+
+        // then
+        assertThat(popularPostRankingService.getTopPostIds(10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 좋아요와_취소가_오가도_활동_없는_게시글보다_낮아지지_않는다() {
+        // given
+        활동_없는_게시글(1L, 2L);
+
+        // when
+        popularPostRankingService.recordEvent(2L, PopularityEventType.LIKE);
+        popularPostRankingService.recordEvent(2L, PopularityEventType.COMMENT);
+        popularPostRankingService.recordEvent(2L, PopularityEventType.UNLIKE);
+        popularPostRankingService.recordEvent(2L, PopularityEventType.UNCOMMENT);
+
+        // then
+        assertThat(score(2L)).isCloseTo(score(1L), within(1e-9));
+    }
+
+    @Test
+    void 실시간_누적_점수와_재계산_점수가_같다() {
+        // given
+        활동_없는_게시글(1L);
+        popularPostRankingService.recordEvent(1L, PopularityEventType.LIKE);
+        popularPostRankingService.recordEvent(1L, PopularityEventType.COMMENT);
+        double incremental = score(1L);
+
+        // when
+        popularPostRankingService.rebuild(List.of(생성(1L, 0, 1, 1, 0.0, LocalDate.now(), createdAt)));
+
+        // then
+        assertThat(score(1L)).isCloseTo(incremental, within(incremental * 1e-4));
+    }
+
+    @Test
+    void 재계산하면_DB_집계값으로_랭킹을_교체한다() {
+        // given
+        popularPostRankingService.recordEvent(99L, PopularityEventType.LIKE);
+
+        // when
+        popularPostRankingService.rebuild(List.of(
+                생성(1L, 10, 1, 0, 0.0, LocalDate.now()),
+                생성(2L, 100, 10, 5, 0.0, LocalDate.now())
+        ));
+
+        // then
+        assertThat(popularPostRankingService.getTopPostIds(10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 랭킹이_비어_있으면_빈_리스트를_반환한다() {
+        // when & then
+        assertThat(popularPostRankingService.getTopPostIds(10)).isEmpty();
+    }
+
+    /**
+     * 재계산으로 게시글 작성 시각을 알려 두고 점수 0 으로 랭킹에 올림
+     */
+    private void 활동_없는_게시글(Long... postIds) {
+        popularPostRankingService.rebuild(Arrays.stream(postIds)
+                .map(postId -> 생성(postId, 0, 0, 0, 0.0, LocalDate.now(), createdAt))
+                .toList());
+    }
+
+    private double score(Long postId) {
+        return redisTemplate.opsForZSet().score("post:popular:ranking", postId.toString());
+    }
+}
@@ -37,10 +37,10 @@ class PopularPostServiceTest {
     PopularPostRepository popularPostRepository;
 
     @MockitoBean
-    PostService postService;
+    private PopularPostCacheService popularPostCacheService;
 
     @MockitoBean
-    private PopularPostCacheService popularPostCacheService;
+    private PopularPostRankingService popularPostRankingService;
 
     @Nested
     class 인기글_계산_및_저장_기능 {
@@ -65,10 +65,6 @@ class PopularPostServiceTest {
                     생성(2L, 200, 20, 10, 0.0, LocalDate.now())
             );
             when(popularPostRepository.findRecentPostsWithCounts(any())).thenReturn(posts);
-            when(postService.getBoardId(any(), any())).thenReturn(1L);
-            when(popularPostRepository.getBoardStatus(any())).thenReturn(
-                    new PopularPostRepository.BoardStatus(false, false)
-            );
 
             // when
             popularPostService.calculateAndSavePopularPosts();
@@ -101,6 +97,19 @@ class PopularPostServiceTest {
                 assertThat(saved.get(i).popularityScore()).isGreaterThanOrEqualTo(saved.get(i + 1).popularityScore());
             }
         }
+
+        @Test
+        void 재계산_시_실시간_랭킹도_함께_교체한다() {
+            // given
+            List<PopularPostRequest> posts = List.of(생성(1L, 100, 10, 5, 0.0, LocalDate.now()));
+            when(popularPostRepository.findRecentPostsWithCounts(any())).thenReturn(posts);
+
+            // when
+            popularPostService.calculateAndSavePopularPosts();
+
+            // then
+            verify(popularPostRankingService).rebuild(posts);
+        }
     }
 
     @Nested
@@ -125,6 +134,24 @@ class PopularPostServiceTest {
             assertThat(result.get(0).id()).isEqualTo(1L);
         }
 
+        @Test
+        void 실시간_랭킹이_있으면_캐시된_랭킹_결과를_조회한다() {
+            // given
+            List<PopularPostResponse> rankedPosts = List.of(
+                    PopularPostResponse.from(생성(2L, 200, 20, 10, 0.0, LocalDate.now())),
+                    PopularPostResponse.from(생성(1L, 100, 10, 5, 0.0, LocalDate.now()))
+            );
+            when(popularPostCacheService.getCachedRankedPopularPosts(10)).thenReturn(rankedPosts);
+
+            // when
+            List<PopularPostResponse> result = popularPostService.getPopularPosts(10);
+
+            // then
+            assertThat(result).extracting(PopularPostResponse::id).containsExactly(2L, 1L);
+            verify(popularPostCacheService, never()).getCachedPopularPosts(anyInt());
+            verifyNoInteractions(popularPostRankingService);
+        }
+
         @Test
         void 인기글이_없으면_빈_리스트를_반환한다() {
             // given
@@ -1,5 +1,6 @@
 package kr.co.amateurs.server.service.post;
 
+import jakarta.persistence.EntityManager;
 import kr.co.amateurs.server.config.EmbeddedRedisConfig;
 import kr.co.amateurs.server.domain.entity.post.Post;
 import kr.co.amateurs.server.domain.entity.post.PostStatistics;
@@ -17,10 +18,13 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -49,6 +53,9 @@ class ViewCountServiceTest {
     @Autowired
     private PlatformTransactionManager transactionManager;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private String testIp1 = "192.168.1.1";
     private String testIp2 = "192.168.1.2";
     private String testIp3 = "10.0.0.1";
@@ -138,7 +145,7 @@ class ViewCountServiceTest {
         assertThat(beforeSync.get().getViewCount()).isEqualTo(0);
 
         // when
-        viewCountService.syncViewCountsToDB();
+        syncViewCounts();
 
         // then
         Optional<PostStatistics> afterSync = postStatisticsRepository.findById(post.getId());
@@ -161,7 +168,7 @@ class ViewCountServiceTest {
         viewCountService.incrementViewCount(post2.getId(), testIp3);
 
         // when
-        viewCountService.syncViewCountsToDB();
+        syncViewCounts();
 
         // then
         Optional<PostStatistics> post1Stats = postStatisticsRepository.findById(post.getId());
@@ -201,7 +208,7 @@ class ViewCountServiceTest {
         viewCountService.incrementViewCount(invalidPostId, testIp1);
 
         // when
-        viewCountService.syncViewCountsToDB();
+        syncViewCounts();
 
         // then
         Optional<PostStatistics> validStats = postStatisticsRepository.findById(post.getId());
@@ -211,6 +218,154 @@ class ViewCountServiceTest {
         assertThat(viewCountService.getViewCount(invalidPostId)).isEqualTo(0L);
     }
 
+    @Test
+    void 여러_게시글의_실시간_조회수를_한_번에_조회해야_한다() {
+        // given
+        Long nonExistentPostId = 999L;
+        viewCountService.incrementViewCount(post.getId(), testIp1);
+        viewCountService.incrementViewCount(post.getId(), testIp2);
+        viewCountService.incrementViewCount(post2.getId(), testIp1);
+        syncViewCounts();
+        viewCountService.incrementViewCount(post2.getId(), testIp2);
+
+        // when
+        Map<Long, Long> viewCounts = viewCountService.getViewCounts(List.of(post.getId(), post2.getId(), nonExistentPostId));
+        Map<Long, Long> pendingViewCounts = viewCountService.getPendingViewCounts(List.of(post.getId(), post2.getId()));
+
+        // then
+        assertThat(viewCounts.get(post.getId())).isEqualTo(2L);
+        assertThat(viewCounts.get(post2.getId())).isEqualTo(2L);
+        assertThat(viewCounts.get(nonExistentPostId)).isEqualTo(0L);
+        assertThat(pendingViewCounts.containsKey(post.getId())).isFalse();
+        assertThat(pendingViewCounts.get(post2.getId())).isEqualTo(1L);
+    }
+
+    @Test
+    void 조회수_증가_시_IP별_키를_만들지_않고_게시글별_HyperLogLog만_사용해야_한다() {
+        // given & when
+        viewCountService.incrementViewCount(post.getId(), testIp1);
+        viewCountService.incrementViewCount(post.getId(), testIp2);
+        viewCountService.incrementViewCount(post.getId(), testIp3);
+
+        // then
+        assertThat(redisTemplate.keys("post:view:ip:*").size()).isEqualTo(0);
+        assertThat(redisTemplate.keys("post:view:hll:" + post.getId() + ":*").size()).isEqualTo(1);
+        assertThat(viewCountService.getViewCount(post.getId())).isEqualTo(3L);
+    }
+
+    @Test
+    void 이전_주기에_반영되지_못한_스냅샷은_다음_동기화에서_반영되어야_한다() {
+        // given
+        redisTemplate.opsForHash().put("post:view:counts:flushing", post.getId().toString(), 2L);
+        viewCountService.incrementViewCount(post.getId(), testIp1);
+
+        assertThat(viewCountService.getViewCount(post.getId())).isEqualTo(3L);
+
+        // when
+        syncViewCounts();
+
+        // then
+        assertThat(postStatisticsRepository.findById(post.getId()).get().getViewCount()).isEqualTo(2);
+        assertThat(viewCountService.getViewCount(post.getId())).isEqualTo(3L);
+
+        // when
+        syncViewCounts();
+
+        // then
+        assertThat(postStatisticsRepository.findById(post.getId()).get().getViewCount()).isEqualTo(3);
+        assertThat(viewCountService.getViewCount(post.getId())).isEqualTo(3L);
+    }
+
+    @Test
+    void 동기화가_롤백되면_스냅샷이_남아_다음_주기에_다시_반영되어야_한다() {
+        // given
+        viewCountService.incrementViewCount(post.getId(), testIp1);
+        viewCountService.incrementViewCount(post.getId(), testIp2);
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        TestTransaction.start();
+
+        // when
+        viewCountService.syncViewCountsToDB();
+        TestTransaction.end();
+        TestTransaction.start();
+
+        // then
+        assertThat(redisTemplate.hasKey("post:view:counts:flushing")).isTrue();
+        assertThat(postStatisticsRepository.findById(post.getId()).get().getViewCount()).isEqualTo(0);
+
+        // when
+        syncViewCounts();
+
+        // then
+        assertThat(redisTemplate.hasKey("post:view:counts:flushing")).isFalse();
+        assertThat(postStatisticsRepository.findById(post.getId()).get().getViewCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 동기화가_커밋되기_전에는_기준값_캐시_세대가_바뀌지_않아야_한다() {
+        // given
+        viewCountService.incrementViewCount(post.getId(), testIp1);
+        assertThat(viewCountService.getViewCount(post.getId())).isEqualTo(1L);
+        entityManager.flush();
+
+        // when
+        viewCountService.syncViewCountsToDB();
+
+        // then
+        assertThat(redisTemplate.opsForValue().get("post:view:flush:generation")).isNull();
+        assertThat(viewCountService.getViewCount(post.getId())).isEqualTo(1L);
+
+        // when
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        TestTransaction.start();
+
+        // then
+        assertThat(redisTemplate.opsForValue().get("post:view:flush:generation")).isNotNull();
+        assertThat(viewCountService.getViewCount(post.getId())).isEqualTo(1L);
+    }
+
+    @Test
+    void 다른_동기화가_진행_중이면_남은_스냅샷을_다시_반영하지_않아야_한다() {
+        // given
+        redisTemplate.opsForHash().put("post:view:counts:flushing", post.getId().toString(), 2L);
+        redisTemplate.opsForValue().set("post:view:flush:lock", "other-instance");
+
+        // when
+        syncViewCounts();
+
+        // then
+        assertThat(postStatisticsRepository.findById(post.getId()).get().getViewCount()).isEqualTo(0);
+        assertThat(redisTemplate.hasKey("post:view:counts:flushing")).isTrue();
+        assertThat(redisTemplate.opsForValue().get("post:view:flush:lock")).isEqualTo("other-instance");
+    }
+
+    @Test
+    void 동기화가_끝나면_락을_해제해야_한다() {
+        // given
+        viewCountService.incrementViewCount(post.getId(), testIp1);
+
+        // when
+        syncViewCounts();
+
+        // then
+        assertThat(redisTemplate.hasKey("post:view:flush:lock")).isFalse();
+        assertThat(postStatisticsRepository.findById(post.getId()).get().getViewCount()).isEqualTo(1);
+    }
+
+    /**
+     * 동기화는 jOOQ 벌크 UPDATE 로 영속성 컨텍스트를 우회하므로 전에 flush 합니다.
+     * 스냅샷 정리와 캐시 무효화는 커밋 이후에 일어나므로 테스트 트랜잭션을 커밋하고 새로 시작합니다.
+     */
+    private void syncViewCounts() {
+        entityManager.flush();
+        viewCountService.syncViewCountsToDB();
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        TestTransaction.start();
+    }
+
     private void setupTestData() {
         TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
 
@@ -1,6 +1,7 @@
 package kr.co.amateurs.server.service.project;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import kr.co.amateurs.server.config.jwt.UserPrincipal;
 import kr.co.amateurs.server.domain.common.ErrorCode;
 import kr.co.amateurs.server.domain.dto.common.PageResponseDTO;
 import kr.co.amateurs.server.domain.dto.common.PaginationSortType;
@@ -93,7 +94,7 @@ class ProjectServiceTest {
         void 필터링없이_조회하면_페이징된_프로젝트_목록이_반환되어야_한다() {
             // given
             ProjectSearchParam searchParam = new ProjectSearchParam();
-            when(userService.getCurrentLoginUser()).thenThrow(new CustomException(ErrorCode.ANONYMOUS_USER));
+            when(userService.getCurrentLoginPrincipal()).thenThrow(new CustomException(ErrorCode.ANONYMOUS_USER));
 
             // when
             PageResponseDTO<ProjectResponseDTO> result = projectService.getProjects(searchParam);
@@ -114,7 +115,7 @@ class ProjectServiceTest {
                     .sortDirection(Sort.Direction.DESC)
                     .field(PaginationSortType.ID)
                     .build();
-            when(userService.getCurrentLoginUser()).thenThrow(new CustomException(ErrorCode.ANONYMOUS_USER));
+            when(userService.getCurrentLoginPrincipal()).thenThrow(new CustomException(ErrorCode.ANONYMOUS_USER));
 
             // when
             PageResponseDTO<ProjectResponseDTO> result = projectService.getProjects(searchParam);
@@ -134,7 +135,7 @@ class ProjectServiceTest {
                     .sortDirection(Sort.Direction.DESC)
                     .field(PaginationSortType.ID)
                     .build();
-            when(userService.getCurrentLoginUser()).thenThrow(new CustomException(ErrorCode.ANONYMOUS_USER));
+            when(userService.getCurrentLoginPrincipal()).thenThrow(new CustomException(ErrorCode.ANONYMOUS_USER));
 
             // when
             PageResponseDTO<ProjectResponseDTO> result = projectService.getProjects(searchParam);
@@ -154,7 +155,7 @@ class ProjectServiceTest {
                     .sortDirection(Sort.Direction.DESC)
                     .field(PaginationSortType.ID)
                     .build();
-            when(userService.getCurrentLoginUser()).thenThrow(new CustomException(ErrorCode.ANONYMOUS_USER));
+            when(userService.getCurrentLoginPrincipal()).thenThrow(new CustomException(ErrorCode.ANONYMOUS_USER));
 
             // when
             PageResponseDTO<ProjectResponseDTO> result = projectService.getProjects(searchParam);
@@ -176,7 +177,7 @@ class ProjectServiceTest {
                     .sortDirection(Sort.Direction.DESC)
                     .field(PaginationSortType.ID)
                     .build();
-            when(userService.getCurrentLoginUser()).thenThrow(new CustomException(ErrorCode.ANONYMOUS_USER));
+            when(userService.getCurrentLoginPrincipal()).thenThrow(new CustomException(ErrorCode.ANONYMOUS_USER));
 
             // when
             PageResponseDTO<ProjectResponseDTO> result = projectService.getProjects(searchParam);
@@ -195,7 +196,7 @@ class ProjectServiceTest {
             bookmarkRepository.save(bookmark);
 
             ProjectSearchParam searchParam = new ProjectSearchParam();
-            when(userService.getCurrentLoginUser()).thenThrow(new CustomException(ErrorCode.ANONYMOUS_USER));
+            when(userService.getCurrentLoginPrincipal()).thenThrow(new CustomException(ErrorCode.ANONYMOUS_USER));
 
             // when
             PageResponseDTO<ProjectResponseDTO> result = projectService.getProjects(searchParam);
@@ -217,7 +218,7 @@ class ProjectServiceTest {
         void 존재하는_프로젝트는_정보가_반환되어야_한다() {
             // given
             Long projectId = backendProject.getId();
-            when(userService.getCurrentLoginUser()).thenThrow(new CustomException(ErrorCode.ANONYMOUS_USER));
+            when(userService.getCurrentLoginPrincipal()).thenThrow(new CustomException(ErrorCode.ANONYMOUS_USER));
 
             // when
             ProjectResponseDTO result = projectService.getProjectDetails(projectId, "1");
@@ -238,7 +239,7 @@ class ProjectServiceTest {
         void 존재하지_않는_프로젝트는_조회하면_예외가_발생해야_한다() {
             // given
             Long projectId = 999L;
-            when(userService.getCurrentLoginUser()).thenThrow(new CustomException(ErrorCode.ANONYMOUS_USER));
+            when(userService.getCurrentLoginPrincipal()).thenThrow(new CustomException(ErrorCode.ANONYMOUS_USER));
 
             // when & then
             assertThatThrownBy(() -> projectService.getProjectDetails(projectId, "1"))
@@ -251,7 +252,7 @@ class ProjectServiceTest {
             Bookmark bookmark1 = BookmarkFixture.createBookmark(backendUser, backendPost);
             Bookmark bookmark2 = BookmarkFixture.createBookmark(frontendUser, backendPost);
             bookmarkRepository.saveAll(List.of(bookmark1, bookmark2));
-            when(userService.getCurrentLoginUser()).thenReturn(backendUser);
+            when(userService.getCurrentLoginPrincipal()).thenReturn(UserPrincipal.from(backendUser));
 
             // when
             ProjectResponseDTO result = projectService.getProjectDetails(backendProject.getId() , "1");
@@ -334,7 +335,7 @@ class ProjectServiceTest {
                             new ProjectMember("홍길동", "DevOps")
                     ))
                     .build();
-            when(userService.getCurrentLoginUser()).thenReturn(backendUser);
+            when(userService.getCurrentLoginPrincipal()).thenReturn(UserPrincipal.from(backendUser));
 
             // when
             projectService.updateProject(projectId, requestDTO);
@@ -360,7 +361,7 @@ class ProjectServiceTest {
                     .title("수정된 프로젝트")
                     .content("수정된 내용")
                     .build();
-            when(userService.getCurrentLoginUser()).thenReturn(frontendUser);
+            when(userService.getCurrentLoginPrincipal()).thenReturn(UserPrincipal.from(frontendUser));
 
             // when & then
             assertThatThrownBy(() -> projectService.updateProject(projectId, requestDTO))
@@ -395,7 +396,7 @@ class ProjectServiceTest {
                     .endedAt(LocalDateTime.of(2024, 12, 31, 18, 0))
                     .build();
 
-            when(userService.getCurrentLoginUser()).thenReturn(backendUser);
+            when(userService.getCurrentLoginPrincipal()).thenReturn(UserPrincipal.from(backendUser));
 
             // when
             projectService.updateProject(projectId, requestDTO);
@@ -419,7 +420,7 @@ class ProjectServiceTest {
         void 존재하는_프로젝트는_본인이라면_삭제되어야_한다() {
             // given
             Long projectId = backendProject.getId();
-            when(userService.getCurrentLoginUser()).thenReturn(backendUser);
+            when(userService.getCurrentLoginPrincipal()).thenReturn(UserPrincipal.from(backendUser));
 
             // when
             projectService.deleteProject(projectId);
@@ -442,7 +443,7 @@ class ProjectServiceTest {
         void 존재하지_않는_사용자가_삭제하면_예외가_발생해야_한다() {
             // given
             Long projectId = backendProject.getId();
-            when(userService.getCurrentLoginUser()).thenThrow(new CustomException(ErrorCode.ANONYMOUS_USER));
+            when(userService.getCurrentLoginPrincipal()).thenThrow(new CustomException(ErrorCode.ANONYMOUS_USER));
 
             // when & then
             assertThatThrownBy(() -> projectService.deleteProject(projectId))
@@ -171,7 +171,7 @@ class ReportServiceTest {
     void 존재하지않는_게시글로_신고를_생성하면_예외가_발생해야_한다() {
         // given
         ReportRequestDTO requestDTO = ReportTestFixtures.createPostReportRequestDTO(999L, "존재하지 않는 게시글 신고");
-        given(userService.getCurrentUser()).willReturn(Optional.of(reporterUser));
+        given(userService.getCurrentLoginUser()).willReturn(reporterUser);
 
         // when & then
         assertThatThrownBy(() -> reportService.createReport(requestDTO))
@@ -183,7 +183,7 @@ class ReportServiceTest {
     void 존재하지않는_댓글로_신고를_생성하면_예외가_발생해야_한다() {
         // given
         ReportRequestDTO requestDTO = ReportTestFixtures.createCommentReportRequestDTO(999L, "존재하지 않는 댓글 신고");
-        given(userService.getCurrentUser()).willReturn(Optional.of(reporterUser));
+        given(userService.getCurrentLoginUser()).willReturn(reporterUser);
 
         // when & then
         assertThatThrownBy(() -> reportService.createReport(requestDTO))
@@ -0,0 +1,130 @@
+package kr.co.amateurs.server.service.report.processor;
+
+import kr.co.amateurs.server.domain.dto.report.LLMAnalysisResult;
+import kr.co.amateurs.server.domain.entity.report.Report;
+import kr.co.amateurs.server.domain.entity.report.enums.ReportStatus;
+import kr.co.amateurs.server.domain.entity.report.enums.ReportTarget;
+import kr.co.amateurs.server.domain.entity.report.enums.ReportType;
+import kr.co.amateurs.server.repository.report.ReportRepository;
+import kr.co.amateurs.server.service.report.handler.ReportTargetHandler;
+import kr.co.amateurs.server.service.report.handler.ReportTargetHandlerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReportProcessingManagerTest {
+
+    @Mock
+    private ReportRepository reportRepository;
+
+    @Mock
+    private ReportProcessor reportProcessor;
+
+    @Mock
+    private ReportTargetHandlerFactory handlerFactory;
+
+    @Mock
+    private ReportTargetHandler handler;
+
+    @Mock
+    private ReportWorkQueue workQueue;
+
+    @Mock
+    private ReportRateLimiter rateLimiter;
+
+    private ReportProcessingManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new ReportProcessingManager(reportRepository, reportProcessor, handlerFactory, workQueue, rateLimiter,
+                1, 3, 1, Duration.ZERO, Duration.ofSeconds(1), Duration.ofMinutes(10));
+    }
+
+    @Test
+    void LLM_호출_실패_시_해당_신고만_뒤로_미룬다() throws InterruptedException {
+        // given
+        Report report = processingReport(0);
+        given(reportRepository.findAllByIdWithRelations(List.of(1L))).willReturn(List.of(report));
+        given(handlerFactory.getHandler(ReportTarget.POST)).willReturn(handler);
+        given(reportProcessor.processAll(List.of(report))).willReturn(List.of(new LLMAnalysisResult(false, "LLM 분석 실패: timeout", 0.0, false)));
+
+        // when
+        manager.processClaimed(List.of(1L));
+
+        // then
+        assertThat(report.getStatus()).isEqualTo(ReportStatus.PENDING);
+        assertThat(report.getAttemptCount()).isEqualTo(1);
+        assertThat(report.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(report.getViolationReason()).isNull();
+        verify(rateLimiter, never()).penalize(any());
+        verify(reportRepository).save(report);
+    }
+
+    @Test
+    void 할당량_초과_시_토큰_버킷을_멈추고_최소_1분_뒤로_미룬다() throws InterruptedException {
+        // given
+        Report report = processingReport(0);
+        given(reportRepository.findAllByIdWithRelations(List.of(1L))).willReturn(List.of(report));
+        given(handlerFactory.getHandler(ReportTarget.POST)).willReturn(handler);
+        given(reportProcessor.processAll(List.of(report))).willReturn(List.of(new LLMAnalysisResult(false, "LLM 분석 실패: 429 Too Many Requests", 0.0, false)));
+
+        // when
+        manager.processClaimed(List.of(1L));
+
+        // then
+        assertThat(report.getStatus()).isEqualTo(ReportStatus.PENDING);
+        assertThat(report.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(55));
+        verify(rateLimiter).penalize(Duration.ofSeconds(60));
+    }
+
+    @Test
+    void 최대_재시도_횟수를_넘으면_오류_상태로_바꾼다() throws InterruptedException {
+        // given
+        Report report = processingReport(2);
+        given(reportRepository.findAllByIdWithRelations(List.of(1L))).willReturn(List.of(report));
+        given(handlerFactory.getHandler(ReportTarget.POST)).willReturn(handler);
+        given(reportProcessor.processAll(List.of(report))).willReturn(List.of(new LLMAnalysisResult(false, "LLM 분석 실패: timeout", 0.0, false)));
+
+        // when
+        manager.processClaimed(List.of(1L));
+
+        // then
+        assertThat(report.getStatus()).isEqualTo(ReportStatus.ERROR);
+        assertThat(report.getViolationReason()).startsWith("최대 재시도 횟수 초과");
+    }
+
+    @Test
+    void 멈춘_신고를_회수할_때_최대_재시도_횟수를_함께_넘긴다() {
+        // given
+        given(workQueue.releaseStale(Duration.ofMinutes(10), 3)).willReturn(new ReportWorkQueue.StaleRelease(1, 1));
+
+        // when
+        manager.recoverStaleReports();
+
+        // then
+        verify(workQueue).releaseStale(Duration.ofMinutes(10), 3);
+    }
+
+    private Report processingReport(int attemptCount) {
+        return Report.builder()
+                .description("신고")
+                .status(ReportStatus.PROCESSING)
+                .reportType(ReportType.BAD_WORDS)
+                .reportTarget(ReportTarget.POST)
+                .attemptCount(attemptCount)
+                .build();
+    }
+}
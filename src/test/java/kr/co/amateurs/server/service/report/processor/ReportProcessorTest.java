@@ -0,0 +1,128 @@
+package kr.co.amateurs.server.service.report.processor;
+
+import kr.co.amateurs.server.domain.dto.report.LLMAnalysisResult;
+import kr.co.amateurs.server.domain.dto.report.ReportAnalysisRequest;
+import kr.co.amateurs.server.domain.entity.post.Post;
+import kr.co.amateurs.server.domain.entity.report.Report;
+import kr.co.amateurs.server.domain.entity.report.enums.ReportStatus;
+import kr.co.amateurs.server.domain.entity.report.enums.ReportTarget;
+import kr.co.amateurs.server.domain.entity.report.enums.ReportType;
+import kr.co.amateurs.server.domain.entity.user.User;
+import kr.co.amateurs.server.fixture.report.ReportTestFixtures;
+import kr.co.amateurs.server.service.report.llm.ReportLLMService;
+import kr.co.amateurs.server.service.report.llm.StubReportLLMService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReportProcessorTest {
+
+    @Mock
+    private ReportLLMService reportLLMService;
+
+    @Test
+    void 같은_대상의_같은_유형_신고는_한_번만_분석하고_결과를_나눠_준다() {
+        // given
+        ReportProcessor reportProcessor = new ReportProcessor(reportLLMService);
+        Post spamPost = post(1L, "광고 글");
+        Post normalPost = post(2L, "일반 글");
+        List<Report> reports = List.of(
+                report(spamPost, ReportType.SPAM, "광고입니다"),
+                report(normalPost, ReportType.SPAM, "광고 같아요"),
+                report(spamPost, ReportType.SPAM, "도배 광고"),
+                report(spamPost, ReportType.SPAM, "광고입니다")
+        );
+        LLMAnalysisResult violation = new LLMAnalysisResult(true, "광고", 0.9, true);
+        LLMAnalysisResult normal = new LLMAnalysisResult(false, "정상", 0.1, true);
+        ArgumentCaptor<List<ReportAnalysisRequest>> requests = ArgumentCaptor.forClass(List.class);
+        given(reportLLMService.analyzeContents(requests.capture())).willReturn(List.of(violation, normal));
+
+        // when
+        List<LLMAnalysisResult> results = reportProcessor.processAll(reports);
+
+        // then
+        assertThat(results).containsExactly(violation, normal, violation, violation);
+        assertThat(requests.getValue()).hasSize(2);
+        assertThat(requests.getValue().get(0).description()).isEqualTo("광고입니다 / 도배 광고");
+        verify(reportLLMService).analyzeContents(requests.getValue());
+    }
+
+    /**
+     * 스팸 공세 상황 가정: 게시글 10개에 신고 200건
+     * 처리량은 LLM 호출 수에 비례하므로 시간을 재지 않고 호출 수로 비교함
+     */
+    @Test
+    void 묶음_분석_시_LLM_호출_수가_게시글_수로_줄어든다() {
+        // given
+        List<Post> posts = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            posts.add(post(id, "광고 글 " + id));
+        }
+        List<Report> reports = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            reports.add(report(posts.get(i % posts.size()), ReportType.SPAM, "광고"));
+        }
+
+        // when
+        int singleCalls = countCalls(reports, 1);
+        int batchCalls = countCalls(reports, 20);
+
+        // then
+        assertThat(singleCalls).isEqualTo(200);
+        assertThat(batchCalls).isEqualTo(10);
+    }
+
+    private int countCalls(List<Report> reports, int batchSize) {
+        CountingReportLLMService llmService = new CountingReportLLMService();
+        ReportProcessor reportProcessor = new ReportProcessor(llmService);
+        for (int from = 0; from < reports.size(); from += batchSize) {
+            List<LLMAnalysisResult> results = reportProcessor.processAll(reports.subList(from, Math.min(from + batchSize, reports.size())));
+            assertThat(results).allMatch(LLMAnalysisResult::isViolation);
+        }
+        return llmService.calls;
+    }
+
+    private Post post(Long id, String title) {
+        User user = ReportTestFixtures.createTestUser();
+        Post post = ReportTestFixtures.createCustomPost(user, title, title, null);
+        ReflectionTestUtils.setField(post, "id", id);
+        return post;
+    }
+
+    private Report report(Post post, ReportType reportType, String description) {
+        return Report.builder()
+                .post(post)
+                .description(description)
+                .status(ReportStatus.PROCESSING)
+                .reportType(reportType)
+                .reportTarget(ReportTarget.POST)
+                .build();
+    }
+
+    private static class CountingReportLLMService extends StubReportLLMService {
+
+        private int calls;
+
+        CountingReportLLMService() {
+            super(Duration.ZERO);
+        }
+
+        @Override
+        public List<LLMAnalysisResult> analyzeContents(List<ReportAnalysisRequest> requests) {
+            calls++;
+            return super.analyzeContents(requests);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package kr.co.amateurs.server.service.report.processor;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReportRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void 버킷이_비면_다음_토큰까지_기다린다() {
+        // given - 분당 60회, 최대 2회 연속
+        ReportRateLimiter limiter = new ReportRateLimiter(60, 2, now::get);
+
+        // when & then
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(limiter.reserve()).isZero();
+    }
+
+    @Test
+    void 할당량_초과_시_멈춘_시간만큼_토큰을_채우지_않는다() {
+        // given
+        ReportRateLimiter limiter = new ReportRateLimiter(60, 2, now::get);
+
+        // when
+        limiter.penalize(Duration.ofSeconds(30));
+
+        // then
+        assertThat(limiter.reserve()).isEqualTo(TimeUnit.SECONDS.toNanos(31));
+        now.addAndGet(TimeUnit.SECONDS.toNanos(31));
+        assertThat(limiter.reserve()).isZero();
+    }
+}
@@ -0,0 +1,97 @@
+package kr.co.amateurs.server.service.scheduler;
+
+import kr.co.amateurs.server.domain.common.ErrorCode;
+import kr.co.amateurs.server.domain.dto.ai.AiProfileRefreshProgress;
+import kr.co.amateurs.server.exception.CustomException;
+import kr.co.amateurs.server.repository.user.UserRepository;
+import kr.co.amateurs.server.service.ai.AiProfileService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class AiProfileSchedulerServiceTest {
+
+    private final AiProfileService aiProfileService = mock(AiProfileService.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+    private final AiProfileSchedulerService schedulerService =
+            new AiProfileSchedulerService(aiProfileService, userRepository, executor);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 활성_사용자만_갱신하고_실패는_따로_센다() {
+        // given
+        given(userRepository.findRecentlyActiveUserIds(anyList(), any())).willReturn(List.of(1L, 2L, 3L));
+        given(aiProfileService.generateCompleteUserProfile(2L)).willThrow(ErrorCode.ERROR_AI_PROFILE_GENERATION.get());
+
+        // when
+        schedulerService.startRefresh().join();
+
+        // then
+        AiProfileRefreshProgress progress = schedulerService.getProgress();
+        assertThat(progress.running()).isFalse();
+        assertThat(progress.total()).isEqualTo(3);
+        assertThat(progress.processed()).isEqualTo(3);
+        assertThat(progress.updated()).isEqualTo(2);
+        assertThat(progress.failed()).isEqualTo(1);
+        assertThat(progress.finishedAt()).isNotNull();
+        verify(aiProfileService).generateCompleteUserProfile(3L);
+    }
+
+    @Test
+    void 스케줄러_스레드는_작업이_끝나기를_기다리지_않는다() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        given(userRepository.findRecentlyActiveUserIds(anyList(), any())).willReturn(List.of(1L));
+        given(aiProfileService.generateCompleteUserProfile(1L)).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+
+        // when
+        schedulerService.updateActiveUsersProfiles();
+
+        // then
+        assertThat(schedulerService.getProgress().running()).isTrue();
+        release.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> !schedulerService.getProgress().running());
+        assertThat(schedulerService.getProgress().updated()).isEqualTo(1);
+    }
+
+    @Test
+    void 사용자별_작업을_동시에_처리한다() {
+        // given - 세 사용자가 모두 시작해야 풀리는 래치
+        CountDownLatch allStarted = new CountDownLatch(3);
+        given(userRepository.findRecentlyActiveUserIds(anyList(), any())).willReturn(List.of(1L, 2L, 3L));
+        given(aiProfileService.generateCompleteUserProfile(any())).willAnswer(invocation -> {
+            allStarted.countDown();
+            if (!allStarted.await(5, TimeUnit.SECONDS)) {
+                throw new CustomException(ErrorCode.ERROR_AI_PROFILE_GENERATION);
+            }
+            return null;
+        });
+
+        // when
+        schedulerService.startRefresh().join();
+
+        // then
+        assertThat(schedulerService.getProgress().updated()).isEqualTo(3);
+    }
+}
@@ -2,6 +2,7 @@ package kr.co.amateurs.server.service.together;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.amateurs.server.config.jwt.UserPrincipal;
 import kr.co.amateurs.server.domain.dto.common.PageResponseDTO;
 import kr.co.amateurs.server.domain.dto.common.PostPaginationParam;
 import kr.co.amateurs.server.domain.dto.together.GatheringPostRequestDTO;
@@ -227,7 +228,7 @@ class GatheringServiceTest {
         void 존재하는_ID로_조회하면_해당_모임_게시글이_반환되어야_한다() {
             // given
             Long gatheringPostId = studyGatheringPost.getId();
-            given(userService.getCurrentLoginUser()).willReturn(studyUser);
+            given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(studyUser));
 
             // when
             GatheringPostResponseDTO result = gatheringService.getGatheringPost(gatheringPostId, "`");
@@ -246,7 +247,7 @@ class GatheringServiceTest {
             // given
             Long nonExistentId = 999L;
 
-            given(userService.getCurrentLoginUser()).willReturn(studyUser);
+            given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(studyUser));
 
             // when & then
             assertThatThrownBy(() -> gatheringService.getGatheringPost(nonExistentId, "`"))
@@ -305,7 +306,7 @@ class GatheringServiceTest {
                     "2025-08-01 ~ 2025-10-31",
                     "매주 목요일 19:00-21:00"
             );
-            given(userService.getCurrentLoginUser()).willReturn(studyUser);
+            given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(studyUser));
 
             // when
             gatheringService.updateGatheringPost(gatheringPostId, updateDTO);
@@ -334,7 +335,7 @@ class GatheringServiceTest {
                     "기간",
                     "일정"
             );
-            given(userService.getCurrentLoginUser()).willReturn(projectUser);
+            given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(projectUser));
 
             // when & then
             assertThatThrownBy(() -> gatheringService.updateGatheringPost(gatheringPostId, updateDTO))
@@ -370,7 +371,7 @@ class GatheringServiceTest {
             // given
             Long gatheringPostId = studyGatheringPost.getId();
             Long postId = studyPost.getId();
-            given(userService.getCurrentLoginUser()).willReturn(studyUser);
+            given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(studyUser));
 
             // when
             gatheringService.deleteGatheringPost(gatheringPostId);
@@ -383,7 +384,7 @@ class GatheringServiceTest {
         void 작성자가_아닌_사용자가_삭제하면_예외가_발생해야_한다() {
             // given
             Long gatheringPostId = studyGatheringPost.getId();
-            given(userService.getCurrentLoginUser()).willReturn(projectUser);
+            given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(projectUser));
 
             // when & then
             assertThatThrownBy(() -> gatheringService.deleteGatheringPost(gatheringPostId))
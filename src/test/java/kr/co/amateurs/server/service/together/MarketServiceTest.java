@@ -2,6 +2,7 @@ package kr.co.amateurs.server.service.together;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.amateurs.server.config.jwt.UserPrincipal;
 import kr.co.amateurs.server.domain.dto.common.PageResponseDTO;
 import kr.co.amateurs.server.domain.dto.common.PostPaginationParam;
 import kr.co.amateurs.server.domain.dto.together.MarketPostRequestDTO;
@@ -199,7 +200,7 @@ class MarketServiceTest {
     class 장터_게시글_상세_조회를 {
         @Test
         void 존재하는_ID로_조회하면_해당_장터_게시글이_반환되어야_한다() {
-            given(userService.getCurrentLoginUser()).willReturn(sellerUser);
+            given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(sellerUser));
 
             MarketPostResponseDTO dto = marketService.getMarketPost(javaMarketItem.getId(), "1");
 
@@ -212,7 +213,7 @@ class MarketServiceTest {
 
         @Test
         void 존재하지_않는_ID로_조회하면_예외가_발생해야_한다() {
-            given(userService.getCurrentLoginUser()).willReturn(adminUser);
+            given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(adminUser));
 
             assertThatThrownBy(() -> marketService.getMarketPost(999L, "1"))
                     .isInstanceOf(CustomException.class);
@@ -241,7 +242,7 @@ class MarketServiceTest {
     class 장터_게시글_수정을 {
         @Test
         void 작성자가_수정하면_게시글이_수정되어야_한다() {
-            given(userService.getCurrentLoginUser()).willReturn(sellerUser);
+            given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(sellerUser));
             MarketPostRequestDTO updateDto = new MarketPostRequestDTO(
                     "Java 책 판매완료",
                     "Java 책이 판매되었습니다.",
@@ -261,7 +262,7 @@ class MarketServiceTest {
 
         @Test
         void 작성자가_아닌_사용자가_수정하면_예외가_발생해야_한다() {
-            given(userService.getCurrentLoginUser()).willReturn(otherUser);
+            given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(otherUser));
             MarketPostRequestDTO updateDto = new MarketPostRequestDTO(
                     "Java 책 판매완료",
                     "Java 책이 판매되었습니다.",
@@ -285,7 +286,7 @@ class MarketServiceTest {
                     5000,
                     "부산"
             );
-            given(userService.getCurrentLoginUser()).willReturn(sellerUser);
+            given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(sellerUser));
 
             assertThatThrownBy(() -> marketService.updateMarketPost(999L, updateDto))
                     .isInstanceOf(CustomException.class);
@@ -296,7 +297,7 @@ class MarketServiceTest {
     class 장터_게시글_삭제를 {
         @Test
         void 작성자가_삭제하면_게시글이_삭제되어야_한다() {
-            given(userService.getCurrentLoginUser()).willReturn(sellerUser);
+            given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(sellerUser));
 
             marketService.deleteMarketPost(javaMarketItem.getId());
 
@@ -305,7 +306,7 @@ class MarketServiceTest {
 
         @Test
         void 작성자가_아닌_사용자가_삭제하면_예외가_발생해야_한다() {
-            given(userService.getCurrentLoginUser()).willReturn(otherUser);
+            given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(otherUser));
 
             assertThatThrownBy(() -> marketService.deleteMarketPost(javaMarketItem.getId()))
                     .isInstanceOf(CustomException.class);
@@ -313,7 +314,7 @@ class MarketServiceTest {
 
         @Test
         void 존재하지_않는_게시글을_삭제하면_예외가_발생해야_한다() {
-            given(userService.getCurrentLoginUser()).willReturn(sellerUser);
+            given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(sellerUser));
 
             assertThatThrownBy(() -> marketService.deleteMarketPost(999L))
                     .isInstanceOf(CustomException.class);
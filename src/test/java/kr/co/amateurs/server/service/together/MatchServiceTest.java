@@ -2,6 +2,7 @@ package kr.co.amateurs.server.service.together;
 
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.amateurs.server.config.jwt.UserPrincipal;
 import kr.co.amateurs.server.domain.dto.common.PageResponseDTO;
 import kr.co.amateurs.server.domain.dto.common.PostPaginationParam;
 import kr.co.amateurs.server.domain.dto.together.MatchPostRequestDTO;
@@ -200,7 +201,7 @@ class MatchServiceTest {
     class 모임_게시글_상세_조회를 {
         @Test
         void 존재하는_ID로_조회하면_해당_모임_게시글이_반환되어야_한다() {
-            given(userService.getCurrentLoginUser()).willReturn(coffeeUser);
+            given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(coffeeUser));
 
             MatchPostResponseDTO dto = matchService.getMatchPost(coffeeMatching.getId(), "1");
 
@@ -213,7 +214,7 @@ class MatchServiceTest {
 
         @Test
         void 존재하지_않는_ID로_조회하면_예외가_발생해야_한다() {
-            given(userService.getCurrentLoginUser()).willReturn(adminUser);
+            given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(adminUser));
 
             assertThatThrownBy(() -> matchService.getMatchPost(999L, "1"))
                     .isInstanceOf(CustomException.class);
@@ -242,7 +243,7 @@ class MatchServiceTest {
     class 모임_게시글_수정을 {
         @Test
         void 작성자가_수정하면_게시글이_수정되어야_한다() {
-            given(userService.getCurrentLoginUser()).willReturn(coffeeUser);
+            given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(coffeeUser));
             MatchPostRequestDTO updateDto = new MatchPostRequestDTO(
                     "커피챗 모집 마감",
                     "더 이상 모집하지 않습니다.",
@@ -261,7 +262,7 @@ class MatchServiceTest {
 
         @Test
         void 작성자가_아닌_사용자가_수정하면_예외가_발생해야_한다() {
-            given(userService.getCurrentLoginUser()).willReturn(mentoringUser);
+            given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(mentoringUser));
             MatchPostRequestDTO updateDto = new MatchPostRequestDTO(
                     "커피챗 모집 마감",
                     "더 이상 모집하지 않습니다.",
@@ -285,7 +286,7 @@ class MatchServiceTest {
                     MatchingStatus.OPEN,
                     "분야"
             );
-            given(userService.getCurrentLoginUser()).willReturn(coffeeUser);
+            given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(coffeeUser));
 
             assertThatThrownBy(() -> matchService.updateMatchPost(999L, updateDto))
                     .isInstanceOf(CustomException.class);
@@ -296,7 +297,7 @@ class MatchServiceTest {
     class 모임_게시글_삭제를 {
         @Test
         void 작성자가_삭제하면_게시글이_삭제되어야_한다() {
-            given(userService.getCurrentLoginUser()).willReturn(coffeeUser);
+            given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(coffeeUser));
 
             matchService.deleteMatchPost(coffeeMatching.getId());
 
@@ -305,7 +306,7 @@ class MatchServiceTest {
 
         @Test
         void 작성자가_아닌_사용자가_삭제하면_예외가_발생해야_한다() {
-            given(userService.getCurrentLoginUser()).willReturn(mentoringUser);
+            given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(mentoringUser));
 
             assertThatThrownBy(() -> matchService.deleteMatchPost(coffeeMatching.getId()))
                     .isInstanceOf(CustomException.class);
@@ -313,7 +314,7 @@ class MatchServiceTest {
 
         @Test
         void 존재하지_않는_게시글을_삭제하면_예외가_발생해야_한다() {
-            given(userService.getCurrentLoginUser()).willReturn(coffeeUser);
+            given(userService.getCurrentLoginPrincipal()).willReturn(UserPrincipal.from(coffeeUser));
 
             assertThatThrownBy(() -> matchService.deleteMatchPost(999L))
                     .isInstanceOf(CustomException.class);